@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ejecuta las pruebas de rendimiento con distintas cantidades de hilos.
+ * <p>
+ * Las pruebas se ejecutan con 1, 2, 4... hilos hasta la cantidad de
+ * procesadores disponibles, utilizando el perfilador de memoria de JMH para
+ * obtener la tasa de asignación de memoria. Los resultados de cada ejecución se
+ * guardan en formato JSON en el directorio indicado por la propiedad
+ * <code>results.dir</code> (por defecto <code>target/jmh-results</code>), con
+ * la versión de la librería en el nombre del archivo, de forma que puedan
+ * compararse los resultados entre versiones. La versión es la indicada por la
+ * propiedad <code>date_utils.version</code> o, si no se indica, la del
+ * atributo <code>Implementation-Version</code> del manifiesto, que el
+ * empaquetado toma de la versión de la librería con la que se compiló el
+ * módulo.</p>
+ * <p>
+ * El primer argumento, si existe, es la expresión regular de las pruebas a
+ * ejecutar. Para ejecutar una sola configuración puede utilizarse directamente
+ * la línea de comandos de JMH:
+ * <code>java -cp benchmarks.jar org.openjdk.jmh.Main -t 4 -prof gc</code>.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private BenchmarkRunner() {
+
+    }
+
+    /**
+     * Ejecuta las pruebas de rendimiento.
+     *
+     * @param args la expresión regular de las pruebas a ejecutar.
+     * @throws RunnerException si ocurre un error en la ejecución.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        String version = System.getProperty("date_utils.version",
+                BenchmarkRunner.class.getPackage().getImplementationVersion());
+        if (version == null) {
+            version = "dev";
+        }
+        File directory = new File(System.getProperty("results.dir", "target/jmh-results"));
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new RunnerException("No se pudo crear el directorio " + directory);
+        }
+        for (int threads : threadCounts(Runtime.getRuntime().availableProcessors())) {
+            File result = new File(directory, "date_utils-" + version + "-t" + threads + ".json");
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(result.getPath())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    /**
+     * Devuelve las cantidades de hilos a utilizar: las potencias de dos menores
+     * que la cantidad de procesadores y la cantidad de procesadores.
+     *
+     * @param processors la cantidad de procesadores disponibles.
+     * @return las cantidades de hilos a utilizar.
+     */
+    static List<Integer> threadCounts(int processors) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads <<= 1) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts;
+    }
+}
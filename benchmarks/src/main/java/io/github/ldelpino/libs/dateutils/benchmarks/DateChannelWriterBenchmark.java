@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateChannelWriter;
+import io.github.ldelpino.libs.dateutils.DateFormatters;
+import io.github.ldelpino.libs.dateutils.DatePatterns;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de la escritura de fechas con la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateChannelWriter} comparada con
+ * la conversión en cadenas de caracteres y su codificación a través de un
+ * objeto {@link java.io.BufferedWriter}. El destino descarta los bytes, por lo que se
+ * mide solo el coste de producirlos.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateChannelWriterBenchmark {
+
+    /**
+     * Datos de entrada con los objetos de escritura sobre un destino que
+     * descarta los bytes.
+     */
+    @State(Scope.Thread)
+    public static class WriterData extends InputData {
+
+        DateChannelWriter writer;
+        Writer stream_writer;
+
+        @Override
+        void prepare() {
+            WritableByteChannel channel = new WritableByteChannel() {
+                @Override
+                public int write(ByteBuffer source) {
+                    int remaining = source.remaining();
+                    source.position(source.limit());
+                    return remaining;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            writer = new DateChannelWriter(channel, DatePatterns.DEFAULT_DATE_TIME_PATTERN, ',');
+            stream_writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel),
+                    StandardCharsets.UTF_8), DateChannelWriter.DEFAULT_BUFFER_SIZE);
+        }
+    }
+
+    @Benchmark
+    public void writeFormattedString(WriterData data) throws IOException {
+        Writer out = data.stream_writer;
+        for (int i = 0; i < 64; i++) {
+            out.write(DateFormatters.format(data.localDateTimes[data.next()],
+                    DatePatterns.DEFAULT_DATE_TIME_PATTERN));
+            out.write(i == 63 ? '\n' : ',');
+        }
+    }
+
+    @Benchmark
+    public long writeLocalDateTime(WriterData data) throws IOException {
+        DateChannelWriter writer = data.writer;
+        for (int i = 0; i < 64; i++) {
+            writer.writeLocalDateTime(data.localDateTimes[data.next()]);
+        }
+        writer.endLine();
+        return writer.getBytesWritten();
+    }
+
+    @Benchmark
+    public long writeEpochMilli(WriterData data) throws IOException {
+        DateChannelWriter writer = data.writer;
+        for (int i = 0; i < 64; i++) {
+            writer.writeEpochMilli(data.millis[data.next()]);
+        }
+        writer.endLine();
+        return writer.getBytesWritten();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateConverters;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de los métodos de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters}.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateConvertersBenchmark {
+
+    @Benchmark
+    public Calendar convertFromDateToCalendar(InputData data) {
+        return DateConverters.convertFromDateToCalendar(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDate convertFromDateToLocalDate(InputData data) {
+        return DateConverters.convertFromDateToLocalDate(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public LocalTime convertFromDateToLocalTime(InputData data) {
+        return DateConverters.convertFromDateToLocalTime(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime convertFromDateToLocalDateTime(InputData data) {
+        return DateConverters.convertFromDateToLocalDateTime(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public java.sql.Date convertFromDateToSQLDate(InputData data) {
+        return DateConverters.convertFromDateToSQLDate(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDate convertFromCalendarToLocalDate(InputData data) {
+        return DateConverters.convertFromCalendarToLocalDate(data.calendars[data.next()]);
+    }
+
+    @Benchmark
+    public LocalTime convertFromCalendarToLocalTime(InputData data) {
+        return DateConverters.convertFromCalendarToLocalTime(data.calendars[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime convertFromCalendarToLocalDateTime(InputData data) {
+        return DateConverters.convertFromCalendarToLocalDateTime(data.calendars[data.next()]);
+    }
+
+    @Benchmark
+    public Date convertFromLocalDateToDate(InputData data) {
+        return DateConverters.convertFromLocalDateToDate(data.localDates[data.next()]);
+    }
+
+    @Benchmark
+    public Calendar convertFromLocalDateToCalendar(InputData data) {
+        return DateConverters.convertFromLocalDateToCalendar(data.localDates[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime convertFromLocalDateToLocalDateTime(InputData data) {
+        return DateConverters.convertFromLocalDateToLocalDateTime(data.localDates[data.next()]);
+    }
+
+    @Benchmark
+    public Date convertFromLocalTimeToDate(InputData data) {
+        return DateConverters.convertFromLocalTimeToDate(data.localTimes[data.next()]);
+    }
+
+    @Benchmark
+    public Calendar convertFromLocalTimeToCalendar(InputData data) {
+        return DateConverters.convertFromLocalTimeToCalendar(data.localTimes[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime convertFromLocalTimeToLocalDateTime(InputData data) {
+        return DateConverters.convertFromLocalTimeToLocalDateTime(data.localTimes[data.next()]);
+    }
+
+    @Benchmark
+    public Date convertFromLocalDateTimeToDate(InputData data) {
+        return DateConverters.convertFromLocalDateTimeToDate(data.localDateTimes[data.next()]);
+    }
+
+    @Benchmark
+    public Calendar convertFromLocalDateTimeToCalendar(InputData data) {
+        return DateConverters.convertFromLocalDateTimeToCalendar(data.localDateTimes[data.next()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputData.SIZE)
+    public LocalDateTime[] convertFromDateToLocalDateTimeArray(InputData data) {
+        return DateConverters.convertFromDateToLocalDateTime(data.dates);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputData.SIZE)
+    public LocalDate[] convertFromEpochMillisToLocalDateArray(InputData data) {
+        return DateConverters.convertFromEpochMillisToLocalDate(data.millis);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(InputData.SIZE)
+    public long[] convertFromLocalDateTimeToEpochMillisArray(InputData data) {
+        return DateConverters.convertFromLocalDateTimeToEpochMillis(data.localDateTimes);
+    }
+}
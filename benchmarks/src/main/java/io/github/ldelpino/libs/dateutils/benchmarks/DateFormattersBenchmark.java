@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateFormatters;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de los métodos de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateFormatters}.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormattersBenchmark {
+
+    @Benchmark
+    public String formatDate(PatternData data) {
+        return DateFormatters.format(data.dates[data.next()]);
+    }
+
+    @Benchmark
+    public String formatDatePattern(PatternData data) {
+        return DateFormatters.format(data.dates[data.next()], data.dateTimePattern);
+    }
+
+    @Benchmark
+    public String formatCalendar(PatternData data) {
+        return DateFormatters.format(data.calendars[data.next()]);
+    }
+
+    @Benchmark
+    public String formatCalendarPattern(PatternData data) {
+        return DateFormatters.format(data.calendars[data.next()], data.dateTimePattern);
+    }
+
+    @Benchmark
+    public String formatLocalDate(PatternData data) {
+        return DateFormatters.format(data.localDates[data.next()]);
+    }
+
+    @Benchmark
+    public String formatLocalDatePattern(PatternData data) {
+        return DateFormatters.format(data.localDates[data.next()], data.datePattern);
+    }
+
+    @Benchmark
+    public String formatLocalTime(PatternData data) {
+        return DateFormatters.format(data.localTimes[data.next()]);
+    }
+
+    @Benchmark
+    public String formatLocalTimePattern(PatternData data) {
+        return DateFormatters.format(data.localTimes[data.next()], data.timePattern);
+    }
+
+    @Benchmark
+    public String formatLocalDateTime(PatternData data) {
+        return DateFormatters.format(data.localDateTimes[data.next()]);
+    }
+
+    @Benchmark
+    public String formatLocalDateTimePattern(PatternData data) {
+        return DateFormatters.format(data.localDateTimes[data.next()], data.dateTimePattern);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateParsers;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de los métodos de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers}.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateParsersBenchmark {
+
+    @Benchmark
+    public Date parseToDate(PatternData data) {
+        return DateParsers.parseToDate(data.dateTimeStrings[data.next()]);
+    }
+
+    @Benchmark
+    public Date parseToDatePattern(PatternData data) {
+        return DateParsers.parseToDate(data.dateTimeStrings[data.next()], data.dateTimePattern);
+    }
+
+    @Benchmark
+    public Calendar parseToCalendar(PatternData data) {
+        return DateParsers.parseToCalendar(data.dateTimeStrings[data.next()]);
+    }
+
+    @Benchmark
+    public Calendar parseToCalendarPattern(PatternData data) {
+        return DateParsers.parseToCalendar(data.dateTimeStrings[data.next()], data.dateTimePattern);
+    }
+
+    @Benchmark
+    public LocalDate parseToLocalDate(PatternData data) {
+        return DateParsers.parseToLocalDate(data.dateStrings[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDate parseToLocalDatePattern(PatternData data) {
+        return DateParsers.parseToLocalDate(data.dateStrings[data.next()], data.datePattern);
+    }
+
+    @Benchmark
+    public LocalTime parseToLocalTime(PatternData data) {
+        return DateParsers.parseToLocalTime(data.timeStrings[data.next()]);
+    }
+
+    @Benchmark
+    public LocalTime parseToLocalTimePattern(PatternData data) {
+        return DateParsers.parseToLocalTime(data.timeStrings[data.next()], data.timePattern);
+    }
+
+    @Benchmark
+    public LocalDateTime parseToLocalDateTime(PatternData data) {
+        return DateParsers.parseToLocalDateTime(data.dateTimeStrings[data.next()]);
+    }
+
+    @Benchmark
+    public LocalDateTime parseToLocalDateTimePattern(PatternData data) {
+        return DateParsers.parseToLocalDateTime(data.dateTimeStrings[data.next()], data.dateTimePattern);
+    }
+}
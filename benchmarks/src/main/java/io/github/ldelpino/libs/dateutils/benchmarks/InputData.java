@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateConverters;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Datos de entrada de las pruebas de rendimiento.
+ * <p>
+ * Cada hilo de la prueba posee su propia copia de los datos, que se generan a
+ * partir de una distribución de marcas de tiempo. Los métodos de prueba
+ * recorren los datos de forma circular mediante el método {@link #next()}.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@State(Scope.Thread)
+public class InputData {
+
+    /**
+     * La cantidad de elementos generados, debe ser una potencia de dos.
+     */
+    static final int SIZE = 1024;
+
+    /**
+     * La distribución de las marcas de tiempo generadas.
+     */
+    public enum Distribution {
+
+        /**
+         * Marcas de tiempo consecutivas separadas por un segundo.
+         */
+        SEQUENTIAL,
+
+        /**
+         * Marcas de tiempo aleatorias entre los años 1970 y 2100.
+         */
+        RANDOM,
+
+        /**
+         * Un conjunto pequeño de marcas de tiempo que se repiten.
+         */
+        REPEATED
+    }
+
+    /**
+     * La distribución utilizada en la prueba.
+     */
+    @Param({"SEQUENTIAL", "RANDOM", "REPEATED"})
+    public Distribution distribution;
+
+    long[] millis;
+    Date[] dates;
+    Calendar[] calendars;
+    LocalDate[] localDates;
+    LocalTime[] localTimes;
+    LocalDateTime[] localDateTimes;
+    private int index;
+
+    /**
+     * Genera los datos de entrada a partir de la distribución establecida.
+     */
+    @Setup(Level.Trial)
+    public final void setUp() {
+        ZoneId zone = DateConverters.getTimeZone();
+        SplittableRandom random = new SplittableRandom(42);
+        long start = LocalDateTime.of(2022, 1, 1, 0, 0).atZone(zone).toInstant().toEpochMilli();
+        long end = LocalDateTime.of(2100, 1, 1, 0, 0).atZone(zone).toInstant().toEpochMilli();
+        millis = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (distribution) {
+                case SEQUENTIAL:
+                    millis[i] = start + i * 1000L;
+                    break;
+                case RANDOM:
+                    millis[i] = random.nextLong(0, end) / 1000 * 1000;
+                    break;
+                default:
+                    millis[i] = start + (i & 15) * 86_400_000L;
+                    break;
+            }
+        }
+        dates = new Date[SIZE];
+        calendars = new Calendar[SIZE];
+        localDates = new LocalDate[SIZE];
+        localTimes = new LocalTime[SIZE];
+        localDateTimes = new LocalDateTime[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            Instant instant = Instant.ofEpochMilli(millis[i]);
+            dates[i] = Date.from(instant);
+            calendars[i] = GregorianCalendar.from(instant.atZone(zone));
+            localDateTimes[i] = LocalDateTime.ofInstant(instant, zone);
+            localDates[i] = localDateTimes[i].toLocalDate();
+            localTimes[i] = localDateTimes[i].toLocalTime();
+        }
+        prepare();
+    }
+
+    /**
+     * Prepara los datos adicionales de la prueba una vez generadas las marcas
+     * de tiempo.
+     */
+    void prepare() {
+
+    }
+
+    /**
+     * Devuelve la posición del siguiente elemento a utilizar.
+     *
+     * @return la posición del siguiente elemento.
+     */
+    final int next() {
+        return index++ & (SIZE - 1);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.IsoCodec;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de los métodos de la clase
+ * {@link io.github.ldelpino.libs.dateutils.IsoCodec} comparados con los
+ * formatos ISO de la clase {@link java.time.format.DateTimeFormatter}.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsoCodecBenchmark {
+
+    /**
+     * Datos de entrada con los instantes y sus cadenas ISO-8601.
+     */
+    @State(Scope.Thread)
+    public static class IsoData extends InputData {
+
+        Instant[] instants;
+        String[] isoStrings;
+        char[] buffer;
+
+        @Override
+        void prepare() {
+            instants = new Instant[SIZE];
+            isoStrings = new String[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                instants[i] = Instant.ofEpochMilli(millis[i]);
+                isoStrings[i] = DateTimeFormatter.ISO_INSTANT.format(instants[i]);
+            }
+            buffer = new char[64];
+        }
+    }
+
+    @Benchmark
+    public String formatInstantIsoFormatter(IsoData data) {
+        return DateTimeFormatter.ISO_INSTANT.format(data.instants[data.next()]);
+    }
+
+    @Benchmark
+    public String formatInstant(IsoData data) {
+        return IsoCodec.format(data.instants[data.next()]);
+    }
+
+    @Benchmark
+    public int formatInstantToBuffer(IsoData data) {
+        return IsoCodec.formatTo(data.instants[data.next()], IsoCodec.VARIABLE_PRECISION, data.buffer, 0);
+    }
+
+    @Benchmark
+    public String formatLocalDateTimeIsoFormatter(IsoData data) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(data.localDateTimes[data.next()]);
+    }
+
+    @Benchmark
+    public String formatLocalDateTime(IsoData data) {
+        return IsoCodec.format(data.localDateTimes[data.next()]);
+    }
+
+    @Benchmark
+    public Instant parseInstantIsoFormatter(IsoData data) {
+        return DateTimeFormatter.ISO_INSTANT.parse(data.isoStrings[data.next()], Instant::from);
+    }
+
+    @Benchmark
+    public Instant parseInstant(IsoData data) {
+        return IsoCodec.parseInstant(data.isoStrings[data.next()]);
+    }
+
+    @Benchmark
+    public long parseToEpochMilli(IsoData data) {
+        return IsoCodec.parseToEpochMilli(data.isoStrings[data.next()]);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DateFormatters;
+import io.github.ldelpino.libs.dateutils.DateParsers;
+import io.github.ldelpino.libs.dateutils.DatePatterns;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pruebas de rendimiento de la conversión en lote de fechas de ancho fijo
+ * almacenadas una por línea en un arreglo de bytes, comparada con la
+ * conversión registro a registro. La conversión en lote se mide sin y con el
+ * módulo <code>jdk.incubator.vector</code>, que solo se utiliza en las
+ * versiones 17 y posteriores del JDK.
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedDatesBenchmark {
+
+    /**
+     * Datos de entrada con las fechas de todos los elementos, una por línea.
+     */
+    @State(Scope.Thread)
+    public static class PackedData extends InputData {
+
+        byte[] bytes;
+        long[] epochDays;
+        int length;
+        int stride;
+
+        @Override
+        void prepare() {
+            length = DatePatterns.DEFAULT_DATE_PATTERN.length();
+            stride = length + 1;
+            bytes = new byte[SIZE * stride];
+            for (int i = 0; i < SIZE; i++) {
+                byte[] text = DateFormatters.format(localDates[i], DatePatterns.DEFAULT_DATE_PATTERN)
+                        .getBytes(StandardCharsets.US_ASCII);
+                System.arraycopy(text, 0, bytes, i * stride, length);
+                bytes[i * stride + length] = '\n';
+            }
+            epochDays = new long[SIZE];
+        }
+    }
+
+    @Benchmark
+    public long[] parseEachToEpochDay(PackedData data) {
+        for (int i = 0; i < InputData.SIZE; i++) {
+            data.epochDays[i] = DateParsers.parseToEpochDay(data.bytes, i * data.stride, data.length,
+                    DatePatterns.DEFAULT_DATE_PATTERN);
+        }
+        return data.epochDays;
+    }
+
+    @Benchmark
+    public long[] parseToEpochDays(PackedData data) {
+        DateParsers.parseToEpochDays(data.bytes, 0, data.length, data.stride, data.epochDays,
+                DatePatterns.DEFAULT_DATE_PATTERN);
+        return data.epochDays;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public long[] parseToEpochDaysVector(PackedData data) {
+        DateParsers.parseToEpochDays(data.bytes, 0, data.length, data.stride, data.epochDays,
+                DatePatterns.DEFAULT_DATE_PATTERN);
+        return data.epochDays;
+    }
+}
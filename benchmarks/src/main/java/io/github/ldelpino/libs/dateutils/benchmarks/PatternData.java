@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils.benchmarks;
+
+import io.github.ldelpino.libs.dateutils.DatePatterns;
+import java.time.format.DateTimeFormatter;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Datos de entrada de las pruebas de rendimiento que utilizan patrones de
+ * formato.
+ * <p>
+ * Además de las marcas de tiempo, genera las cadenas de caracteres
+ * correspondientes al conjunto de patrones establecido y lo instala como
+ * patrones por defecto de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DatePatterns}, de forma que los
+ * métodos sin patrón también se prueban con cada conjunto.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+@State(Scope.Thread)
+public class PatternData extends InputData {
+
+    /**
+     * Los conjuntos de patrones de fecha, hora y fecha y hora utilizados.
+     */
+    public enum PatternSet {
+
+        /**
+         * Los patrones por defecto de la clase DatePatterns.
+         */
+        DEFAULT(DatePatterns.DEFAULT_DATE_PATTERN, DatePatterns.DEFAULT_TIME_PATTERN,
+                DatePatterns.DEFAULT_DATE_TIME_PATTERN),
+
+        /**
+         * Patrones ISO-8601.
+         */
+        ISO("yyyy-MM-dd", "HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss"),
+
+        /**
+         * Patrones con el nombre del mes en texto.
+         */
+        TEXT_MONTH("dd MMM yyyy", "hh:mm:ss a", "dd MMM yyyy HH:mm:ss");
+
+        final String date;
+        final String time;
+        final String dateTime;
+
+        PatternSet(String date, String time, String dateTime) {
+            this.date = date;
+            this.time = time;
+            this.dateTime = dateTime;
+        }
+    }
+
+    /**
+     * El conjunto de patrones utilizado en la prueba.
+     */
+    @Param({"DEFAULT", "ISO", "TEXT_MONTH"})
+    public PatternSet patterns;
+
+    String datePattern;
+    String timePattern;
+    String dateTimePattern;
+    String[] dateStrings;
+    String[] timeStrings;
+    String[] dateTimeStrings;
+
+    /**
+     * Establece los patrones por defecto y genera las cadenas de entrada.
+     */
+    @Override
+    void prepare() {
+        datePattern = patterns.date;
+        timePattern = patterns.time;
+        dateTimePattern = patterns.dateTime;
+        DatePatterns.setDatePattern(datePattern);
+        DatePatterns.setTimePattern(timePattern);
+        DatePatterns.setDateTimePattern(dateTimePattern);
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(datePattern);
+        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(timePattern);
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(dateTimePattern);
+        dateStrings = new String[SIZE];
+        timeStrings = new String[SIZE];
+        dateTimeStrings = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dateStrings[i] = dateFormatter.format(localDates[i]);
+            timeStrings[i] = timeFormatter.format(localTimes[i]);
+            dateTimeStrings[i] = dateTimeFormatter.format(localDateTimes[i]);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Ordena los valores de objetos de tipo {@link java.nio.IntBuffer} y
+ * {@link java.nio.LongBuffer} sin copiarlos en arreglos.
+ * <p>
+ * Las columnas de las clases
+ * {@link io.github.ldelpino.libs.dateutils.DateColumn} y
+ * {@link io.github.ldelpino.libs.dateutils.TimestampColumn} almacenan sus
+ * valores en memoria directa para no ocupar el montículo, por lo que copiarlos
+ * en un arreglo para ordenarlos reservaría en el montículo tanta memoria como
+ * la columna. Esta clase ordena los valores en su lugar mediante el algoritmo
+ * introsort: ordenación rápida con la mediana de tres como pivote, ordenación
+ * por montículos cuando la recursión es demasiado profunda y ordenación por
+ * inserción en los tramos pequeños, con un tiempo de O(n log n) en el peor
+ * caso y sin memoria adicional.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+final class BufferSort {
+
+    /**
+     * La longitud máxima de los tramos que se ordenan por inserción.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private BufferSort() {
+
+    }
+
+    /**
+     * Ordena de forma ascendente los valores entre dos posiciones absolutas.
+     *
+     * @param values los valores a ordenar.
+     * @param from la posición del primer valor.
+     * @param to la posición siguiente al último valor.
+     */
+    static void sort(IntBuffer values, int from, int to) {
+        sort(values, from, to - 1, depth(to - from));
+    }
+
+    /**
+     * Ordena de forma ascendente los valores entre dos posiciones absolutas.
+     *
+     * @param values los valores a ordenar.
+     * @param from la posición del primer valor.
+     * @param to la posición siguiente al último valor.
+     */
+    static void sort(LongBuffer values, int from, int to) {
+        sort(values, from, to - 1, depth(to - from));
+    }
+
+    /**
+     * Devuelve la profundidad máxima de recursión antes de pasar a la
+     * ordenación por montículos.
+     *
+     * @param length la cantidad de valores.
+     * @return la profundidad máxima.
+     */
+    private static int depth(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    private static void sort(IntBuffer values, int low, int high, int depth) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(values, low, high);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (values.get(middle) < values.get(low)) {
+                swap(values, middle, low);
+            }
+            if (values.get(high) < values.get(low)) {
+                swap(values, high, low);
+            }
+            if (values.get(high) < values.get(middle)) {
+                swap(values, high, middle);
+            }
+            int pivot = values.get(middle);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values.get(i) < pivot) {
+                    i++;
+                }
+                while (values.get(j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (j - low < high - i) {
+                sort(values, low, j, depth);
+                low = i;
+            }
+            else {
+                sort(values, i, high, depth);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            int value = values.get(i);
+            int j = i - 1;
+            while (j >= low && values.get(j) > value) {
+                values.put(j + 1, values.get(j));
+                j--;
+            }
+            values.put(j + 1, value);
+        }
+    }
+
+    private static void heapSort(IntBuffer values, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(values, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(values, low, low + end);
+            siftDown(values, low, 0, end);
+        }
+    }
+
+    private static void siftDown(IntBuffer values, int base, int root, int length) {
+        int value = values.get(base + root);
+        int parent = root;
+        int child;
+        while ((child = 2 * parent + 1) < length) {
+            if (child + 1 < length && values.get(base + child + 1) > values.get(base + child)) {
+                child++;
+            }
+            if (values.get(base + child) <= value) {
+                break;
+            }
+            values.put(base + parent, values.get(base + child));
+            parent = child;
+        }
+        values.put(base + parent, value);
+    }
+
+    private static void swap(IntBuffer values, int i, int j) {
+        int value = values.get(i);
+        values.put(i, values.get(j));
+        values.put(j, value);
+    }
+
+    private static void sort(LongBuffer values, int low, int high, int depth) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(values, low, high);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (values.get(middle) < values.get(low)) {
+                swap(values, middle, low);
+            }
+            if (values.get(high) < values.get(low)) {
+                swap(values, high, low);
+            }
+            if (values.get(high) < values.get(middle)) {
+                swap(values, high, middle);
+            }
+            long pivot = values.get(middle);
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values.get(i) < pivot) {
+                    i++;
+                }
+                while (values.get(j) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (j - low < high - i) {
+                sort(values, low, j, depth);
+                low = i;
+            }
+            else {
+                sort(values, i, high, depth);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            long value = values.get(i);
+            int j = i - 1;
+            while (j >= low && values.get(j) > value) {
+                values.put(j + 1, values.get(j));
+                j--;
+            }
+            values.put(j + 1, value);
+        }
+    }
+
+    private static void heapSort(LongBuffer values, int low, int high) {
+        int length = high - low + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(values, low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(values, low, low + end);
+            siftDown(values, low, 0, end);
+        }
+    }
+
+    private static void siftDown(LongBuffer values, int base, int root, int length) {
+        long value = values.get(base + root);
+        int parent = root;
+        int child;
+        while ((child = 2 * parent + 1) < length) {
+            if (child + 1 < length && values.get(base + child + 1) > values.get(base + child)) {
+                child++;
+            }
+            if (values.get(base + child) <= value) {
+                break;
+            }
+            values.put(base + parent, values.get(base + child));
+            parent = child;
+        }
+        values.put(base + parent, value);
+    }
+
+    private static void swap(LongBuffer values, int i, int j) {
+        long value = values.get(i);
+        values.put(i, values.get(j));
+        values.put(j, value);
+    }
+}
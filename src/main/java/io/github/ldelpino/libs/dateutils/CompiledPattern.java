@@ -0,0 +1,882 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Representa un patrón de formato de fechas y horas ya compilado.
+ * <p>
+ * La clase almacena el patrón de formato junto con la configuración regional y
+ * la zona horaria con las que fue compilado, así como el objeto
+ * {@link java.time.format.DateTimeFormatter} resultante. Los objetos de esta
+ * clase son inmutables y pueden ser compartidos entre hilos sin necesidad de
+ * sincronización. Las instancias se obtienen a través de la clase
+ * {@link io.github.ldelpino.libs.dateutils.FormatterCache}.</p>
+ * <p>
+ * Si el patrón es numérico y de ancho fijo, por ejemplo
+ * <code>dd/MM/yyyy-HH/mm/ss</code>, se compila además un convertidor
+ * especializado que lee y escribe los dígitos directamente por su posición. Los
+ * valores que este convertidor no puede procesar se convierten con el objeto
+ * {@link java.time.format.DateTimeFormatter}, por lo que el resultado y los
+ * errores son siempre los mismos.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.FormatterCache
+ */
+public final class CompiledPattern {
+
+    /**
+     * La consulta que devuelve los campos resueltos sin convertirlos en otro
+     * tipo, utilizada para comprobar las cadenas.
+     */
+    private static final TemporalQuery<TemporalAccessor> RESOLVED = temporal -> temporal;
+
+    /**
+     * El patrón de formato original.
+     */
+    private final String pattern;
+
+    /**
+     * La configuración regional utilizada en la compilación.
+     */
+    private final Locale locale;
+
+    /**
+     * La zona horaria utilizada en la compilación, puede ser nula.
+     */
+    private final ZoneId zone;
+
+    /**
+     * El objeto de formato compilado a partir del patrón.
+     */
+    private final DateTimeFormatter formatter;
+
+    /**
+     * El convertidor de ancho fijo o {@code null} si el patrón no es de ancho
+     * fijo.
+     */
+    private final FixedWidthPattern fixed;
+
+    /**
+     * El código hash, calculado una sola vez al compilar el patrón.
+     */
+    private final int hash;
+
+    /**
+     * El objeto que convierte lotes de fechas en la cantidad de días desde
+     * 1970-01-01, o {@code null} si todavía no se ha necesitado. Se crea una
+     * sola vez porque con la API de vectores su creación prepara las máscaras
+     * y la plantilla del patrón; como es inmutable, si varios hilos lo crean a
+     * la vez cualquiera de los objetos creados es válido.
+     */
+    private PackedDateDecoder decoder;
+
+    /**
+     * Compila el patrón de formato especificado.
+     *
+     * @param pattern el patrón de formato a compilar.
+     * @param locale la configuración regional a utilizar.
+     * @param zone la zona horaria a utilizar o {@code null} si el patrón no
+     * necesita una zona horaria.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    CompiledPattern(String pattern, Locale locale, ZoneId zone) throws IllegalArgumentException {
+        DateTimeFormatter compiled = DateTimeFormatter.ofPattern(pattern, locale);
+        this.pattern = pattern;
+        this.locale = locale;
+        this.zone = zone;
+        this.formatter = zone == null ? compiled : compiled.withZone(zone);
+        this.fixed = FixedWidthPattern.compile(pattern);
+        this.hash = (pattern.hashCode() * 31 + locale.hashCode()) * 31 + Objects.hashCode(zone);
+    }
+
+    /**
+     * Devuelve el patrón de formato original.
+     *
+     * @return el patrón de formato original.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Devuelve la configuración regional utilizada en la compilación.
+     *
+     * @return la configuración regional utilizada en la compilación.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Devuelve la zona horaria utilizada en la compilación.
+     *
+     * @return la zona horaria utilizada en la compilación o {@code null} si el
+     * patrón fue compilado sin zona horaria.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Devuelve el objeto de formato compilado a partir del patrón.
+     *
+     * @return el objeto de formato compilado.
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * Indica si el patrón es numérico y de ancho fijo, en cuyo caso las
+     * conversiones no utilizan el mecanismo general de
+     * {@link java.time.format.DateTimeFormatter}.
+     *
+     * @return {@code true} si el patrón es de ancho fijo.
+     */
+    public boolean isFixedWidth() {
+        return fixed != null;
+    }
+
+    /**
+     * Devuelve el convertidor de ancho fijo del patrón.
+     *
+     * @return el convertidor de ancho fijo o {@code null} si el patrón no es de
+     * ancho fijo.
+     */
+    FixedWidthPattern getFixedWidthPattern() {
+        return fixed;
+    }
+
+    /**
+     * Devuelve el objeto a convertir por el convertidor de ancho fijo. Los
+     * instantes se convierten a la zona horaria del patrón.
+     *
+     * @param temporal el objeto de fecha y hora.
+     * @return el objeto a convertir o {@code null} si el objeto no puede
+     * convertirse con el convertidor de ancho fijo.
+     */
+    private TemporalAccessor fixedValue(TemporalAccessor temporal) {
+        if (fixed == null) {
+            return null;
+        }
+        if (temporal instanceof Instant) {
+            if (zone == null) {
+                return null;
+            }
+            temporal = LocalDateTime.ofInstant((Instant) temporal, zone);
+        }
+        return fixed.canFormat(temporal) ? temporal : null;
+    }
+
+    /**
+     * Convierte un objeto de fecha y hora en una cadena de caracteres. Los
+     * instantes se convierten utilizando la zona horaria del patrón.
+     *
+     * @param temporal el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    String format(TemporalAccessor temporal) {
+        TemporalAccessor value = fixedValue(temporal);
+        return value != null ? fixed.format(value) : formatter.format(temporal);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un arreglo de caracteres.
+     *
+     * @param temporal el objeto a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición inicial en el arreglo.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    int formatTo(TemporalAccessor temporal, char[] buffer, int offset) throws IndexOutOfBoundsException {
+        TemporalAccessor value = fixedValue(temporal);
+        if (value != null) {
+            return fixed.formatTo(value, buffer, offset);
+        }
+        String text = formatter.format(temporal);
+        if (offset < 0 || offset > buffer.length - text.length()) {
+            throw new IndexOutOfBoundsException("Espacio insuficiente para " + text.length()
+                    + " caracteres a partir de la posición " + offset);
+        }
+        text.getChars(0, text.length(), buffer, offset);
+        return text.length();
+    }
+
+    /**
+     * Añade un objeto de fecha y hora a un objeto de tipo StringBuilder.
+     *
+     * @param temporal el objeto a convertir.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    int formatTo(TemporalAccessor temporal, StringBuilder out) {
+        TemporalAccessor value = fixedValue(temporal);
+        if (value != null) {
+            return fixed.appendTo(value, out);
+        }
+        int start = out.length();
+        formatter.formatTo(temporal, out);
+        return out.length() - start;
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un objeto de tipo CharBuffer a partir
+     * de su posición actual.
+     *
+     * @param temporal el objeto a convertir.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el destino no tiene espacio
+     * suficiente, en cuyo caso no se escribe ningún carácter.
+     */
+    int formatTo(TemporalAccessor temporal, CharBuffer out) throws BufferOverflowException {
+        TemporalAccessor value = fixedValue(temporal);
+        if (value == null) {
+            String text = formatter.format(temporal);
+            out.put(text);
+            return text.length();
+        }
+        if (out.remaining() < fixed.length()) {
+            throw new BufferOverflowException();
+        }
+        if (out.hasArray()) {
+            int written = fixed.formatTo(value, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + written);
+            return written;
+        }
+        try {
+            return fixed.appendTo(value, out);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Añade un objeto de fecha y hora a un destino de caracteres.
+     *
+     * @param temporal el objeto a convertir.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    int formatTo(TemporalAccessor temporal, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            return formatTo(temporal, (StringBuilder) out);
+        }
+        if (out instanceof CharBuffer) {
+            return formatTo(temporal, (CharBuffer) out);
+        }
+        TemporalAccessor value = fixedValue(temporal);
+        if (value != null) {
+            return fixed.appendTo(value, out);
+        }
+        String text = formatter.format(temporal);
+        out.append(text);
+        return text.length();
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido.
+     */
+    LocalDate parseLocalDate(CharSequence text) {
+        if (fixed != null) {
+            LocalDate result = fixed.parseLocalDate(text);
+            if (result != null) {
+                return result;
+            }
+        }
+        return formatter.parse(text, LocalDate::from);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido.
+     */
+    LocalTime parseLocalTime(CharSequence text) {
+        if (fixed != null) {
+            LocalTime result = fixed.parseLocalTime(text);
+            if (result != null) {
+                return result;
+            }
+        }
+        return formatter.parse(text, LocalTime::from);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido.
+     */
+    LocalDateTime parseLocalDateTime(CharSequence text) {
+        if (fixed != null) {
+            LocalDateTime result = fixed.parseLocalDateTime(text);
+            if (result != null) {
+                return result;
+            }
+        }
+        return formatter.parse(text, LocalDateTime::from);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un instante utilizando la zona
+     * horaria del patrón.
+     *
+     * @param text la cadena a convertir.
+     * @return el instante convertido.
+     */
+    Instant parseInstant(CharSequence text) {
+        if (fixed != null && zone != null) {
+            LocalDateTime result = fixed.parseLocalDateTime(text);
+            if (result != null) {
+                return result.atZone(zone).toInstant();
+            }
+        }
+        return formatter.parse(text, Instant::from);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate sin
+     * lanzar excepciones.
+     *
+     * @param text la cadena a convertir, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse.
+     */
+    LocalDate tryParseLocalDate(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null) {
+            LocalDate result = fixed.parseLocalDate(text);
+            if (result != null) {
+                succeed(status);
+                return result;
+            }
+        }
+        return isRejected(text, status) ? null : resolve(text, LocalDate::from, status);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime sin
+     * lanzar excepciones.
+     *
+     * @param text la cadena a convertir, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse.
+     */
+    LocalTime tryParseLocalTime(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null) {
+            LocalTime result = fixed.parseLocalTime(text);
+            if (result != null) {
+                succeed(status);
+                return result;
+            }
+        }
+        return isRejected(text, status) ? null : resolve(text, LocalTime::from, status);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime
+     * sin lanzar excepciones.
+     *
+     * @param text la cadena a convertir, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse.
+     */
+    LocalDateTime tryParseLocalDateTime(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null) {
+            LocalDateTime result = fixed.parseLocalDateTime(text);
+            if (result != null) {
+                succeed(status);
+                return result;
+            }
+        }
+        return isRejected(text, status) ? null : resolve(text, LocalDateTime::from, status);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en la cantidad de días desde
+     * 1970-01-01 sin lanzar excepciones.
+     *
+     * @param text la cadena a convertir, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return la cantidad de días o {@link ParseStatus#NO_VALUE} si la cadena
+     * no puede convertirse.
+     */
+    long tryParseEpochDay(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null) {
+            long result = fixed.parseEpochDay(text);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                succeed(status);
+                return result;
+            }
+        }
+        if (isRejected(text, status)) {
+            return ParseStatus.NO_VALUE;
+        }
+        LocalDate result = resolve(text, LocalDate::from, status);
+        return result == null ? ParseStatus.NO_VALUE : result.toEpochDay();
+    }
+
+    /**
+     * Convierte una cadena de caracteres en la cantidad de milisegundos locales
+     * desde 1970-01-01T00:00:00, sin zona horaria, sin lanzar excepciones.
+     *
+     * @param text la cadena a convertir, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return los milisegundos locales o {@link ParseStatus#NO_VALUE} si la
+     * cadena no puede convertirse.
+     */
+    long tryParseLocalEpochMilli(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null) {
+            long result = fixed.parseLocalEpochMilli(text);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                succeed(status);
+                return result;
+            }
+        }
+        if (isRejected(text, status)) {
+            return ParseStatus.NO_VALUE;
+        }
+        LocalDateTime result = resolve(text, LocalDateTime::from, status);
+        return result == null ? ParseStatus.NO_VALUE
+                : result.toEpochSecond(ZoneOffset.UTC) * 1000 + result.getNano() / 1_000_000;
+    }
+
+    /**
+     * Comprueba sin lanzar excepciones que una cadena de caracteres se
+     * corresponde con el patrón y que sus campos forman una fecha u hora
+     * válida. Si el patrón es de ancho fijo las cadenas correctas y la mayoría
+     * de las incorrectas se comprueban sin crear objetos.
+     *
+     * @param text la cadena a comprobar, puede ser nula.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return {@code true} si la cadena puede convertirse con el patrón.
+     */
+    boolean isValid(CharSequence text, ParseStatus status) {
+        if (text != null && fixed != null && fixed.mismatch(text) < 0 && fixed.hasValidFields(text)) {
+            succeed(status);
+            return true;
+        }
+        return !isRejected(text, status) && resolve(text, RESOLVED, status) != null;
+    }
+
+    /**
+     * Comprueba si una cadena de caracteres que no pudo convertirse por la vía
+     * de ancho fijo debe descartarse sin utilizar el objeto de formato. Las
+     * cadenas que se corresponden con el patrón solo llegan al objeto de
+     * formato si sus campos están dentro de su rango absoluto, para que este
+     * resuelva casos como el 31 de abril según su estilo de resolución.
+     *
+     * @param text la cadena a comprobar, puede ser nula.
+     * @param status el objeto donde se registra el error o {@code null}.
+     * @return {@code true} si la cadena se descarta y el error se ha
+     * registrado.
+     */
+    private boolean isRejected(CharSequence text, ParseStatus status) {
+        if (text == null) {
+            fail(status, ParseStatus.NULL_TEXT, 0);
+            return true;
+        }
+        if (fixed == null) {
+            return false;
+        }
+        int mismatch = fixed.mismatch(text);
+        if (mismatch < 0) {
+            if (fixed.isInRange(text)) {
+                return false;
+            }
+            fail(status, ParseStatus.INVALID_VALUE, 0);
+            return true;
+        }
+        int length = text.length();
+        if (!fixed.isRejected(length, mismatch)) {
+            return false;
+        }
+        if (mismatch < length && mismatch < fixed.length()) {
+            fail(status, ParseStatus.UNEXPECTED_CHARACTER, mismatch);
+        }
+        else {
+            fail(status, length < fixed.length() ? ParseStatus.UNEXPECTED_END : ParseStatus.TRAILING_TEXT,
+                    mismatch);
+        }
+        return true;
+    }
+
+    /**
+     * Convierte una cadena de caracteres con el objeto de formato del patrón.
+     * Los errores de sintaxis se detectan sin lanzar excepciones; solo los
+     * campos que no forman una fecha u hora válida producen una excepción, que
+     * se captura.
+     *
+     * @param <T> el tipo del resultado.
+     * @param text la cadena a convertir.
+     * @param query la consulta que obtiene el resultado de los campos leídos.
+     * @param status el objeto donde se registra el resultado o {@code null}.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse.
+     */
+    private <T> T resolve(CharSequence text, TemporalQuery<T> query, ParseStatus status) {
+        ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(text, position) == null) {
+            int index = position.getErrorIndex();
+            int error = index >= text.length() ? ParseStatus.UNEXPECTED_END : ParseStatus.UNEXPECTED_CHARACTER;
+            fail(status, error, index);
+            return null;
+        }
+        if (position.getIndex() < text.length()) {
+            fail(status, ParseStatus.TRAILING_TEXT, position.getIndex());
+            return null;
+        }
+        try {
+            T result = formatter.parse(text, query);
+            succeed(status);
+            return result;
+        }
+        catch (DateTimeException ex) {
+            fail(status, ParseStatus.INVALID_VALUE, 0);
+            return null;
+        }
+    }
+
+    /**
+     * Registra una conversión correcta si se especifica el objeto de
+     * resultado.
+     *
+     * @param status el objeto de resultado o {@code null}.
+     */
+    private static void succeed(ParseStatus status) {
+        if (status != null) {
+            status.succeed();
+        }
+    }
+
+    /**
+     * Registra un error de conversión si se especifica el objeto de resultado.
+     *
+     * @param status el objeto de resultado o {@code null}.
+     * @param error el código del error.
+     * @param index la posición del error.
+     */
+    private static void fail(ParseStatus status, int error, int index) {
+        if (status != null) {
+            status.fail(error, index);
+        }
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 en un objeto de
+     * tipo LocalDate.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalDate parseLocalDate(ByteBuffer buffer, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseEpochDay(buffer, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return LocalDate.ofEpochDay(result);
+            }
+        }
+        return parseLocalDate(decode(buffer, start, length));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 en un objeto de
+     * tipo LocalTime.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalTime parseLocalTime(ByteBuffer buffer, int start, int length) {
+        if (fixed != null) {
+            LocalTime result = fixed.parseLocalTime(buffer, start, length);
+            if (result != null) {
+                return result;
+            }
+        }
+        return parseLocalTime(decode(buffer, start, length));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 en un objeto de
+     * tipo LocalDateTime.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalDateTime parseLocalDateTime(ByteBuffer buffer, int start, int length) {
+        if (fixed != null) {
+            LocalDateTime result = fixed.parseLocalDateTime(buffer, start, length);
+            if (result != null) {
+                return result;
+            }
+        }
+        return parseLocalDateTime(decode(buffer, start, length));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 en la cantidad de
+     * días desde 1970-01-01.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    long parseEpochDay(ByteBuffer buffer, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseEpochDay(buffer, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return result;
+            }
+        }
+        return parseLocalDate(decode(buffer, start, length)).toEpochDay();
+    }
+
+    /**
+     * Convierte un lote de fechas codificadas en UTF-8 almacenadas a intervalos
+     * regulares en una secuencia de bytes en la cantidad de días desde
+     * 1970-01-01. Los registros de los patrones de fecha de ancho fijo se
+     * convierten en lote, con la API de vectores si está disponible, y el resto
+     * uno a uno con el objeto de formato del patrón.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer registro.
+     * @param length la cantidad de bytes de cada registro.
+     * @param stride la distancia en bytes entre el inicio de dos registros
+     * consecutivos.
+     * @param epochDays el arreglo que recibe la cantidad de días de cada
+     * registro, su longitud es la cantidad de registros.
+     * @see io.github.ldelpino.libs.dateutils.PackedDateDecoder
+     */
+    void parseEpochDays(ByteBuffer buffer, int start, int length, int stride, long[] epochDays) {
+        PackedDateDecoder current = decoder;
+        if (current == null) {
+            current = PackedDateDecoder.of(fixed);
+            decoder = current;
+        }
+        current.decode(buffer, start, length, stride, epochDays, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            if (epochDays[i] == FixedWidthPattern.UNRESOLVED) {
+                epochDays[i] = parseLocalDate(decode(buffer, start + i * stride, length)).toEpochDay();
+            }
+        }
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 en la cantidad de
+     * milisegundos locales desde 1970-01-01T00:00:00, sin zona horaria.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return los milisegundos locales.
+     */
+    long parseLocalEpochMilli(ByteBuffer buffer, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseLocalEpochMilli(buffer, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return result;
+            }
+        }
+        LocalDateTime result = parseLocalDateTime(decode(buffer, start, length));
+        return result.toEpochSecond(ZoneOffset.UTC) * 1000 + result.getNano() / 1_000_000;
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 de un arreglo en un
+     * objeto de tipo LocalDate.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalDate parseLocalDate(byte[] bytes, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseEpochDay(bytes, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return LocalDate.ofEpochDay(result);
+            }
+        }
+        return parseLocalDate(new String(bytes, start, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 de un arreglo en un
+     * objeto de tipo LocalTime.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalTime parseLocalTime(byte[] bytes, int start, int length) {
+        if (fixed != null) {
+            LocalTime result = fixed.parseLocalTime(bytes, start, length);
+            if (result != null) {
+                return result;
+            }
+        }
+        return parseLocalTime(new String(bytes, start, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 de un arreglo en un
+     * objeto de tipo LocalDateTime.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido.
+     */
+    LocalDateTime parseLocalDateTime(byte[] bytes, int start, int length) {
+        if (fixed != null) {
+            LocalDateTime result = fixed.parseLocalDateTime(bytes, start, length);
+            if (result != null) {
+                return result;
+            }
+        }
+        return parseLocalDateTime(new String(bytes, start, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 de un arreglo en la
+     * cantidad de días desde 1970-01-01.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    long parseEpochDay(byte[] bytes, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseEpochDay(bytes, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return result;
+            }
+        }
+        return parseLocalDate(new String(bytes, start, length, StandardCharsets.UTF_8)).toEpochDay();
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en UTF-8 de un arreglo en la
+     * cantidad de milisegundos locales desde 1970-01-01T00:00:00, sin zona
+     * horaria.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return los milisegundos locales.
+     */
+    long parseLocalEpochMilli(byte[] bytes, int start, int length) {
+        if (fixed != null) {
+            long result = fixed.parseLocalEpochMilli(bytes, start, length);
+            if (result != FixedWidthPattern.UNRESOLVED) {
+                return result;
+            }
+        }
+        LocalDateTime result = parseLocalDateTime(new String(bytes, start, length, StandardCharsets.UTF_8));
+        return result.toEpochSecond(ZoneOffset.UTC) * 1000 + result.getNano() / 1_000_000;
+    }
+
+    /**
+     * Decodifica una secuencia de bytes en UTF-8 para convertirla con el objeto
+     * de formato del patrón.
+     *
+     * @param buffer el objeto que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la cadena decodificada.
+     */
+    static String decode(ByteBuffer buffer, int start, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompiledPattern)) {
+            return false;
+        }
+        CompiledPattern other = (CompiledPattern) obj;
+        return pattern.equals(other.pattern) && locale.equals(other.locale)
+                && Objects.equals(zone, other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/**
+ * Convierte la fecha y hora actual en cadenas de caracteres reutilizando el
+ * texto ya convertido.
+ * <p>
+ * Los registros de actividad convierten la hora actual muchas veces por
+ * segundo y casi todas las llamadas caen en el mismo segundo, por lo que el
+ * objeto recuerda el texto convertido del intervalo actual y cada conversión se
+ * reduce a copiar ese texto. Con los patrones de ancho fijo, ver
+ * {@link io.github.ldelpino.libs.dateutils.CompiledPattern#isFixedWidth()}, el
+ * intervalo es el minuto actual y solo se reescriben los dígitos de los
+ * segundos y de las fracciones de segundo. Con el resto de los patrones el
+ * intervalo es el segundo actual, o el milisegundo actual si el patrón contiene
+ * fracciones de segundo.</p>
+ * <p>
+ * El texto recordado se sustituye sin bloqueos cuando el reloj avanza al
+ * siguiente intervalo, por lo que un mismo objeto puede utilizarse desde
+ * varios hilos.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateFormatters#formatNow(java.lang.String)
+ */
+public final class CurrentTimeFormatter {
+
+    /**
+     * El patrón compilado con la zona horaria del reloj.
+     */
+    private final CompiledPattern pattern;
+
+    /**
+     * El reloj del que se obtiene la hora actual.
+     */
+    private final Clock clock;
+
+    /**
+     * La tabla de desplazamientos de la zona horaria del reloj.
+     */
+    private final ZoneOffsetTable offset_table;
+
+    /**
+     * La posición de los segundos en el texto o -1 si no se reescriben.
+     */
+    private final int second_offset;
+
+    /**
+     * La posición de las fracciones de segundo en el texto o -1 si no se
+     * reescriben.
+     */
+    private final int fraction_offset;
+
+    /**
+     * La cantidad de dígitos de las fracciones de segundo que se reescriben,
+     * como máximo los tres de los milisegundos.
+     */
+    private final int fraction_width;
+
+    /**
+     * La duración en milisegundos del intervalo de los patrones que no son de
+     * ancho fijo.
+     */
+    private final long interval;
+
+    /**
+     * El texto del intervalo actual.
+     */
+    private volatile Snapshot snapshot = new Snapshot(0, 0, 0, new char[0]);
+
+    /**
+     * Crea un objeto para el patrón especificado que utiliza el reloj del
+     * sistema en la zona horaria por defecto.
+     *
+     * @param pattern el patrón de formato.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public CurrentTimeFormatter(String pattern) throws IllegalArgumentException {
+        this(pattern, Clock.system(DateConverters.getTimeZone()));
+    }
+
+    /**
+     * Crea un objeto para el patrón especificado que utiliza el reloj
+     * especificado. La hora se convierte en la zona horaria del reloj.
+     *
+     * @param pattern el patrón de formato.
+     * @param clock el reloj.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public CurrentTimeFormatter(String pattern, Clock clock) throws IllegalArgumentException {
+        this.pattern = FormatterCache.get(pattern, clock.getZone());
+        this.clock = clock;
+        this.offset_table = ZoneOffsetTable.of(clock.getZone());
+        FixedWidthPattern fixed = this.pattern.getFixedWidthPattern();
+        if (fixed != null) {
+            second_offset = fixed.offset(FixedWidthPattern.SECOND);
+            fraction_offset = fixed.offset(FixedWidthPattern.FRACTION);
+            fraction_width = Math.min(3, fixed.width(FixedWidthPattern.FRACTION));
+            interval = 60_000L;
+        }
+        else {
+            second_offset = -1;
+            fraction_offset = -1;
+            fraction_width = 0;
+            interval = hasFraction(pattern) ? 1L : 1000L;
+        }
+    }
+
+    /**
+     * Devuelve el patrón de formato.
+     *
+     * @return el patrón de formato.
+     */
+    public String getPattern() {
+        return pattern.getPattern();
+    }
+
+    /**
+     * Devuelve la zona horaria en la que se convierte la hora actual.
+     *
+     * @return la zona horaria.
+     */
+    public ZoneId getZone() {
+        return clock.getZone();
+    }
+
+    /**
+     * Devuelve la configuración regional del patrón.
+     *
+     * @return la configuración regional.
+     */
+    Locale getLocale() {
+        return pattern.getLocale();
+    }
+
+    /**
+     * Convierte la fecha y hora actual en una cadena de caracteres.
+     *
+     * @return la cadena de caracteres convertida.
+     */
+    public String format() {
+        long now = clock.millis();
+        Snapshot current = current(now);
+        char[] buffer = current.chars.clone();
+        patch(current, now, buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Escribe la fecha y hora actual en un arreglo de caracteres.
+     *
+     * @param buffer el arreglo de destino.
+     * @param offset la posición inicial en el arreglo.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el texto no cabe en el arreglo a
+     * partir de la posición especificada.
+     */
+    public int formatTo(char[] buffer, int offset) throws IndexOutOfBoundsException {
+        long now = clock.millis();
+        Snapshot current = current(now);
+        System.arraycopy(current.chars, 0, buffer, offset, current.chars.length);
+        patch(current, now, buffer, offset);
+        return current.chars.length;
+    }
+
+    /**
+     * Añade la fecha y hora actual a un objeto de tipo StringBuilder.
+     *
+     * @param out el objeto de destino.
+     * @return la cantidad de caracteres escritos.
+     */
+    public int formatTo(StringBuilder out) {
+        long now = clock.millis();
+        Snapshot current = current(now);
+        char[] buffer = current.chars.clone();
+        patch(current, now, buffer, 0);
+        out.append(buffer);
+        return buffer.length;
+    }
+
+    /**
+     * Añade la fecha y hora actual a un objeto de tipo Appendable.
+     *
+     * @param out el objeto de destino.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public int formatTo(Appendable out) throws IOException {
+        long now = clock.millis();
+        Snapshot current = current(now);
+        char[] buffer = current.chars.clone();
+        patch(current, now, buffer, 0);
+        for (char c : buffer) {
+            out.append(c);
+        }
+        return buffer.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CurrentTimeFormatter[" + pattern.getPattern() + ", " + clock.getZone() + "]";
+    }
+
+    /**
+     * Devuelve el texto del intervalo que contiene el instante especificado,
+     * convirtiéndolo si el intervalo ha cambiado.
+     *
+     * @param now el instante en milisegundos desde 1970-01-01T00:00:00Z.
+     * @return el texto del intervalo.
+     */
+    private Snapshot current(long now) {
+        Snapshot current = snapshot;
+        if (now < current.from || now >= current.to) {
+            current = refresh(now);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Convierte el texto del intervalo que contiene el instante especificado.
+     * Con los patrones de ancho fijo el intervalo es el minuto local, salvo que
+     * el desplazamiento de la zona horaria cambie dentro del minuto, en cuyo
+     * caso el intervalo es el segundo.
+     *
+     * @param now el instante en milisegundos desde 1970-01-01T00:00:00Z.
+     * @return el texto del intervalo.
+     */
+    private Snapshot refresh(long now) {
+        long from = now - Math.floorMod(now, interval);
+        if (pattern.isFixedWidth()) {
+            long epochSecond = Math.floorDiv(now, 1000);
+            int offset = offset_table.offsetAtEpochSecond(epochSecond);
+            long start = epochSecond - Math.floorMod(epochSecond + offset, 60L);
+            if (offset_table.offsetAtEpochSecond(start) == offset
+                    && offset_table.offsetAtEpochSecond(start + 59) == offset) {
+                from = start * 1000;
+                return new Snapshot(from, from + 60_000L, 0, format(from));
+            }
+            from = epochSecond * 1000;
+            int second = (int) Math.floorMod(epochSecond + offset, 60L);
+            return new Snapshot(from, from + 1000L, second, format(from));
+        }
+        return new Snapshot(from, from + interval, 0, format(from));
+    }
+
+    /**
+     * Convierte el instante especificado en texto.
+     *
+     * @param epochMilli el instante en milisegundos desde 1970-01-01T00:00:00Z.
+     * @return el texto convertido.
+     */
+    private char[] format(long epochMilli) {
+        return pattern.format(Instant.ofEpochMilli(epochMilli)).toCharArray();
+    }
+
+    /**
+     * Reescribe los dígitos de los segundos y las fracciones de segundo del
+     * texto copiado.
+     *
+     * @param current el texto del intervalo.
+     * @param now el instante en milisegundos desde 1970-01-01T00:00:00Z.
+     * @param buffer el arreglo que contiene la copia del texto.
+     * @param offset la posición del texto en el arreglo.
+     */
+    private void patch(Snapshot current, long now, char[] buffer, int offset) {
+        if (second_offset >= 0) {
+            int second = current.base_second + (int) ((now - current.from) / 1000);
+            buffer[offset + second_offset] = (char) ('0' + second / 10);
+            buffer[offset + second_offset + 1] = (char) ('0' + second % 10);
+        }
+        if (fraction_offset >= 0) {
+            int milli = (int) Math.floorMod(now, 1000L);
+            buffer[offset + fraction_offset] = (char) ('0' + milli / 100);
+            if (fraction_width > 1) {
+                buffer[offset + fraction_offset + 1] = (char) ('0' + milli / 10 % 10);
+            }
+            if (fraction_width > 2) {
+                buffer[offset + fraction_offset + 2] = (char) ('0' + milli % 10);
+            }
+        }
+    }
+
+    /**
+     * Indica si un patrón contiene campos de fracciones de segundo fuera de los
+     * literales entre comillas.
+     *
+     * @param pattern el patrón de formato.
+     * @return {@code true} si el patrón contiene fracciones de segundo.
+     */
+    private static boolean hasFraction(String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * El texto convertido de un intervalo. Los objetos de esta clase son
+     * inmutables.
+     */
+    private static final class Snapshot {
+
+        /**
+         * El inicio del intervalo en milisegundos, inclusivo.
+         */
+        private final long from;
+
+        /**
+         * El fin del intervalo en milisegundos, exclusivo.
+         */
+        private final long to;
+
+        /**
+         * El segundo del minuto al inicio del intervalo.
+         */
+        private final int base_second;
+
+        /**
+         * El texto convertido al inicio del intervalo.
+         */
+        private final char[] chars;
+
+        private Snapshot(long from, long to, int baseSecond, char[] chars) {
+            this.from = from;
+            this.to = to;
+            this.base_second = baseSecond;
+            this.chars = chars;
+        }
+    }
+}
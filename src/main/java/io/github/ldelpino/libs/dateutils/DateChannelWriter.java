@@ -0,0 +1,479 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Escribe fechas y horas con formato en un canal de bytes, organizadas en
+ * campos delimitados y líneas.
+ * <p>
+ * Los valores se escriben directamente en un objeto {@link java.nio.ByteBuffer}
+ * directo que se reutiliza durante toda la escritura y que se vacía en el canal
+ * en bloques del tamaño del objeto, por ejemplo en un objeto
+ * {@link java.nio.channels.FileChannel}. Si el patrón es de ancho fijo y sus
+ * literales son caracteres ASCII, los objetos de tipo LocalDate y
+ * LocalDateTime y los valores primitivos se escriben sin crear cadenas de
+ * caracteres ni codificarlas; el resto de los valores se convierten con el
+ * objeto {@link java.time.format.DateTimeFormatter} del patrón y se codifican
+ * en UTF-8.</p>
+ * <p>
+ * Cada método de escritura añade un campo a la línea actual, precedido del
+ * delimitador si no es el primero, y el método {@link #endLine()} termina la
+ * línea. Los valores nulos y los valores primitivos {@link #MISSING} se
+ * escriben como campos vacíos. Los campos no se encierran entre comillas. Los
+ * valores primitivos en milisegundos se interpretan en la zona horaria por
+ * defecto de la clase {@link io.github.ldelpino.libs.dateutils.DateConverters}
+ * en el momento de crear el objeto. Los objetos de esta clase no son seguros
+ * para ser utilizados por varios hilos a la vez.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateColumnReader
+ */
+public final class DateChannelWriter implements Closeable, Flushable {
+
+    /**
+     * El valor que representa un campo vacío.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * El tamaño por defecto del objeto intermedio en bytes.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * El tamaño mínimo del objeto intermedio en bytes.
+     */
+    private static final int MINIMUM_BUFFER_SIZE = 16;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Los límites de las fechas que el convertidor de ancho fijo puede
+     * escribir, los años 1 y 9999.
+     */
+    private static final long MIN_EPOCH_DAY = LocalDate.of(1, 1, 1).toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    /**
+     * El canal de destino.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * El patrón de formato de los valores.
+     */
+    private final CompiledPattern pattern;
+
+    /**
+     * El convertidor de ancho fijo o {@code null} si el patrón no es de ancho
+     * fijo o sus literales no son caracteres ASCII.
+     */
+    private final FixedWidthPattern fixed;
+
+    /**
+     * Indica si el convertidor de ancho fijo puede escribir fechas sin hora.
+     */
+    private final boolean fixed_date;
+
+    /**
+     * La tabla de desplazamientos de la zona horaria de los valores en
+     * milisegundos.
+     */
+    private final ZoneOffsetTable offset_table;
+
+    /**
+     * El delimitador de los campos.
+     */
+    private final byte delimiter;
+
+    /**
+     * El separador de líneas codificado en UTF-8.
+     */
+    private final byte[] line_separator;
+
+    /**
+     * El objeto intermedio donde se escriben los bytes antes de vaciarlos en
+     * el canal.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * El arreglo donde el convertidor de ancho fijo escribe cada valor.
+     */
+    private final char[] scratch;
+
+    /**
+     * Indica si el siguiente campo es el primero de la línea.
+     */
+    private boolean start_of_line = true;
+
+    /**
+     * La cantidad de bytes escritos en el canal.
+     */
+    private long bytes_written;
+
+    /**
+     * Indica si el objeto está cerrado.
+     */
+    private boolean closed;
+
+    /**
+     * Crea un nuevo objeto de escritura con el separador de líneas
+     * <code>\n</code> y el tamaño por defecto del objeto intermedio.
+     *
+     * @param channel el canal de destino.
+     * @param pattern el patrón de formato de los valores.
+     * @param delimiter el delimitador de los campos, debe ser un carácter
+     * ASCII.
+     * @throws IllegalArgumentException si el patrón no es válido o el
+     * delimitador no es un carácter ASCII.
+     */
+    public DateChannelWriter(WritableByteChannel channel, String pattern, char delimiter)
+            throws IllegalArgumentException {
+        this(channel, pattern, delimiter, "\n", DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Crea un nuevo objeto de escritura con un separador de líneas y un tamaño
+     * del objeto intermedio especificados.
+     *
+     * @param channel el canal de destino.
+     * @param pattern el patrón de formato de los valores.
+     * @param delimiter el delimitador de los campos, debe ser un carácter
+     * ASCII.
+     * @param lineSeparator el separador de líneas.
+     * @param bufferSize el tamaño del objeto intermedio en bytes, como mínimo
+     * 16.
+     * @throws IllegalArgumentException si el patrón no es válido, el
+     * delimitador no es un carácter ASCII o el tamaño del objeto intermedio es
+     * menor que 16.
+     */
+    public DateChannelWriter(WritableByteChannel channel, String pattern, char delimiter,
+            String lineSeparator, int bufferSize) throws IllegalArgumentException {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("El delimitador debe ser un carácter ASCII: " + delimiter);
+        }
+        if (bufferSize < MINIMUM_BUFFER_SIZE) {
+            throw new IllegalArgumentException("El tamaño del objeto intermedio debe ser al menos "
+                    + MINIMUM_BUFFER_SIZE + ": " + bufferSize);
+        }
+        this.channel = channel;
+        this.pattern = FormatterCache.get(pattern);
+        FixedWidthPattern compiled = this.pattern.getFixedWidthPattern();
+        this.fixed = compiled != null && compiled.isAscii() ? compiled : null;
+        this.fixed_date = fixed != null && fixed.canFormat(LocalDate.EPOCH);
+        this.offset_table = DateConverters.offsetTable();
+        this.delimiter = (byte) delimiter;
+        this.line_separator = lineSeparator.getBytes(StandardCharsets.UTF_8);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.scratch = fixed == null ? null : new char[fixed.length()];
+    }
+
+    /**
+     * Escribe una fecha como un nuevo campo de la línea actual.
+     *
+     * @param localDate la fecha a escribir o {@code null} para escribir un
+     * campo vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    public void writeLocalDate(LocalDate localDate) throws IOException {
+        write(localDate);
+    }
+
+    /**
+     * Escribe una fecha y hora como un nuevo campo de la línea actual.
+     *
+     * @param localDateTime la fecha y hora a escribir o {@code null} para
+     * escribir un campo vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    public void writeLocalDateTime(LocalDateTime localDateTime) throws IOException {
+        write(localDateTime);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora como un nuevo campo de la línea
+     * actual.
+     *
+     * @param temporal el objeto a escribir o {@code null} para escribir un
+     * campo vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     * @throws java.time.DateTimeException si el objeto no contiene los campos
+     * del patrón.
+     */
+    public void write(TemporalAccessor temporal) throws IOException {
+        beginField();
+        if (temporal == null) {
+            return;
+        }
+        if (fixed != null && fixed.canFormat(temporal)) {
+            putAscii(fixed.formatTo(temporal, scratch, 0));
+        }
+        else {
+            putText(pattern.format(temporal));
+        }
+    }
+
+    /**
+     * Escribe una fecha expresada como la cantidad de días desde 1970-01-01
+     * como un nuevo campo de la línea actual.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01 o {@link #MISSING}
+     * para escribir un campo vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     * @throws java.time.DateTimeException si la fecha no es válida o el patrón
+     * contiene campos de hora.
+     */
+    public void writeEpochDay(long epochDay) throws IOException {
+        if (epochDay == MISSING) {
+            beginField();
+            return;
+        }
+        if (fixed_date && epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY) {
+            int civil = (int) DateFields.civil(epochDay);
+            beginField();
+            putAscii(fixed.formatTo(scratch, 0, civil / 10_000, civil / 100 % 100, civil % 100, 0, 0, 0, 0));
+            return;
+        }
+        write(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Escribe un instante expresado en milisegundos desde
+     * 1970-01-01T00:00:00Z como un nuevo campo de la línea actual, con la
+     * fecha y hora local de la zona horaria del objeto.
+     *
+     * @param epochMilli los milisegundos desde 1970-01-01T00:00:00Z o
+     * {@link #MISSING} para escribir un campo vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    public void writeEpochMilli(long epochMilli) throws IOException {
+        if (epochMilli == MISSING) {
+            beginField();
+            return;
+        }
+        if (fixed != null) {
+            long localMilli = DateConverters.toLocalEpochMilli(offset_table, epochMilli);
+            long epochDay = Math.floorDiv(localMilli, MILLIS_PER_DAY);
+            if (epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY) {
+                int civil = (int) DateFields.civil(epochDay);
+                int milliOfDay = (int) Math.floorMod(localMilli, MILLIS_PER_DAY);
+                beginField();
+                putAscii(fixed.formatTo(scratch, 0, civil / 10_000, civil / 100 % 100, civil % 100,
+                        milliOfDay / 3_600_000, milliOfDay / 60_000 % 60, milliOfDay / 1000 % 60,
+                        milliOfDay % 1000 * 1_000_000));
+                return;
+            }
+        }
+        write(DateConverters.toLocalDateTime(offset_table, epochMilli));
+    }
+
+    /**
+     * Escribe una cadena de caracteres codificada en UTF-8 como un nuevo campo
+     * de la línea actual, por ejemplo una columna que no es una fecha. La
+     * cadena se escribe sin comprobar si contiene el delimitador.
+     *
+     * @param text la cadena a escribir o {@code null} para escribir un campo
+     * vacío.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    public void writeText(CharSequence text) throws IOException {
+        beginField();
+        if (text != null) {
+            putText(text);
+        }
+    }
+
+    /**
+     * Termina la línea actual escribiendo el separador de líneas.
+     *
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    public void endLine() throws IOException {
+        ensureOpen();
+        for (byte b : line_separator) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put(b);
+        }
+        start_of_line = true;
+    }
+
+    /**
+     * Devuelve la cantidad de bytes escritos, incluidos los que aún no se han
+     * vaciado en el canal.
+     *
+     * @return la cantidad de bytes escritos.
+     */
+    public long getBytesWritten() {
+        return bytes_written + buffer.position();
+    }
+
+    /**
+     * Vacía en el canal los bytes pendientes.
+     *
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+    }
+
+    /**
+     * Vacía en el canal los bytes pendientes y cierra el canal. Cerrar un
+     * objeto ya cerrado no tiene efecto.
+     *
+     * @throws IOException si ocurre un error al escribir en el canal o al
+     * cerrarlo.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            drain();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Comienza un nuevo campo escribiendo el delimitador si no es el primero
+     * de la línea.
+     *
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    private void beginField() throws IOException {
+        ensureOpen();
+        if (start_of_line) {
+            start_of_line = false;
+            return;
+        }
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put(delimiter);
+    }
+
+    /**
+     * Escribe los caracteres ASCII del arreglo de trabajo.
+     *
+     * @param length la cantidad de caracteres a escribir.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    private void putAscii(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            drain();
+        }
+        for (int i = 0; i < length; i++) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) scratch[i]);
+        }
+    }
+
+    /**
+     * Escribe una cadena de caracteres codificada en UTF-8. Los caracteres
+     * sustitutos sin pareja se escriben como <code>?</code>, igual que en el
+     * método {@link java.lang.String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param text la cadena a escribir.
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    private void putText(CharSequence text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (buffer.remaining() < 4) {
+                drain();
+            }
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            }
+            else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+            else if (Character.isSurrogate(c)) {
+                char low = i + 1 < length ? text.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    int codePoint = Character.toCodePoint(c, low);
+                    buffer.put((byte) (0xF0 | codePoint >> 18));
+                    buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    buffer.put((byte) (0x80 | codePoint & 0x3F));
+                    i++;
+                }
+                else {
+                    buffer.put((byte) '?');
+                }
+            }
+            else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Escribe en el canal todos los bytes del objeto intermedio y lo deja
+     * vacío.
+     *
+     * @throws IOException si ocurre un error al escribir en el canal.
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                bytes_written += channel.write(buffer);
+            }
+        }
+        finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Comprueba que el objeto no está cerrado.
+     *
+     * @throws ClosedChannelException si el objeto está cerrado.
+     */
+    private void ensureOpen() throws ClosedChannelException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * Representa una columna de fechas almacenada fuera del heap.
+ * <p>
+ * Cada fecha se almacena como la cantidad de días desde 1970-01-01 en un
+ * valor de tipo int dentro de un objeto {@link java.nio.ByteBuffer} directo,
+ * por lo que una fecha ocupa 4 bytes y la columna no crea objetos que deba
+ * recorrer el recolector de basura. Los filtros por rango, el mínimo, el
+ * máximo, el ordenamiento y el conteo por día operan directamente sobre los
+ * valores almacenados sin crear objetos de tipo
+ * {@link java.time.LocalDate}.</p>
+ * <p>
+ * Las fechas inexistentes se representan con el valor {@link #MISSING}. La
+ * columna crece automáticamente al añadir fechas. Los objetos de esta clase no
+ * son seguros para su uso concurrente si alguno de los hilos la modifica.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.TimestampColumn
+ */
+public final class DateColumn {
+
+    /**
+     * El valor que representa una fecha inexistente.
+     */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    /**
+     * La capacidad inicial de una columna creada sin capacidad.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Los valores de la columna.
+     */
+    private IntBuffer values;
+
+    /**
+     * La cantidad de fechas de la columna.
+     */
+    private int size;
+
+    /**
+     * Crea una columna vacía.
+     */
+    public DateColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Crea una columna vacía con la capacidad especificada.
+     *
+     * @param capacity la cantidad de fechas que pueden añadirse sin que la
+     * columna crezca.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public DateColumn(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacity);
+        }
+        values = allocate(capacity);
+    }
+
+    /**
+     * Crea una columna a partir de las fechas especificadas, expresadas como
+     * la cantidad de días desde 1970-01-01. Los valores
+     * {@link io.github.ldelpino.libs.dateutils.DateColumnReader#MISSING} se
+     * convierten en fechas inexistentes, por lo que el resultado de
+     * {@link io.github.ldelpino.libs.dateutils.DateColumnReader#readEpochDays(java.nio.file.Path)}
+     * puede utilizarse directamente.
+     *
+     * @param epochDays las fechas.
+     * @return la columna creada.
+     * @throws DateTimeException si alguna de las fechas no puede almacenarse.
+     */
+    public static DateColumn of(long[] epochDays) throws DateTimeException {
+        DateColumn column = new DateColumn(epochDays.length);
+        for (long epochDay : epochDays) {
+            if (epochDay == DateColumnReader.MISSING) {
+                column.addMissing();
+            }
+            else {
+                column.add(epochDay);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Crea una columna a partir de los objetos de tipo LocalDate
+     * especificados. Los elementos nulos se convierten en fechas inexistentes.
+     *
+     * @param localDates las fechas.
+     * @return la columna creada.
+     * @throws DateTimeException si alguna de las fechas no puede almacenarse.
+     */
+    public static DateColumn of(LocalDate[] localDates) throws DateTimeException {
+        DateColumn column = new DateColumn(localDates.length);
+        for (LocalDate localDate : localDates) {
+            column.add(localDate);
+        }
+        return column;
+    }
+
+    /**
+     * Devuelve la cantidad de fechas de la columna.
+     *
+     * @return la cantidad de fechas.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Devuelve la cantidad de fechas que pueden almacenarse sin que la columna
+     * crezca.
+     *
+     * @return la capacidad de la columna.
+     */
+    public int capacity() {
+        return values.capacity();
+    }
+
+    /**
+     * Añade una fecha al final de la columna.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @throws DateTimeException si la fecha no puede almacenarse.
+     */
+    public void add(long epochDay) throws DateTimeException {
+        int value = check(epochDay);
+        ensureCapacity(size + 1);
+        values.put(size++, value);
+    }
+
+    /**
+     * Añade una fecha al final de la columna.
+     *
+     * @param localDate la fecha o {@code null} para añadir una fecha
+     * inexistente.
+     * @throws DateTimeException si la fecha no puede almacenarse.
+     */
+    public void add(LocalDate localDate) throws DateTimeException {
+        if (localDate == null) {
+            addMissing();
+        }
+        else {
+            add(localDate.toEpochDay());
+        }
+    }
+
+    /**
+     * Añade una fecha inexistente al final de la columna.
+     */
+    public void addMissing() {
+        ensureCapacity(size + 1);
+        values.put(size++, MISSING);
+    }
+
+    /**
+     * Sustituye la fecha de la posición especificada.
+     *
+     * @param index la posición.
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     * @throws DateTimeException si la fecha no puede almacenarse.
+     */
+    public void set(int index, long epochDay) throws IndexOutOfBoundsException, DateTimeException {
+        values.put(checkIndex(index), check(epochDay));
+    }
+
+    /**
+     * Devuelve la fecha de la posición especificada como la cantidad de días
+     * desde 1970-01-01.
+     *
+     * @param index la posición.
+     * @return la cantidad de días o {@link #MISSING} si la fecha no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public int getEpochDay(int index) throws IndexOutOfBoundsException {
+        return values.get(checkIndex(index));
+    }
+
+    /**
+     * Indica si la fecha de la posición especificada no existe.
+     *
+     * @param index la posición.
+     * @return {@code true} si la fecha no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public boolean isMissing(int index) throws IndexOutOfBoundsException {
+        return getEpochDay(index) == MISSING;
+    }
+
+    /**
+     * Devuelve la fecha de la posición especificada.
+     *
+     * @param index la posición.
+     * @return la fecha o {@code null} si la fecha no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public LocalDate getLocalDate(int index) throws IndexOutOfBoundsException {
+        int epochDay = getEpochDay(index);
+        return epochDay == MISSING ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Devuelve la menor fecha de la columna.
+     *
+     * @return la cantidad de días o {@link #MISSING} si la columna no tiene
+     * fechas.
+     */
+    public int min() {
+        int min = Integer.MAX_VALUE;
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            int value = values.get(i);
+            if (value != MISSING && value <= min) {
+                min = value;
+                found = true;
+            }
+        }
+        return found ? min : MISSING;
+    }
+
+    /**
+     * Devuelve la mayor fecha de la columna.
+     *
+     * @return la cantidad de días o {@link #MISSING} si la columna no tiene
+     * fechas.
+     */
+    public int max() {
+        int max = MISSING;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values.get(i));
+        }
+        return max;
+    }
+
+    /**
+     * Devuelve las posiciones de las fechas que se encuentran en el rango
+     * especificado.
+     *
+     * @param fromEpochDay el inicio del rango, inclusivo.
+     * @param toEpochDay el fin del rango, exclusivo.
+     * @return las posiciones de las fechas del rango.
+     */
+    public BitSet filter(long fromEpochDay, long toEpochDay) {
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            int value = values.get(i);
+            if (value != MISSING && value >= fromEpochDay && value < toEpochDay) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cuenta las fechas que se encuentran en el rango especificado.
+     *
+     * @param fromEpochDay el inicio del rango, inclusivo.
+     * @param toEpochDay el fin del rango, exclusivo.
+     * @return la cantidad de fechas del rango.
+     */
+    public int count(long fromEpochDay, long toEpochDay) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int value = values.get(i);
+            if (value != MISSING && value >= fromEpochDay && value < toEpochDay) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta las fechas de cada día del rango especificado. La posición
+     * <code>i</code> del resultado contiene la cantidad de fechas iguales a
+     * <code>fromEpochDay + i</code>.
+     *
+     * @param fromEpochDay el primer día, inclusivo.
+     * @param toEpochDay el último día, exclusivo.
+     * @return la cantidad de fechas de cada día.
+     * @throws IllegalArgumentException si el rango está invertido o es
+     * demasiado grande.
+     */
+    public int[] countByDay(long fromEpochDay, long toEpochDay) throws IllegalArgumentException {
+        if (toEpochDay < fromEpochDay || toEpochDay - fromEpochDay > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El rango [" + fromEpochDay + ", " + toEpochDay
+                    + ") no es válido");
+        }
+        int[] counts = new int[(int) (toEpochDay - fromEpochDay)];
+        for (int i = 0; i < size; i++) {
+            int value = values.get(i);
+            if (value != MISSING && value >= fromEpochDay && value < toEpochDay) {
+                counts[(int) (value - fromEpochDay)]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Ordena las fechas de la columna de forma ascendente en la memoria
+     * directa, sin copiarlas en el montículo. Las fechas inexistentes se
+     * colocan al inicio.
+     */
+    public void sort() {
+        BufferSort.sort(values, 0, size);
+    }
+
+    /**
+     * Copia las fechas de la columna en un arreglo.
+     *
+     * @return las fechas como la cantidad de días desde 1970-01-01.
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        view().get(result);
+        return result;
+    }
+
+    /**
+     * Convierte las fechas de la columna en objetos de tipo LocalDate.
+     *
+     * @return las fechas convertidas, las fechas inexistentes se convierten en
+     * elementos nulos.
+     */
+    public LocalDate[] toLocalDates() {
+        LocalDate[] result = new LocalDate[size];
+        for (int i = 0; i < size; i++) {
+            int value = values.get(i);
+            result[i] = value == MISSING ? null : LocalDate.ofEpochDay(value);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DateColumn[" + size + "]";
+    }
+
+    /**
+     * Comprueba que una fecha puede almacenarse en la columna.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return la fecha como valor de tipo int.
+     * @throws DateTimeException si la fecha no puede almacenarse.
+     */
+    private static int check(long epochDay) throws DateTimeException {
+        if (epochDay <= MISSING || epochDay > Integer.MAX_VALUE) {
+            throw new DateTimeException("La fecha " + epochDay + " no puede almacenarse en la columna");
+        }
+        return (int) epochDay;
+    }
+
+    /**
+     * Comprueba que la posición especificada es válida.
+     *
+     * @param index la posición.
+     * @return la posición.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    private int checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición: " + index + ", tamaño: " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Aumenta la capacidad de la columna si es necesario.
+     *
+     * @param minimum la capacidad mínima.
+     */
+    private void ensureCapacity(int minimum) {
+        if (minimum > values.capacity()) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE / Integer.BYTES,
+                    Math.max(minimum, values.capacity() * 2L));
+            IntBuffer grown = allocate(capacity);
+            grown.put(view());
+            values = grown;
+        }
+    }
+
+    /**
+     * Devuelve una vista de las fechas de la columna.
+     *
+     * @return una vista entre la posición cero y el tamaño de la columna.
+     */
+    private IntBuffer view() {
+        IntBuffer view = values.duplicate();
+        view.clear().limit(size);
+        return view;
+    }
+
+    /**
+     * Reserva la memoria directa para la cantidad de fechas especificada.
+     *
+     * @param capacity la cantidad de fechas.
+     * @return la memoria reservada.
+     */
+    private static IntBuffer allocate(int capacity) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+        return buffer.order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
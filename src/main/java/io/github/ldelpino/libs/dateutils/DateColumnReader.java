@@ -0,0 +1,441 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Lee una columna de fechas de un archivo de texto delimitado.
+ * <p>
+ * El archivo se proyecta en memoria mediante el método
+ * {@link java.nio.channels.FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)}
+ * en fragmentos que terminan siempre al final de una línea. Cada fragmento se
+ * recorre byte a byte, se localiza la columna por el delimitador y los bytes
+ * de la fecha se convierten en su lugar en un valor primitivo, sin crear
+ * cadenas de caracteres por línea ni por valor. Los patrones de ancho fijo se
+ * convierten directamente; el resto se decodifica en UTF-8 y se convierte con
+ * el objeto {@link java.time.format.DateTimeFormatter} del patrón. Los
+ * fragmentos pueden procesarse en paralelo a través de un objeto
+ * {@link java.util.concurrent.ForkJoinPool}.</p>
+ * <p>
+ * Las líneas terminan en <code>\n</code> o <code>\r\n</code> y las líneas
+ * vacías se ignoran. Los campos entre comillas no están soportados, por lo que
+ * el delimitador no puede aparecer dentro de un campo. Los campos vacíos o
+ * inexistentes se representan con el valor {@link #MISSING}. Los objetos de
+ * esta clase son inmutables y pueden ser compartidos entre hilos.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+public final class DateColumnReader {
+
+    /**
+     * El valor que representa un campo vacío o inexistente.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * El tamaño por defecto de los fragmentos en bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+
+    /**
+     * El patrón de formato de la columna.
+     */
+    private final CompiledPattern pattern;
+
+    /**
+     * La posición de la columna, comenzando en cero.
+     */
+    private final int column;
+
+    /**
+     * El delimitador de las columnas.
+     */
+    private final byte delimiter;
+
+    /**
+     * Indica si la primera línea del archivo es una cabecera.
+     */
+    private final boolean header;
+
+    /**
+     * El tamaño aproximado de los fragmentos en bytes.
+     */
+    private final int chunk_size;
+
+    /**
+     * Crea un nuevo lector de columnas.
+     *
+     * @param pattern el patrón de formato de la columna.
+     * @param column la posición de la columna, comenzando en cero.
+     * @param delimiter el delimitador de las columnas, debe ser un carácter
+     * ASCII.
+     * @param header {@code true} si la primera línea del archivo es una
+     * cabecera.
+     * @throws IllegalArgumentException si el patrón no es válido, la columna es
+     * negativa o el delimitador no es un carácter ASCII.
+     */
+    public DateColumnReader(String pattern, int column, char delimiter, boolean header)
+            throws IllegalArgumentException {
+        this(pattern, column, delimiter, header, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Crea un nuevo lector de columnas con un tamaño de fragmento
+     * especificado.
+     *
+     * @param pattern el patrón de formato de la columna.
+     * @param column la posición de la columna, comenzando en cero.
+     * @param delimiter el delimitador de las columnas, debe ser un carácter
+     * ASCII.
+     * @param header {@code true} si la primera línea del archivo es una
+     * cabecera.
+     * @param chunkSize el tamaño aproximado de los fragmentos en bytes.
+     * @throws IllegalArgumentException si el patrón no es válido, la columna es
+     * negativa, el delimitador no es un carácter ASCII o el tamaño de fragmento
+     * es menor que uno.
+     */
+    public DateColumnReader(String pattern, int column, char delimiter, boolean header, int chunkSize)
+            throws IllegalArgumentException {
+        if (column < 0) {
+            throw new IllegalArgumentException("La columna no puede ser negativa: " + column);
+        }
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("El delimitador debe ser un carácter ASCII: " + delimiter);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("El tamaño de fragmento debe ser mayor que cero: "
+                    + chunkSize);
+        }
+        this.pattern = FormatterCache.get(pattern);
+        this.column = column;
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+        this.chunk_size = chunkSize;
+    }
+
+    /**
+     * Lee la columna como cantidades de días desde 1970-01-01 procesando los
+     * fragmentos en el hilo que realiza la llamada.
+     *
+     * @param file el archivo a leer.
+     * @return un valor por cada línea no vacía del archivo.
+     * @throws IOException si ocurre un error al leer el archivo.
+     * @throws DateTimeParseException si algún valor no se corresponde con el
+     * patrón.
+     */
+    public long[] readEpochDays(Path file) throws IOException, DateTimeParseException {
+        return read(file, null, null);
+    }
+
+    /**
+     * Lee la columna como cantidades de días desde 1970-01-01 procesando los
+     * fragmentos en paralelo.
+     *
+     * @param file el archivo a leer.
+     * @param pool el objeto que procesa los fragmentos.
+     * @return un valor por cada línea no vacía del archivo.
+     * @throws IOException si ocurre un error al leer el archivo.
+     * @throws DateTimeParseException si algún valor no se corresponde con el
+     * patrón.
+     */
+    public long[] readEpochDays(Path file, ForkJoinPool pool) throws IOException, DateTimeParseException {
+        return read(file, null, pool);
+    }
+
+    /**
+     * Lee la columna como milisegundos desde 1970-01-01T00:00:00Z procesando
+     * los fragmentos en el hilo que realiza la llamada. Las fechas y horas se
+     * interpretan en la zona horaria por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters}.
+     *
+     * @param file el archivo a leer.
+     * @return un valor por cada línea no vacía del archivo.
+     * @throws IOException si ocurre un error al leer el archivo.
+     * @throws DateTimeParseException si algún valor no se corresponde con el
+     * patrón.
+     */
+    public long[] readEpochMillis(Path file) throws IOException, DateTimeParseException {
+        return read(file, DateConverters.offsetTable(), null);
+    }
+
+    /**
+     * Lee la columna como milisegundos desde 1970-01-01T00:00:00Z procesando
+     * los fragmentos en paralelo. Las fechas y horas se interpretan en la zona
+     * horaria por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters}.
+     *
+     * @param file el archivo a leer.
+     * @param pool el objeto que procesa los fragmentos.
+     * @return un valor por cada línea no vacía del archivo.
+     * @throws IOException si ocurre un error al leer el archivo.
+     * @throws DateTimeParseException si algún valor no se corresponde con el
+     * patrón.
+     */
+    public long[] readEpochMillis(Path file, ForkJoinPool pool) throws IOException, DateTimeParseException {
+        return read(file, DateConverters.offsetTable(), pool);
+    }
+
+    /**
+     * Lee la columna del archivo.
+     *
+     * @param file el archivo a leer.
+     * @param table la tabla de desplazamientos para leer milisegundos o
+     * {@code null} para leer días.
+     * @param pool el objeto que procesa los fragmentos o {@code null} para
+     * procesarlos en el hilo que realiza la llamada.
+     * @return los valores leídos.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    private long[] read(Path file, ZoneOffsetTable table, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            int chunks = bounds.length - 1;
+            long[][] results = new long[chunks][];
+            if (pool == null || chunks == 1) {
+                for (int i = 0; i < chunks; i++) {
+                    results[i] = readChunk(channel, bounds[i], bounds[i + 1], table);
+                }
+            }
+            else {
+                List<ForkJoinTask<long[]>> tasks = new ArrayList<>(chunks);
+                for (int i = 0; i < chunks; i++) {
+                    long start = bounds[i];
+                    long end = bounds[i + 1];
+                    tasks.add(pool.submit(() -> {
+                        try {
+                            return readChunk(channel, start, end, table);
+                        }
+                        catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }));
+                }
+                int joined = 0;
+                try {
+                    for (; joined < chunks; joined++) {
+                        results[joined] = tasks.get(joined).join();
+                    }
+                }
+                catch (UncheckedIOException ex) {
+                    throw ex.getCause();
+                }
+                finally {
+                    for (int i = joined; i < chunks; i++) {
+                        tasks.get(i).cancel(false);
+                    }
+                }
+            }
+            return concat(results);
+        }
+    }
+
+    /**
+     * Divide el archivo en fragmentos que terminan al final de una línea.
+     *
+     * @param channel el canal del archivo.
+     * @return las posiciones de inicio de cada fragmento seguidas del tamaño
+     * del archivo.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long start = header ? nextLine(channel, 0, probe) : 0;
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(start);
+        long position = start;
+        while (size - position > chunk_size) {
+            position = nextLine(channel, position + chunk_size, probe);
+            if (position >= size) {
+                break;
+            }
+            bounds.add(position);
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+            if (i > 0 && result[i] - result[i - 1] > Integer.MAX_VALUE) {
+                throw new IOException("El archivo contiene líneas demasiado largas");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Busca el inicio de la línea siguiente a una posición.
+     *
+     * @param channel el canal del archivo.
+     * @param position la posición a partir de la cual se busca.
+     * @param probe el objeto auxiliar de lectura.
+     * @return la posición posterior al siguiente salto de línea o el tamaño del
+     * archivo si no hay más saltos de línea.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    private static long nextLine(FileChannel channel, long position, ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Lee los valores de un fragmento del archivo.
+     *
+     * @param channel el canal del archivo.
+     * @param start la posición de inicio del fragmento.
+     * @param end la posición final, exclusiva, del fragmento.
+     * @param table la tabla de desplazamientos para leer milisegundos o
+     * {@code null} para leer días.
+     * @return los valores leídos.
+     * @throws IOException si ocurre un error al proyectar el archivo.
+     */
+    private long[] readChunk(FileChannel channel, long start, long end, ZoneOffsetTable table)
+            throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = buffer.limit();
+        long[] values = new long[Math.max(16, limit / 32)];
+        int count = 0;
+        int i = 0;
+        while (i < limit) {
+            int lineStart = i;
+            int field = 0;
+            int fieldStart = column == 0 ? i : -1;
+            int fieldEnd = -1;
+            byte b;
+            while (i < limit && (b = buffer.get(i)) != '\n') {
+                if (b == delimiter) {
+                    if (field == column) {
+                        fieldEnd = i;
+                    }
+                    field++;
+                    if (field == column) {
+                        fieldStart = i + 1;
+                    }
+                }
+                i++;
+            }
+            int lineEnd = i > lineStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+            i++;
+            if (lineEnd == lineStart) {
+                continue;
+            }
+            if (fieldStart >= 0 && fieldEnd < 0) {
+                fieldEnd = Math.max(fieldStart, lineEnd);
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = fieldStart < 0 || fieldEnd == fieldStart ? MISSING
+                    : parse(buffer, fieldStart, fieldEnd - fieldStart, start, table);
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Convierte el valor de un campo.
+     *
+     * @param buffer el fragmento proyectado.
+     * @param start la posición del campo en el fragmento.
+     * @param length la longitud del campo en bytes.
+     * @param base la posición del fragmento en el archivo.
+     * @param table la tabla de desplazamientos para leer milisegundos o
+     * {@code null} para leer días.
+     * @return el valor convertido.
+     * @throws DateTimeParseException si el valor no se corresponde con el
+     * patrón.
+     */
+    private long parse(ByteBuffer buffer, int start, int length, long base, ZoneOffsetTable table)
+            throws DateTimeParseException {
+        try {
+            if (table == null) {
+                return pattern.parseEpochDay(buffer, start, length);
+            }
+            return table.toEpochMilli(pattern.parseLocalEpochMilli(buffer, start, length));
+        }
+        catch (DateTimeException ex) {
+            String text = CompiledPattern.decode(buffer, start, length);
+            throw new DateTimeParseException("Valor no válido en la posición " + (base + start)
+                    + " del archivo: " + text, text, 0, ex);
+        }
+    }
+
+    /**
+     * Une los valores de todos los fragmentos.
+     *
+     * @param results los valores de cada fragmento.
+     * @return los valores unidos.
+     */
+    private static long[] concat(long[][] results) {
+        if (results.length == 1) {
+            return results[0];
+        }
+        int total = 0;
+        for (long[] values : results) {
+            total += values.length;
+        }
+        long[] result = new long[total];
+        int position = 0;
+        for (long[] values : results) {
+            System.arraycopy(values, 0, result, position, values.length);
+            position += values.length;
+        }
+        return result;
+    }
+
+    /**
+     * Devuelve el patrón de formato de la columna.
+     *
+     * @return el patrón de formato de la columna.
+     */
+    public String getPattern() {
+        return pattern.getPattern();
+    }
+
+    /**
+     * Devuelve la posición de la columna.
+     *
+     * @return la posición de la columna, comenzando en cero.
+     */
+    public int getColumn() {
+        return column;
+    }
+}
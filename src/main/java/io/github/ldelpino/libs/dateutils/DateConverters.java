@@ -15,13 +15,15 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
 
 /**
  * Permite la conversión de objetos representados como fechas y horas en objetos
@@ -41,6 +43,8 @@ import java.util.GregorianCalendar;
  * <ul>
  * <li>java.util.Date</li>
  * <li>java.sql.Date</li>
+ * <li>java.sql.Time</li>
+ * <li>java.sql.Timestamp</li>
  * <li>java.util.Calendar</li>
  * <li>java.time.LocalDate</li>
  * <li>java.time.LocalTime</li>
@@ -59,9 +63,18 @@ public final class DateConverters {
     public static final ZoneId DEFAULT_ZONE_ID = ZoneId.systemDefault();
 
     /**
-     * La zona horaria a utilizar por defecto.
+     * La zona horaria a utilizar por defecto. Es preferible establecerla a
+     * través del método {@link #setDefaulTimeZone(java.time.ZoneId)} o de un
+     * objeto {@link io.github.ldelpino.libs.dateutils.DateUtilsContext}; si se
+     * asigna directamente, el contexto por defecto se actualiza en la siguiente
+     * conversión.
      */
-    public static ZoneId zone_id = DEFAULT_ZONE_ID;
+    public static volatile ZoneId zone_id = DEFAULT_ZONE_ID;
+
+    /**
+     * La cantidad de segundos de un día.
+     */
+    private static final long SECONDS_PER_DAY = 86_400L;
 
     /**
      * El constructor se establece como privado para no permitir instancias de
@@ -78,7 +91,21 @@ public final class DateConverters {
      * @return el objeto de tipo Calendar convertido.
      */
     public static Calendar convertFromDateToCalendar(Date date) {
-        return GregorianCalendar.from(date.toInstant().atZone(zone_id));
+        return offsetTable().newCalendar(date.getTime());
+    }
+
+    /**
+     * Establece el instante de un objeto de tipo java.util.Date en un objeto
+     * de tipo Calendar existente, sin crear ningún objeto. Los campos del
+     * calendario se calculan en su propia zona horaria.
+     *
+     * @param date el objeto de tipo java.util.Date a convertir.
+     * @param calendar el objeto de tipo Calendar a modificar.
+     * @return el objeto de tipo Calendar modificado.
+     */
+    public static Calendar convertFromDateToCalendar(Date date, Calendar calendar) {
+        calendar.setTimeInMillis(date.getTime());
+        return calendar;
     }
 
     /**
@@ -89,7 +116,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalDate convertido.
      */
     public static LocalDate convertFromDateToLocalDate(Date date) {
-        return LocalDate.ofInstant(date.toInstant(), zone_id);
+        return toLocalDate(offsetTable(), date.getTime());
     }
 
     /**
@@ -100,7 +127,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalTime convertido.
      */
     public static LocalTime convertFromDateToLocalTime(Date date) {
-        return LocalTime.ofInstant(date.toInstant(), zone_id);
+        return toLocalDateTime(offsetTable(), date.getTime()).toLocalTime();
     }
 
     /**
@@ -111,7 +138,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalDateTime convertido.
      */
     public static LocalDateTime convertFromDateToLocalDateTime(Date date) {
-        return LocalDateTime.ofInstant(date.toInstant(), zone_id);
+        return toLocalDateTime(offsetTable(), date.getTime());
     }
 
     /**
@@ -132,7 +159,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalDate convertido.
      */
     public static LocalDate convertFromCalendarToLocalDate(Calendar calendar) {
-        return LocalDate.ofInstant(calendar.toInstant(), zone_id);
+        return toLocalDate(offsetTable(), calendar.getTimeInMillis());
     }
 
     /**
@@ -142,7 +169,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalTime convertido.
      */
     public static LocalTime convertFromCalendarToLocalTime(Calendar calendar) {
-        return LocalTime.ofInstant(calendar.toInstant(), zone_id);
+        return toLocalDateTime(offsetTable(), calendar.getTimeInMillis()).toLocalTime();
     }
 
     /**
@@ -152,7 +179,7 @@ public final class DateConverters {
      * @return el objeto de tipo LocalDateTime convertido.
      */
     public static LocalDateTime convertFromCalendarToLocalDateTime(Calendar calendar) {
-        return LocalDateTime.ofInstant(calendar.toInstant(), zone_id);
+        return toLocalDateTime(offsetTable(), calendar.getTimeInMillis());
     }
 
     /**
@@ -163,7 +190,20 @@ public final class DateConverters {
      * @return el objeto de tipo java.util.Date convertido.
      */
     public static Date convertFromLocalDateToDate(LocalDate localDate) {
-        return Date.from(localDate.atStartOfDay(zone_id).toInstant());
+        return new Date(toEpochMilli(offsetTable(), localDate));
+    }
+
+    /**
+     * Establece el inicio del día de un objeto de tipo LocalDate, en la zona
+     * horaria por defecto, en un objeto de tipo java.util.Date existente.
+     *
+     * @param localDate el objeto de tipo LocalDate a convertir.
+     * @param date el objeto de tipo java.util.Date a modificar.
+     * @return el objeto de tipo java.util.Date modificado.
+     */
+    public static Date convertFromLocalDateToDate(LocalDate localDate, Date date) {
+        date.setTime(toEpochMilli(offsetTable(), localDate));
+        return date;
     }
 
     /**
@@ -173,7 +213,22 @@ public final class DateConverters {
      * @return el objeto de tipo Calendar convertido.
      */
     public static Calendar convertFromLocalDateToCalendar(LocalDate localDate) {
-        return GregorianCalendar.from(localDate.atStartOfDay(zone_id));
+        ZoneOffsetTable table = offsetTable();
+        return table.newCalendar(toEpochMilli(table, localDate));
+    }
+
+    /**
+     * Establece el inicio del día de un objeto de tipo LocalDate, en la zona
+     * horaria por defecto, en un objeto de tipo Calendar existente. Los campos
+     * del calendario se calculan en su propia zona horaria.
+     *
+     * @param localDate el objeto de tipo LocalDate a convertir.
+     * @param calendar el objeto de tipo Calendar a modificar.
+     * @return el objeto de tipo Calendar modificado.
+     */
+    public static Calendar convertFromLocalDateToCalendar(LocalDate localDate, Calendar calendar) {
+        calendar.setTimeInMillis(toEpochMilli(offsetTable(), localDate));
+        return calendar;
     }
 
     /**
@@ -204,7 +259,22 @@ public final class DateConverters {
      * @return el objeto de tipo Calendar convertido.
      */
     public static Calendar convertFromLocalTimeToCalendar(LocalTime localTime) {
-        return GregorianCalendar.from(localTime.atDate(LocalDate.EPOCH).atZone(zone_id));
+        ZoneOffsetTable table = offsetTable();
+        return table.newCalendar(toEpochMilli(table, LocalDateTime.of(LocalDate.EPOCH, localTime)));
+    }
+
+    /**
+     * Establece un objeto de tipo LocalTime, en el día 1970-01-01 de la zona
+     * horaria por defecto, en un objeto de tipo Calendar existente. Los campos
+     * del calendario se calculan en su propia zona horaria.
+     *
+     * @param localTime el objeto de tipo LocalTime a convertir.
+     * @param calendar el objeto de tipo Calendar a modificar.
+     * @return el objeto de tipo Calendar modificado.
+     */
+    public static Calendar convertFromLocalTimeToCalendar(LocalTime localTime, Calendar calendar) {
+        calendar.setTimeInMillis(toEpochMilli(offsetTable(), LocalDateTime.of(LocalDate.EPOCH, localTime)));
+        return calendar;
     }
 
     /**
@@ -225,7 +295,20 @@ public final class DateConverters {
      * @return el objeto de tipo java.util.Date convertido.
      */
     public static Date convertFromLocalDateTimeToDate(LocalDateTime localDateTime) {
-        return Date.from(localDateTime.atZone(zone_id).toInstant());
+        return new Date(toEpochMilli(offsetTable(), localDateTime));
+    }
+
+    /**
+     * Establece un objeto de tipo LocalDateTime, en la zona horaria por
+     * defecto, en un objeto de tipo java.util.Date existente.
+     *
+     * @param localDateTime el objeto de tipo LocalDateTime a convertir.
+     * @param date el objeto de tipo java.util.Date a modificar.
+     * @return el objeto de tipo java.util.Date modificado.
+     */
+    public static Date convertFromLocalDateTimeToDate(LocalDateTime localDateTime, Date date) {
+        date.setTime(toEpochMilli(offsetTable(), localDateTime));
+        return date;
     }
 
     /**
@@ -235,7 +318,699 @@ public final class DateConverters {
      * @return el objeto de tipo Calendar convertido.
      */
     public static Calendar convertFromLocalDateTimeToCalendar(LocalDateTime localDateTime) {
-        return GregorianCalendar.from(localDateTime.atZone(zone_id));
+        ZoneOffsetTable table = offsetTable();
+        return table.newCalendar(toEpochMilli(table, localDateTime));
+    }
+
+    /**
+     * Establece un objeto de tipo LocalDateTime, en la zona horaria por
+     * defecto, en un objeto de tipo Calendar existente. Los campos del
+     * calendario se calculan en su propia zona horaria.
+     *
+     * @param localDateTime el objeto de tipo LocalDateTime a convertir.
+     * @param calendar el objeto de tipo Calendar a modificar.
+     * @return el objeto de tipo Calendar modificado.
+     */
+    public static Calendar convertFromLocalDateTimeToCalendar(LocalDateTime localDateTime,
+            Calendar calendar) {
+        calendar.setTimeInMillis(toEpochMilli(offsetTable(), localDateTime));
+        return calendar;
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * LocalDate sin crear objetos intermedios.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo LocalDate convertido.
+     */
+    public static LocalDate convertFromEpochMilliToLocalDate(long epochMilli) {
+        return toLocalDate(offsetTable(), epochMilli);
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * LocalTime sin crear objetos intermedios.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo LocalTime convertido.
+     */
+    public static LocalTime convertFromEpochMilliToLocalTime(long epochMilli) {
+        long localMilli = toLocalEpochMilli(offsetTable(), epochMilli);
+        return LocalTime.ofNanoOfDay(DateFields.getMilliOfDay(localMilli) * 1_000_000L);
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * LocalDateTime sin crear objetos intermedios.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime convertFromEpochMilliToLocalDateTime(long epochMilli) {
+        return toLocalDateTime(offsetTable(), epochMilli);
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en la cantidad de días
+     * desde 1970-01-01 de la fecha local correspondiente.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    public static long convertFromEpochMilliToEpochDay(long epochMilli) {
+        return DateFields.getEpochDay(toLocalEpochMilli(offsetTable(), epochMilli));
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en milisegundos locales
+     * desde 1970-01-01T00:00:00, el valor sobre el que operan los métodos de la
+     * clase {@link io.github.ldelpino.libs.dateutils.DateFields}.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return los milisegundos locales.
+     */
+    public static long convertFromEpochMilliToLocalEpochMilli(long epochMilli) {
+        return toLocalEpochMilli(offsetTable(), epochMilli);
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en una fecha local
+     * empaquetada de la forma <code>yyyyMMdd</code>.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return la fecha empaquetada.
+     * @throws DateTimeException si el año no se encuentra entre 0 y 9999.
+     * @see io.github.ldelpino.libs.dateutils.DateFields#packDate(long)
+     */
+    public static int convertFromEpochMilliToPackedDate(long epochMilli) throws DateTimeException {
+        return DateFields.packDate(convertFromEpochMilliToEpochDay(epochMilli));
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en una fecha y hora
+     * local empaquetada de la forma <code>yyyyMMddHHmmssSSS</code>.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return la fecha y hora empaquetada.
+     * @throws DateTimeException si el año no se encuentra entre 0 y 9999.
+     * @see io.github.ldelpino.libs.dateutils.DateFields#packDateTime(long)
+     */
+    public static long convertFromEpochMilliToPackedDateTime(long epochMilli) throws DateTimeException {
+        return DateFields.packDateTime(convertFromEpochMilliToLocalEpochMilli(epochMilli));
+    }
+
+    /**
+     * Convierte el inicio del día de una fecha, expresada en días desde
+     * 1970-01-01, en milisegundos desde 1970-01-01T00:00:00Z.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return los milisegundos convertidos.
+     */
+    public static long convertFromEpochDayToEpochMilli(long epochDay) {
+        return toEpochMilli(offsetTable(), LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Convierte milisegundos locales desde 1970-01-01T00:00:00 en milisegundos
+     * desde 1970-01-01T00:00:00Z. Si la hora cae en un cambio de horario se
+     * resuelve igual que
+     * {@link java.time.LocalDateTime#atZone(java.time.ZoneId)}.
+     *
+     * @param localMilli los milisegundos locales a convertir.
+     * @return los milisegundos convertidos.
+     */
+    public static long convertFromLocalEpochMilliToEpochMilli(long localMilli) {
+        return offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Convierte el inicio del día de un objeto de tipo LocalDate en
+     * milisegundos desde 1970-01-01T00:00:00Z.
+     *
+     * @param localDate el objeto de tipo LocalDate a convertir.
+     * @return los milisegundos convertidos.
+     */
+    public static long convertFromLocalDateToEpochMilli(LocalDate localDate) {
+        return toEpochMilli(offsetTable(), localDate);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en milisegundos desde
+     * 1970-01-01T00:00:00Z.
+     *
+     * @param localDateTime el objeto de tipo LocalDateTime a convertir.
+     * @return los milisegundos convertidos.
+     */
+    public static long convertFromLocalDateTimeToEpochMilli(LocalDateTime localDateTime) {
+        return toEpochMilli(offsetTable(), localDateTime);
+    }
+
+    /**
+     * Convierte un objeto de tipo java.sql.Date en un objeto de tipo
+     * LocalDate.
+     *
+     * @param date el objeto de tipo java.sql.Date a convertir.
+     * @return el objeto de tipo LocalDate convertido.
+     */
+    public static LocalDate convertFromSQLDateToLocalDate(java.sql.Date date) {
+        return toLocalDate(offsetTable(), date.getTime());
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDate en un objeto de tipo java.sql.Date
+     * correspondiente al inicio del día.
+     *
+     * @param localDate el objeto de tipo LocalDate a convertir.
+     * @return el objeto de tipo java.sql.Date convertido.
+     */
+    public static java.sql.Date convertFromLocalDateToSQLDate(LocalDate localDate) {
+        return new java.sql.Date(toEpochMilli(offsetTable(), localDate));
+    }
+
+    /**
+     * Convierte un objeto de tipo Timestamp en un objeto de tipo LocalDate.
+     *
+     * @param timestamp el objeto de tipo Timestamp a convertir.
+     * @return el objeto de tipo LocalDate convertido.
+     */
+    public static LocalDate convertFromTimestampToLocalDate(Timestamp timestamp) {
+        return toLocalDate(offsetTable(), timestamp.getTime());
+    }
+
+    /**
+     * Convierte un objeto de tipo Timestamp en un objeto de tipo LocalDateTime
+     * conservando los nanosegundos.
+     *
+     * @param timestamp el objeto de tipo Timestamp a convertir.
+     * @return el objeto de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime convertFromTimestampToLocalDateTime(Timestamp timestamp) {
+        return toLocalDateTime(offsetTable(), timestamp);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en un objeto de tipo Timestamp
+     * conservando los nanosegundos.
+     *
+     * @param localDateTime el objeto de tipo LocalDateTime a convertir.
+     * @return el objeto de tipo Timestamp convertido.
+     */
+    public static Timestamp convertFromLocalDateTimeToTimestamp(LocalDateTime localDateTime) {
+        return toTimestamp(offsetTable(), localDateTime);
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * Timestamp.
+     *
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo Timestamp convertido.
+     */
+    public static Timestamp convertFromEpochMilliToTimestamp(long epochMilli) {
+        return new Timestamp(epochMilli);
+    }
+
+    /**
+     * Convierte un objeto de tipo Timestamp en milisegundos desde
+     * 1970-01-01T00:00:00Z. Los nanosegundos que no completan un milisegundo
+     * se descartan.
+     *
+     * @param timestamp el objeto de tipo Timestamp a convertir.
+     * @return los milisegundos convertidos.
+     */
+    public static long convertFromTimestampToEpochMilli(Timestamp timestamp) {
+        return timestamp.getTime();
+    }
+
+    /**
+     * Convierte un objeto de tipo java.sql.Time en un objeto de tipo
+     * LocalTime.
+     *
+     * @param time el objeto de tipo java.sql.Time a convertir.
+     * @return el objeto de tipo LocalTime convertido.
+     */
+    public static LocalTime convertFromTimeToLocalTime(Time time) {
+        long localMilli = toLocalEpochMilli(offsetTable(), time.getTime());
+        return LocalTime.ofNanoOfDay(Math.floorMod(localMilli, SECONDS_PER_DAY * 1000) * 1_000_000L);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalTime en un objeto de tipo java.sql.Time
+     * del día 1970-01-01. Los nanosegundos que no completan un milisegundo se
+     * descartan.
+     *
+     * @param localTime el objeto de tipo LocalTime a convertir.
+     * @return el objeto de tipo java.sql.Time convertido.
+     */
+    public static Time convertFromLocalTimeToTime(LocalTime localTime) {
+        return new Time(toEpochMilli(offsetTable(), LocalDateTime.of(LocalDate.EPOCH, localTime)));
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo java.util.Date en un arreglo de
+     * objetos de tipo LocalDate.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param dates el arreglo de objetos de tipo java.util.Date a convertir.
+     * @return el arreglo de objetos de tipo LocalDate convertido.
+     */
+    public static LocalDate[] convertFromDateToLocalDate(Date[] dates) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDate[] result = new LocalDate[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            if (dates[i] != null) {
+                result[i] = toLocalDate(table, dates[i].getTime());
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromDateToLocalDate(Date[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo java.util.Date en un arreglo de
+     * objetos de tipo LocalDateTime.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param dates el arreglo de objetos de tipo java.util.Date a convertir.
+     * @return el arreglo de objetos de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime[] convertFromDateToLocalDateTime(Date[] dates) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDateTime[] result = new LocalDateTime[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            if (dates[i] != null) {
+                result[i] = toLocalDateTime(table, dates[i].getTime());
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromDateToLocalDateTime(Date[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo Calendar en un arreglo de objetos
+     * de tipo LocalDate.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param calendars el arreglo de objetos de tipo Calendar a convertir.
+     * @return el arreglo de objetos de tipo LocalDate convertido.
+     */
+    public static LocalDate[] convertFromCalendarToLocalDate(Calendar[] calendars) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDate[] result = new LocalDate[calendars.length];
+        for (int i = 0; i < calendars.length; i++) {
+            if (calendars[i] != null) {
+                result[i] = toLocalDate(table, calendars[i].getTimeInMillis());
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromCalendarToLocalDate(Calendar[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo Calendar en un arreglo de objetos
+     * de tipo LocalDateTime.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param calendars el arreglo de objetos de tipo Calendar a convertir.
+     * @return el arreglo de objetos de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime[] convertFromCalendarToLocalDateTime(Calendar[] calendars) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDateTime[] result = new LocalDateTime[calendars.length];
+        for (int i = 0; i < calendars.length; i++) {
+            if (calendars[i] != null) {
+                result[i] = toLocalDateTime(table, calendars[i].getTimeInMillis());
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromCalendarToLocalDateTime(Calendar[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de milisegundos desde 1970-01-01T00:00:00Z en un
+     * arreglo de objetos de tipo LocalDate.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo.</p>
+     *
+     * @param epochMillis el arreglo de milisegundos a convertir.
+     * @return el arreglo de objetos de tipo LocalDate convertido.
+     */
+    public static LocalDate[] convertFromEpochMillisToLocalDate(long[] epochMillis) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDate[] result = new LocalDate[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDate(table, epochMillis[i]);
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromEpochMillisToLocalDate(long[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de milisegundos desde 1970-01-01T00:00:00Z en un
+     * arreglo de objetos de tipo LocalDateTime.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo.</p>
+     *
+     * @param epochMillis el arreglo de milisegundos a convertir.
+     * @return el arreglo de objetos de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime[] convertFromEpochMillisToLocalDateTime(long[] epochMillis) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDateTime[] result = new LocalDateTime[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDateTime(table, epochMillis[i]);
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromEpochMillisToLocalDateTime(long[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDate en un arreglo de
+     * objetos de tipo java.util.Date.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param localDates el arreglo de objetos de tipo LocalDate a convertir.
+     * @return el arreglo de objetos de tipo java.util.Date convertido.
+     */
+    public static Date[] convertFromLocalDateToDate(LocalDate[] localDates) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        Date[] result = new Date[localDates.length];
+        for (int i = 0; i < localDates.length; i++) {
+            if (localDates[i] != null) {
+                result[i] = new Date(toEpochMilli(table, localDates[i]));
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromLocalDateToDate(LocalDate[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDateTime en un arreglo de
+     * objetos de tipo java.util.Date.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param localDateTimes el arreglo de objetos de tipo LocalDateTime a
+     * convertir.
+     * @return el arreglo de objetos de tipo java.util.Date convertido.
+     */
+    public static Date[] convertFromLocalDateTimeToDate(LocalDateTime[] localDateTimes) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        Date[] result = new Date[localDateTimes.length];
+        for (int i = 0; i < localDateTimes.length; i++) {
+            if (localDateTimes[i] != null) {
+                result[i] = new Date(toEpochMilli(table, localDateTimes[i]));
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromLocalDateTimeToDate(LocalDateTime[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo Timestamp en un arreglo de
+     * objetos de tipo LocalDateTime conservando los nanosegundos.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param timestamps el arreglo de objetos de tipo Timestamp a convertir.
+     * @return el arreglo de objetos de tipo LocalDateTime convertido.
+     */
+    public static LocalDateTime[] convertFromTimestampToLocalDateTime(Timestamp[] timestamps) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        LocalDateTime[] result = new LocalDateTime[timestamps.length];
+        for (int i = 0; i < timestamps.length; i++) {
+            if (timestamps[i] != null) {
+                result[i] = toLocalDateTime(table, timestamps[i]);
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromTimestampToLocalDateTime(Timestamp[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDateTime en un arreglo de
+     * objetos de tipo Timestamp conservando los nanosegundos.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en elementos nulos.</p>
+     *
+     * @param localDateTimes el arreglo de objetos de tipo LocalDateTime a
+     * convertir.
+     * @return el arreglo de objetos de tipo Timestamp convertido.
+     */
+    public static Timestamp[] convertFromLocalDateTimeToTimestamp(LocalDateTime[] localDateTimes) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        Timestamp[] result = new Timestamp[localDateTimes.length];
+        for (int i = 0; i < localDateTimes.length; i++) {
+            if (localDateTimes[i] != null) {
+                result[i] = toTimestamp(table, localDateTimes[i]);
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromLocalDateTimeToTimestamp(LocalDateTime[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDate en un arreglo de
+     * milisegundos desde 1970-01-01T00:00:00Z correspondientes al inicio de
+     * cada día.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo.</p>
+     *
+     * @param localDates el arreglo de objetos de tipo LocalDate a convertir.
+     * @return el arreglo de milisegundos convertido.
+     * @throws NullPointerException si alguno de los elementos es nulo.
+     */
+    public static long[] convertFromLocalDateToEpochMillis(LocalDate[] localDates)
+            throws NullPointerException {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        long[] result = new long[localDates.length];
+        for (int i = 0; i < localDates.length; i++) {
+            result[i] = toEpochMilli(table, localDates[i]);
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromLocalDateToEpochMillis(LocalDate[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDateTime en un arreglo de
+     * milisegundos desde 1970-01-01T00:00:00Z.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo.</p>
+     *
+     * @param localDateTimes el arreglo de objetos de tipo LocalDateTime a
+     * convertir.
+     * @return el arreglo de milisegundos convertido.
+     * @throws NullPointerException si alguno de los elementos es nulo.
+     */
+    public static long[] convertFromLocalDateTimeToEpochMillis(LocalDateTime[] localDateTimes)
+            throws NullPointerException {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        long[] result = new long[localDateTimes.length];
+        for (int i = 0; i < localDateTimes.length; i++) {
+            result[i] = toEpochMilli(table, localDateTimes[i]);
+        }
+        DateMetrics.stop(DateMetrics.CONVERT,
+                "convertFromLocalDateTimeToEpochMillis(LocalDateTime[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de milisegundos desde 1970-01-01T00:00:00Z en una
+     * columna de fechas locales almacenada fuera del heap.
+     * <p>
+     * Los valores
+     * {@link io.github.ldelpino.libs.dateutils.TimestampColumn#MISSING} se
+     * convierten en fechas inexistentes.</p>
+     *
+     * @param epochMillis el arreglo de milisegundos a convertir.
+     * @return la columna de fechas convertida.
+     */
+    public static DateColumn convertFromEpochMillisToDateColumn(long[] epochMillis) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        DateColumn result = new DateColumn(epochMillis.length);
+        for (long epochMilli : epochMillis) {
+            if (epochMilli == TimestampColumn.MISSING) {
+                result.addMissing();
+            }
+            else {
+                result.add(DateFields.getEpochDay(toLocalEpochMilli(table, epochMilli)));
+            }
+        }
+        DateMetrics.stop(DateMetrics.CONVERT, "convertFromEpochMillisToDateColumn(long[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte un arreglo de objetos de tipo LocalDateTime en una columna de
+     * instantes almacenada fuera del heap.
+     * <p>
+     * La tabla de desplazamientos de la zona horaria se obtiene una sola vez
+     * para todo el arreglo. Los elementos nulos se convierten en instantes
+     * inexistentes.</p>
+     *
+     * @param localDateTimes el arreglo de objetos de tipo LocalDateTime a
+     * convertir.
+     * @return la columna de instantes convertida.
+     */
+    public static TimestampColumn convertFromLocalDateTimeToTimestampColumn(LocalDateTime[] localDateTimes) {
+        ZoneOffsetTable table = offsetTable();
+        long start = DateMetrics.start();
+        TimestampColumn result = new TimestampColumn(localDateTimes.length);
+        for (LocalDateTime localDateTime : localDateTimes) {
+            result.add(localDateTime == null ? TimestampColumn.MISSING : toEpochMilli(table, localDateTime));
+        }
+        DateMetrics.stop(DateMetrics.CONVERT,
+                "convertFromLocalDateTimeToTimestampColumn(LocalDateTime[])", start);
+        return result;
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * LocalDate sin crear objetos intermedios.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo LocalDate convertido.
+     */
+    static LocalDate toLocalDate(ZoneOffsetTable table, long epochMilli) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000);
+        long localSecond = epochSecond + table.offsetAtEpochSecond(epochSecond);
+        return LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY));
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en milisegundos locales
+     * desde 1970-01-01T00:00:00.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param epochMilli los milisegundos a convertir.
+     * @return los milisegundos locales.
+     */
+    static long toLocalEpochMilli(ZoneOffsetTable table, long epochMilli) {
+        return epochMilli + table.offsetAtEpochSecond(Math.floorDiv(epochMilli, 1000)) * 1000L;
+    }
+
+    /**
+     * Convierte milisegundos desde 1970-01-01T00:00:00Z en un objeto de tipo
+     * LocalDateTime sin crear objetos intermedios.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param epochMilli los milisegundos a convertir.
+     * @return el objeto de tipo LocalDateTime convertido.
+     */
+    static LocalDateTime toLocalDateTime(ZoneOffsetTable table, long epochMilli) {
+        return toLocalDateTime(table, Math.floorDiv(epochMilli, 1000),
+                Math.floorMod(epochMilli, 1000) * 1_000_000);
+    }
+
+    /**
+     * Convierte un objeto de tipo Timestamp en un objeto de tipo LocalDateTime
+     * conservando los nanosegundos.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param timestamp el objeto a convertir.
+     * @return el objeto de tipo LocalDateTime convertido.
+     */
+    static LocalDateTime toLocalDateTime(ZoneOffsetTable table, Timestamp timestamp) {
+        return toLocalDateTime(table, Math.floorDiv(timestamp.getTime(), 1000), timestamp.getNanos());
+    }
+
+    /**
+     * Convierte segundos desde 1970-01-01T00:00:00Z y nanosegundos en un
+     * objeto de tipo LocalDateTime sin crear objetos intermedios.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param epochSecond los segundos a convertir.
+     * @param nano los nanosegundos del segundo, de 0 a 999.999.999.
+     * @return el objeto de tipo LocalDateTime convertido.
+     */
+    private static LocalDateTime toLocalDateTime(ZoneOffsetTable table, long epochSecond, int nano) {
+        long localSecond = epochSecond + table.offsetAtEpochSecond(epochSecond);
+        long nanoOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY) * 1_000_000_000L + nano;
+        return LocalDateTime.of(LocalDate.ofEpochDay(Math.floorDiv(localSecond, SECONDS_PER_DAY)),
+                LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en un objeto de tipo Timestamp
+     * conservando los nanosegundos.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param localDateTime el objeto a convertir.
+     * @return el objeto de tipo Timestamp convertido.
+     */
+    static Timestamp toTimestamp(ZoneOffsetTable table, LocalDateTime localDateTime) {
+        Timestamp timestamp = new Timestamp(Math.floorDiv(toEpochMilli(table, localDateTime), 1000) * 1000);
+        timestamp.setNanos(localDateTime.getNano());
+        return timestamp;
+    }
+
+    /**
+     * Convierte el inicio del día de un objeto de tipo LocalDate en
+     * milisegundos desde 1970-01-01T00:00:00Z. Si el inicio del día cae en un
+     * cambio de horario se resuelve igual que
+     * {@link java.time.LocalDate#atStartOfDay(java.time.ZoneId)}.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param localDate el objeto a convertir.
+     * @return los milisegundos convertidos.
+     */
+    static long toEpochMilli(ZoneOffsetTable table, LocalDate localDate) {
+        long epochSecond = table.toEpochSecond(localDate.toEpochDay() * SECONDS_PER_DAY);
+        if (epochSecond == ZoneOffsetTable.UNRESOLVED) {
+            return localDate.atStartOfDay(table.getZone()).toInstant().toEpochMilli();
+        }
+        return Math.multiplyExact(epochSecond, 1000L);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en milisegundos desde
+     * 1970-01-01T00:00:00Z. Si la hora cae en un cambio de horario se resuelve
+     * igual que {@link java.time.LocalDateTime#atZone(java.time.ZoneId)}.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria.
+     * @param localDateTime el objeto a convertir.
+     * @return los milisegundos convertidos.
+     */
+    static long toEpochMilli(ZoneOffsetTable table, LocalDateTime localDateTime) {
+        long localSecond = localDateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY
+                + localDateTime.toLocalTime().toSecondOfDay();
+        long epochSecond = table.toEpochSecond(localSecond);
+        if (epochSecond == ZoneOffsetTable.UNRESOLVED) {
+            return localDateTime.atZone(table.getZone()).toInstant().toEpochMilli();
+        }
+        return Math.addExact(Math.multiplyExact(epochSecond, 1000L), localDateTime.getNano() / 1_000_000);
     }
 
     /**
@@ -253,6 +1028,30 @@ public final class DateConverters {
      * @param timeZone la nueva zona horaria a establecer.
      */
     public static void setDefaulTimeZone(ZoneId timeZone) {
-        zone_id = timeZone;
+        DateUtilsContext.updateDefault(context -> context.withZone(timeZone));
+    }
+
+    /**
+     * Devuelve el contexto por defecto. El contexto se actualiza si la zona
+     * horaria ha cambiado desde la última llamada, incluso si se ha asignado
+     * directamente el campo {@link #zone_id}.
+     *
+     * @return el contexto por defecto.
+     */
+    static DateUtilsContext context() {
+        DateUtilsContext context = DateUtilsContext.getDefault();
+        if (context.getZone() != zone_id) {
+            context = DateUtilsContext.updateDefault(current -> current.withZone(zone_id));
+        }
+        return context;
+    }
+
+    /**
+     * Devuelve la tabla de desplazamientos de la zona horaria por defecto.
+     *
+     * @return la tabla de desplazamientos de la zona horaria por defecto.
+     */
+    static ZoneOffsetTable offsetTable() {
+        return context().getOffsetTable();
     }
 }
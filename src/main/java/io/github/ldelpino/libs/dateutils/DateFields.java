@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+
+/**
+ * La clase contiene métodos para obtener los campos de fechas y horas
+ * representadas con tipos primitivos.
+ * <p>
+ * Las fechas se representan como la cantidad de días desde 1970-01-01 (el
+ * mismo valor que {@link java.time.LocalDate#toEpochDay()}) y las fechas y
+ * horas locales como la cantidad de milisegundos desde 1970-01-01T00:00:00 sin
+ * zona horaria. Los métodos de esta clase no crean objetos, por lo que pueden
+ * utilizarse para agrupar y comparar fechas en ciclos con muchos
+ * elementos.</p>
+ * <p>
+ * La clase permite además empaquetar una fecha en un valor de tipo int con la
+ * forma <code>yyyyMMdd</code>, por ejemplo <code>20220701</code>, y una fecha y
+ * hora en un valor de tipo long con la forma <code>yyyyMMddHHmmssSSS</code>.
+ * Los valores empaquetados se ordenan igual que las fechas que representan y
+ * son legibles en los registros y las bases de datos. Solo pueden empaquetarse
+ * los años entre 0 y 9999.</p>
+ * <p>
+ * Las conversiones entre milisegundos desde 1970-01-01T00:00:00Z y los valores
+ * locales de la zona horaria por defecto se encuentran en la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters}.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateConverters
+ */
+public final class DateFields {
+
+    /**
+     * La cantidad de milisegundos de un día.
+     */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * La cantidad de días de un ciclo de 400 años.
+     */
+    private static final long DAYS_PER_CYCLE = 146_097L;
+
+    /**
+     * La cantidad de días entre 0000-01-01 y 1970-01-01.
+     */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    /**
+     * El factor que separa la fecha de la hora en una fecha y hora empaquetada.
+     */
+    private static final long PACKED_TIME_FACTOR = 1_000_000_000L;
+
+    /**
+     * El mayor valor de una fecha empaquetada.
+     */
+    private static final int MAX_PACKED_DATE = 99_991_231;
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private DateFields() {
+
+    }
+
+    /**
+     * Devuelve el año de una fecha.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return el año.
+     */
+    public static int getYear(long epochDay) {
+        return (int) Math.floorDiv(civil(epochDay), 10_000L);
+    }
+
+    /**
+     * Devuelve el mes de una fecha, entre 1 y 12.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return el mes.
+     */
+    public static int getMonthValue(long epochDay) {
+        return (int) Math.floorMod(civil(epochDay), 10_000L) / 100;
+    }
+
+    /**
+     * Devuelve el día del mes de una fecha, entre 1 y 31.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return el día del mes.
+     */
+    public static int getDayOfMonth(long epochDay) {
+        return (int) Math.floorMod(civil(epochDay), 100L);
+    }
+
+    /**
+     * Devuelve el día de la semana de una fecha, entre 1 (lunes) y 7 (domingo),
+     * con el mismo valor que {@link java.time.DayOfWeek#getValue()}.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return el día de la semana.
+     */
+    public static int getDayOfWeek(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    /**
+     * Devuelve la fecha de una fecha y hora local.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    public static long getEpochDay(long localMilli) {
+        return Math.floorDiv(localMilli, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Devuelve la hora de una fecha y hora local, entre 0 y 23.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return la hora.
+     */
+    public static int getHour(long localMilli) {
+        return getMilliOfDay(localMilli) / 3_600_000;
+    }
+
+    /**
+     * Devuelve el minuto de una fecha y hora local, entre 0 y 59.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return el minuto.
+     */
+    public static int getMinute(long localMilli) {
+        return getMilliOfDay(localMilli) / 60_000 % 60;
+    }
+
+    /**
+     * Devuelve el segundo de una fecha y hora local, entre 0 y 59.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return el segundo.
+     */
+    public static int getSecond(long localMilli) {
+        return getMilliOfDay(localMilli) / 1000 % 60;
+    }
+
+    /**
+     * Devuelve la cantidad de milisegundos transcurridos desde el inicio del
+     * día de una fecha y hora local.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return los milisegundos del día.
+     */
+    public static int getMilliOfDay(long localMilli) {
+        return (int) Math.floorMod(localMilli, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Empaqueta una fecha en un valor de la forma <code>yyyyMMdd</code>.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return la fecha empaquetada.
+     * @throws DateTimeException si el año no se encuentra entre 0 y 9999.
+     */
+    public static int packDate(long epochDay) throws DateTimeException {
+        long packed = civil(epochDay);
+        if (packed < 0 || packed > MAX_PACKED_DATE) {
+            throw new DateTimeException("No se puede empaquetar la fecha " + epochDay
+                    + ", el año debe estar entre 0 y 9999");
+        }
+        return (int) packed;
+    }
+
+    /**
+     * Convierte una fecha empaquetada de la forma <code>yyyyMMdd</code> en la
+     * cantidad de días desde 1970-01-01.
+     *
+     * @param packedDate la fecha empaquetada.
+     * @return la cantidad de días desde 1970-01-01.
+     * @throws DateTimeException si el valor no representa una fecha válida.
+     */
+    public static long unpackDate(int packedDate) throws DateTimeException {
+        if (packedDate < 0 || packedDate > MAX_PACKED_DATE) {
+            throw new DateTimeException("La fecha empaquetada " + packedDate + " no es válida");
+        }
+        int year = packedDate / 10_000;
+        int month = packedDate / 100 % 100;
+        int day = packedDate % 100;
+        if (month < 1 || month > 12 || day < 1 || day > FixedWidthPattern.lengthOfMonth(year, month)) {
+            throw new DateTimeException("La fecha empaquetada " + packedDate + " no es válida");
+        }
+        return FixedWidthPattern.toEpochDay(year, month, day);
+    }
+
+    /**
+     * Devuelve el año de una fecha empaquetada de la forma
+     * <code>yyyyMMdd</code>.
+     *
+     * @param packedDate la fecha empaquetada.
+     * @return el año.
+     */
+    public static int getPackedYear(int packedDate) {
+        return packedDate / 10_000;
+    }
+
+    /**
+     * Devuelve el mes de una fecha empaquetada de la forma
+     * <code>yyyyMMdd</code>.
+     *
+     * @param packedDate la fecha empaquetada.
+     * @return el mes.
+     */
+    public static int getPackedMonthValue(int packedDate) {
+        return packedDate / 100 % 100;
+    }
+
+    /**
+     * Devuelve el día del mes de una fecha empaquetada de la forma
+     * <code>yyyyMMdd</code>.
+     *
+     * @param packedDate la fecha empaquetada.
+     * @return el día del mes.
+     */
+    public static int getPackedDayOfMonth(int packedDate) {
+        return packedDate % 100;
+    }
+
+    /**
+     * Empaqueta una fecha y hora local en un valor de la forma
+     * <code>yyyyMMddHHmmssSSS</code>.
+     *
+     * @param localMilli la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @return la fecha y hora empaquetada.
+     * @throws DateTimeException si el año no se encuentra entre 0 y 9999.
+     */
+    public static long packDateTime(long localMilli) throws DateTimeException {
+        int milliOfDay = getMilliOfDay(localMilli);
+        long time = milliOfDay / 3_600_000 * 10_000_000L + milliOfDay / 60_000 % 60 * 100_000L
+                + milliOfDay / 1000 % 60 * 1000L + milliOfDay % 1000;
+        return packDate(getEpochDay(localMilli)) * PACKED_TIME_FACTOR + time;
+    }
+
+    /**
+     * Convierte una fecha y hora empaquetada de la forma
+     * <code>yyyyMMddHHmmssSSS</code> en la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00.
+     *
+     * @param packedDateTime la fecha y hora empaquetada.
+     * @return la cantidad de milisegundos desde 1970-01-01T00:00:00.
+     * @throws DateTimeException si el valor no representa una fecha y hora
+     * válida.
+     */
+    public static long unpackDateTime(long packedDateTime) throws DateTimeException {
+        if (packedDateTime < 0 || packedDateTime / PACKED_TIME_FACTOR > MAX_PACKED_DATE) {
+            throw new DateTimeException("La fecha y hora empaquetada " + packedDateTime + " no es válida");
+        }
+        int time = (int) (packedDateTime % PACKED_TIME_FACTOR);
+        int hour = time / 10_000_000;
+        int minute = time / 100_000 % 100;
+        int second = time / 1000 % 100;
+        if (!FixedWidthPattern.isValidTime(hour, minute, second)) {
+            throw new DateTimeException("La fecha y hora empaquetada " + packedDateTime + " no es válida");
+        }
+        long epochDay = unpackDate((int) (packedDateTime / PACKED_TIME_FACTOR));
+        int milliOfDay = hour * 3_600_000 + minute * 60_000 + second * 1000 + time % 1000;
+        return epochDay * MILLIS_PER_DAY + milliOfDay;
+    }
+
+    /**
+     * Calcula el año, el mes y el día de una fecha con el mismo algoritmo que
+     * {@link java.time.LocalDate#ofEpochDay(long)}.
+     *
+     * @param epochDay la cantidad de días desde 1970-01-01.
+     * @return el valor <code>año * 10000 + mes * 100 + día</code>.
+     */
+    static long civil(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + adjust + marchMonth0 / 10;
+        return year * 10_000L + month * 100 + day;
+    }
+}
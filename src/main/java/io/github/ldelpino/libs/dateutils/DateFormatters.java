@@ -15,12 +15,20 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * La clase se encarga de la conversión de objetos de fechas y horas en cadenas
@@ -46,6 +54,7 @@ import java.util.Date;
  * <li>java.time.LocalDate</li>
  * <li>java.time.LocalTime</li>
  * <li>java.time.LocalDateTime</li>
+ * <li>java.time.Duration</li>
  * </ul>
  *
  * @author Lázaro César del Pino Olivera
@@ -56,6 +65,26 @@ import java.util.Date;
  */
 public final class DateFormatters {
 
+    /**
+     * La cantidad máxima de patrones con la hora actual recordada.
+     */
+    private static final int MAXIMUM_CURRENT_TIME_FORMATTERS = 64;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+
+    /**
+     * Los objetos que convierten la hora actual de cada patrón.
+     */
+    private static final ConcurrentHashMap<String, CurrentTimeFormatter> CURRENT_TIME_FORMATTERS
+            = new ConcurrentHashMap<>();
+
+    /**
+     * La posición del recorrido de eliminación de los objetos que convierten la
+     * hora actual.
+     */
+    private static Iterator<CurrentTimeFormatter> current_time_hand;
+
     /**
      * El constructor se establece como privado para no permitir instancias de
      * esta clase.
@@ -106,7 +135,7 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalDate localDate) {
-        return format(localDate, DatePatterns.getDatePattern());
+        return format(DatePatterns.getCompiledDatePattern(), localDate);
     }
 
     /**
@@ -121,7 +150,7 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalTime localTime) {
-        return format(localTime, DatePatterns.getTimePattern());
+        return format(DatePatterns.getCompiledTimePattern(), localTime);
     }
 
     /**
@@ -137,7 +166,7 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalDateTime localDateTime) {
-        return format(localDateTime, DatePatterns.getDateTimePattern());
+        return format(DatePatterns.getCompiledDateTimePattern(), localDateTime);
     }
 
     /**
@@ -149,8 +178,8 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(Date date, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        return formatter.format(date.toInstant());
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return format(compiled, date.toInstant());
     }
 
     /**
@@ -162,8 +191,8 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(Calendar calendar, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        return formatter.format(calendar.toInstant());
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return format(compiled, calendar.toInstant());
     }
 
     /**
@@ -175,8 +204,7 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalDate localDate, String datePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(datePattern);
-        return formatter.format(localDate);
+        return format(FormatterCache.get(datePattern), localDate);
     }
 
     /**
@@ -188,8 +216,7 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalTime localTime, String timePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(timePattern);
-        return formatter.format(localTime);
+        return format(FormatterCache.get(timePattern), localTime);
     }
 
     /**
@@ -202,7 +229,1168 @@ public final class DateFormatters {
      * @return la cadena de caracteres que convertida.
      */
     public static String format(LocalDateTime localDateTime, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        return formatter.format(localDateTime);
+        return format(FormatterCache.get(dateTimePattern), localDateTime);
+    }
+
+    /**
+     * Convierte un objeto de fecha de tipo {@link java.time.LocalDate} en una
+     * cadena de caracteres a partir de un patrón compilado, por ejemplo uno
+     * registrado en la clase
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns}, sin buscar el
+     * patrón en la caché de patrones.
+     *
+     * @param localDate el objeto de fecha a convertir en cadena.
+     * @param compiled el patrón compilado de fecha.
+     * @return la cadena de caracteres convertida.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static String format(LocalDate localDate, CompiledPattern compiled) {
+        return format(compiled, localDate);
+    }
+
+    /**
+     * Convierte un objeto de hora de tipo {@link java.time.LocalTime} en una
+     * cadena de caracteres a partir de un patrón compilado, sin buscar el
+     * patrón en la caché de patrones.
+     *
+     * @param localTime el objeto de hora a convertir en cadena.
+     * @param compiled el patrón compilado de hora.
+     * @return la cadena de caracteres convertida.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static String format(LocalTime localTime, CompiledPattern compiled) {
+        return format(compiled, localTime);
+    }
+
+    /**
+     * Convierte un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} en una cadena de caracteres a partir de
+     * un patrón compilado, sin buscar el patrón en la caché de patrones.
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir en cadena.
+     * @param compiled el patrón compilado de fecha y hora.
+     * @return la cadena de caracteres convertida.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static String format(LocalDateTime localDateTime, CompiledPattern compiled) {
+        return format(compiled, localDateTime);
+    }
+
+    /**
+     * Convierte una duración de tipo {@link java.time.Duration} en una cadena
+     * de caracteres a partir del patrón de duración por defecto
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#DEFAULT_DURATION_PATTERN}.
+     *
+     * @param duration la duración a convertir en cadena.
+     * @return la cadena de caracteres convertida.
+     */
+    public static String format(Duration duration) {
+        return format(duration, DatePatterns.DEFAULT_DURATION_PATTERN);
+    }
+
+    /**
+     * Convierte una duración de tipo {@link java.time.Duration} en una cadena
+     * de caracteres a partir de un patrón de duración especificado, por
+     * ejemplo: HH:mm:ss.SSS, o de los patrones
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#ISO_DURATION_PATTERN}
+     * y
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#COMPACT_DURATION_PATTERN}.
+     *
+     * @param duration la duración a convertir en cadena.
+     * @param durationPattern el patrón de duración.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @see io.github.ldelpino.libs.dateutils.DurationPattern
+     */
+    public static String format(Duration duration, String durationPattern) throws IllegalArgumentException {
+        return format(DurationPattern.get(durationPattern), duration.getSeconds(), duration.getNano());
+    }
+
+    /**
+     * Convierte un tiempo transcurrido en nanosegundos, por ejemplo la
+     * diferencia entre dos valores de {@link java.lang.System#nanoTime()}, en
+     * una cadena de caracteres a partir de un patrón de duración especificado,
+     * sin crear objetos de tipo {@link java.time.Duration}.
+     *
+     * @param nanos el tiempo transcurrido en nanosegundos.
+     * @param durationPattern el patrón de duración.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     */
+    public static String formatElapsedNanos(long nanos, String durationPattern)
+            throws IllegalArgumentException {
+        return format(DurationPattern.get(durationPattern), Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * Convierte un tiempo transcurrido en milisegundos, por ejemplo la
+     * diferencia entre dos valores de
+     * {@link java.lang.System#currentTimeMillis()}, en una cadena de
+     * caracteres a partir de un patrón de duración especificado, sin crear
+     * objetos de tipo {@link java.time.Duration}.
+     *
+     * @param millis el tiempo transcurrido en milisegundos.
+     * @param durationPattern el patrón de duración.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     */
+    public static String formatElapsedMillis(long millis, String durationPattern)
+            throws IllegalArgumentException {
+        return format(DurationPattern.get(durationPattern), Math.floorDiv(millis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(millis, MILLIS_PER_SECOND) * 1_000_000);
+    }
+
+    /**
+     * Convierte la fecha y hora actual en una cadena de caracteres a partir del
+     * patrón de formato establecido y la zona horaria por defecto.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}
+     * </p>
+     *
+     * @return la cadena de caracteres convertida.
+     * @see io.github.ldelpino.libs.dateutils.CurrentTimeFormatter
+     */
+    public static String formatNow() {
+        return formatNow(DatePatterns.getDateTimePattern());
+    }
+
+    /**
+     * Convierte la fecha y hora actual en una cadena de caracteres a partir de
+     * un patrón de formato especificado y la zona horaria por defecto.
+     * <p>
+     * El texto convertido se reutiliza mientras la hora actual no cambie de
+     * intervalo, por lo que el método es adecuado para marcar registros de
+     * actividad con la hora, ver
+     * {@link io.github.ldelpino.libs.dateutils.CurrentTimeFormatter}.</p>
+     *
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static String formatNow(String dateTimePattern) throws IllegalArgumentException {
+        ZoneId zone = DateConverters.getTimeZone();
+        CurrentTimeFormatter formatter = CURRENT_TIME_FORMATTERS.get(dateTimePattern);
+        if (formatter == null || !formatter.getZone().equals(zone)
+                || !formatter.getLocale().equals(DateUtilsContext.getDefault().getLocale())) {
+            if (formatter == null && CURRENT_TIME_FORMATTERS.size() >= MAXIMUM_CURRENT_TIME_FORMATTERS) {
+                evictCurrentTimeFormatter();
+            }
+            formatter = new CurrentTimeFormatter(dateTimePattern, Clock.system(zone));
+            CURRENT_TIME_FORMATTERS.put(dateTimePattern, formatter);
+        }
+        return formatter.format();
+    }
+
+    /**
+     * Elimina un objeto que convierte la hora actual para dejar espacio a uno
+     * nuevo. Los objetos se eliminan por turnos, de modo que el resto conserva
+     * su texto convertido.
+     */
+    private static synchronized void evictCurrentTimeFormatter() {
+        while (CURRENT_TIME_FORMATTERS.size() >= MAXIMUM_CURRENT_TIME_FORMATTERS) {
+            if (current_time_hand == null || !current_time_hand.hasNext()) {
+                current_time_hand = CURRENT_TIME_FORMATTERS.values().iterator();
+                if (!current_time_hand.hasNext()) {
+                    return;
+                }
+            }
+            current_time_hand.next();
+            current_time_hand.remove();
+        }
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(Date date, StringBuilder out) {
+        return formatTo(date, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir del
+     * patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(Date date, Appendable out) throws IOException {
+        return formatTo(date, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * arreglo de caracteres a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Date date, char[] buffer, int offset) throws IndexOutOfBoundsException {
+        return formatTo(date, DatePatterns.getDateTimePattern(), buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir del patrón de formato
+     * establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Date date, CharBuffer out) throws BufferOverflowException {
+        return formatTo(date, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(Date date, String dateTimePattern, StringBuilder out) {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, date.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir de un
+     * patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(Date date, String dateTimePattern, Appendable out) throws IOException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, date.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * arreglo de caracteres a partir de un patrón de formato especificado, sin
+     * crear cadenas de caracteres intermedias.
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Date date, String dateTimePattern, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, date.toInstant(), buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Date} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param date el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Date date, String dateTimePattern, CharBuffer out)
+            throws BufferOverflowException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, date.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un objeto de tipo {@link java.lang.StringBuilder} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(Calendar calendar, StringBuilder out) {
+        return formatTo(calendar, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un destino de caracteres de tipo {@link java.lang.Appendable} a partir
+     * del patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(Calendar calendar, Appendable out) throws IOException {
+        return formatTo(calendar, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un arreglo de caracteres a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Calendar calendar, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return formatTo(calendar, DatePatterns.getDateTimePattern(), buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un objeto de tipo {@link java.nio.CharBuffer} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Calendar calendar, CharBuffer out) throws BufferOverflowException {
+        return formatTo(calendar, DatePatterns.getDateTimePattern(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un objeto de tipo {@link java.lang.StringBuilder} a partir de un patrón
+     * de formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(Calendar calendar, String dateTimePattern, StringBuilder out) {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, calendar.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un destino de caracteres de tipo {@link java.lang.Appendable} a partir de
+     * un patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(Calendar calendar, String dateTimePattern, Appendable out) throws IOException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, calendar.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un arreglo de caracteres a partir de un patrón de formato especificado,
+     * sin crear cadenas de caracteres intermedias.
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Calendar calendar, String dateTimePattern, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, calendar.toInstant(), buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.util.Calendar} en
+     * un objeto de tipo {@link java.nio.CharBuffer} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param calendar el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(Calendar calendar, String dateTimePattern, CharBuffer out)
+            throws BufferOverflowException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        return write(compiled, calendar.toInstant(), out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalDate localDate, StringBuilder out) {
+        return write(DatePatterns.getCompiledDatePattern(), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir del
+     * patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalDate localDate, Appendable out) throws IOException {
+        return write(DatePatterns.getCompiledDatePattern(), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * arreglo de caracteres a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDate localDate, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(DatePatterns.getCompiledDatePattern(), localDate, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir del patrón de formato
+     * establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDate localDate, CharBuffer out) throws BufferOverflowException {
+        return write(DatePatterns.getCompiledDatePattern(), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalDate localDate, String datePattern, StringBuilder out) {
+        return write(FormatterCache.get(datePattern), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir de un
+     * patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalDate localDate, String datePattern, Appendable out) throws IOException {
+        return write(FormatterCache.get(datePattern), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * arreglo de caracteres a partir de un patrón de formato especificado, sin
+     * crear cadenas de caracteres intermedias.
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDate localDate, String datePattern, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(FormatterCache.get(datePattern), localDate, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha de tipo {@link java.time.LocalDate} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localDate el objeto de fecha a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDate localDate, String datePattern, CharBuffer out)
+            throws BufferOverflowException {
+        return write(FormatterCache.get(datePattern), localDate, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalTime localTime, StringBuilder out) {
+        return write(DatePatterns.getCompiledTimePattern(), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir del
+     * patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalTime localTime, Appendable out) throws IOException {
+        return write(DatePatterns.getCompiledTimePattern(), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * arreglo de caracteres a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalTime localTime, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(DatePatterns.getCompiledTimePattern(), localTime, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir del patrón de formato
+     * establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalTime localTime, CharBuffer out) throws BufferOverflowException {
+        return write(DatePatterns.getCompiledTimePattern(), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * objeto de tipo {@link java.lang.StringBuilder} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalTime localTime, String timePattern, StringBuilder out) {
+        return write(FormatterCache.get(timePattern), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * destino de caracteres de tipo {@link java.lang.Appendable} a partir de un
+     * patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalTime localTime, String timePattern, Appendable out) throws IOException {
+        return write(FormatterCache.get(timePattern), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * arreglo de caracteres a partir de un patrón de formato especificado, sin
+     * crear cadenas de caracteres intermedias.
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalTime localTime, String timePattern, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(FormatterCache.get(timePattern), localTime, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de hora de tipo {@link java.time.LocalTime} en un
+     * objeto de tipo {@link java.nio.CharBuffer} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localTime el objeto de hora a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalTime localTime, String timePattern, CharBuffer out)
+            throws BufferOverflowException {
+        return write(FormatterCache.get(timePattern), localTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un objeto de tipo {@link java.lang.StringBuilder} a partir del patrón
+     * de formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalDateTime localDateTime, StringBuilder out) {
+        return write(DatePatterns.getCompiledDateTimePattern(), localDateTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un destino de caracteres de tipo {@link java.lang.Appendable} a partir
+     * del patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalDateTime localDateTime, Appendable out) throws IOException {
+        return write(DatePatterns.getCompiledDateTimePattern(), localDateTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un arreglo de caracteres a partir del patrón de formato establecido,
+     * sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDateTime localDateTime, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(DatePatterns.getCompiledDateTimePattern(), localDateTime, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un objeto de tipo {@link java.nio.CharBuffer} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDateTime localDateTime, CharBuffer out) throws BufferOverflowException {
+        return write(DatePatterns.getCompiledDateTimePattern(), localDateTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un objeto de tipo {@link java.lang.StringBuilder} a partir de un
+     * patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    public static int formatTo(LocalDateTime localDateTime, String dateTimePattern, StringBuilder out) {
+        return write(FormatterCache.get(dateTimePattern), localDateTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un destino de caracteres de tipo {@link java.lang.Appendable} a partir
+     * de un patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias.
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    public static int formatTo(LocalDateTime localDateTime, String dateTimePattern, Appendable out)
+            throws IOException {
+        return write(FormatterCache.get(dateTimePattern), localDateTime, out);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un arreglo de caracteres a partir de un patrón de formato
+     * especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDateTime localDateTime, String dateTimePattern, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        return write(FormatterCache.get(dateTimePattern), localDateTime, buffer, offset);
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora de tipo {@link java.time.LocalDateTime}
+     * en un objeto de tipo {@link java.nio.CharBuffer} a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param localDateTime el objeto de fecha y hora a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param out el objeto de destino, su posición avanza la cantidad de
+     * caracteres escritos.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    public static int formatTo(LocalDateTime localDateTime, String dateTimePattern, CharBuffer out)
+            throws BufferOverflowException {
+        return write(FormatterCache.get(dateTimePattern), localDateTime, out);
+    }
+
+    /**
+     * Escribe una duración de tipo {@link java.time.Duration} en un objeto de
+     * tipo {@link java.lang.StringBuilder} a partir de un patrón de duración
+     * especificado, sin crear cadenas de caracteres intermedias.
+     *
+     * @param duration la duración a convertir.
+     * @param durationPattern el patrón de duración.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     */
+    public static int formatTo(Duration duration, String durationPattern, StringBuilder out)
+            throws IllegalArgumentException {
+        return write(DurationPattern.get(durationPattern), duration.getSeconds(), duration.getNano(), out);
+    }
+
+    /**
+     * Escribe una duración de tipo {@link java.time.Duration} en un arreglo de
+     * caracteres a partir de un patrón de duración especificado, sin crear
+     * cadenas de caracteres intermedias.
+     *
+     * @param duration la duración a convertir.
+     * @param durationPattern el patrón de duración.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente, en cuyo caso no se escribe ningún carácter.
+     */
+    public static int formatTo(Duration duration, String durationPattern, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return write(DurationPattern.get(durationPattern), duration.getSeconds(), duration.getNano(), buffer,
+                offset);
+    }
+
+    /**
+     * Escribe un tiempo transcurrido en nanosegundos en un objeto de tipo
+     * {@link java.lang.StringBuilder} a partir de un patrón de duración
+     * especificado, sin crear objetos intermedios.
+     *
+     * @param nanos el tiempo transcurrido en nanosegundos.
+     * @param durationPattern el patrón de duración.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     */
+    public static int formatElapsedNanosTo(long nanos, String durationPattern, StringBuilder out)
+            throws IllegalArgumentException {
+        return write(DurationPattern.get(durationPattern), Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), out);
+    }
+
+    /**
+     * Escribe un tiempo transcurrido en nanosegundos en un arreglo de
+     * caracteres a partir de un patrón de duración especificado, sin crear
+     * objetos intermedios.
+     *
+     * @param nanos el tiempo transcurrido en nanosegundos.
+     * @param durationPattern el patrón de duración.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente, en cuyo caso no se escribe ningún carácter.
+     */
+    public static int formatElapsedNanosTo(long nanos, String durationPattern, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return write(DurationPattern.get(durationPattern), Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), buffer, offset);
+    }
+
+    /**
+     * Escribe un tiempo transcurrido en milisegundos en un objeto de tipo
+     * {@link java.lang.StringBuilder} a partir de un patrón de duración
+     * especificado, sin crear objetos intermedios.
+     *
+     * @param millis el tiempo transcurrido en milisegundos.
+     * @param durationPattern el patrón de duración.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     */
+    public static int formatElapsedMillisTo(long millis, String durationPattern, StringBuilder out)
+            throws IllegalArgumentException {
+        return write(DurationPattern.get(durationPattern), Math.floorDiv(millis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(millis, MILLIS_PER_SECOND) * 1_000_000, out);
+    }
+
+    /**
+     * Escribe un tiempo transcurrido en milisegundos en un arreglo de
+     * caracteres a partir de un patrón de duración especificado, sin crear
+     * objetos intermedios.
+     *
+     * @param millis el tiempo transcurrido en milisegundos.
+     * @param durationPattern el patrón de duración.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente, en cuyo caso no se escribe ningún carácter.
+     */
+    public static int formatElapsedMillisTo(long millis, String durationPattern, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        return write(DurationPattern.get(durationPattern), Math.floorDiv(millis, MILLIS_PER_SECOND),
+                (int) Math.floorMod(millis, MILLIS_PER_SECOND) * 1_000_000, buffer, offset);
+    }
+
+    /**
+     * Convierte un objeto de fecha y hora en una cadena de caracteres
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón compilado.
+     * @param temporal el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     * @see io.github.ldelpino.libs.dateutils.DateMetrics
+     */
+    static String format(CompiledPattern compiled, TemporalAccessor temporal) {
+        long start = DateMetrics.start();
+        try {
+            String result = compiled.format(temporal);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un objeto de tipo StringBuilder
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón compilado.
+     * @param temporal el objeto a convertir.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    private static int write(CompiledPattern compiled, TemporalAccessor temporal, StringBuilder out) {
+        long start = DateMetrics.start();
+        try {
+            int written = compiled.formatTo(temporal, out);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return written;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un destino de caracteres
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón compilado.
+     * @param temporal el objeto a convertir.
+     * @param out el destino al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    private static int write(CompiledPattern compiled, TemporalAccessor temporal, Appendable out)
+            throws IOException {
+        long start = DateMetrics.start();
+        try {
+            int written = compiled.formatTo(temporal, out);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return written;
+        }
+        catch (IOException | RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un arreglo de caracteres
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón compilado.
+     * @param temporal el objeto a convertir.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    private static int write(CompiledPattern compiled, TemporalAccessor temporal, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        long start = DateMetrics.start();
+        try {
+            int written = compiled.formatTo(temporal, buffer, offset);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return written;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un objeto de tipo CharBuffer
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón compilado.
+     * @param temporal el objeto a convertir.
+     * @param out el objeto de destino.
+     * @return la cantidad de caracteres escritos.
+     * @throws BufferOverflowException si el objeto de destino no tiene espacio
+     * suficiente.
+     */
+    private static int write(CompiledPattern compiled, TemporalAccessor temporal, CharBuffer out)
+            throws BufferOverflowException {
+        long start = DateMetrics.start();
+        try {
+            int written = compiled.formatTo(temporal, out);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return written;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Convierte una duración en una cadena de caracteres registrando la
+     * llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón de duración compilado.
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @return la cadena de caracteres convertida.
+     */
+    private static String format(DurationPattern compiled, long seconds, int nanos) {
+        long start = DateMetrics.start();
+        String result = compiled.format(seconds, nanos);
+        DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+        return result;
+    }
+
+    /**
+     * Escribe una duración en un objeto de tipo StringBuilder registrando la
+     * llamada en las métricas si están activadas.
+     *
+     * @param compiled el patrón de duración compilado.
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    private static int write(DurationPattern compiled, long seconds, int nanos, StringBuilder out) {
+        long start = DateMetrics.start();
+        int written = compiled.appendTo(seconds, nanos, out);
+        DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+        return written;
+    }
+
+    /**
+     * Escribe una duración en un arreglo de caracteres registrando la llamada
+     * en las métricas si están activadas.
+     *
+     * @param compiled el patrón de duración compilado.
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo a partir de la cual se escribe.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    private static int write(DurationPattern compiled, long seconds, int nanos, char[] buffer, int offset)
+            throws IndexOutOfBoundsException {
+        long start = DateMetrics.start();
+        try {
+            int written = compiled.formatTo(seconds, nanos, buffer, offset);
+            DateMetrics.stop(DateMetrics.FORMAT, compiled.getPattern(), start);
+            return written;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.FORMAT, compiled.getPattern(), start);
+            throw ex;
+        }
     }
 }
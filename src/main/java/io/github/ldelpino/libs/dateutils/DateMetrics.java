@@ -0,0 +1,345 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registra métricas de las conversiones realizadas por las clases
+ * {@link io.github.ldelpino.libs.dateutils.DateFormatters},
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} y
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters}.
+ * <p>
+ * Para cada patrón de formato, o para cada método en el caso de las
+ * conversiones entre tipos, se cuentan las llamadas, los fallos, el tiempo
+ * total y un histograma de latencias. Los contadores son de tipo
+ * {@link java.util.concurrent.atomic.LongAdder}, por lo que varios hilos pueden
+ * registrar llamadas sin competir entre sí. Las métricas están desactivadas por
+ * defecto; mientras lo están cada llamada solo lee un indicador y no se mide el
+ * tiempo ni se crean objetos.</p>
+ * <p>
+ * El objeto de esta clase puede publicarse como MXBean en el servidor de
+ * administración de la plataforma con el método {@link #register()}.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateMetricsMXBean
+ */
+public final class DateMetrics implements DateMetricsMXBean {
+
+    /**
+     * El nombre con el que se registra el objeto en el servidor de
+     * administración.
+     */
+    public static final String OBJECT_NAME = "io.github.ldelpino.libs.dateutils:type=DateMetrics";
+
+    /**
+     * Operación de conversión de cadenas de caracteres en fechas y horas.
+     */
+    static final int PARSE = 0;
+
+    /**
+     * Operación de conversión de fechas y horas en cadenas de caracteres.
+     */
+    static final int FORMAT = 1;
+
+    /**
+     * Operación de conversión entre tipos de fechas y horas.
+     */
+    static final int CONVERT = 2;
+
+    /**
+     * El valor devuelto por {@link #start()} cuando las métricas están
+     * desactivadas.
+     */
+    static final long DISABLED = Long.MIN_VALUE;
+
+    /**
+     * La cantidad de posiciones de los histogramas de latencias.
+     */
+    private static final int BUCKETS = 32;
+
+    /**
+     * La cantidad máxima de patrones distintos por operación, el resto se
+     * acumula en la clave {@link #OTHER}.
+     */
+    private static final int MAXIMUM_KEYS = 1024;
+
+    /**
+     * La clave que acumula los patrones que superan el límite.
+     */
+    private static final String OTHER = "*";
+
+    private static final String[] OPERATIONS = {"parse", "format", "convert"};
+
+    private static final DateMetrics INSTANCE = new DateMetrics();
+
+    /**
+     * Los contadores de cada operación, por patrón o método.
+     */
+    private static final ConcurrentHashMap<String, Counter> PARSE_COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Counter> FORMAT_COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Counter> CONVERT_COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Indica si las métricas están activadas.
+     */
+    private static volatile boolean enabled;
+
+    private DateMetrics() {
+
+    }
+
+    /**
+     * Devuelve el objeto de métricas.
+     *
+     * @return el objeto de métricas.
+     */
+    public static DateMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registra el objeto de métricas en el servidor de administración de la
+     * plataforma con el nombre {@link #OBJECT_NAME}, si no está registrado.
+     *
+     * @return el nombre del objeto registrado.
+     * @throws JMException si ocurre un error al registrar el objeto.
+     */
+    public static synchronized ObjectName register() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (!server.isRegistered(name)) {
+            server.registerMBean(INSTANCE, name);
+        }
+        return name;
+    }
+
+    /**
+     * Elimina el registro del objeto de métricas del servidor de administración
+     * de la plataforma, si está registrado.
+     *
+     * @throws JMException si ocurre un error al eliminar el registro.
+     */
+    public static synchronized void unregister() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * Marca el inicio de una llamada.
+     *
+     * @return el instante de inicio en nanosegundos o {@link #DISABLED} si las
+     * métricas están desactivadas.
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Registra una llamada terminada correctamente.
+     *
+     * @param operation el tipo de operación.
+     * @param key el patrón de formato o el nombre del método.
+     * @param start el valor devuelto por {@link #start()}.
+     */
+    static void stop(int operation, String key, long start) {
+        if (start != DISABLED) {
+            counter(operation, key).record(System.nanoTime() - start, false);
+        }
+    }
+
+    /**
+     * Registra una llamada fallida.
+     *
+     * @param operation el tipo de operación.
+     * @param key el patrón de formato o el nombre del método.
+     * @param start el valor devuelto por {@link #start()}.
+     */
+    static void fail(int operation, String key, long start) {
+        if (start != DISABLED) {
+            counter(operation, key).record(System.nanoTime() - start, true);
+        }
+    }
+
+    /**
+     * Devuelve los contadores de una operación y un patrón, creándolos si no
+     * existen.
+     *
+     * @param operation el tipo de operación.
+     * @param key el patrón de formato o el nombre del método.
+     * @return los contadores.
+     */
+    private static Counter counter(int operation, String key) {
+        ConcurrentHashMap<String, Counter> counters = counters(operation);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= MAXIMUM_KEYS) {
+                key = OTHER;
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        return counter;
+    }
+
+    private static ConcurrentHashMap<String, Counter> counters(int operation) {
+        switch (operation) {
+            case PARSE:
+                return PARSE_COUNTERS;
+            case FORMAT:
+                return FORMAT_COUNTERS;
+            default:
+                return CONVERT_COUNTERS;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        DateMetrics.enabled = enabled;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (int operation = PARSE; operation <= CONVERT; operation++) {
+            for (Map.Entry<String, Counter> entry : counters(operation).entrySet()) {
+                result.put(OPERATIONS[operation] + ":" + entry.getKey(), entry.getValue().calls.sum());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (int operation = PARSE; operation <= CONVERT; operation++) {
+            for (Map.Entry<String, Counter> entry : counters(operation).entrySet()) {
+                result.put(OPERATIONS[operation] + ":" + entry.getKey(), entry.getValue().failures.sum());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getTotalTimes() {
+        Map<String, Long> result = new TreeMap<>();
+        for (int operation = PARSE; operation <= CONVERT; operation++) {
+            for (Map.Entry<String, Counter> entry : counters(operation).entrySet()) {
+                result.put(OPERATIONS[operation] + ":" + entry.getKey(), entry.getValue().nanos.sum());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, long[]> getLatencyHistograms() {
+        Map<String, long[]> result = new TreeMap<>();
+        for (int operation = PARSE; operation <= CONVERT; operation++) {
+            for (Map.Entry<String, Counter> entry : counters(operation).entrySet()) {
+                result.put(OPERATIONS[operation] + ":" + entry.getKey(), entry.getValue().histogram());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public double getFormatterCacheHitRate() {
+        long hits = FormatterCache.getHitCount();
+        long total = hits + FormatterCache.getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public int getFormatterCacheSize() {
+        return FormatterCache.size();
+    }
+
+    @Override
+    public double getParseCacheHitRate() {
+        ParseCache cache = DateParsers.getParseCache();
+        return cache == null ? 0.0 : cache.getHitRate();
+    }
+
+    @Override
+    public void reset() {
+        PARSE_COUNTERS.clear();
+        FORMAT_COUNTERS.clear();
+        CONVERT_COUNTERS.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "DateMetrics[enabled=" + enabled + ", patterns=" + (PARSE_COUNTERS.size()
+                + FORMAT_COUNTERS.size() + CONVERT_COUNTERS.size()) + "]";
+    }
+
+    /**
+     * Los contadores de un patrón o método.
+     */
+    private static final class Counter {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        private Counter() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Registra una llamada.
+         *
+         * @param elapsed la duración en nanosegundos.
+         * @param failed {@code true} si la llamada falló.
+         */
+        private void record(long elapsed, boolean failed) {
+            calls.increment();
+            if (failed) {
+                failures.increment();
+            }
+            nanos.add(elapsed);
+            int bucket = 63 - Long.numberOfLeadingZeros(Math.max(elapsed, 1L));
+            buckets[Math.min(bucket, BUCKETS - 1)].increment();
+        }
+
+        private long[] histogram() {
+            long[] result = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                result[i] = buckets[i].sum();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.util.Map;
+
+/**
+ * Interfaz de administración de las métricas de conversión de fechas y horas.
+ * <p>
+ * Las claves de los mapas están formadas por el tipo de operación y el patrón
+ * de formato o el nombre del método, separados por dos puntos, por ejemplo
+ * <code>parse:dd/MM/yyyy</code>, <code>format:HH:mm:ss</code> o
+ * <code>convert:convertFromDateToLocalDate</code>.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateMetrics
+ */
+public interface DateMetricsMXBean {
+
+    /**
+     * Indica si las métricas están activadas.
+     *
+     * @return {@code true} si las métricas están activadas.
+     */
+    boolean isEnabled();
+
+    /**
+     * Activa o desactiva las métricas.
+     *
+     * @param enabled {@code true} para activar las métricas.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Devuelve la cantidad de llamadas de cada operación.
+     *
+     * @return las llamadas por operación.
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * Devuelve la cantidad de llamadas fallidas de cada operación.
+     *
+     * @return los fallos por operación.
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Devuelve el tiempo total en nanosegundos de cada operación.
+     *
+     * @return el tiempo total por operación.
+     */
+    Map<String, Long> getTotalTimes();
+
+    /**
+     * Devuelve el histograma de latencias de cada operación. La posición
+     * {@code i} del histograma cuenta las llamadas que duraron entre
+     * 2<sup>i</sup> y 2<sup>i+1</sup> nanosegundos; la primera incluye las
+     * llamadas de menos de un nanosegundo y la última las de más de
+     * 2<sup>31</sup> nanosegundos.
+     *
+     * @return los histogramas por operación.
+     */
+    Map<String, long[]> getLatencyHistograms();
+
+    /**
+     * Devuelve la proporción de aciertos de los patrones compilados de la
+     * clase {@link io.github.ldelpino.libs.dateutils.FormatterCache}.
+     *
+     * @return la proporción de aciertos entre 0 y 1.
+     */
+    double getFormatterCacheHitRate();
+
+    /**
+     * Devuelve la cantidad de patrones compilados almacenados.
+     *
+     * @return la cantidad de patrones compilados.
+     */
+    int getFormatterCacheSize();
+
+    /**
+     * Devuelve la proporción de aciertos del objeto establecido con el método
+     * {@link io.github.ldelpino.libs.dateutils.DateParsers#setParseCache(io.github.ldelpino.libs.dateutils.ParseCache)}.
+     *
+     * @return la proporción de aciertos entre 0 y 1, o 0 si no hay ningún
+     * objeto establecido.
+     */
+    double getParseCacheHitRate();
+
+    /**
+     * Elimina todas las métricas acumuladas.
+     */
+    void reset();
+}
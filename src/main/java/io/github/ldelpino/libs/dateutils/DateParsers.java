@@ -15,14 +15,25 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * La clase se encarga de la conversion de cadenas de caracteres en objetos de
@@ -48,6 +59,7 @@ import java.util.GregorianCalendar;
  * <li>java.time.LocalDate</li>
  * <li>java.time.LocalTime</li>
  * <li>java.time.LocalDateTime</li>
+ * <li>java.time.Duration</li>
  * </ul>
  *
  * @author Lázaro César del Pino Olivera
@@ -58,10 +70,60 @@ import java.util.GregorianCalendar;
  */
 public final class DateParsers {
 
+    /**
+     * El objeto que almacena los resultados de las conversiones de cadenas de
+     * caracteres o {@code null} si los resultados no se almacenan.
+     */
+    private static volatile ParseCache parse_cache;
+
+    /**
+     * La cantidad máxima de listas de patrones candidatos recordadas.
+     */
+    private static final int MAXIMUM_MULTI_PATTERN_PARSERS = 64;
+
+    /**
+     * Los objetos que convierten cadenas con cada lista de patrones candidatos.
+     */
+    private static final ConcurrentHashMap<List<String>, MultiPatternEntry> MULTI_PATTERN_PARSERS
+            = new ConcurrentHashMap<>();
+
+    /**
+     * La posición del recorrido de eliminación de las listas de patrones
+     * candidatos.
+     */
+    private static Iterator<Map.Entry<List<String>, MultiPatternEntry>> multi_pattern_hand;
+
     private DateParsers() {
 
     }
 
+    /**
+     * Establece el objeto que almacena los resultados de las conversiones de
+     * cadenas de caracteres en objetos de tipo LocalDate, LocalTime y
+     * LocalDateTime. Cuando se establece un objeto, las conversiones repetidas
+     * de una misma cadena con un mismo patrón devuelven el mismo objeto sin
+     * volver a convertir la cadena. Por defecto los resultados no se
+     * almacenan.
+     *
+     * @param cache el objeto que almacena los resultados o {@code null} para
+     * no almacenarlos.
+     * @see io.github.ldelpino.libs.dateutils.ParseCache
+     */
+    public static void setParseCache(ParseCache cache) {
+        parse_cache = cache;
+    }
+
+    /**
+     * Devuelve el objeto que almacena los resultados de las conversiones de
+     * cadenas de caracteres.
+     *
+     * @return el objeto que almacena los resultados o {@code null} si los
+     * resultados no se almacenan.
+     */
+    public static ParseCache getParseCache() {
+        return parse_cache;
+    }
+
     /**
      * Convierte una cadena de caracteres en un objeto de fecha y hora de tipo
      * {@link java.util.Date} a partir de un patrón de formato establecido.
@@ -104,7 +166,7 @@ public final class DateParsers {
      * @return el objeto de fecha convertido.
      */
     public static LocalDate parseToLocalDate(String localDate) {
-        return parseToLocalDate(localDate, DatePatterns.getDatePattern());
+        return parseLocalDate(localDate, DatePatterns.getCompiledDatePattern());
     }
 
     /**
@@ -119,7 +181,7 @@ public final class DateParsers {
      * @return el objeto de hora convertido.
      */
     public static LocalTime parseToLocalTime(String timePattern) {
-        return parseToLocalTime(timePattern, DatePatterns.getTimePattern());
+        return parseLocalTime(timePattern, DatePatterns.getCompiledTimePattern());
     }
 
     /**
@@ -135,7 +197,7 @@ public final class DateParsers {
      * @return el objeto de fecha y hora convertido.
      */
     public static LocalDateTime parseToLocalDateTime(String localDateTime) {
-        return parseToLocalDateTime(localDateTime, DatePatterns.getDateTimePattern());
+        return parseLocalDateTime(localDateTime, DatePatterns.getCompiledDateTimePattern());
     }
 
     /**
@@ -147,8 +209,8 @@ public final class DateParsers {
      * @return el objeto de fecha y hora convertido.
      */
     public static Date parseToDate(String date, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        Instant instant = formatter.parse(date, Instant::from);
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        Instant instant = parseInstant(date, compiled);
         return Date.from(instant);
     }
 
@@ -161,9 +223,9 @@ public final class DateParsers {
      * @return el objeto de fecha y hora convertido.
      */
     public static Calendar parseToCalendar(String calendar, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        Instant instant = formatter.parse(calendar, Instant::from);
-        return GregorianCalendar.from(instant.atZone(DateConverters.getTimeZone()));
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern, DateConverters.getTimeZone());
+        Instant instant = parseInstant(calendar, compiled);
+        return DateConverters.offsetTable().newCalendar(instant.toEpochMilli());
     }
 
     /**
@@ -176,8 +238,7 @@ public final class DateParsers {
      * @return el objeto de fecha convertido.
      */
     public static LocalDate parseToLocalDate(String localDate, String datePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(datePattern);
-        return formatter.parse(localDate, LocalDate::from);
+        return parseLocalDate(localDate, FormatterCache.get(datePattern));
     }
 
     /**
@@ -190,8 +251,7 @@ public final class DateParsers {
      * @return el objeto de hora convertido.
      */
     public static LocalTime parseToLocalTime(String localTime, String timePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(timePattern);
-        return formatter.parse(localTime, LocalTime::from);
+        return parseLocalTime(localTime, FormatterCache.get(timePattern));
     }
 
     /**
@@ -204,7 +264,1490 @@ public final class DateParsers {
      * @return el objeto de fecha y hora convertido.
      */
     public static LocalDateTime parseToLocalDateTime(String localDateTime, String dateTimePattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateTimePattern);
-        return formatter.parse(localDateTime, LocalDateTime::from);
+        return parseLocalDateTime(localDateTime, FormatterCache.get(dateTimePattern));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón compilado, por ejemplo
+     * uno registrado en la clase
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns}, sin buscar el
+     * patrón en la caché de patrones.
+     *
+     * @param localDate la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado de fecha.
+     * @return el objeto de fecha convertido.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static LocalDate parseToLocalDate(String localDate, CompiledPattern compiled) {
+        return parseLocalDate(localDate, compiled);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de hora de tipo
+     * {@link java.time.LocalTime} a partir de un patrón compilado, sin buscar
+     * el patrón en la caché de patrones.
+     *
+     * @param localTime la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado de hora.
+     * @return el objeto de hora convertido.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static LocalTime parseToLocalTime(String localTime, CompiledPattern compiled) {
+        return parseLocalTime(localTime, compiled);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} a partir de un patrón compilado, sin
+     * buscar el patrón en la caché de patrones.
+     *
+     * @param localDateTime la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado de fecha y hora.
+     * @return el objeto de fecha y hora convertido.
+     * @see io.github.ldelpino.libs.dateutils.DatePatterns#getRegisteredPattern(int)
+     */
+    public static LocalDateTime parseToLocalDateTime(String localDateTime, CompiledPattern compiled) {
+        return parseLocalDateTime(localDateTime, compiled);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en una duración de tipo
+     * {@link java.time.Duration} a partir del patrón de duración por defecto
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#DEFAULT_DURATION_PATTERN}.
+     *
+     * @param duration la cadena de caracteres a convertir.
+     * @return la duración convertida.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón.
+     */
+    public static Duration parseToDuration(String duration) throws DateTimeParseException {
+        return parseToDuration(duration, DatePatterns.DEFAULT_DURATION_PATTERN);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en una duración de tipo
+     * {@link java.time.Duration} a partir de un patrón de duración
+     * especificado, por ejemplo: HH:mm:ss.SSS, o de los patrones
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#ISO_DURATION_PATTERN}
+     * y
+     * {@link io.github.ldelpino.libs.dateutils.DatePatterns#COMPACT_DURATION_PATTERN}.
+     * El formato compacto admite las unidades d, h, m, s, ms, us y ns en
+     * cualquier orden y con decimales, por ejemplo: 1h2m3.004s o 1.5ms.
+     *
+     * @param duration la cadena de caracteres a convertir.
+     * @param durationPattern el patrón de duración.
+     * @return la duración convertida.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón o la duración no puede representarse.
+     * @see io.github.ldelpino.libs.dateutils.DurationPattern
+     */
+    public static Duration parseToDuration(String duration, String durationPattern)
+            throws IllegalArgumentException, DateTimeParseException {
+        DurationPattern compiled = DurationPattern.get(durationPattern);
+        long start = DateMetrics.start();
+        try {
+            Duration result = compiled.parse(duration);
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un tiempo transcurrido en
+     * nanosegundos a partir de un patrón de duración especificado.
+     *
+     * @param duration la cadena de caracteres a convertir.
+     * @param durationPattern el patrón de duración.
+     * @return el tiempo transcurrido en nanosegundos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón.
+     * @throws ArithmeticException si el tiempo no cabe en un valor de tipo
+     * long.
+     */
+    public static long parseToElapsedNanos(String duration, String durationPattern)
+            throws IllegalArgumentException, DateTimeParseException, ArithmeticException {
+        return parseToDuration(duration, durationPattern).toNanos();
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un tiempo transcurrido en
+     * milisegundos a partir de un patrón de duración especificado. Las
+     * fracciones de milisegundo se descartan.
+     *
+     * @param duration la cadena de caracteres a convertir.
+     * @param durationPattern el patrón de duración.
+     * @return el tiempo transcurrido en milisegundos.
+     * @throws IllegalArgumentException si el patrón de duración no es válido.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón.
+     * @throws ArithmeticException si el tiempo no cabe en un valor de tipo
+     * long.
+     */
+    public static long parseToElapsedMillis(String duration, String durationPattern)
+            throws IllegalArgumentException, DateTimeParseException, ArithmeticException {
+        return parseToDuration(duration, durationPattern).toMillis();
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha de tipo
+     * {@link java.time.LocalDate} con el primero de los patrones de formato
+     * candidatos que la acepta.
+     * <p>
+     * Los candidatos se descartan sin lanzar excepciones y se prueban en orden
+     * de frecuencia, ver
+     * {@link io.github.ldelpino.libs.dateutils.MultiPatternParser}.</p>
+     *
+     * @param localDate la cadena de caracteres a convertir.
+     * @param datePatterns los patrones de formato de fecha candidatos.
+     * @return el objeto de fecha convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     * @throws IllegalArgumentException si no se especifica ningún patrón o
+     * alguno de los patrones no es válido.
+     */
+    public static LocalDate parseAnyToLocalDate(String localDate, String... datePatterns)
+            throws DateTimeParseException, IllegalArgumentException {
+        return multiPatternParser(datePatterns).parseLocalDate(localDate);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de hora de tipo
+     * {@link java.time.LocalTime} con el primero de los patrones de formato
+     * candidatos que la acepta.
+     *
+     * @param localTime la cadena de caracteres a convertir.
+     * @param timePatterns los patrones de formato de hora candidatos.
+     * @return el objeto de hora convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     * @throws IllegalArgumentException si no se especifica ningún patrón o
+     * alguno de los patrones no es válido.
+     * @see io.github.ldelpino.libs.dateutils.MultiPatternParser
+     */
+    public static LocalTime parseAnyToLocalTime(String localTime, String... timePatterns)
+            throws DateTimeParseException, IllegalArgumentException {
+        return multiPatternParser(timePatterns).parseLocalTime(localTime);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} con el primero de los patrones de
+     * formato candidatos que la acepta.
+     *
+     * @param localDateTime la cadena de caracteres a convertir.
+     * @param dateTimePatterns los patrones de formato de fecha y hora
+     * candidatos.
+     * @return el objeto de fecha y hora convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     * @throws IllegalArgumentException si no se especifica ningún patrón o
+     * alguno de los patrones no es válido.
+     * @see io.github.ldelpino.libs.dateutils.MultiPatternParser
+     */
+    public static LocalDateTime parseAnyToLocalDateTime(String localDateTime, String... dateTimePatterns)
+            throws DateTimeParseException, IllegalArgumentException {
+        return multiPatternParser(dateTimePatterns).parseLocalDateTime(localDateTime);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, sin lanzar excepciones cuando la cadena no puede
+     * convertirse.
+     * <p>
+     * El resultado es el mismo que el del método
+     * {@link #parseToLocalDate(java.lang.String, java.lang.String)}. Si la
+     * cadena no puede convertirse se devuelve {@code null} y el error se
+     * registra en el objeto de resultado, ver
+     * {@link io.github.ldelpino.libs.dateutils.ParseStatus}.</p>
+     *
+     * @param localDate la cadena de caracteres a convertir, puede ser nula.
+     * @param datePattern el patrón de formato de fecha.
+     * @param status el objeto donde se registra el resultado de la conversión
+     * o {@code null} si no se necesita.
+     * @return el objeto de fecha convertido o {@code null} si la cadena no
+     * puede convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static LocalDate tryParseToLocalDate(CharSequence localDate, String datePattern,
+            ParseStatus status) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        long start = DateMetrics.start();
+        LocalDate result = compiled.tryParseLocalDate(localDate, status);
+        record(compiled, start, result != null);
+        return result;
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de hora de tipo
+     * {@link java.time.LocalTime} a partir de un patrón de formato
+     * especificado, sin lanzar excepciones cuando la cadena no puede
+     * convertirse.
+     *
+     * @param localTime la cadena de caracteres a convertir, puede ser nula.
+     * @param timePattern el patrón de formato de hora.
+     * @param status el objeto donde se registra el resultado de la conversión
+     * o {@code null} si no se necesita.
+     * @return el objeto de hora convertido o {@code null} si la cadena no
+     * puede convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     * @see #tryParseToLocalDate(java.lang.CharSequence, java.lang.String,
+     * io.github.ldelpino.libs.dateutils.ParseStatus)
+     */
+    public static LocalTime tryParseToLocalTime(CharSequence localTime, String timePattern,
+            ParseStatus status) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(timePattern);
+        long start = DateMetrics.start();
+        LocalTime result = compiled.tryParseLocalTime(localTime, status);
+        record(compiled, start, result != null);
+        return result;
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, sin lanzar excepciones cuando la cadena no puede
+     * convertirse.
+     *
+     * @param localDateTime la cadena de caracteres a convertir, puede ser
+     * nula.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param status el objeto donde se registra el resultado de la conversión
+     * o {@code null} si no se necesita.
+     * @return el objeto de fecha y hora convertido o {@code null} si la cadena
+     * no puede convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     * @see #tryParseToLocalDate(java.lang.CharSequence, java.lang.String,
+     * io.github.ldelpino.libs.dateutils.ParseStatus)
+     */
+    public static LocalDateTime tryParseToLocalDateTime(CharSequence localDateTime, String dateTimePattern,
+            ParseStatus status) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        long start = DateMetrics.start();
+        LocalDateTime result = compiled.tryParseLocalDateTime(localDateTime, status);
+        record(compiled, start, result != null);
+        return result;
+    }
+
+    /**
+     * Convierte una cadena de caracteres en la cantidad de días desde
+     * 1970-01-01 a partir de un patrón de formato especificado, sin lanzar
+     * excepciones cuando la cadena no puede convertirse. Si el patrón es de
+     * ancho fijo la conversión no crea objetos, tampoco cuando la cadena no se
+     * corresponde con el patrón.
+     *
+     * @param localDate la cadena de caracteres a convertir, puede ser nula.
+     * @param datePattern el patrón de formato de fecha.
+     * @param status el objeto donde se registra el resultado de la conversión
+     * o {@code null} si no se necesita.
+     * @return la cantidad de días desde 1970-01-01 o
+     * {@link io.github.ldelpino.libs.dateutils.ParseStatus#NO_VALUE} si la
+     * cadena no puede convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static long tryParseToEpochDay(CharSequence localDate, String datePattern, ParseStatus status)
+            throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        long start = DateMetrics.start();
+        long result = compiled.tryParseEpochDay(localDate, status);
+        record(compiled, start, result != ParseStatus.NO_VALUE);
+        return result;
+    }
+
+    /**
+     * Convierte una cadena de caracteres en la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00Z, interpretando la fecha y hora en la zona horaria
+     * por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters} a partir de un
+     * patrón de formato especificado, sin lanzar excepciones cuando la cadena
+     * no puede convertirse. Si el patrón es de ancho fijo la conversión no
+     * crea objetos, tampoco cuando la cadena no se corresponde con el patrón.
+     *
+     * @param localDateTime la cadena de caracteres a convertir, puede ser
+     * nula.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param status el objeto donde se registra el resultado de la conversión
+     * o {@code null} si no se necesita.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z o
+     * {@link io.github.ldelpino.libs.dateutils.ParseStatus#NO_VALUE} si la
+     * cadena no puede convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static long tryParseToEpochMilli(CharSequence localDateTime, String dateTimePattern,
+            ParseStatus status) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        long start = DateMetrics.start();
+        long localMilli = compiled.tryParseLocalEpochMilli(localDateTime, status);
+        record(compiled, start, localMilli != ParseStatus.NO_VALUE);
+        return localMilli == ParseStatus.NO_VALUE ? ParseStatus.NO_VALUE
+                : DateConverters.offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Comprueba si una cadena de caracteres puede convertirse a partir de un
+     * patrón de formato especificado, es decir, si se corresponde con el
+     * patrón y sus campos forman una fecha u hora válida. El método no lanza
+     * excepciones y, si el patrón es de ancho fijo, no crea objetos salvo en
+     * los casos poco frecuentes que necesitan el objeto de formato del patrón.
+     *
+     * @param text la cadena de caracteres a comprobar, puede ser nula.
+     * @param pattern el patrón de formato.
+     * @return {@code true} si la cadena puede convertirse con el patrón.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static boolean isValid(CharSequence text, String pattern) throws IllegalArgumentException {
+        return FormatterCache.get(pattern).isValid(text, null);
+    }
+
+    /**
+     * Comprueba un arreglo de cadenas de caracteres a partir de un patrón de
+     * formato especificado, con el mismo criterio que el método
+     * {@link #isValid(java.lang.CharSequence, java.lang.String)}.
+     * <p>
+     * La posición del error de cada cadena se escribe en la misma posición del
+     * arreglo de destino, o -1 si la cadena es válida. Las cadenas nulas no
+     * son válidas y su error se registra en la posición cero.</p>
+     *
+     * @param texts el arreglo de cadenas de caracteres a comprobar.
+     * @param pattern el patrón de formato.
+     * @param errorIndices el arreglo de destino, de igual o mayor tamaño que
+     * la entrada, o {@code null} si solo se necesita la cantidad de cadenas no
+     * válidas.
+     * @return la cantidad de cadenas no válidas.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static int validate(CharSequence[] texts, String pattern, int[] errorIndices)
+            throws IllegalArgumentException {
+        if (errorIndices != null && errorIndices.length < texts.length) {
+            throw new IllegalArgumentException("El arreglo de destino tiene " + errorIndices.length
+                    + " posiciones y se necesitan " + texts.length);
+        }
+        CompiledPattern compiled = FormatterCache.get(pattern);
+        ParseStatus status = new ParseStatus();
+        int invalid = 0;
+        for (int i = 0; i < texts.length; i++) {
+            if (!compiled.isValid(texts[i], status)) {
+                invalid++;
+            }
+            if (errorIndices != null) {
+                errorIndices[i] = status.getErrorIndex();
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts el arreglo de cadenas de caracteres a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(String[] texts, String datePattern,
+            LocalDate[] output) throws IllegalArgumentException {
+        return parseAllToLocalDate(texts, datePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts el arreglo de cadenas de caracteres a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(String[] texts, String datePattern,
+            LocalDate[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return ParallelParseTask.parseAll(Arrays.asList(texts), compiled::parseLocalDate, output, pool);
+    }
+
+    /**
+     * Convierte una lista de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts la lista de cadenas de caracteres a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(List<String> texts, String datePattern,
+            LocalDate[] output) throws IllegalArgumentException {
+        return parseAllToLocalDate(texts, datePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte una lista de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts la lista de cadenas de caracteres a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(List<String> texts, String datePattern,
+            LocalDate[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        List<String> list = texts instanceof RandomAccess ? texts : new ArrayList<>(texts);
+        return ParallelParseTask.parseAll(list, compiled::parseLocalDate, output, pool);
+    }
+
+    /**
+     * Convierte un flujo de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts el flujo de cadenas de caracteres a convertir, el flujo se
+     * consume completamente antes de comenzar la conversión.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(Stream<String> texts, String datePattern,
+            LocalDate[] output) throws IllegalArgumentException {
+        return parseAllToLocalDate(texts, datePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte un flujo de cadenas de caracteres en objetos de fecha de tipo
+     * {@link java.time.LocalDate} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts el flujo de cadenas de caracteres a convertir, el flujo se
+     * consume completamente antes de comenzar la conversión.
+     * @param datePattern el patrón de formato de fecha.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDate(Stream<String> texts, String datePattern,
+            LocalDate[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        String[] array = texts.toArray(String[]::new);
+        return ParallelParseTask.parseAll(Arrays.asList(array), compiled::parseLocalDate, output, pool);
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en objetos de fecha y hora
+     * de tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts el arreglo de cadenas de caracteres a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(String[] texts, String dateTimePattern,
+            LocalDateTime[] output) throws IllegalArgumentException {
+        return parseAllToLocalDateTime(texts, dateTimePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en objetos de fecha y hora
+     * de tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts el arreglo de cadenas de caracteres a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(String[] texts, String dateTimePattern,
+            LocalDateTime[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        return ParallelParseTask.parseAll(Arrays.asList(texts), compiled::parseLocalDateTime, output, pool);
+    }
+
+    /**
+     * Convierte una lista de cadenas de caracteres en objetos de fecha y hora
+     * de tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts la lista de cadenas de caracteres a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(List<String> texts, String dateTimePattern,
+            LocalDateTime[] output) throws IllegalArgumentException {
+        return parseAllToLocalDateTime(texts, dateTimePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte una lista de cadenas de caracteres en objetos de fecha y hora
+     * de tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts la lista de cadenas de caracteres a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(List<String> texts, String dateTimePattern,
+            LocalDateTime[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        List<String> list = texts instanceof RandomAccess ? texts : new ArrayList<>(texts);
+        return ParallelParseTask.parseAll(list, compiled::parseLocalDateTime, output, pool);
+    }
+
+    /**
+     * Convierte un flujo de cadenas de caracteres en objetos de fecha y hora de
+     * tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool#commonPool()}.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado.</p>
+     *
+     * @param texts el flujo de cadenas de caracteres a convertir, el flujo se
+     * consume completamente antes de comenzar la conversión.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(Stream<String> texts, String dateTimePattern,
+            LocalDateTime[] output) throws IllegalArgumentException {
+        return parseAllToLocalDateTime(texts, dateTimePattern, output, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Convierte un flujo de cadenas de caracteres en objetos de fecha y hora de
+     * tipo {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, repartiendo el trabajo entre los hilos del objeto {@link
+     * java.util.concurrent.ForkJoinPool} especificado.
+     * <p>
+     * Cada resultado se escribe en la misma posición del arreglo de destino.
+     * Los elementos nulos se convierten en elementos nulos y los elementos que
+     * no pueden convertirse quedan nulos sin interrumpir la conversión del
+     * resto; sus posiciones y errores se devuelven en el resultado. Las
+     * entradas pequeñas se convierten en el hilo que realiza la llamada.</p>
+     *
+     * @param texts el flujo de cadenas de caracteres a convertir, el flujo se
+     * consume completamente antes de comenzar la conversión.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param output el arreglo de destino, de igual o mayor tamaño que la
+     * entrada.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos durante la conversión.
+     * @throws IllegalArgumentException si el patrón de formato no es válido o
+     * el arreglo de destino es menor que la entrada.
+     */
+    public static ParseFailures parseAllToLocalDateTime(Stream<String> texts, String dateTimePattern,
+            LocalDateTime[] output, ForkJoinPool pool) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        String[] array = texts.toArray(String[]::new);
+        return ParallelParseTask.parseAll(Arrays.asList(array), compiled::parseLocalDateTime, output, pool);
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de fechas
+     * almacenada fuera del heap a partir del patrón de formato establecido.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param texts las cadenas de caracteres a convertir, los elementos nulos
+     * se convierten en fechas inexistentes.
+     * @return la columna de fechas convertida.
+     * @throws DateTimeParseException si alguna de las cadenas no puede
+     * convertirse.
+     */
+    public static DateColumn parseToDateColumn(String[] texts) throws DateTimeParseException {
+        return toDateColumn(texts, DatePatterns.getCompiledDatePattern());
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de fechas
+     * almacenada fuera del heap a partir de un patrón de formato especificado.
+     *
+     * @param texts las cadenas de caracteres a convertir, los elementos nulos
+     * se convierten en fechas inexistentes.
+     * @param datePattern el patrón de formato de fecha.
+     * @return la columna de fechas convertida.
+     * @throws DateTimeParseException si alguna de las cadenas no puede
+     * convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static DateColumn parseToDateColumn(String[] texts, String datePattern)
+            throws DateTimeParseException, IllegalArgumentException {
+        return toDateColumn(texts, FormatterCache.get(datePattern));
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de instantes
+     * almacenada fuera del heap a partir del patrón de formato establecido. Las
+     * fechas y horas se interpretan en la zona horaria por defecto.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param texts las cadenas de caracteres a convertir, los elementos nulos
+     * se convierten en instantes inexistentes.
+     * @return la columna de instantes convertida.
+     * @throws DateTimeParseException si alguna de las cadenas no puede
+     * convertirse.
+     */
+    public static TimestampColumn parseToTimestampColumn(String[] texts) throws DateTimeParseException {
+        return toTimestampColumn(texts, DatePatterns.getCompiledDateTimePattern());
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de instantes
+     * almacenada fuera del heap a partir de un patrón de formato especificado.
+     * Las fechas y horas se interpretan en la zona horaria por defecto.
+     *
+     * @param texts las cadenas de caracteres a convertir, los elementos nulos
+     * se convierten en instantes inexistentes.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return la columna de instantes convertida.
+     * @throws DateTimeParseException si alguna de las cadenas no puede
+     * convertirse.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static TimestampColumn parseToTimestampColumn(String[] texts, String dateTimePattern)
+            throws DateTimeParseException, IllegalArgumentException {
+        return toTimestampColumn(texts, FormatterCache.get(dateTimePattern));
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de fecha de tipo {@link java.time.LocalDate} a
+     * partir del patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias cuando el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @return el objeto de fecha convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalDate parseToLocalDate(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = DatePatterns.getCompiledDatePattern();
+        return compiled.parseLocalDate(bytes, offset, length);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de fecha de tipo {@link java.time.LocalDate} a
+     * partir de un patrón de formato especificado, sin crear cadenas de
+     * caracteres intermedias cuando el patrón es de ancho fijo.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @return el objeto de fecha convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalDate parseToLocalDate(byte[] bytes, int offset, int length, String datePattern)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return compiled.parseLocalDate(bytes, offset, length);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de fecha de tipo {@link
+     * java.time.LocalDate} a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @return el objeto de fecha convertido.
+     */
+    public static LocalDate parseToLocalDate(ByteBuffer buffer) {
+        CompiledPattern compiled = DatePatterns.getCompiledDatePattern();
+        return compiled.parseLocalDate(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de fecha de tipo {@link
+     * java.time.LocalDate} a partir de un patrón de formato especificado, sin
+     * crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @param datePattern el patrón de formato de fecha.
+     * @return el objeto de fecha convertido.
+     */
+    public static LocalDate parseToLocalDate(ByteBuffer buffer, String datePattern) {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return compiled.parseLocalDate(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de hora de tipo {@link java.time.LocalTime} a partir
+     * del patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias cuando el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @return el objeto de hora convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalTime parseToLocalTime(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = DatePatterns.getCompiledTimePattern();
+        return compiled.parseLocalTime(bytes, offset, length);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de hora de tipo {@link java.time.LocalTime} a partir
+     * de un patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias cuando el patrón es de ancho fijo.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @return el objeto de hora convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalTime parseToLocalTime(byte[] bytes, int offset, int length, String timePattern)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(timePattern);
+        return compiled.parseLocalTime(bytes, offset, length);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de hora de tipo {@link
+     * java.time.LocalTime} a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getTimePattern()}</p>
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @return el objeto de hora convertido.
+     */
+    public static LocalTime parseToLocalTime(ByteBuffer buffer) {
+        CompiledPattern compiled = DatePatterns.getCompiledTimePattern();
+        return compiled.parseLocalTime(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de hora de tipo {@link
+     * java.time.LocalTime} a partir de un patrón de formato especificado, sin
+     * crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @param timePattern el patrón de formato de hora.
+     * @return el objeto de hora convertido.
+     */
+    public static LocalTime parseToLocalTime(ByteBuffer buffer, String timePattern) {
+        CompiledPattern compiled = FormatterCache.get(timePattern);
+        return compiled.parseLocalTime(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de fecha y hora de tipo {@link
+     * java.time.LocalDateTime} a partir del patrón de formato establecido, sin
+     * crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @return el objeto de fecha y hora convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalDateTime parseToLocalDateTime(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = DatePatterns.getCompiledDateTimePattern();
+        return compiled.parseLocalDateTime(bytes, offset, length);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en un objeto de fecha y hora de tipo {@link
+     * java.time.LocalDateTime} a partir de un patrón de formato especificado,
+     * sin crear cadenas de caracteres intermedias cuando el patrón es de ancho
+     * fijo.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return el objeto de fecha y hora convertido.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static LocalDateTime parseToLocalDateTime(byte[] bytes, int offset, int length,
+            String dateTimePattern) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        return compiled.parseLocalDateTime(bytes, offset, length);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} a partir del patrón de formato
+     * establecido, sin crear cadenas de caracteres intermedias cuando el patrón
+     * es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @return el objeto de fecha y hora convertido.
+     */
+    public static LocalDateTime parseToLocalDateTime(ByteBuffer buffer) {
+        CompiledPattern compiled = DatePatterns.getCompiledDateTimePattern();
+        return compiled.parseLocalDateTime(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en un objeto de fecha y hora de tipo
+     * {@link java.time.LocalDateTime} a partir de un patrón de formato
+     * especificado, sin crear cadenas de caracteres intermedias cuando el
+     * patrón es de ancho fijo.
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return el objeto de fecha y hora convertido.
+     */
+    public static LocalDateTime parseToLocalDateTime(ByteBuffer buffer, String dateTimePattern) {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        return compiled.parseLocalDateTime(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en la cantidad de días desde 1970-01-01 a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias cuando
+     * el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @return la cantidad de días desde 1970-01-01.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static long parseToEpochDay(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = DatePatterns.getCompiledDatePattern();
+        return compiled.parseEpochDay(bytes, offset, length);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en la cantidad de días desde 1970-01-01 a partir de un patrón de
+     * formato especificado, sin crear cadenas de caracteres intermedias cuando
+     * el patrón es de ancho fijo.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @return la cantidad de días desde 1970-01-01.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static long parseToEpochDay(byte[] bytes, int offset, int length, String datePattern)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return compiled.parseEpochDay(bytes, offset, length);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en la cantidad de días desde
+     * 1970-01-01 a partir del patrón de formato establecido, sin crear cadenas
+     * de caracteres intermedias cuando el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDatePattern()}</p>
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    public static long parseToEpochDay(ByteBuffer buffer) {
+        CompiledPattern compiled = DatePatterns.getCompiledDatePattern();
+        return compiled.parseEpochDay(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en la cantidad de días desde
+     * 1970-01-01 a partir de un patrón de formato especificado, sin crear
+     * cadenas de caracteres intermedias cuando el patrón es de ancho fijo.
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @param datePattern el patrón de formato de fecha.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    public static long parseToEpochDay(ByteBuffer buffer, String datePattern) {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return compiled.parseEpochDay(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Convierte un lote de fechas codificadas en ASCII o UTF-8 almacenadas a
+     * intervalos regulares en un arreglo de bytes, por ejemplo las líneas de
+     * un archivo de registros de longitud fija, en la cantidad de días desde
+     * 1970-01-01 a partir de un patrón de formato especificado. El registro
+     * <code>i</code> ocupa los bytes desde <code>offset + i * stride</code>
+     * hasta <code>offset + i * stride + length</code> y la cantidad de
+     * registros es la longitud del arreglo de destino.
+     * <p>
+     * Con los patrones de fecha de ancho fijo, como dd/MM/yyyy, los registros
+     * se convierten sin crear objetos intermedios. En las versiones 17 y
+     * posteriores del JDK, si la aplicación se ejecuta con la opción
+     * <code>--add-modules jdk.incubator.vector</code>, los dígitos y los
+     * literales de cada registro se comprueban con instrucciones vectoriales y
+     * los días de varios registros se calculan a la vez; en caso contrario los
+     * registros se convierten uno a uno. El resultado es el mismo en ambos
+     * casos e igual al del método
+     * {@link #parseToEpochDay(byte[], int, int, java.lang.String)} aplicado a
+     * cada registro.</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer registro.
+     * @param length la cantidad de bytes de cada registro.
+     * @param stride la distancia en bytes entre el inicio de dos registros
+     * consecutivos, no puede ser menor que <code>length</code>.
+     * @param epochDays el arreglo que recibe la cantidad de días de cada
+     * registro.
+     * @param datePattern el patrón de formato de fecha.
+     * @throws IllegalArgumentException si la distancia entre registros es
+     * menor que su longitud.
+     * @throws IndexOutOfBoundsException si algún registro está fuera del
+     * arreglo.
+     * @throws DateTimeParseException si algún registro no puede convertirse.
+     */
+    public static void parseToEpochDays(byte[] bytes, int offset, int length, int stride, long[] epochDays,
+            String datePattern)
+            throws IllegalArgumentException, IndexOutOfBoundsException, DateTimeParseException {
+        checkRecords(offset, length, stride, epochDays.length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        compiled.parseEpochDays(ByteBuffer.wrap(bytes), offset, length, stride, epochDays);
+    }
+
+    /**
+     * Convierte un lote de fechas codificadas en ASCII o UTF-8 almacenadas a
+     * intervalos regulares en los bytes restantes de un objeto de tipo
+     * {@link java.nio.ByteBuffer} en la cantidad de días desde 1970-01-01 a
+     * partir de un patrón de formato especificado. El primer registro comienza
+     * en la posición del objeto, que no se modifica, y la cantidad de
+     * registros es la longitud del arreglo de destino.
+     *
+     * @param buffer el objeto que contiene los bytes.
+     * @param length la cantidad de bytes de cada registro.
+     * @param stride la distancia en bytes entre el inicio de dos registros
+     * consecutivos, no puede ser menor que <code>length</code>.
+     * @param epochDays el arreglo que recibe la cantidad de días de cada
+     * registro.
+     * @param datePattern el patrón de formato de fecha.
+     * @throws IllegalArgumentException si la distancia entre registros es
+     * menor que su longitud.
+     * @throws IndexOutOfBoundsException si algún registro está fuera de los
+     * bytes restantes del objeto.
+     * @throws DateTimeParseException si algún registro no puede convertirse.
+     * @see #parseToEpochDays(byte[], int, int, int, long[], java.lang.String)
+     */
+    public static void parseToEpochDays(ByteBuffer buffer, int length, int stride, long[] epochDays,
+            String datePattern)
+            throws IllegalArgumentException, IndexOutOfBoundsException, DateTimeParseException {
+        checkRecords(buffer.position(), length, stride, epochDays.length, buffer.limit());
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        compiled.parseEpochDays(buffer, buffer.position(), length, stride, epochDays);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en la cantidad de milisegundos desde 1970-01-01T00:00:00Z,
+     * interpretando la fecha y hora en la zona horaria por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters} a partir del
+     * patrón de formato establecido, sin crear cadenas de caracteres
+     * intermedias cuando el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static long parseToEpochMilli(byte[] bytes, int offset, int length)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = DatePatterns.getCompiledDateTimePattern();
+        long localMilli = compiled.parseLocalEpochMilli(bytes, offset, length);
+        return DateConverters.offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Convierte una secuencia de bytes codificados en ASCII o UTF-8 de un
+     * arreglo en la cantidad de milisegundos desde 1970-01-01T00:00:00Z,
+     * interpretando la fecha y hora en la zona horaria por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters} a partir de un
+     * patrón de formato especificado, sin crear cadenas de caracteres
+     * intermedias cuando el patrón es de ancho fijo.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param offset la posición del primer byte.
+     * @param length la cantidad de bytes a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z.
+     * @throws IndexOutOfBoundsException si la posición o la cantidad de bytes
+     * no son válidas.
+     */
+    public static long parseToEpochMilli(byte[] bytes, int offset, int length, String dateTimePattern)
+            throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        long localMilli = compiled.parseLocalEpochMilli(bytes, offset, length);
+        return DateConverters.offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00Z, interpretando la fecha y hora en la zona horaria
+     * por defecto de la clase {@link
+     * io.github.ldelpino.libs.dateutils.DateConverters} a partir del patrón de
+     * formato establecido, sin crear cadenas de caracteres intermedias cuando
+     * el patrón es de ancho fijo.
+     * <p>
+     * El patrón de formato de establecido se obtiene a través del método {@link
+     * io.github.ldelpino.libs.dateutils.DatePatterns#getDateTimePattern()}</p>
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z.
+     */
+    public static long parseToEpochMilli(ByteBuffer buffer) {
+        CompiledPattern compiled = DatePatterns.getCompiledDateTimePattern();
+        long localMilli = compiled.parseLocalEpochMilli(buffer, buffer.position(), buffer.remaining());
+        return DateConverters.offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Convierte los bytes restantes, codificados en ASCII o UTF-8, de un objeto
+     * de tipo {@link java.nio.ByteBuffer} en la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00Z, interpretando la fecha y hora en la zona horaria
+     * por defecto de la clase {@link
+     * io.github.ldelpino.libs.dateutils.DateConverters} a partir de un patrón
+     * de formato especificado, sin crear cadenas de caracteres intermedias
+     * cuando el patrón es de ancho fijo.
+     *
+     * @param buffer el objeto que contiene los bytes, se convierten los bytes
+     * entre su posición y su límite sin modificar la posición.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z.
+     */
+    public static long parseToEpochMilli(ByteBuffer buffer, String dateTimePattern) {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        long localMilli = compiled.parseLocalEpochMilli(buffer, buffer.position(), buffer.remaining());
+        return DateConverters.offsetTable().toEpochMilli(localMilli);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate
+     * utilizando el objeto que almacena los resultados si está establecido y
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado.
+     * @return el objeto de fecha convertido.
+     */
+    static LocalDate parseLocalDate(String text, CompiledPattern compiled) {
+        long start = DateMetrics.start();
+        try {
+            ParseCache cache = parse_cache;
+            LocalDate result = cache == null ? compiled.parseLocalDate(text)
+                    : cache.parseLocalDate(text, compiled);
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime
+     * utilizando el objeto que almacena los resultados si está establecido y
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado.
+     * @return el objeto de hora convertido.
+     */
+    static LocalTime parseLocalTime(String text, CompiledPattern compiled) {
+        long start = DateMetrics.start();
+        try {
+            ParseCache cache = parse_cache;
+            LocalTime result = cache == null ? compiled.parseLocalTime(text)
+                    : cache.parseLocalTime(text, compiled);
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime
+     * utilizando el objeto que almacena los resultados si está establecido y
+     * registrando la llamada en las métricas si están activadas.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado.
+     * @return el objeto de fecha y hora convertido.
+     */
+    static LocalDateTime parseLocalDateTime(String text, CompiledPattern compiled) {
+        long start = DateMetrics.start();
+        try {
+            ParseCache cache = parse_cache;
+            LocalDateTime result = cache == null ? compiled.parseLocalDateTime(text)
+                    : cache.parseLocalDateTime(text, compiled);
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Registra en las métricas una conversión sin excepciones.
+     *
+     * @param compiled el patrón compilado.
+     * @param start el valor devuelto por {@link DateMetrics#start()}.
+     * @param success indica si la conversión se realizó correctamente.
+     */
+    private static void record(CompiledPattern compiled, long start, boolean success) {
+        if (success) {
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+        }
+        else {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+        }
+    }
+
+    /**
+     * Devuelve el objeto que convierte cadenas con la lista de patrones
+     * candidatos especificada, creándolo si no existe o si la configuración
+     * regional del contexto por defecto ha cambiado. El objeto se recuerda
+     * para conservar el orden de frecuencia de los candidatos entre llamadas.
+     * Al superar el límite de listas recordadas se elimina una lista no
+     * utilizada recientemente con el algoritmo del reloj, como en
+     * {@link io.github.ldelpino.libs.dateutils.FormatterCache}.
+     *
+     * @param patterns los patrones de formato candidatos.
+     * @return el objeto que convierte las cadenas.
+     * @throws IllegalArgumentException si no se especifica ningún patrón o
+     * alguno de los patrones no es válido.
+     */
+    static MultiPatternParser multiPatternParser(String... patterns) throws IllegalArgumentException {
+        List<String> key = Arrays.asList(patterns);
+        MultiPatternEntry entry = MULTI_PATTERN_PARSERS.get(key);
+        if (entry != null && entry.parser.getLocale().equals(DateUtilsContext.getDefault().getLocale())) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.parser;
+        }
+        MultiPatternParser parser = new MultiPatternParser(patterns);
+        MULTI_PATTERN_PARSERS.put(parser.getPatterns(), new MultiPatternEntry(parser));
+        if (MULTI_PATTERN_PARSERS.size() > MAXIMUM_MULTI_PATTERN_PARSERS) {
+            evictMultiPatternParsers();
+        }
+        return parser;
+    }
+
+    /**
+     * Elimina listas de patrones candidatos no utilizadas recientemente hasta
+     * que la cantidad de listas recordadas no supere el límite. El recorrido
+     * continúa desde la posición en la que terminó el anterior y desactiva la
+     * marca de las listas utilizadas que encuentra.
+     */
+    private static synchronized void evictMultiPatternParsers() {
+        while (MULTI_PATTERN_PARSERS.size() > MAXIMUM_MULTI_PATTERN_PARSERS) {
+            if (multi_pattern_hand == null || !multi_pattern_hand.hasNext()) {
+                multi_pattern_hand = MULTI_PATTERN_PARSERS.entrySet().iterator();
+                if (!multi_pattern_hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<List<String>, MultiPatternEntry> entry = multi_pattern_hand.next();
+            if (entry.getValue().referenced) {
+                entry.getValue().referenced = false;
+            }
+            else {
+                MULTI_PATTERN_PARSERS.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un instante utilizando la zona
+     * horaria del patrón.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param compiled el patrón compilado con zona horaria.
+     * @return el instante convertido.
+     */
+    private static Instant parseInstant(String text, CompiledPattern compiled) {
+        long start = DateMetrics.start();
+        try {
+            Instant result = compiled.parseInstant(text);
+            DateMetrics.stop(DateMetrics.PARSE, compiled.getPattern(), start);
+            return result;
+        }
+        catch (RuntimeException ex) {
+            DateMetrics.fail(DateMetrics.PARSE, compiled.getPattern(), start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de fechas.
+     *
+     * @param texts las cadenas de caracteres a convertir.
+     * @param compiled el patrón compilado.
+     * @return la columna de fechas convertida.
+     */
+    private static DateColumn toDateColumn(String[] texts, CompiledPattern compiled) {
+        DateColumn column = new DateColumn(texts.length);
+        for (String text : texts) {
+            column.add(text == null ? null : compiled.parseLocalDate(text));
+        }
+        return column;
+    }
+
+    /**
+     * Convierte un arreglo de cadenas de caracteres en una columna de
+     * instantes en la zona horaria por defecto.
+     *
+     * @param texts las cadenas de caracteres a convertir.
+     * @param compiled el patrón compilado.
+     * @return la columna de instantes convertida.
+     */
+    private static TimestampColumn toTimestampColumn(String[] texts, CompiledPattern compiled) {
+        ZoneOffsetTable table = DateConverters.offsetTable();
+        TimestampColumn column = new TimestampColumn(texts.length);
+        for (String text : texts) {
+            column.add(text == null ? TimestampColumn.MISSING
+                    : DateConverters.toEpochMilli(table, compiled.parseLocalDateTime(text)));
+        }
+        return column;
+    }
+
+    /**
+     * Comprueba que un lote de registros de longitud fija está dentro de una
+     * secuencia de bytes.
+     *
+     * @param offset la posición del primer registro.
+     * @param length la cantidad de bytes de cada registro.
+     * @param stride la distancia en bytes entre el inicio de dos registros
+     * consecutivos.
+     * @param count la cantidad de registros.
+     * @param limit el límite de la secuencia de bytes.
+     * @throws IllegalArgumentException si la distancia entre registros es
+     * menor que su longitud.
+     * @throws IndexOutOfBoundsException si algún registro está fuera de la
+     * secuencia.
+     */
+    private static void checkRecords(int offset, int length, int stride, int count, int limit)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        if (length < 0 || stride < length) {
+            throw new IllegalArgumentException("La distancia entre registros (" + stride
+                    + ") no puede ser menor que su longitud (" + length + ")");
+        }
+        if (count > 0) {
+            long end = offset + (long) (count - 1) * stride + length;
+            if (offset < 0 || end > limit) {
+                throw new IndexOutOfBoundsException("Los registros ocupan las posiciones " + offset
+                        + " a " + end + " y el límite es " + limit);
+            }
+        }
+    }
+
+    /**
+     * Lista de patrones candidatos recordada con la marca de uso del algoritmo
+     * del reloj. La marca no es volátil, las carreras entre hilos solo afectan
+     * la precisión del orden de eliminación.
+     */
+    private static final class MultiPatternEntry {
+
+        private final MultiPatternParser parser;
+        private boolean referenced;
+
+        private MultiPatternEntry(MultiPatternParser parser) {
+            this.parser = parser;
+        }
     }
 }
@@ -15,7 +15,15 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
-import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
 
 /**
  * La clase almacena las constantes y valores por defecto de los patrones de
@@ -30,6 +38,13 @@ import java.time.format.DateTimeFormatter;
  * además las constantes predeterminadas de los valores de los patrones de
  * formato en caso de no establecerse uno o para utilizarlos por defecto
  * siempre.</p>
+ * <p>
+ * Los patrones se almacenan en el contexto por defecto, ver
+ * {@link io.github.ldelpino.libs.dateutils.DateUtilsContext#getDefault()}, y se
+ * compilan al establecerse. Los patrones numéricos de ancho
+ * fijo, como los patrones por defecto, se convierten con un mecanismo
+ * especializado que no utiliza {@link java.time.format.DateTimeFormatter}, ver
+ * {@link io.github.ldelpino.libs.dateutils.CompiledPattern#isFixedWidth()}.</p>
  *
  * @author Lázaro César del Pino Olivera
  * @since jdk-16.0.1
@@ -58,19 +73,26 @@ public final class DatePatterns {
     public static final String DEFAULT_DATE_TIME_PATTERN = "dd/MM/yyyy-HH/mm/ss";
 
     /**
-     * Patrón de conversión de fechas.
+     * El patrón por defecto para la conversión de duraciones de tipo
+     * {@link java.time.Duration} en cadenas de caracteres. Las horas incluyen
+     * los días completos, por ejemplo 26:03:04.005.
      */
-    private static String date_pattern = DEFAULT_DATE_PATTERN;
+    public static final String DEFAULT_DURATION_PATTERN = "HH:mm:ss.SSS";
 
     /**
-     * Patrón de conversión de horas.
+     * Patrón de duración en formato ISO-8601, por ejemplo PT26H3M4.005S, con
+     * el mismo resultado que {@link java.time.Duration#toString()} y
+     * {@link java.time.Duration#parse(java.lang.CharSequence)}.
      */
-    private static String time_pattern = DEFAULT_TIME_PATTERN;
+    public static final String ISO_DURATION_PATTERN = "ISO";
 
     /**
-     * Patrón de conversión de fechas y horas.
+     * Patrón de duración compacto en el que cada unidad distinta de cero se
+     * escribe seguida de su abreviatura, por ejemplo 26h3m4.005s. Al convertir
+     * cadenas se aceptan además las unidades d, ms, us, µs y ns, en cualquier
+     * orden y con decimales, por ejemplo 1.5ms.
      */
-    private static String date_time_pattern = DEFAULT_DATE_TIME_PATTERN;
+    public static final String COMPACT_DURATION_PATTERN = "COMPACT";
 
     /**
      * El constructor se establece como privado para no permitir instancias de
@@ -87,8 +109,7 @@ public final class DatePatterns {
      * @throws IllegalArgumentException si el patrón de fecha no es válido.
      */
     public static void setDatePattern(String newDatePattern) throws IllegalArgumentException {
-        DateTimeFormatter.ofPattern(newDatePattern);
-        date_pattern = newDatePattern;
+        DateUtilsContext.updateDefault(context -> context.withDatePattern(newDatePattern));
     }
 
     /**
@@ -97,7 +118,7 @@ public final class DatePatterns {
      * @return el patrón de fecha establecido por defecto.
      */
     public static String getDatePattern() {
-        return date_pattern;
+        return DateUtilsContext.getDefault().getDatePattern().getPattern();
     }
 
     /**
@@ -107,8 +128,7 @@ public final class DatePatterns {
      * @throws IllegalArgumentException si el patrón de hora no es válido.
      */
     public static void setTimePattern(String newTimePattern) throws IllegalArgumentException {
-        DateTimeFormatter.ofPattern(newTimePattern);
-        time_pattern = newTimePattern;
+        DateUtilsContext.updateDefault(context -> context.withTimePattern(newTimePattern));
     }
 
     /**
@@ -117,7 +137,7 @@ public final class DatePatterns {
      * @return el patrón de hora establecido por defecto.
      */
     public static String getTimePattern() {
-        return time_pattern;
+        return DateUtilsContext.getDefault().getTimePattern().getPattern();
     }
 
     /**
@@ -127,8 +147,7 @@ public final class DatePatterns {
      * @throws IllegalArgumentException si el patrón de fecha-hora no es válido.
      */
     public static void setDateTimePattern(String newDateTimePattern) throws IllegalArgumentException {
-        DateTimeFormatter.ofPattern(newDateTimePattern);
-        date_time_pattern = newDateTimePattern;
+        DateUtilsContext.updateDefault(context -> context.withDateTimePattern(newDateTimePattern));
     }
 
     /**
@@ -137,6 +156,182 @@ public final class DatePatterns {
      * @return el patrón de fecha y hora establecido por defecto.
      */
     public static String getDateTimePattern() {
-        return date_time_pattern;
+        return DateUtilsContext.getDefault().getDateTimePattern().getPattern();
+    }
+
+    /**
+     * Devuelve el patrón de fecha compilado establecido por defecto.
+     *
+     * @return el patrón de fecha compilado establecido por defecto.
+     */
+    public static CompiledPattern getCompiledDatePattern() {
+        return DateUtilsContext.getDefault().getDatePattern();
+    }
+
+    /**
+     * Devuelve el patrón de hora compilado establecido por defecto.
+     *
+     * @return el patrón de hora compilado establecido por defecto.
+     */
+    public static CompiledPattern getCompiledTimePattern() {
+        return DateUtilsContext.getDefault().getTimePattern();
+    }
+
+    /**
+     * Devuelve el patrón de fecha y hora compilado establecido por defecto.
+     *
+     * @return el patrón de fecha y hora compilado establecido por defecto.
+     */
+    public static CompiledPattern getCompiledDateTimePattern() {
+        return DateUtilsContext.getDefault().getDateTimePattern();
+    }
+
+    /**
+     * Registra un patrón de formato con un nombre. Si el nombre ya está
+     * registrado su patrón se sustituye y conserva el identificador.
+     * <p>
+     * El patrón se compila una sola vez con la configuración regional del
+     * contexto por defecto. El patrón compilado devuelto por los métodos
+     * {@link #getRegisteredPattern(int)} y
+     * {@link #getRegisteredPattern(java.lang.String)} puede pasarse
+     * directamente a los métodos de las clases
+     * {@link io.github.ldelpino.libs.dateutils.DateFormatters} y
+     * {@link io.github.ldelpino.libs.dateutils.DateParsers} que reciben un
+     * objeto {@link io.github.ldelpino.libs.dateutils.CompiledPattern}, sin
+     * buscarlo ni compilarlo en cada llamada.</p>
+     *
+     * @param name el nombre del patrón.
+     * @param pattern el patrón de formato.
+     * @return el identificador del nombre, que no cambia mientras dure la
+     * aplicación.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static int registerPattern(String name, String pattern) throws IllegalArgumentException {
+        Map<String, CompiledPattern> compiled = PatternRegistry.compile(
+                Collections.singletonMap(name, pattern));
+        return PatternRegistry.update(registry -> registry.with(compiled, false)).id(name);
+    }
+
+    /**
+     * Registra varios patrones de formato con sus nombres de forma atómica: si
+     * algún patrón no es válido no se registra ninguno. Los nombres ya
+     * registrados que no se especifican se conservan.
+     *
+     * @param patterns los patrones de formato por nombre.
+     * @throws IllegalArgumentException si algún patrón de formato no es
+     * válido.
+     * @see #registerPattern(java.lang.String, java.lang.String)
+     */
+    public static void registerPatterns(Map<String, String> patterns) throws IllegalArgumentException {
+        Map<String, CompiledPattern> compiled = PatternRegistry.compile(patterns);
+        PatternRegistry.update(registry -> registry.with(compiled, false));
+    }
+
+    /**
+     * Sustituye de forma atómica todos los patrones registrados por los
+     * patrones especificados. Los nombres que no se especifican dejan de estar
+     * registrados y los que se vuelven a especificar conservan su
+     * identificador. Si algún patrón no es válido el registro no se modifica.
+     *
+     * @param patterns los nuevos patrones de formato por nombre.
+     * @throws IllegalArgumentException si algún patrón de formato no es
+     * válido.
+     */
+    public static void replacePatterns(Map<String, String> patterns) throws IllegalArgumentException {
+        Map<String, CompiledPattern> compiled = PatternRegistry.compile(patterns);
+        PatternRegistry.update(registry -> registry.with(compiled, true));
+    }
+
+    /**
+     * Sustituye de forma atómica todos los patrones registrados por los
+     * patrones de un archivo de propiedades codificado en UTF-8, en el que
+     * cada clave es el nombre de un patrón y su valor el patrón de formato,
+     * por ejemplo <code>fecha.corta = dd/MM/yy</code>. El archivo puede
+     * volver a cargarse mientras la aplicación está en ejecución; las
+     * conversiones en curso utilizan los patrones anteriores o los nuevos,
+     * nunca una mezcla de ambos.
+     *
+     * @param file el archivo de propiedades.
+     * @throws IOException si ocurre un error al leer el archivo.
+     * @throws IllegalArgumentException si algún patrón de formato no es
+     * válido o el archivo no tiene el formato de un archivo de propiedades.
+     * @see #replacePatterns(java.util.Map)
+     */
+    public static void loadPatterns(Path file) throws IOException, IllegalArgumentException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> patterns = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            patterns.put(name, properties.getProperty(name));
+        }
+        replacePatterns(patterns);
+    }
+
+    /**
+     * Convierte repetidamente una fecha y hora de ejemplo con cada patrón
+     * registrado, en ambos sentidos, para que la carga de clases y la
+     * compilación en tiempo de ejecución ocurran durante el arranque de la
+     * aplicación y no en las primeras conversiones reales.
+     *
+     * @param iterations la cantidad de conversiones por patrón.
+     */
+    public static void warmUpPatterns(int iterations) {
+        PatternRegistry.current().warmUp(iterations);
+    }
+
+    /**
+     * Devuelve el identificador de un nombre registrado.
+     *
+     * @param name el nombre del patrón.
+     * @return el identificador o -1 si el nombre no está registrado.
+     */
+    public static int getPatternId(String name) {
+        return PatternRegistry.current().id(name);
+    }
+
+    /**
+     * Devuelve el patrón compilado registrado con un identificador. Obtener el
+     * patrón por su identificador es un acceso a un arreglo, sin calcular
+     * códigos hash, y devuelve siempre el patrón vigente aunque el registro se
+     * haya vuelto a cargar.
+     *
+     * @param id el identificador del patrón.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el identificador no corresponde a
+     * un nombre registrado.
+     */
+    public static CompiledPattern getRegisteredPattern(int id) throws IllegalArgumentException {
+        CompiledPattern compiled = PatternRegistry.current().get(id);
+        if (compiled == null) {
+            throw new IllegalArgumentException("No existe un patrón registrado con el identificador " + id);
+        }
+        return compiled;
+    }
+
+    /**
+     * Devuelve el patrón compilado registrado con un nombre.
+     *
+     * @param name el nombre del patrón.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el nombre no está registrado.
+     */
+    public static CompiledPattern getRegisteredPattern(String name) throws IllegalArgumentException {
+        PatternRegistry registry = PatternRegistry.current();
+        int id = registry.id(name);
+        if (id < 0) {
+            throw new IllegalArgumentException("No existe un patrón registrado con el nombre " + name);
+        }
+        return registry.get(id);
+    }
+
+    /**
+     * Devuelve los patrones de formato registrados por nombre.
+     *
+     * @return una copia de los patrones registrados.
+     */
+    public static Map<String, String> getRegisteredPatterns() {
+        return PatternRegistry.current().toMap();
     }
 }
@@ -0,0 +1,627 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Convierte lotes de elementos dentro de una cadena de procesamiento reactiva
+ * basada en la API {@link java.util.concurrent.Flow}.
+ * <p>
+ * Un objeto de esta clase recibe listas de elementos, por ejemplo cadenas de
+ * caracteres, arreglos de bytes u objetos de fecha y hora, convierte cada
+ * elemento con una función y publica los resultados en listas de como máximo
+ * el tamaño de lote especificado. Cada lote se entrega de una vez a los
+ * suscriptores, por lo que el coste de la comunicación entre hilos se reparte
+ * entre todos los elementos del lote.</p>
+ * <p>
+ * Los lotes recibidos se convierten de uno en uno en el objeto de tipo
+ * {@link java.util.concurrent.Executor} especificado, que también entrega los
+ * resultados a los suscriptores y puede ser, por ejemplo, un objeto de tipo
+ * {@link java.util.concurrent.ForkJoinPool} o un ejecutor de hilos virtuales en
+ * las versiones de Java que los incluyen. Cada suscriptor dispone de un búfer
+ * con la capacidad máxima especificada; cuando el búfer de algún suscriptor
+ * está lleno la publicación se detiene sin ocupar ningún hilo del ejecutor y
+ * se reanuda cuando ese suscriptor consume un lote o cancela su suscripción.
+ * Como solo se solicita un nuevo lote al publicador cuando se terminan de
+ * publicar los resultados del anterior, la demanda de los suscriptores se
+ * propaga hasta el origen de los datos sin acumular elementos en memoria,
+ * incluso con un ejecutor de un solo hilo. Mientras no haya ningún
+ * suscriptor no se solicitan lotes al publicador y los resultados ya
+ * convertidos se conservan hasta que se suscriba alguno.</p>
+ * <p>
+ * Los elementos nulos se convierten en nulos. Los elementos que no pueden
+ * convertirse no interrumpen el procesamiento, igual que en las conversiones
+ * por lotes de la clase {@link io.github.ldelpino.libs.dateutils.DateParsers}:
+ * su posición en el lote de resultados queda nula y se cuentan en
+ * {@link #getFailureCount()}. Cualquier otro error de la función cancela la
+ * suscripción al publicador y se notifica a los suscriptores. Los errores del
+ * publicador se notifican cuando se han convertido los lotes recibidos antes,
+ * pero igual que en la clase
+ * {@link java.util.concurrent.SubmissionPublisher} los resultados que algún
+ * suscriptor no haya consumido todavía se descartan.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @param <T> el tipo de los elementos recibidos.
+ * @param <R> el tipo de los elementos publicados.
+ * @see io.github.ldelpino.libs.dateutils.DateParsers
+ * @see io.github.ldelpino.libs.dateutils.DateFormatters
+ */
+public final class DateProcessor<T, R> implements Flow.Processor<List<T>, List<R>> {
+
+    /**
+     * El tamaño de lote por defecto.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    /**
+     * La cantidad de lotes que se solicitan al publicador cuando existen la
+     * suscripción y algún suscriptor. Se solicita un lote más cada vez que se
+     * terminan de publicar los resultados de uno, por lo que nunca hay más
+     * lotes pendientes que esta cantidad.
+     */
+    private static final int PREFETCH = 2;
+
+    /**
+     * La función que convierte cada elemento.
+     */
+    private final Function<? super T, ? extends R> function;
+
+    /**
+     * El objeto que ejecuta la conversión.
+     */
+    private final Executor executor;
+
+    /**
+     * El tamaño máximo de los lotes publicados.
+     */
+    private final int batch_size;
+
+    /**
+     * El objeto que publica los resultados a los suscriptores.
+     */
+    private final SubmissionPublisher<List<R>> publisher;
+
+    /**
+     * Los lotes recibidos pendientes de convertir.
+     */
+    private final ConcurrentLinkedQueue<List<T>> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Los lotes de resultados pendientes de publicar. Solo se accede desde
+     * {@link #drain()}.
+     */
+    private final ArrayDeque<List<R>> ready = new ArrayDeque<>();
+
+    /**
+     * Los suscriptores actuales, cada uno con la cantidad de lotes publicados
+     * que todavía no ha consumido.
+     */
+    private final CopyOnWriteArrayList<Downstream> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Indica si debe solicitarse un lote al publicador cuando se publiquen
+     * los resultados pendientes. Solo se accede desde {@link #drain()}.
+     */
+    private boolean request_pending;
+
+    /**
+     * Indica si ya se solicitaron al publicador los lotes iniciales, que se
+     * solicitan cuando existen la suscripción y algún suscriptor. Solo se
+     * accede desde {@link #drain()}.
+     */
+    private boolean prefetched;
+
+    /**
+     * La cantidad de señales recibidas mientras se convertía, garantiza que
+     * los lotes se conviertan de uno en uno y en orden.
+     */
+    private final AtomicInteger work_in_progress = new AtomicInteger();
+
+    /**
+     * La cantidad de elementos que no pudieron convertirse.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * La suscripción al publicador de los lotes.
+     */
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * Indica si el publicador terminó.
+     */
+    private volatile boolean done;
+
+    /**
+     * El error con el que terminó el publicador, o nulo.
+     */
+    private volatile Throwable error;
+
+    /**
+     * Crea un nuevo objeto que convierte cada elemento con la función
+     * especificada.
+     *
+     * @param function la función que convierte cada elemento, puede lanzar
+     * {@link java.time.DateTimeException} si un elemento no puede convertirse.
+     * @param executor el objeto que ejecuta la conversión y entrega los
+     * resultados.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes de
+     * entregar a cada suscriptor.
+     * @throws IllegalArgumentException si el tamaño de lote o la capacidad no
+     * son positivos.
+     */
+    public DateProcessor(Function<? super T, ? extends R> function, Executor executor, int batchSize,
+            int maxBufferCapacity) throws IllegalArgumentException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo: " + batchSize);
+        }
+        this.function = Objects.requireNonNull(function, "function");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batch_size = batchSize;
+        this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte cadenas de caracteres en objetos de tipo
+     * LocalDate.
+     *
+     * @param datePattern el patrón de formato de fecha.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static DateProcessor<String, LocalDate> parseToLocalDate(String datePattern, Executor executor,
+            int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return new DateProcessor<>(text -> DateParsers.parseLocalDate(text, compiled), executor, batchSize,
+                maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte cadenas de caracteres en objetos de tipo
+     * LocalTime.
+     *
+     * @param timePattern el patrón de formato de hora.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static DateProcessor<String, LocalTime> parseToLocalTime(String timePattern, Executor executor,
+            int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(timePattern);
+        return new DateProcessor<>(text -> DateParsers.parseLocalTime(text, compiled), executor, batchSize,
+                maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte cadenas de caracteres en objetos de tipo
+     * LocalDateTime.
+     *
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static DateProcessor<String, LocalDateTime> parseToLocalDateTime(String dateTimePattern,
+            Executor executor, int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        return new DateProcessor<>(text -> DateParsers.parseLocalDateTime(text, compiled), executor,
+                batchSize, maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte arreglos de bytes en codificación ASCII o
+     * UTF-8 en objetos de tipo LocalDate. Cada arreglo contiene una sola
+     * fecha.
+     *
+     * @param datePattern el patrón de formato de fecha.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static DateProcessor<byte[], LocalDate> parseBytesToLocalDate(String datePattern,
+            Executor executor, int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(datePattern);
+        return new DateProcessor<>(bytes -> compiled.parseLocalDate(bytes, 0, bytes.length),
+                executor, batchSize, maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte arreglos de bytes en codificación ASCII o
+     * UTF-8 en objetos de tipo LocalDateTime. Cada arreglo contiene una sola
+     * fecha y hora.
+     *
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static DateProcessor<byte[], LocalDateTime> parseBytesToLocalDateTime(String dateTimePattern,
+            Executor executor, int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(dateTimePattern);
+        return new DateProcessor<>(bytes -> compiled.parseLocalDateTime(bytes, 0, bytes.length),
+                executor, batchSize, maxBufferCapacity);
+    }
+
+    /**
+     * Crea un objeto que convierte objetos de fecha y hora en cadenas de
+     * caracteres.
+     *
+     * @param <T> el tipo de los objetos de fecha y hora.
+     * @param pattern el patrón de formato.
+     * @param executor el objeto que ejecuta la conversión.
+     * @param batchSize el tamaño máximo de los lotes publicados.
+     * @param maxBufferCapacity la cantidad máxima de lotes pendientes por
+     * suscriptor.
+     * @return el objeto creado.
+     * @throws IllegalArgumentException si el patrón no es válido o el tamaño de
+     * lote o la capacidad no son positivos.
+     */
+    public static <T extends TemporalAccessor> DateProcessor<T, String> format(String pattern,
+            Executor executor, int batchSize, int maxBufferCapacity) throws IllegalArgumentException {
+        CompiledPattern compiled = FormatterCache.get(pattern);
+        return new DateProcessor<>(temporal -> DateFormatters.format(compiled, temporal), executor,
+                batchSize, maxBufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<R>> subscriber) {
+        Downstream downstream = new Downstream(Objects.requireNonNull(subscriber, "subscriber"));
+        synchronized (subscribers) {
+            subscribers.add(downstream);
+            publisher.subscribe(downstream);
+        }
+        schedule();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription newSubscription) {
+        Objects.requireNonNull(newSubscription, "subscription");
+        if (subscription != null) {
+            newSubscription.cancel();
+            return;
+        }
+        subscription = newSubscription;
+        schedule();
+    }
+
+    @Override
+    public void onNext(List<T> items) {
+        pending.offer(Objects.requireNonNull(items, "items"));
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable");
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        schedule();
+    }
+
+    /**
+     * Devuelve el tamaño máximo de los lotes publicados.
+     *
+     * @return el tamaño de lote.
+     */
+    public int getBatchSize() {
+        return batch_size;
+    }
+
+    /**
+     * Devuelve la cantidad máxima de lotes pendientes de entregar a cada
+     * suscriptor.
+     *
+     * @return la capacidad del búfer de cada suscriptor.
+     */
+    public int getMaxBufferCapacity() {
+        return publisher.getMaxBufferCapacity();
+    }
+
+    /**
+     * Devuelve el objeto que ejecuta la conversión.
+     *
+     * @return el objeto que ejecuta la conversión.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos que no pudieron convertirse desde la
+     * creación de este objeto.
+     *
+     * @return la cantidad de elementos no convertidos.
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Indica si este objeto terminó de publicar, porque el publicador de los
+     * lotes terminó o por un error.
+     *
+     * @return {@code true} si este objeto terminó.
+     */
+    public boolean isClosed() {
+        return publisher.isClosed();
+    }
+
+    /**
+     * Programa la conversión de los lotes pendientes si no se está
+     * ejecutando ya.
+     */
+    private void schedule() {
+        if (work_in_progress.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            }
+            catch (RejectedExecutionException ex) {
+                terminate(ex);
+            }
+        }
+    }
+
+    /**
+     * Publica los resultados pendientes y convierte los lotes pendientes en
+     * orden, y termina la publicación cuando el publicador terminó y no
+     * quedan lotes. Si el búfer de algún suscriptor está lleno, el método
+     * termina y se vuelve a ejecutar cuando ese suscriptor consume un lote.
+     * Solo un hilo ejecuta este método a la vez.
+     */
+    private void drain() {
+        int missed = 1;
+        do {
+            while (publish()) {
+                boolean terminated = done;
+                List<T> items = pending.poll();
+                if (items == null) {
+                    if (terminated) {
+                        Throwable throwable = error;
+                        if (throwable == null) {
+                            publisher.close();
+                        }
+                        else {
+                            publisher.closeExceptionally(throwable);
+                        }
+                        return;
+                    }
+                    break;
+                }
+                if (publisher.isClosed()) {
+                    continue;
+                }
+                try {
+                    process(items);
+                }
+                catch (RuntimeException ex) {
+                    ready.clear();
+                    terminate(ex);
+                    continue;
+                }
+                request_pending = true;
+            }
+            missed = work_in_progress.addAndGet(-missed);
+        }
+        while (missed != 0);
+    }
+
+    /**
+     * Publica los lotes de resultados pendientes mientras haya algún
+     * suscriptor y ninguno tenga el búfer lleno, de modo que la publicación
+     * nunca espera ni descarta lotes. Cuando se han publicado todos y existe
+     * algún suscriptor, solicita al publicador los lotes iniciales o un nuevo
+     * lote si se había convertido alguno; sin suscriptores no se solicita
+     * nada, por lo que el origen de los datos espera.
+     *
+     * @return {@code true} si se publicaron todos los lotes pendientes.
+     */
+    private boolean publish() {
+        int capacity = publisher.getMaxBufferCapacity();
+        while (!ready.isEmpty()) {
+            if (publisher.isClosed()) {
+                ready.clear();
+                break;
+            }
+            synchronized (subscribers) {
+                if (subscribers.isEmpty()) {
+                    return false;
+                }
+                for (Downstream downstream : subscribers) {
+                    if (downstream.lag() >= capacity) {
+                        return false;
+                    }
+                }
+                for (Downstream downstream : subscribers) {
+                    downstream.published++;
+                }
+                publisher.offer(ready.poll(), null);
+            }
+        }
+        Flow.Subscription current = subscription;
+        if (current == null || subscribers.isEmpty()) {
+            return true;
+        }
+        if (!prefetched) {
+            prefetched = true;
+            current.request(PREFETCH);
+        }
+        else if (request_pending) {
+            request_pending = false;
+            current.request(1);
+        }
+        return true;
+    }
+
+    /**
+     * Convierte un lote y deja los resultados pendientes de publicar en lotes
+     * de como máximo el tamaño de lote.
+     *
+     * @param items los elementos a convertir.
+     */
+    private void process(List<T> items) {
+        int remaining = items.size();
+        List<R> results = new ArrayList<>(Math.min(remaining, batch_size));
+        for (T item : items) {
+            R result = null;
+            if (item != null) {
+                try {
+                    result = function.apply(item);
+                }
+                catch (DateTimeException ex) {
+                    failures.increment();
+                }
+            }
+            results.add(result);
+            remaining--;
+            if (results.size() == batch_size && remaining > 0) {
+                ready.offer(results);
+                results = new ArrayList<>(Math.min(remaining, batch_size));
+            }
+        }
+        if (!results.isEmpty()) {
+            ready.offer(results);
+        }
+    }
+
+    /**
+     * Cancela la suscripción al publicador de los lotes y notifica el error a
+     * los suscriptores.
+     *
+     * @param throwable el error ocurrido.
+     */
+    private void terminate(Throwable throwable) {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+        publisher.closeExceptionally(throwable);
+    }
+
+    /**
+     * Suscriptor intermedio que cuenta los lotes consumidos por un suscriptor
+     * y reanuda la publicación cuando consume alguno o cancela su suscripción.
+     */
+    private final class Downstream implements Flow.Subscriber<List<R>>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super List<R>> subscriber;
+        private final AtomicLong consumed = new AtomicLong();
+        private long published;
+        private volatile Flow.Subscription publisher_subscription;
+
+        private Downstream(Flow.Subscriber<? super List<R>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private long lag() {
+            return published - consumed.get();
+        }
+
+        private void detach() {
+            synchronized (subscribers) {
+                subscribers.remove(this);
+            }
+            schedule();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            publisher_subscription = subscription;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(List<R> item) {
+            try {
+                subscriber.onNext(item);
+            }
+            finally {
+                consumed.incrementAndGet();
+                schedule();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            detach();
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            detach();
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            publisher_subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            publisher_subscription.cancel();
+            detach();
+        }
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Representa una configuración completa para la conversión de fechas y horas.
+ * <p>
+ * Un contexto reúne la zona horaria, la configuración regional y los patrones
+ * de fecha, hora y fecha y hora, junto con los patrones ya compilados y la
+ * tabla de desplazamientos de la zona horaria construidos a partir de ellos.
+ * Los objetos de esta clase son inmutables: los métodos <code>with</code>
+ * devuelven un nuevo contexto y dejan el original sin modificar, por lo que un
+ * contexto puede compartirse entre hilos sin sincronización y cada hilo o
+ * cliente puede mantener el suyo con su estado compilado siempre
+ * disponible.</p>
+ * <p>
+ * Los métodos estáticos de las clases
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters},
+ * {@link io.github.ldelpino.libs.dateutils.DateFormatters},
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} y
+ * {@link io.github.ldelpino.libs.dateutils.DatePatterns} utilizan el contexto
+ * por defecto, que se publica de forma segura a través de un campo volátil y se
+ * sustituye completo en cada cambio de configuración.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+public final class DateUtilsContext {
+
+    /**
+     * El contexto por defecto.
+     */
+    private static volatile DateUtilsContext default_context = new DateUtilsContext(
+            DateConverters.DEFAULT_ZONE_ID, Locale.getDefault(Locale.Category.FORMAT),
+            DatePatterns.DEFAULT_DATE_PATTERN, DatePatterns.DEFAULT_TIME_PATTERN,
+            DatePatterns.DEFAULT_DATE_TIME_PATTERN);
+
+    /**
+     * La zona horaria.
+     */
+    private final ZoneId zone;
+
+    /**
+     * La configuración regional.
+     */
+    private final Locale locale;
+
+    /**
+     * El patrón compilado de fechas.
+     */
+    private final CompiledPattern date_pattern;
+
+    /**
+     * El patrón compilado de horas.
+     */
+    private final CompiledPattern time_pattern;
+
+    /**
+     * El patrón compilado de fechas y horas.
+     */
+    private final CompiledPattern date_time_pattern;
+
+    /**
+     * El patrón compilado de fechas y horas con la zona horaria, utilizado con
+     * los objetos de tipo java.util.Date y Calendar.
+     */
+    private final CompiledPattern zoned_date_time_pattern;
+
+    /**
+     * La tabla de desplazamientos de la zona horaria.
+     */
+    private final ZoneOffsetTable offset_table;
+
+    /**
+     * Crea un nuevo contexto.
+     *
+     * @param zone la zona horaria.
+     * @param locale la configuración regional.
+     * @param datePattern el patrón de fecha.
+     * @param timePattern el patrón de hora.
+     * @param dateTimePattern el patrón de fecha y hora.
+     * @throws IllegalArgumentException si alguno de los patrones no es válido.
+     */
+    public DateUtilsContext(ZoneId zone, Locale locale, String datePattern, String timePattern,
+            String dateTimePattern) throws IllegalArgumentException {
+        this(zone, locale, FormatterCache.get(datePattern, locale, null),
+                FormatterCache.get(timePattern, locale, null),
+                FormatterCache.get(dateTimePattern, locale, null), ZoneOffsetTable.of(zone));
+    }
+
+    /**
+     * Crea un nuevo contexto a partir de los patrones ya compilados.
+     *
+     * @param zone la zona horaria.
+     * @param locale la configuración regional.
+     * @param datePattern el patrón compilado de fecha.
+     * @param timePattern el patrón compilado de hora.
+     * @param dateTimePattern el patrón compilado de fecha y hora.
+     * @param offsetTable la tabla de desplazamientos de la zona horaria.
+     */
+    private DateUtilsContext(ZoneId zone, Locale locale, CompiledPattern datePattern,
+            CompiledPattern timePattern, CompiledPattern dateTimePattern, ZoneOffsetTable offsetTable) {
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.locale = Objects.requireNonNull(locale, "locale");
+        this.date_pattern = datePattern;
+        this.time_pattern = timePattern;
+        this.date_time_pattern = dateTimePattern;
+        this.zoned_date_time_pattern = FormatterCache.get(dateTimePattern.getPattern(), locale, zone);
+        this.offset_table = offsetTable;
+    }
+
+    /**
+     * Devuelve el contexto por defecto.
+     *
+     * @return el contexto por defecto.
+     */
+    public static DateUtilsContext getDefault() {
+        return default_context;
+    }
+
+    /**
+     * Establece el contexto por defecto. La zona horaria del contexto pasa a
+     * ser también la zona horaria por defecto de la clase
+     * {@link io.github.ldelpino.libs.dateutils.DateConverters}.
+     *
+     * @param context el nuevo contexto por defecto.
+     */
+    public static synchronized void setDefault(DateUtilsContext context) {
+        Objects.requireNonNull(context, "context");
+        default_context = context;
+        DateConverters.zone_id = context.zone;
+    }
+
+    /**
+     * Sustituye el contexto por defecto por el resultado de aplicarle la
+     * función especificada. Las actualizaciones se realizan de una en una para
+     * que ningún cambio concurrente se pierda.
+     *
+     * @param update la función que calcula el nuevo contexto.
+     * @return el nuevo contexto por defecto.
+     */
+    static synchronized DateUtilsContext updateDefault(UnaryOperator<DateUtilsContext> update) {
+        DateUtilsContext context = update.apply(default_context);
+        setDefault(context);
+        return context;
+    }
+
+    /**
+     * Devuelve un contexto igual a este con la zona horaria especificada.
+     *
+     * @param newZone la nueva zona horaria.
+     * @return el nuevo contexto.
+     */
+    public DateUtilsContext withZone(ZoneId newZone) {
+        if (newZone == zone) {
+            return this;
+        }
+        return new DateUtilsContext(newZone, locale, date_pattern, time_pattern, date_time_pattern,
+                ZoneOffsetTable.of(newZone));
+    }
+
+    /**
+     * Devuelve un contexto igual a este con la configuración regional
+     * especificada. Los patrones se compilan de nuevo con la nueva
+     * configuración regional.
+     *
+     * @param newLocale la nueva configuración regional.
+     * @return el nuevo contexto.
+     */
+    public DateUtilsContext withLocale(Locale newLocale) {
+        if (newLocale.equals(locale)) {
+            return this;
+        }
+        return new DateUtilsContext(zone, newLocale,
+                FormatterCache.get(date_pattern.getPattern(), newLocale, null),
+                FormatterCache.get(time_pattern.getPattern(), newLocale, null),
+                FormatterCache.get(date_time_pattern.getPattern(), newLocale, null), offset_table);
+    }
+
+    /**
+     * Devuelve un contexto igual a este con el patrón de fecha especificado.
+     *
+     * @param newDatePattern el nuevo patrón de fecha.
+     * @return el nuevo contexto.
+     * @throws IllegalArgumentException si el patrón no es válido.
+     */
+    public DateUtilsContext withDatePattern(String newDatePattern) throws IllegalArgumentException {
+        return new DateUtilsContext(zone, locale, FormatterCache.get(newDatePattern, locale, null),
+                time_pattern, date_time_pattern, offset_table);
+    }
+
+    /**
+     * Devuelve un contexto igual a este con el patrón de hora especificado.
+     *
+     * @param newTimePattern el nuevo patrón de hora.
+     * @return el nuevo contexto.
+     * @throws IllegalArgumentException si el patrón no es válido.
+     */
+    public DateUtilsContext withTimePattern(String newTimePattern) throws IllegalArgumentException {
+        return new DateUtilsContext(zone, locale, date_pattern,
+                FormatterCache.get(newTimePattern, locale, null), date_time_pattern, offset_table);
+    }
+
+    /**
+     * Devuelve un contexto igual a este con el patrón de fecha y hora
+     * especificado.
+     *
+     * @param newDateTimePattern el nuevo patrón de fecha y hora.
+     * @return el nuevo contexto.
+     * @throws IllegalArgumentException si el patrón no es válido.
+     */
+    public DateUtilsContext withDateTimePattern(String newDateTimePattern) throws IllegalArgumentException {
+        return new DateUtilsContext(zone, locale, date_pattern, time_pattern,
+                FormatterCache.get(newDateTimePattern, locale, null), offset_table);
+    }
+
+    /**
+     * Devuelve la zona horaria.
+     *
+     * @return la zona horaria.
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Devuelve la configuración regional.
+     *
+     * @return la configuración regional.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Devuelve el patrón compilado de fechas.
+     *
+     * @return el patrón compilado de fechas.
+     */
+    public CompiledPattern getDatePattern() {
+        return date_pattern;
+    }
+
+    /**
+     * Devuelve el patrón compilado de horas.
+     *
+     * @return el patrón compilado de horas.
+     */
+    public CompiledPattern getTimePattern() {
+        return time_pattern;
+    }
+
+    /**
+     * Devuelve el patrón compilado de fechas y horas.
+     *
+     * @return el patrón compilado de fechas y horas.
+     */
+    public CompiledPattern getDateTimePattern() {
+        return date_time_pattern;
+    }
+
+    /**
+     * Devuelve la tabla de desplazamientos de la zona horaria.
+     *
+     * @return la tabla de desplazamientos de la zona horaria.
+     */
+    ZoneOffsetTable getOffsetTable() {
+        return offset_table;
+    }
+
+    /**
+     * Convierte un objeto de tipo java.util.Date en una cadena de caracteres a
+     * partir del patrón de fecha y hora y la zona horaria del contexto.
+     *
+     * @param date el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public String format(Date date) {
+        return zoned_date_time_pattern.format(date.toInstant());
+    }
+
+    /**
+     * Convierte un objeto de tipo Calendar en una cadena de caracteres a partir
+     * del patrón de fecha y hora y la zona horaria del contexto.
+     *
+     * @param calendar el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public String format(Calendar calendar) {
+        return zoned_date_time_pattern.format(calendar.toInstant());
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDate en una cadena de caracteres a
+     * partir del patrón de fecha del contexto.
+     *
+     * @param localDate el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public String format(LocalDate localDate) {
+        return date_pattern.format(localDate);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalTime en una cadena de caracteres a
+     * partir del patrón de hora del contexto.
+     *
+     * @param localTime el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public String format(LocalTime localTime) {
+        return time_pattern.format(localTime);
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en una cadena de caracteres a
+     * partir del patrón de fecha y hora del contexto.
+     *
+     * @param localDateTime el objeto a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public String format(LocalDateTime localDateTime) {
+        return date_time_pattern.format(localDateTime);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo java.util.Date a
+     * partir del patrón de fecha y hora y la zona horaria del contexto.
+     *
+     * @param date la cadena de caracteres a convertir.
+     * @return el objeto convertido.
+     */
+    public Date parseToDate(String date) {
+        return Date.from(zoned_date_time_pattern.parseInstant(date));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo Calendar a partir
+     * del patrón de fecha y hora y la zona horaria del contexto.
+     *
+     * @param calendar la cadena de caracteres a convertir.
+     * @return el objeto convertido.
+     */
+    public Calendar parseToCalendar(String calendar) {
+        return offset_table.newCalendar(zoned_date_time_pattern.parseInstant(calendar).toEpochMilli());
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate a
+     * partir del patrón de fecha del contexto.
+     *
+     * @param localDate la cadena de caracteres a convertir.
+     * @return el objeto convertido.
+     */
+    public LocalDate parseToLocalDate(String localDate) {
+        return date_pattern.parseLocalDate(localDate);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime a
+     * partir del patrón de hora del contexto.
+     *
+     * @param localTime la cadena de caracteres a convertir.
+     * @return el objeto convertido.
+     */
+    public LocalTime parseToLocalTime(String localTime) {
+        return time_pattern.parseLocalTime(localTime);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime a
+     * partir del patrón de fecha y hora del contexto.
+     *
+     * @param localDateTime la cadena de caracteres a convertir.
+     * @return el objeto convertido.
+     */
+    public LocalDateTime parseToLocalDateTime(String localDateTime) {
+        return date_time_pattern.parseLocalDateTime(localDateTime);
+    }
+
+    /**
+     * Convierte un objeto de tipo java.util.Date en un objeto de tipo
+     * LocalDate en la zona horaria del contexto.
+     *
+     * @param date el objeto a convertir.
+     * @return el objeto convertido.
+     */
+    public LocalDate convertFromDateToLocalDate(Date date) {
+        return DateConverters.toLocalDate(offset_table, date.getTime());
+    }
+
+    /**
+     * Convierte un objeto de tipo java.util.Date en un objeto de tipo
+     * LocalDateTime en la zona horaria del contexto.
+     *
+     * @param date el objeto a convertir.
+     * @return el objeto convertido.
+     */
+    public LocalDateTime convertFromDateToLocalDateTime(Date date) {
+        return DateConverters.toLocalDateTime(offset_table, date.getTime());
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDate en un objeto de tipo
+     * java.util.Date correspondiente al inicio del día en la zona horaria del
+     * contexto.
+     *
+     * @param localDate el objeto a convertir.
+     * @return el objeto convertido.
+     */
+    public Date convertFromLocalDateToDate(LocalDate localDate) {
+        return new Date(DateConverters.toEpochMilli(offset_table, localDate));
+    }
+
+    /**
+     * Convierte un objeto de tipo LocalDateTime en un objeto de tipo
+     * java.util.Date en la zona horaria del contexto.
+     *
+     * @param localDateTime el objeto a convertir.
+     * @return el objeto convertido.
+     */
+    public Date convertFromLocalDateTimeToDate(LocalDateTime localDateTime) {
+        return new Date(DateConverters.toEpochMilli(offset_table, localDateTime));
+    }
+
+    @Override
+    public String toString() {
+        return "DateUtilsContext[zone=" + zone + ", locale=" + locale + ", date=" + date_pattern + ", time="
+                + time_pattern + ", dateTime=" + date_time_pattern + "]";
+    }
+}
@@ -0,0 +1,967 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Representa un patrón de formato de duraciones compilado.
+ * <p>
+ * Los patrones de duración se componen de las letras <code>d</code> (días),
+ * <code>H</code> (horas), <code>m</code> (minutos), <code>s</code> (segundos)
+ * y <code>S</code> (fracciones de segundo) y de literales, que pueden
+ * escribirse entre comillas simples como en los patrones de
+ * {@link java.time.format.DateTimeFormatter}. Las unidades deben aparecer de
+ * mayor a menor y sin saltos, por ejemplo <code>HH:mm:ss.SSS</code>,
+ * <code>mm:ss</code> o <code>d 'días' HH:mm</code>. La cantidad de letras de
+ * cada unidad es la cantidad mínima de dígitos; la mayor unidad del patrón
+ * incluye las unidades mayores que no aparecen en él, por lo que puede tener
+ * más dígitos, y las unidades menores que no aparecen se descartan. Las
+ * fracciones de segundo se truncan a la cantidad de letras
+ * <code>S</code>, de una a nueve. Las duraciones negativas se escriben con el
+ * signo menos delante.</p>
+ * <p>
+ * Los patrones
+ * {@link io.github.ldelpino.libs.dateutils.DatePatterns#ISO_DURATION_PATTERN}
+ * y
+ * {@link io.github.ldelpino.libs.dateutils.DatePatterns#COMPACT_DURATION_PATTERN}
+ * representan los formatos ISO-8601 y compacto. Todos los patrones se
+ * escriben directamente en el destino, sin crear objetos intermedios, a partir
+ * de los segundos y nanosegundos de la duración.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateFormatters
+ * @see io.github.ldelpino.libs.dateutils.DateParsers
+ */
+final class DurationPattern {
+
+    private static final int DAYS = 0;
+    private static final int HOURS = 1;
+    private static final int MINUTES = 2;
+    private static final int SECONDS = 3;
+    private static final int FRACTION = 4;
+
+    private static final int FIELDS = 0;
+    private static final int ISO = 1;
+    private static final int COMPACT = 2;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    /**
+     * La cantidad máxima de patrones almacenados.
+     */
+    private static final int MAXIMUM_CACHE_SIZE = 256;
+
+    /**
+     * La cantidad de segundos de cada unidad.
+     */
+    private static final long[] UNIT_SECONDS = {86_400, 3600, 60, 1};
+
+    /**
+     * La cantidad de valores de cada unidad dentro de la unidad mayor.
+     */
+    private static final long[] UNIT_RANGES = {Long.MAX_VALUE, 24, 60, 60};
+
+    /**
+     * Potencias de diez utilizadas para escalar las fracciones de segundo.
+     */
+    private static final long[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    /**
+     * Los patrones compilados por patrón de formato.
+     */
+    private static final ConcurrentHashMap<String, Node> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * La posición del recorrido de eliminación, solo se utiliza dentro del
+     * método sincronizado {@link #evict()}.
+     */
+    private static Iterator<Map.Entry<String, Node>> hand;
+
+    /**
+     * El patrón de formato original.
+     */
+    private final String pattern;
+
+    /**
+     * El tipo de patrón.
+     */
+    private final int kind;
+
+    /**
+     * Los literales anteriores a cada campo y, en la última posición, el
+     * literal final.
+     */
+    private final char[][] literals;
+
+    /**
+     * La unidad de cada campo.
+     */
+    private final int[] units;
+
+    /**
+     * La cantidad mínima de dígitos de cada campo.
+     */
+    private final int[] widths;
+
+    /**
+     * La mayor unidad del patrón.
+     */
+    private final int largest;
+
+    private DurationPattern(String pattern, int kind, char[][] literals, int[] units, int[] widths) {
+        this.pattern = pattern;
+        this.kind = kind;
+        this.literals = literals;
+        this.units = units;
+        this.widths = widths;
+        this.largest = units.length == 0 ? HOURS : units[0];
+    }
+
+    /**
+     * Devuelve el patrón compilado de un patrón de formato de duración.
+     *
+     * @param pattern el patrón de formato.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el patrón no es válido.
+     */
+    static DurationPattern get(String pattern) throws IllegalArgumentException {
+        Node node = CACHE.get(pattern);
+        if (node != null) {
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+        Node created = new Node(compile(pattern));
+        node = CACHE.putIfAbsent(pattern, created);
+        if (node != null) {
+            return node.value;
+        }
+        if (CACHE.size() > MAXIMUM_CACHE_SIZE) {
+            evict();
+        }
+        return created.value;
+    }
+
+    /**
+     * Elimina patrones no utilizados recientemente hasta que la cantidad de
+     * patrones almacenados no supere el límite, con el mismo recorrido que
+     * {@link io.github.ldelpino.libs.dateutils.FormatterCache}.
+     */
+    private static synchronized void evict() {
+        while (CACHE.size() > MAXIMUM_CACHE_SIZE) {
+            if (hand == null || !hand.hasNext()) {
+                hand = CACHE.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<String, Node> entry = hand.next();
+            Node node = entry.getValue();
+            if (node.referenced) {
+                node.referenced = false;
+            }
+            else {
+                CACHE.remove(entry.getKey(), node);
+            }
+        }
+    }
+
+    /**
+     * Compila un patrón de formato de duración.
+     *
+     * @param pattern el patrón de formato.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el patrón no es válido.
+     */
+    static DurationPattern compile(String pattern) throws IllegalArgumentException {
+        if (pattern.equals(DatePatterns.ISO_DURATION_PATTERN)) {
+            return new DurationPattern(pattern, ISO, new char[0][], new int[0], new int[0]);
+        }
+        if (pattern.equals(DatePatterns.COMPACT_DURATION_PATTERN)) {
+            return new DurationPattern(pattern, COMPACT, new char[0][], new int[0], new int[0]);
+        }
+        List<char[]> literals = new ArrayList<>();
+        List<Integer> units = new ArrayList<>();
+        List<Integer> widths = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int start = i;
+                while (i < length && pattern.charAt(i) == c) {
+                    i++;
+                }
+                int unit = unit(c);
+                int count = i - start;
+                if (unit < 0) {
+                    throw new IllegalArgumentException("Letra de patrón de duración no válida: " + c);
+                }
+                if (!units.isEmpty() && unit != units.get(units.size() - 1) + 1) {
+                    throw new IllegalArgumentException("Las unidades del patrón de duración deben "
+                            + "aparecer de mayor a menor y sin saltos: " + pattern);
+                }
+                if (count > (unit == FRACTION ? 9 : 18)) {
+                    throw new IllegalArgumentException("Demasiadas letras " + c + " en el patrón: "
+                            + pattern);
+                }
+                literals.add(literal.toString().toCharArray());
+                literal.setLength(0);
+                units.add(unit);
+                widths.add(count);
+            }
+            else if (c == '\'') {
+                i++;
+                if (i < length && pattern.charAt(i) == '\'') {
+                    literal.append('\'');
+                    i++;
+                    continue;
+                }
+                while (i < length) {
+                    char quoted = pattern.charAt(i++);
+                    if (quoted == '\'') {
+                        if (i < length && pattern.charAt(i) == '\'') {
+                            literal.append('\'');
+                            i++;
+                        }
+                        else {
+                            break;
+                        }
+                    }
+                    else {
+                        literal.append(quoted);
+                    }
+                }
+            }
+            else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (units.isEmpty()) {
+            throw new IllegalArgumentException("El patrón de duración no contiene ninguna unidad: "
+                    + pattern);
+        }
+        if (units.get(0) == FRACTION) {
+            throw new IllegalArgumentException("Las fracciones de segundo necesitan los segundos: "
+                    + pattern);
+        }
+        literals.add(literal.toString().toCharArray());
+        int[] unitArray = new int[units.size()];
+        int[] widthArray = new int[widths.size()];
+        for (int field = 0; field < unitArray.length; field++) {
+            unitArray[field] = units.get(field);
+            widthArray[field] = widths.get(field);
+        }
+        return new DurationPattern(pattern, FIELDS, literals.toArray(new char[0][]), unitArray, widthArray);
+    }
+
+    /**
+     * Devuelve la unidad correspondiente a una letra del patrón.
+     *
+     * @param letter la letra del patrón.
+     * @return la unidad o -1 si la letra no corresponde a ninguna unidad.
+     */
+    private static int unit(char letter) {
+        switch (letter) {
+            case 'd':
+                return DAYS;
+            case 'H':
+                return HOURS;
+            case 'm':
+                return MINUTES;
+            case 's':
+                return SECONDS;
+            case 'S':
+                return FRACTION;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Devuelve el patrón de formato original.
+     *
+     * @return el patrón de formato original.
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Convierte una duración en una cadena de caracteres.
+     *
+     * @param seconds los segundos de la duración, como en
+     * {@link java.time.Duration#getSeconds()}.
+     * @param nanos los nanosegundos de la duración, entre 0 y 999.999.999.
+     * @return la cadena de caracteres convertida.
+     */
+    String format(long seconds, int nanos) {
+        char[] buffer = new char[write(seconds, nanos, null, null, 0)];
+        write(seconds, nanos, buffer, null, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Escribe una duración en un arreglo de caracteres.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición inicial en el arreglo.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente, en cuyo caso no se escribe ningún carácter.
+     */
+    int formatTo(long seconds, int nanos, char[] buffer, int offset) throws IndexOutOfBoundsException {
+        int length = write(seconds, nanos, null, null, 0);
+        if (offset < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException("Espacio insuficiente para " + length
+                    + " caracteres a partir de la posición " + offset);
+        }
+        return write(seconds, nanos, buffer, null, offset);
+    }
+
+    /**
+     * Añade una duración a un objeto de tipo StringBuilder.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    int appendTo(long seconds, int nanos, StringBuilder out) {
+        int start = out.length();
+        out.setLength(start + write(seconds, nanos, null, null, 0));
+        return write(seconds, nanos, null, out, start);
+    }
+
+    /**
+     * Escribe una duración en uno de los destinos o, si ambos son nulos, solo
+     * cuenta los caracteres.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino, con espacio reservado, o
+     * {@code null}.
+     * @param position la posición inicial en el destino.
+     * @return la cantidad de caracteres.
+     */
+    private int write(long seconds, int nanos, char[] buffer, StringBuilder builder, int position) {
+        switch (kind) {
+            case ISO:
+                return writeIso(seconds, nanos, buffer, builder, position);
+            case COMPACT:
+                return writeCompact(seconds, nanos, buffer, builder, position);
+            default:
+                return writeFields(seconds, nanos, buffer, builder, position);
+        }
+    }
+
+    /**
+     * Escribe una duración con los campos del patrón.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param position la posición inicial en el destino.
+     * @return la cantidad de caracteres.
+     */
+    private int writeFields(long seconds, int nanos, char[] buffer, StringBuilder builder, int position) {
+        boolean negative = seconds < 0;
+        long magnitude = magnitude(seconds, nanos);
+        int fraction = negative && nanos > 0 ? NANOS_PER_SECOND - nanos : nanos;
+        int index = position;
+        if (negative) {
+            put(buffer, builder, index++, '-');
+        }
+        for (int field = 0; field < units.length; field++) {
+            index = putLiteral(literals[field], buffer, builder, index);
+            int unit = units[field];
+            long value;
+            if (unit == FRACTION) {
+                value = fraction / POWERS_OF_TEN[9 - widths[field]];
+            }
+            else if (unit == largest) {
+                value = divide(magnitude, UNIT_SECONDS[unit]);
+            }
+            else {
+                value = remainder(divide(magnitude, UNIT_SECONDS[unit]), UNIT_RANGES[unit]);
+            }
+            index = putDigits(value, Math.max(widths[field], digits(value)), buffer, builder, index);
+        }
+        index = putLiteral(literals[units.length], buffer, builder, index);
+        return index - position;
+    }
+
+    /**
+     * Escribe una duración en formato ISO-8601 con el mismo resultado que
+     * {@link java.time.Duration#toString()}.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param position la posición inicial en el destino.
+     * @return la cantidad de caracteres.
+     */
+    private static int writeIso(long seconds, int nanos, char[] buffer, StringBuilder builder, int position) {
+        int index = position;
+        put(buffer, builder, index++, 'P');
+        put(buffer, builder, index++, 'T');
+        long effective = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+        long hours = effective / 3600;
+        long minutes = effective % 3600 / 60;
+        long secs = effective % 60;
+        if (hours != 0) {
+            index = putSigned(hours, buffer, builder, index);
+            put(buffer, builder, index++, 'H');
+        }
+        if (minutes != 0) {
+            index = putSigned(minutes, buffer, builder, index);
+            put(buffer, builder, index++, 'M');
+        }
+        if (secs == 0 && nanos == 0 && index - position > 2) {
+            return index - position;
+        }
+        if (seconds < 0 && nanos > 0 && secs == 0) {
+            put(buffer, builder, index++, '-');
+            put(buffer, builder, index++, '0');
+        }
+        else {
+            index = putSigned(secs, buffer, builder, index);
+        }
+        if (nanos > 0) {
+            index = putFraction(seconds < 0 ? NANOS_PER_SECOND - nanos : nanos, buffer, builder, index);
+        }
+        put(buffer, builder, index++, 'S');
+        return index - position;
+    }
+
+    /**
+     * Escribe una duración en formato compacto.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param position la posición inicial en el destino.
+     * @return la cantidad de caracteres.
+     */
+    private static int writeCompact(long seconds, int nanos, char[] buffer, StringBuilder builder,
+            int position) {
+        long magnitude = magnitude(seconds, nanos);
+        int fraction = seconds < 0 && nanos > 0 ? NANOS_PER_SECOND - nanos : nanos;
+        long hours = divide(magnitude, 3600);
+        long minutes = divide(magnitude, 60) % 60;
+        long secs = magnitude - divide(magnitude, 60) * 60;
+        int index = position;
+        if (seconds < 0) {
+            put(buffer, builder, index++, '-');
+        }
+        if (hours != 0) {
+            index = putDigits(hours, digits(hours), buffer, builder, index);
+            put(buffer, builder, index++, 'h');
+        }
+        if (minutes != 0) {
+            index = putDigits(minutes, digits(minutes), buffer, builder, index);
+            put(buffer, builder, index++, 'm');
+        }
+        if (secs != 0 || fraction != 0 || index == position) {
+            index = putDigits(secs, digits(secs), buffer, builder, index);
+            if (fraction != 0) {
+                index = putFraction(fraction, buffer, builder, index);
+            }
+            put(buffer, builder, index++, 's');
+        }
+        return index - position;
+    }
+
+    /**
+     * Devuelve el valor absoluto de los segundos completos de una duración.
+     * El resultado se interpreta sin signo, por lo que la duración mínima
+     * produce 2<sup>63</sup>.
+     *
+     * @param seconds los segundos de la duración.
+     * @param nanos los nanosegundos de la duración.
+     * @return los segundos completos sin signo.
+     */
+    private static long magnitude(long seconds, int nanos) {
+        if (seconds >= 0) {
+            return seconds;
+        }
+        return nanos > 0 ? -(seconds + 1) : -seconds;
+    }
+
+    /**
+     * Divide un valor sin signo entre un divisor positivo.
+     *
+     * @param value el valor sin signo.
+     * @param divisor el divisor.
+     * @return el cociente.
+     */
+    private static long divide(long value, long divisor) {
+        return value >= 0 ? value / divisor : Long.divideUnsigned(value, divisor);
+    }
+
+    /**
+     * Devuelve el resto de dividir un valor sin signo entre un divisor
+     * positivo.
+     *
+     * @param value el valor sin signo.
+     * @param divisor el divisor.
+     * @return el resto.
+     */
+    private static long remainder(long value, long divisor) {
+        return value >= 0 ? value % divisor : Long.remainderUnsigned(value, divisor);
+    }
+
+    /**
+     * Devuelve la cantidad de dígitos de un valor sin signo.
+     *
+     * @param value el valor sin signo.
+     * @return la cantidad de dígitos.
+     */
+    private static int digits(long value) {
+        if (value < 0) {
+            return Long.compareUnsigned(value, -8_446_744_073_709_551_616L) < 0 ? 19 : 20;
+        }
+        int count = 1;
+        for (long limit = 10; count < 19 && value >= limit; limit *= 10) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Escribe un carácter en uno de los destinos.
+     *
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param index la posición del carácter.
+     * @param c el carácter.
+     */
+    private static void put(char[] buffer, StringBuilder builder, int index, char c) {
+        if (buffer != null) {
+            buffer[index] = c;
+        }
+        else if (builder != null) {
+            builder.setCharAt(index, c);
+        }
+    }
+
+    /**
+     * Escribe un literal.
+     *
+     * @param literal los caracteres del literal.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param index la posición inicial.
+     * @return la posición siguiente al literal.
+     */
+    private static int putLiteral(char[] literal, char[] buffer, StringBuilder builder, int index) {
+        if (buffer != null) {
+            System.arraycopy(literal, 0, buffer, index, literal.length);
+        }
+        else if (builder != null) {
+            for (int i = 0; i < literal.length; i++) {
+                builder.setCharAt(index + i, literal[i]);
+            }
+        }
+        return index + literal.length;
+    }
+
+    /**
+     * Escribe los dígitos de un valor sin signo, completando con ceros a la
+     * izquierda.
+     *
+     * @param value el valor sin signo.
+     * @param count la cantidad de dígitos a escribir, no menor que la cantidad
+     * de dígitos del valor.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param index la posición inicial.
+     * @return la posición siguiente al último dígito.
+     */
+    private static int putDigits(long value, int count, char[] buffer, StringBuilder builder, int index) {
+        int end = index + count;
+        if (buffer == null && builder == null) {
+            return end;
+        }
+        long remaining = value;
+        int position = end;
+        if (remaining < 0) {
+            long quotient = Long.divideUnsigned(remaining, 10);
+            put(buffer, builder, --position, (char) ('0' + (remaining - quotient * 10)));
+            remaining = quotient;
+        }
+        while (position > index) {
+            put(buffer, builder, --position, (char) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Escribe un valor con signo.
+     *
+     * @param value el valor, distinto de {@link java.lang.Long#MIN_VALUE}.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param index la posición inicial.
+     * @return la posición siguiente al último dígito.
+     */
+    private static int putSigned(long value, char[] buffer, StringBuilder builder, int index) {
+        int position = index;
+        long magnitude = value;
+        if (value < 0) {
+            put(buffer, builder, position++, '-');
+            magnitude = -value;
+        }
+        return putDigits(magnitude, digits(magnitude), buffer, builder, position);
+    }
+
+    /**
+     * Escribe el punto decimal y los nanosegundos sin los ceros finales.
+     *
+     * @param nanos los nanosegundos, entre 1 y 999.999.999.
+     * @param buffer el arreglo de destino o {@code null}.
+     * @param builder el objeto de destino o {@code null}.
+     * @param index la posición inicial.
+     * @return la posición siguiente al último dígito.
+     */
+    private static int putFraction(int nanos, char[] buffer, StringBuilder builder, int index) {
+        int value = nanos;
+        int count = 9;
+        while (value % 10 == 0) {
+            value /= 10;
+            count--;
+        }
+        put(buffer, builder, index, '.');
+        return putDigits(value, count, buffer, builder, index + 1);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en una duración.
+     *
+     * @param text la cadena a convertir.
+     * @return la duración convertida.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón o la duración no puede representarse.
+     */
+    Duration parse(CharSequence text) throws DateTimeParseException {
+        switch (kind) {
+            case ISO:
+                return Duration.parse(text);
+            case COMPACT:
+                return parseCompact(text);
+            default:
+                return parseFields(text);
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres con los campos del patrón en una
+     * duración.
+     *
+     * @param text la cadena a convertir.
+     * @return la duración convertida.
+     * @throws DateTimeParseException si la cadena no se corresponde con el
+     * patrón o la duración no puede representarse.
+     */
+    private Duration parseFields(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        int index = 0;
+        boolean negative = length > 0 && text.charAt(0) == '-';
+        if (negative) {
+            index++;
+        }
+        long seconds = 0;
+        long nanos = 0;
+        for (int field = 0; field < units.length; field++) {
+            index = expect(text, index, literals[field]);
+            int unit = units[field];
+            int width = widths[field];
+            int start = index;
+            int maximum = unit == FRACTION ? width : unit == largest ? 19 : Math.max(width, 2);
+            if (field + 1 < units.length && literals[field + 1].length == 0) {
+                maximum = unit == largest ? Math.min(19, run(text, start) - reserved(field)) : width;
+            }
+            long value = 0;
+            while (index < length && index - start < maximum) {
+                char c = text.charAt(index);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = accumulate(text, start, '0' - c, value, 10);
+                index++;
+            }
+            if (index - start < width) {
+                throw error(text, start, "se esperaban " + width + " dígitos");
+            }
+            if (unit == FRACTION) {
+                nanos = -value * POWERS_OF_TEN[9 - width];
+            }
+            else if (unit != largest && -value >= UNIT_RANGES[unit]) {
+                throw error(text, start, "valor fuera de rango");
+            }
+            else {
+                seconds = accumulate(text, start, seconds, value, UNIT_SECONDS[unit]);
+            }
+        }
+        index = expect(text, index, literals[units.length]);
+        if (index != length) {
+            throw error(text, index, "texto sobrante");
+        }
+        return duration(text, seconds, nanos, negative);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en formato compacto en una duración.
+     *
+     * @param text la cadena a convertir.
+     * @return la duración convertida.
+     * @throws DateTimeParseException si la cadena no tiene el formato
+     * compacto o la duración no puede representarse.
+     */
+    private Duration parseCompact(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+        if (length - index == 1 && text.charAt(index) == '0') {
+            return Duration.ZERO;
+        }
+        long seconds = 0;
+        long nanos = 0;
+        do {
+            int start = index;
+            long integer = 0;
+            while (index < length && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+                integer = accumulate(text, start, '0' - text.charAt(index++), integer, 10);
+            }
+            long fraction = 0;
+            int scale = 0;
+            if (index < length && text.charAt(index) == '.') {
+                index++;
+                while (index < length && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+                    if (scale < 9) {
+                        fraction = fraction * 10 + (text.charAt(index) - '0');
+                        scale++;
+                    }
+                    index++;
+                }
+            }
+            if (index == start || (index == start + 1 && scale == 0 && text.charAt(start) == '.')) {
+                throw error(text, start, "se esperaba un número");
+            }
+            long unitNanos;
+            int unitStart = index;
+            char c = index < length ? text.charAt(index) : 0;
+            char next = index + 1 < length ? text.charAt(index + 1) : 0;
+            if (c == 'd') {
+                unitNanos = 86_400L * NANOS_PER_SECOND;
+                index++;
+            }
+            else if (c == 'h') {
+                unitNanos = 3600L * NANOS_PER_SECOND;
+                index++;
+            }
+            else if (c == 'm' && next == 's') {
+                unitNanos = 1_000_000;
+                index += 2;
+            }
+            else if (c == 'm') {
+                unitNanos = 60L * NANOS_PER_SECOND;
+                index++;
+            }
+            else if (c == 's') {
+                unitNanos = NANOS_PER_SECOND;
+                index++;
+            }
+            else if ((c == 'u' || c == 'µ') && next == 's') {
+                unitNanos = 1_000;
+                index += 2;
+            }
+            else if (c == 'n' && next == 's') {
+                unitNanos = 1;
+                index += 2;
+            }
+            else {
+                throw error(text, unitStart, "se esperaba una unidad");
+            }
+            if (unitNanos >= NANOS_PER_SECOND) {
+                long unitSeconds = unitNanos / NANOS_PER_SECOND;
+                seconds = accumulate(text, start, seconds, integer, unitSeconds);
+                nanos += fraction * unitSeconds * POWERS_OF_TEN[9 - scale];
+            }
+            else {
+                long whole = accumulate(text, start, 0, integer, unitNanos);
+                seconds = accumulate(text, start, seconds, whole / NANOS_PER_SECOND, 1);
+                nanos += -(whole % NANOS_PER_SECOND) + fraction * unitNanos / POWERS_OF_TEN[scale];
+            }
+            seconds = accumulate(text, start, seconds, nanos / NANOS_PER_SECOND, -1);
+            nanos %= NANOS_PER_SECOND;
+        }
+        while (index < length);
+        return duration(text, seconds, nanos, negative);
+    }
+
+    /**
+     * Crea la duración convertida. Los segundos se acumulan negados, como en
+     * {@link java.lang.Long#parseLong(java.lang.String)}, para que la
+     * duración mínima, que se escribe con 2<sup>63</sup> segundos, también
+     * pueda convertirse.
+     *
+     * @param text la cadena que se convierte.
+     * @param seconds los segundos negados.
+     * @param nanos los nanosegundos, entre 0 y 999.999.999.
+     * @param negative si la cadena tiene el signo menos.
+     * @return la duración.
+     * @throws DateTimeParseException si la duración no puede representarse.
+     */
+    private Duration duration(CharSequence text, long seconds, long nanos, boolean negative)
+            throws DateTimeParseException {
+        try {
+            if (negative) {
+                return Duration.ofSeconds(seconds, -nanos);
+            }
+            return Duration.ofSeconds(Math.negateExact(seconds), nanos);
+        }
+        catch (ArithmeticException ex) {
+            throw error(text, 0, "valor fuera de rango");
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de dígitos consecutivos a partir de una posición.
+     *
+     * @param text la cadena que se convierte.
+     * @param index la posición inicial.
+     * @return la cantidad de dígitos.
+     */
+    private static int run(CharSequence text, int index) {
+        int end = index;
+        while (end < text.length() && text.charAt(end) >= '0' && text.charAt(end) <= '9') {
+            end++;
+        }
+        return end - index;
+    }
+
+    /**
+     * Devuelve la cantidad de dígitos de los campos que siguen a un campo sin
+     * literales entre ellos.
+     *
+     * @param field el campo.
+     * @return la cantidad de dígitos de los campos siguientes.
+     */
+    private int reserved(int field) {
+        int count = 0;
+        for (int next = field + 1; next < units.length && literals[next].length == 0; next++) {
+            count += widths[next];
+        }
+        return count;
+    }
+
+    /**
+     * Suma a un total el producto de un valor por una unidad. Los valores
+     * de la conversión se acumulan negados.
+     *
+     * @param text la cadena que se convierte.
+     * @param index la posición del valor en la cadena.
+     * @param total el total.
+     * @param value el valor.
+     * @param unit la unidad.
+     * @return el nuevo total.
+     * @throws DateTimeParseException si el total no puede representarse.
+     */
+    private long accumulate(CharSequence text, int index, long total, long value, long unit)
+            throws DateTimeParseException {
+        try {
+            return Math.addExact(total, Math.multiplyExact(value, unit));
+        }
+        catch (ArithmeticException ex) {
+            throw error(text, index, "valor fuera de rango");
+        }
+    }
+
+    /**
+     * Comprueba que la cadena contiene un literal en una posición.
+     *
+     * @param text la cadena que se convierte.
+     * @param index la posición del literal.
+     * @param literal los caracteres del literal.
+     * @return la posición siguiente al literal.
+     * @throws DateTimeParseException si la cadena no contiene el literal.
+     */
+    private int expect(CharSequence text, int index, char[] literal) throws DateTimeParseException {
+        if (index + literal.length > text.length()) {
+            throw error(text, index, "se esperaba '" + new String(literal) + "'");
+        }
+        for (int i = 0; i < literal.length; i++) {
+            if (text.charAt(index + i) != literal[i]) {
+                throw error(text, index + i, "se esperaba '" + new String(literal) + "'");
+            }
+        }
+        return index + literal.length;
+    }
+
+    /**
+     * Crea la excepción de un error de conversión.
+     *
+     * @param text la cadena que se convierte.
+     * @param index la posición del error.
+     * @param reason la causa del error.
+     * @return la excepción.
+     */
+    private DateTimeParseException error(CharSequence text, int index, String reason) {
+        return new DateTimeParseException("La cadena '" + text + "' no pudo convertirse con el patrón "
+                + pattern + ", " + reason + " en la posición " + index, text, index);
+    }
+
+    /**
+     * Patrón almacenado con la marca de uso del algoritmo del reloj. La marca
+     * no es volátil, las carreras entre hilos solo afectan la precisión del
+     * orden de eliminación.
+     */
+    private static final class Node {
+
+        private final DurationPattern value;
+        private boolean referenced;
+
+        private Node(DurationPattern value) {
+            this.value = value;
+        }
+    }
+}
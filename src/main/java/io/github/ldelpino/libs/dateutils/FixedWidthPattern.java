@@ -0,0 +1,1256 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+
+/**
+ * Convierte fechas y horas a partir de patrones numéricos de ancho fijo.
+ * <p>
+ * Un patrón es de ancho fijo cuando solo contiene los campos <code>yyyy</code>
+ * o <code>uuuu</code>, <code>MM</code>, <code>dd</code>, <code>HH</code>,
+ * <code>mm</code>, <code>ss</code>, fracciones de segundo de 1 a 9
+ * <code>S</code> y literales, por ejemplo el patrón por defecto
+ * <code>dd/MM/yyyy-HH/mm/ss</code>. En estos patrones cada campo ocupa siempre
+ * las mismas posiciones, por lo que la conversión se realiza leyendo y
+ * escribiendo los dígitos directamente en su posición, sin utilizar el
+ * mecanismo general de {@link java.time.format.DateTimeFormatter}.</p>
+ * <p>
+ * Los métodos de conversión devuelven {@code null} cuando el valor no puede
+ * convertirse por esta vía (longitud distinta, caracteres no válidos, valores
+ * fuera de rango o años fuera del rango 1 - 9999). En ese caso debe utilizarse
+ * el objeto {@link java.time.format.DateTimeFormatter} del patrón, que produce
+ * el resultado o el error correspondiente.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.CompiledPattern
+ */
+final class FixedWidthPattern {
+
+    static final int YEAR = 0;
+    static final int MONTH = 1;
+    static final int DAY = 2;
+    static final int HOUR = 3;
+    static final int MINUTE = 4;
+    static final int SECOND = 5;
+    static final int FRACTION = 6;
+    private static final int FIELD_COUNT = 7;
+
+    /**
+     * Valor devuelto por los métodos de conversión de valores primitivos
+     * cuando el valor no puede convertirse por esta vía.
+     */
+    static final long UNRESOLVED = Long.MIN_VALUE;
+
+    /**
+     * Potencias de diez utilizadas para escalar las fracciones de segundo.
+     */
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+
+    /**
+     * Las decenas de los números de 0 a 99.
+     */
+    private static final char[] DIGIT_TENS = new char[100];
+
+    /**
+     * Las unidades de los números de 0 a 99.
+     */
+    private static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    /**
+     * El patrón de formato original.
+     */
+    private final String pattern;
+
+    /**
+     * Los caracteres literales del patrón, las posiciones de los dígitos
+     * contienen '0'.
+     */
+    private final char[] template;
+
+    /**
+     * Indica las posiciones que contienen dígitos.
+     */
+    private final boolean[] digits;
+
+    /**
+     * La posición de cada campo o -1 si el campo no está presente.
+     */
+    private final int[] offsets;
+
+    /**
+     * La cantidad de dígitos de cada campo.
+     */
+    private final int[] widths;
+
+    /**
+     * El campo de cada posición o -1 si la posición contiene un literal.
+     */
+    private final byte[] fields;
+
+    /**
+     * El exponente de la potencia de diez que corresponde al dígito de cada
+     * posición dentro de su campo.
+     */
+    private final byte[] divisors;
+
+    /**
+     * Indica si el patrón contiene todos los campos de una fecha.
+     */
+    private final boolean complete_date;
+
+    /**
+     * Indica si el patrón contiene los campos de una hora.
+     */
+    private final boolean complete_time;
+
+    /**
+     * Indica si el patrón contiene algún campo de fecha.
+     */
+    private final boolean any_date;
+
+    /**
+     * Indica si el patrón contiene algún campo de hora.
+     */
+    private final boolean any_time;
+
+    private FixedWidthPattern(String pattern, char[] template, boolean[] digits, int[] offsets, int[] widths) {
+        this.pattern = pattern;
+        this.template = template;
+        this.digits = digits;
+        this.offsets = offsets;
+        this.widths = widths;
+        this.fields = new byte[template.length];
+        this.divisors = new byte[template.length];
+        Arrays.fill(fields, (byte) -1);
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            for (int i = 0; offsets[field] >= 0 && i < widths[field]; i++) {
+                fields[offsets[field] + i] = (byte) field;
+                divisors[offsets[field] + i] = (byte) (widths[field] - 1 - i);
+            }
+        }
+        this.complete_date = offsets[YEAR] >= 0 && offsets[MONTH] >= 0 && offsets[DAY] >= 0;
+        this.complete_time = offsets[HOUR] >= 0
+                && (offsets[SECOND] < 0 || offsets[MINUTE] >= 0)
+                && (offsets[FRACTION] < 0 || offsets[SECOND] >= 0);
+        this.any_date = offsets[YEAR] >= 0 || offsets[MONTH] >= 0 || offsets[DAY] >= 0;
+        this.any_time = offsets[HOUR] >= 0 || offsets[MINUTE] >= 0 || offsets[SECOND] >= 0
+                || offsets[FRACTION] >= 0;
+    }
+
+    /**
+     * Compila un patrón de formato de ancho fijo.
+     *
+     * @param pattern el patrón de formato, debe ser un patrón válido de
+     * {@link java.time.format.DateTimeFormatter}.
+     * @return el patrón compilado o {@code null} si el patrón no es de ancho
+     * fijo.
+     */
+    static FixedWidthPattern compile(String pattern) {
+        StringBuilder template = new StringBuilder(pattern.length());
+        int[] offsets = new int[FIELD_COUNT];
+        int[] widths = new int[FIELD_COUNT];
+        Arrays.fill(offsets, -1);
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int start = i;
+                while (i < length && pattern.charAt(i) == c) {
+                    i++;
+                }
+                int count = i - start;
+                int field = field(c, count);
+                if (field < 0 || offsets[field] >= 0) {
+                    return null;
+                }
+                offsets[field] = template.length();
+                widths[field] = count;
+                for (int j = 0; j < count; j++) {
+                    template.append('0');
+                }
+            }
+            else if (c == '\'') {
+                i++;
+                if (i < length && pattern.charAt(i) == '\'') {
+                    template.append('\'');
+                    i++;
+                    continue;
+                }
+                while (i < length) {
+                    char quoted = pattern.charAt(i++);
+                    if (quoted == '\'') {
+                        if (i < length && pattern.charAt(i) == '\'') {
+                            template.append('\'');
+                            i++;
+                        }
+                        else {
+                            break;
+                        }
+                    }
+                    else {
+                        template.append(quoted);
+                    }
+                }
+            }
+            else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            }
+            else {
+                template.append(c);
+                i++;
+            }
+        }
+        boolean[] digits = new boolean[template.length()];
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (offsets[field] >= 0) {
+                Arrays.fill(digits, offsets[field], offsets[field] + widths[field], true);
+            }
+        }
+        for (int position = 0; position < digits.length; position++) {
+            char c = template.charAt(position);
+            if (!digits[position] && c >= '0' && c <= '9') {
+                return null;
+            }
+        }
+        if (offsets[YEAR] < 0 && offsets[MONTH] < 0 && offsets[DAY] < 0 && offsets[HOUR] < 0
+                && offsets[MINUTE] < 0 && offsets[SECOND] < 0 && offsets[FRACTION] < 0) {
+            return null;
+        }
+        return new FixedWidthPattern(pattern, template.toString().toCharArray(), digits, offsets, widths);
+    }
+
+    /**
+     * Devuelve el campo correspondiente a una letra del patrón.
+     *
+     * @param letter la letra del patrón.
+     * @param count la cantidad de veces que se repite la letra.
+     * @return el campo o -1 si la letra no corresponde a un campo de ancho
+     * fijo.
+     */
+    private static int field(char letter, int count) {
+        switch (letter) {
+            case 'y':
+            case 'u':
+                return count == 4 ? YEAR : -1;
+            case 'M':
+                return count == 2 ? MONTH : -1;
+            case 'd':
+                return count == 2 ? DAY : -1;
+            case 'H':
+                return count == 2 ? HOUR : -1;
+            case 'm':
+                return count == 2 ? MINUTE : -1;
+            case 's':
+                return count == 2 ? SECOND : -1;
+            case 'S':
+                return count <= 9 ? FRACTION : -1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Devuelve el patrón de formato original.
+     *
+     * @return el patrón de formato original.
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Devuelve la cantidad de caracteres de las cadenas del patrón.
+     *
+     * @return la cantidad de caracteres.
+     */
+    int length() {
+        return template.length;
+    }
+
+    /**
+     * Devuelve la posición de un campo en las cadenas del patrón.
+     *
+     * @param field el campo.
+     * @return la posición del campo o -1 si el campo no está presente.
+     */
+    int offset(int field) {
+        return offsets[field];
+    }
+
+    /**
+     * Devuelve la cantidad de dígitos de un campo.
+     *
+     * @param field el campo.
+     * @return la cantidad de dígitos del campo.
+     */
+    int width(int field) {
+        return widths[field];
+    }
+
+    /**
+     * Busca la primera posición de la cadena que no se corresponde con el
+     * patrón.
+     *
+     * @param text la cadena a comprobar.
+     * @return la primera posición incorrecta o -1 si la cadena tiene la
+     * longitud, los literales y los dígitos esperados.
+     */
+    int mismatch(CharSequence text) {
+        int length = template.length;
+        int textLength = text.length();
+        int limit = Math.min(length, textLength);
+        for (int i = 0; i < limit; i++) {
+            char c = text.charAt(i);
+            if (digits[i] ? (c < '0' || c > '9') : c != template[i]) {
+                return i;
+            }
+        }
+        return textLength == length ? -1 : limit;
+    }
+
+    /**
+     * Lee el valor de un campo de una cadena previamente comprobada.
+     *
+     * @param text la cadena.
+     * @param field el campo.
+     * @param absent el valor a devolver si el campo no está presente.
+     * @return el valor del campo.
+     */
+    private int read(CharSequence text, int field, int absent) {
+        int offset = offsets[field];
+        if (offset < 0) {
+            return absent;
+        }
+        int value = 0;
+        for (int i = offset, end = offset + widths[field]; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Lee las fracciones de segundo en nanosegundos.
+     *
+     * @param value el valor leído del campo de fracciones.
+     * @return el valor en nanosegundos.
+     */
+    private int nanos(int value) {
+        return offsets[FRACTION] < 0 ? 0 : value * POWERS_OF_TEN[9 - widths[FRACTION]];
+    }
+
+    /**
+     * Comprueba que los campos de fecha están en rango y que el día existe en
+     * el mes.
+     *
+     * @param year el año.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @return {@code true} si la fecha es válida.
+     */
+    static boolean isValidDate(int year, int month, int day) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Comprueba que los campos de hora están en rango.
+     *
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @return {@code true} si la hora es válida.
+     */
+    static boolean isValidTime(int hour, int minute, int second) {
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    /**
+     * Devuelve la cantidad de días de un mes.
+     *
+     * @param year el año.
+     * @param month el mes.
+     * @return la cantidad de días del mes.
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Convierte una cadena en un objeto de tipo LocalDate.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse por esta vía.
+     */
+    LocalDate parseLocalDate(CharSequence text) {
+        if (!complete_date || mismatch(text) >= 0) {
+            return null;
+        }
+        int year = read(text, YEAR, 0);
+        int month = read(text, MONTH, 0);
+        int day = read(text, DAY, 0);
+        if (!isValidDate(year, month, day)
+                || !isValidTime(read(text, HOUR, 0), read(text, MINUTE, 0), read(text, SECOND, 0))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Convierte una cadena en un objeto de tipo LocalTime.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse por esta vía.
+     */
+    LocalTime parseLocalTime(CharSequence text) {
+        if (!complete_time || mismatch(text) >= 0) {
+            return null;
+        }
+        int hour = read(text, HOUR, 0);
+        int minute = read(text, MINUTE, 0);
+        int second = read(text, SECOND, 0);
+        if (!isValidTime(hour, minute, second)
+                || (any_date && !isValidDate(read(text, YEAR, 1), read(text, MONTH, 1), read(text, DAY, 1)))) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nanos(read(text, FRACTION, 0)));
+    }
+
+    /**
+     * Convierte una cadena en un objeto de tipo LocalDateTime.
+     *
+     * @param text la cadena a convertir.
+     * @return el objeto convertido o {@code null} si la cadena no puede
+     * convertirse por esta vía.
+     */
+    LocalDateTime parseLocalDateTime(CharSequence text) {
+        if (!complete_date || !complete_time || mismatch(text) >= 0) {
+            return null;
+        }
+        int year = read(text, YEAR, 0);
+        int month = read(text, MONTH, 0);
+        int day = read(text, DAY, 0);
+        int hour = read(text, HOUR, 0);
+        int minute = read(text, MINUTE, 0);
+        int second = read(text, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nanos(read(text, FRACTION, 0)));
+    }
+
+    /**
+     * Convierte una cadena en la cantidad de días desde 1970-01-01.
+     *
+     * @param text la cadena a convertir.
+     * @return la cantidad de días o {@link #UNRESOLVED} si la cadena no puede
+     * convertirse por esta vía.
+     */
+    long parseEpochDay(CharSequence text) {
+        if (!complete_date || mismatch(text) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(text, YEAR, 0);
+        int month = read(text, MONTH, 0);
+        int day = read(text, DAY, 0);
+        if (!isValidDate(year, month, day)
+                || !isValidTime(read(text, HOUR, 0), read(text, MINUTE, 0), read(text, SECOND, 0))) {
+            return UNRESOLVED;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Convierte una cadena en la cantidad de milisegundos locales desde
+     * 1970-01-01T00:00:00, sin zona horaria. Las fracciones de segundo menores
+     * que un milisegundo se descartan.
+     *
+     * @param text la cadena a convertir.
+     * @return los milisegundos locales o {@link #UNRESOLVED} si la cadena no
+     * puede convertirse por esta vía.
+     */
+    long parseLocalEpochMilli(CharSequence text) {
+        if (!complete_date || !complete_time || mismatch(text) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(text, YEAR, 0);
+        int month = read(text, MONTH, 0);
+        int day = read(text, DAY, 0);
+        int hour = read(text, HOUR, 0);
+        int minute = read(text, MINUTE, 0);
+        int second = read(text, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return UNRESOLVED;
+        }
+        long localSecond = toEpochDay(year, month, day) * 86_400L + hour * 3600 + minute * 60 + second;
+        return localSecond * 1000 + nanos(read(text, FRACTION, 0)) / 1_000_000;
+    }
+
+    /**
+     * Comprueba que los campos presentes en una cadena previamente comprobada
+     * están en rango y, si el patrón contiene todos los campos de una fecha,
+     * que el día existe en el mes.
+     *
+     * @param text la cadena.
+     * @return {@code true} si los campos son válidos.
+     */
+    boolean hasValidFields(CharSequence text) {
+        int month = read(text, MONTH, 1);
+        int day = read(text, DAY, 1);
+        boolean date = complete_date ? isValidDate(read(text, YEAR, 0), month, day)
+                : read(text, YEAR, 1) >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+        return date && isValidTime(read(text, HOUR, 0), read(text, MINUTE, 0), read(text, SECOND, 0));
+    }
+
+    /**
+     * Comprueba que los campos de una cadena previamente comprobada están
+     * dentro de su rango absoluto: el mes de 1 a 12, el día de 1 a 31, la hora
+     * de 0 a 23 y los minutos y segundos de 0 a 59. La única excepción es la
+     * hora 24:00, que el objeto {@link java.time.format.DateTimeFormatter}
+     * del patrón acepta como el inicio del día siguiente. Los campos fuera de
+     * este rango no pueden convertirse por ninguna vía; los que están en rango
+     * pero no forman una fecha válida, como el 31 de abril, deben resolverse
+     * con el objeto de formato según su estilo de resolución.
+     *
+     * @param text la cadena.
+     * @return {@code true} si los campos están dentro de su rango absoluto.
+     */
+    boolean isInRange(CharSequence text) {
+        int month = read(text, MONTH, 1);
+        int day = read(text, DAY, 1);
+        int hour = read(text, HOUR, 0);
+        int minute = read(text, MINUTE, 0);
+        int second = read(text, SECOND, 0);
+        if (month < 1 || month > 12 || day < 1 || day > 31 || minute > 59 || second > 59) {
+            return false;
+        }
+        return hour <= 23 || (hour == 24 && minute == 0 && second == 0 && read(text, FRACTION, 0) == 0);
+    }
+
+    /**
+     * Indica si una cadena que no se corresponde con el patrón tampoco puede
+     * ser convertida por el objeto {@link java.time.format.DateTimeFormatter}
+     * del patrón. Todos los campos de ancho fijo se leen igual en ambas vías
+     * salvo el año, que el objeto de formato puede leer con más de cuatro
+     * dígitos; por tanto la cadena se descarta si no es más larga que el
+     * patrón o si la diferencia aparece antes del año.
+     *
+     * @param length la longitud de la cadena.
+     * @param mismatch la primera posición incorrecta de la cadena.
+     * @return {@code true} si la cadena no puede convertirse por ninguna vía.
+     */
+    boolean isRejected(int length, int mismatch) {
+        return length <= template.length || offsets[YEAR] < 0 || mismatch < offsets[YEAR];
+    }
+
+    /**
+     * Busca la primera posición de una secuencia de bytes codificados en ASCII
+     * o UTF-8 que no se corresponde con el patrón.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la primera posición incorrecta, relativa a <code>start</code>, o
+     * -1 si los bytes tienen la longitud, los literales y los dígitos
+     * esperados.
+     */
+    int mismatch(ByteBuffer buffer, int start, int length) {
+        int limit = Math.min(template.length, length);
+        for (int i = 0; i < limit; i++) {
+            int b = buffer.get(start + i);
+            if (digits[i] ? (b < '0' || b > '9') : b != template[i]) {
+                return i;
+            }
+        }
+        return length == template.length ? -1 : limit;
+    }
+
+    /**
+     * Lee el valor de un campo de una secuencia de bytes previamente
+     * comprobada.
+     *
+     * @param buffer el objeto que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param field el campo.
+     * @param absent el valor a devolver si el campo no está presente.
+     * @return el valor del campo.
+     */
+    private int read(ByteBuffer buffer, int start, int field, int absent) {
+        int offset = offsets[field];
+        if (offset < 0) {
+            return absent;
+        }
+        int value = 0;
+        for (int i = start + offset, end = i + widths[field]; i < end; i++) {
+            value = value * 10 + (buffer.get(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Convierte una secuencia de bytes en la cantidad de días desde
+     * 1970-01-01.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la cantidad de días o {@link #UNRESOLVED} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    long parseEpochDay(ByteBuffer buffer, int start, int length) {
+        if (!complete_date || mismatch(buffer, start, length) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(buffer, start, YEAR, 0);
+        int month = read(buffer, start, MONTH, 0);
+        int day = read(buffer, start, DAY, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(read(buffer, start, HOUR, 0),
+                read(buffer, start, MINUTE, 0), read(buffer, start, SECOND, 0))) {
+            return UNRESOLVED;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Convierte una secuencia de bytes en la cantidad de milisegundos locales
+     * desde 1970-01-01T00:00:00, sin zona horaria. Las fracciones de segundo
+     * menores que un milisegundo se descartan.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return los milisegundos locales o {@link #UNRESOLVED} si los bytes no
+     * pueden convertirse por esta vía.
+     */
+    long parseLocalEpochMilli(ByteBuffer buffer, int start, int length) {
+        if (!complete_date || !complete_time || mismatch(buffer, start, length) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(buffer, start, YEAR, 0);
+        int month = read(buffer, start, MONTH, 0);
+        int day = read(buffer, start, DAY, 0);
+        int hour = read(buffer, start, HOUR, 0);
+        int minute = read(buffer, start, MINUTE, 0);
+        int second = read(buffer, start, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return UNRESOLVED;
+        }
+        long localSecond = toEpochDay(year, month, day) * 86_400L + hour * 3600 + minute * 60 + second;
+        return localSecond * 1000 + nanos(read(buffer, start, FRACTION, 0)) / 1_000_000;
+    }
+
+    /**
+     * Convierte una secuencia de bytes en un objeto de tipo LocalTime.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido o {@code null} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    LocalTime parseLocalTime(ByteBuffer buffer, int start, int length) {
+        if (!complete_time || mismatch(buffer, start, length) >= 0) {
+            return null;
+        }
+        int hour = read(buffer, start, HOUR, 0);
+        int minute = read(buffer, start, MINUTE, 0);
+        int second = read(buffer, start, SECOND, 0);
+        if (!isValidTime(hour, minute, second) || (any_date && !isValidDate(read(buffer, start, YEAR, 1),
+                read(buffer, start, MONTH, 1), read(buffer, start, DAY, 1)))) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nanos(read(buffer, start, FRACTION, 0)));
+    }
+
+    /**
+     * Convierte una secuencia de bytes en un objeto de tipo LocalDateTime.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido o {@code null} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    LocalDateTime parseLocalDateTime(ByteBuffer buffer, int start, int length) {
+        if (!complete_date || !complete_time || mismatch(buffer, start, length) >= 0) {
+            return null;
+        }
+        int year = read(buffer, start, YEAR, 0);
+        int month = read(buffer, start, MONTH, 0);
+        int day = read(buffer, start, DAY, 0);
+        int hour = read(buffer, start, HOUR, 0);
+        int minute = read(buffer, start, MINUTE, 0);
+        int second = read(buffer, start, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nanos(read(buffer, start, FRACTION, 0)));
+    }
+
+    /**
+     * Busca la primera posición de una secuencia de bytes codificados en ASCII
+     * o UTF-8 de un arreglo que no se corresponde con el patrón.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la primera posición incorrecta, relativa a <code>start</code>, o
+     * -1 si los bytes tienen la longitud, los literales y los dígitos
+     * esperados.
+     */
+    int mismatch(byte[] bytes, int start, int length) {
+        int limit = Math.min(template.length, length);
+        for (int i = 0; i < limit; i++) {
+            int b = bytes[start + i];
+            if (digits[i] ? (b < '0' || b > '9') : b != template[i]) {
+                return i;
+            }
+        }
+        return length == template.length ? -1 : limit;
+    }
+
+    /**
+     * Lee el valor de un campo de una secuencia de bytes de un arreglo
+     * previamente comprobada.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param field el campo.
+     * @param absent el valor a devolver si el campo no está presente.
+     * @return el valor del campo.
+     */
+    private int read(byte[] bytes, int start, int field, int absent) {
+        int offset = offsets[field];
+        if (offset < 0) {
+            return absent;
+        }
+        int value = 0;
+        for (int i = start + offset, end = i + widths[field]; i < end; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Convierte una secuencia de bytes de un arreglo en la cantidad de días
+     * desde 1970-01-01.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return la cantidad de días o {@link #UNRESOLVED} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    long parseEpochDay(byte[] bytes, int start, int length) {
+        if (!complete_date || mismatch(bytes, start, length) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(bytes, start, YEAR, 0);
+        int month = read(bytes, start, MONTH, 0);
+        int day = read(bytes, start, DAY, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(read(bytes, start, HOUR, 0),
+                read(bytes, start, MINUTE, 0), read(bytes, start, SECOND, 0))) {
+            return UNRESOLVED;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Convierte una secuencia de bytes de un arreglo en la cantidad de
+     * milisegundos locales desde 1970-01-01T00:00:00, sin zona horaria. Las
+     * fracciones de segundo menores que un milisegundo se descartan.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return los milisegundos locales o {@link #UNRESOLVED} si los bytes no
+     * pueden convertirse por esta vía.
+     */
+    long parseLocalEpochMilli(byte[] bytes, int start, int length) {
+        if (!complete_date || !complete_time || mismatch(bytes, start, length) >= 0) {
+            return UNRESOLVED;
+        }
+        int year = read(bytes, start, YEAR, 0);
+        int month = read(bytes, start, MONTH, 0);
+        int day = read(bytes, start, DAY, 0);
+        int hour = read(bytes, start, HOUR, 0);
+        int minute = read(bytes, start, MINUTE, 0);
+        int second = read(bytes, start, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return UNRESOLVED;
+        }
+        long localSecond = toEpochDay(year, month, day) * 86_400L + hour * 3600 + minute * 60 + second;
+        return localSecond * 1000 + nanos(read(bytes, start, FRACTION, 0)) / 1_000_000;
+    }
+
+    /**
+     * Convierte una secuencia de bytes de un arreglo en un objeto de tipo
+     * LocalTime.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido o {@code null} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    LocalTime parseLocalTime(byte[] bytes, int start, int length) {
+        if (!complete_time || mismatch(bytes, start, length) >= 0) {
+            return null;
+        }
+        int hour = read(bytes, start, HOUR, 0);
+        int minute = read(bytes, start, MINUTE, 0);
+        int second = read(bytes, start, SECOND, 0);
+        if (!isValidTime(hour, minute, second) || (any_date && !isValidDate(read(bytes, start, YEAR, 1),
+                read(bytes, start, MONTH, 1), read(bytes, start, DAY, 1)))) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second, nanos(read(bytes, start, FRACTION, 0)));
+    }
+
+    /**
+     * Convierte una secuencia de bytes de un arreglo en un objeto de tipo
+     * LocalDateTime.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param start la posición del primer byte.
+     * @param length la cantidad de bytes.
+     * @return el objeto convertido o {@code null} si los bytes no pueden
+     * convertirse por esta vía.
+     */
+    LocalDateTime parseLocalDateTime(byte[] bytes, int start, int length) {
+        if (!complete_date || !complete_time || mismatch(bytes, start, length) >= 0) {
+            return null;
+        }
+        int year = read(bytes, start, YEAR, 0);
+        int month = read(bytes, start, MONTH, 0);
+        int day = read(bytes, start, DAY, 0);
+        int hour = read(bytes, start, HOUR, 0);
+        int minute = read(bytes, start, MINUTE, 0);
+        int second = read(bytes, start, SECOND, 0);
+        if (!isValidDate(year, month, day) || !isValidTime(hour, minute, second)) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second,
+                nanos(read(bytes, start, FRACTION, 0)));
+    }
+
+    /**
+     * Calcula la cantidad de días desde 1970-01-01 de una fecha válida, con el
+     * mismo resultado que {@link java.time.LocalDate#toEpochDay()}.
+     *
+     * @param year el año.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @return la cantidad de días desde 1970-01-01.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        }
+        else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!((year & 3) == 0 && (year % 100 != 0 || year % 400 == 0))) {
+                total--;
+            }
+        }
+        return total - 719_528L;
+    }
+
+    /**
+     * Convierte un objeto de fecha y hora en una cadena.
+     *
+     * @param temporal el objeto a convertir, de tipo LocalDate, LocalTime o
+     * LocalDateTime.
+     * @return la cadena convertida o {@code null} si el objeto no puede
+     * convertirse por esta vía.
+     */
+    String format(TemporalAccessor temporal) {
+        if (!canFormat(temporal)) {
+            return null;
+        }
+        char[] buffer = new char[template.length];
+        formatTo(temporal, buffer, 0);
+        return new String(buffer);
+    }
+
+    /**
+     * Indica si un objeto de fecha y hora puede convertirse por esta vía.
+     *
+     * @param temporal el objeto a convertir.
+     * @return {@code true} si el objeto es de tipo LocalDate, LocalTime o
+     * LocalDateTime, contiene todos los campos del patrón y su año está entre 1
+     * y 9999.
+     */
+    boolean canFormat(TemporalAccessor temporal) {
+        if (temporal instanceof LocalDateTime) {
+            return isFormattableYear(((LocalDateTime) temporal).getYear());
+        }
+        if (temporal instanceof LocalDate) {
+            return !any_time && isFormattableYear(((LocalDate) temporal).getYear());
+        }
+        return temporal instanceof LocalTime && !any_date;
+    }
+
+    /**
+     * Escribe un objeto de fecha y hora en un arreglo de caracteres. El objeto
+     * debe cumplir las condiciones del método
+     * {@link #canFormat(java.time.temporal.TemporalAccessor)}.
+     *
+     * @param temporal el objeto a escribir.
+     * @param buffer el arreglo de destino.
+     * @param start la posición inicial en el arreglo.
+     * @return la cantidad de caracteres escritos.
+     * @throws IndexOutOfBoundsException si el arreglo no tiene espacio
+     * suficiente.
+     */
+    int formatTo(TemporalAccessor temporal, char[] buffer, int start) throws IndexOutOfBoundsException {
+        if (start < 0 || start > buffer.length - template.length) {
+            throw new IndexOutOfBoundsException("Espacio insuficiente para " + template.length
+                    + " caracteres a partir de la posición " + start);
+        }
+        System.arraycopy(template, 0, buffer, start, template.length);
+        if (temporal instanceof LocalDateTime) {
+            LocalDateTime value = (LocalDateTime) temporal;
+            write(buffer, start, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                    value.getMinute(), value.getSecond(), value.getNano());
+        }
+        else if (temporal instanceof LocalDate) {
+            LocalDate value = (LocalDate) temporal;
+            write(buffer, start, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), 0, 0, 0, 0);
+        }
+        else {
+            LocalTime value = (LocalTime) temporal;
+            write(buffer, start, 1, 1, 1, value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+        }
+        return template.length;
+    }
+
+    /**
+     * Escribe los campos de una fecha y hora en un arreglo de caracteres, sin
+     * crear objetos de fecha y hora.
+     *
+     * @param buffer el arreglo de destino, debe tener espacio para
+     * {@link #length()} caracteres a partir de la posición inicial.
+     * @param start la posición inicial en el arreglo.
+     * @param year el año, entre 1 y 9999.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @param nano los nanosegundos.
+     * @return la cantidad de caracteres escritos.
+     */
+    int formatTo(char[] buffer, int start, int year, int month, int day, int hour, int minute, int second,
+            int nano) {
+        System.arraycopy(template, 0, buffer, start, template.length);
+        write(buffer, start, year, month, day, hour, minute, second, nano);
+        return template.length;
+    }
+
+    /**
+     * Indica si todos los literales del patrón son caracteres ASCII, es decir,
+     * si cada carácter de las cadenas del patrón ocupa un byte en ASCII y en
+     * UTF-8.
+     *
+     * @return {@code true} si los literales son caracteres ASCII.
+     */
+    boolean isAscii() {
+        for (char c : template) {
+            if (c > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si el patrón contiene los campos de una fecha y ningún campo de
+     * hora.
+     *
+     * @return {@code true} si el patrón es solo de fecha.
+     */
+    boolean isDateOnly() {
+        return complete_date && !any_time;
+    }
+
+    /**
+     * Indica si una posición de las cadenas del patrón contiene un dígito.
+     *
+     * @param position la posición.
+     * @return {@code true} si la posición contiene un dígito.
+     */
+    boolean isDigit(int position) {
+        return digits[position];
+    }
+
+    /**
+     * Devuelve el literal de una posición de las cadenas del patrón.
+     *
+     * @param position la posición.
+     * @return el literal o '0' si la posición contiene un dígito.
+     */
+    char literal(int position) {
+        return template[position];
+    }
+
+    /**
+     * Añade un objeto de fecha y hora a un destino de caracteres. El objeto
+     * debe cumplir las condiciones del método
+     * {@link #canFormat(java.time.temporal.TemporalAccessor)}.
+     *
+     * @param temporal el objeto a escribir.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    int appendTo(TemporalAccessor temporal, Appendable out) throws IOException {
+        if (temporal instanceof LocalDateTime) {
+            LocalDateTime value = (LocalDateTime) temporal;
+            return append(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                    value.getMinute(), value.getSecond(), value.getNano());
+        }
+        if (temporal instanceof LocalDate) {
+            LocalDate value = (LocalDate) temporal;
+            return append(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), 0, 0, 0, 0);
+        }
+        LocalTime value = (LocalTime) temporal;
+        return append(out, 1, 1, 1, value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+    }
+
+    /**
+     * Añade un objeto de fecha y hora a un objeto de tipo StringBuilder. El
+     * objeto debe cumplir las condiciones del método
+     * {@link #canFormat(java.time.temporal.TemporalAccessor)}.
+     *
+     * @param temporal el objeto a escribir.
+     * @param out el destino de los caracteres.
+     * @return la cantidad de caracteres escritos.
+     */
+    int appendTo(TemporalAccessor temporal, StringBuilder out) {
+        if (temporal instanceof LocalDateTime) {
+            LocalDateTime value = (LocalDateTime) temporal;
+            return append(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), value.getHour(),
+                    value.getMinute(), value.getSecond(), value.getNano());
+        }
+        if (temporal instanceof LocalDate) {
+            LocalDate value = (LocalDate) temporal;
+            return append(out, value.getYear(), value.getMonthValue(), value.getDayOfMonth(), 0, 0, 0, 0);
+        }
+        LocalTime value = (LocalTime) temporal;
+        return append(out, 1, 1, 1, value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+    }
+
+    /**
+     * Añade los campos a un destino de caracteres, carácter a carácter.
+     *
+     * @param out el destino de los caracteres.
+     * @param year el año, entre 1 y 9999.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @param nano los nanosegundos.
+     * @return la cantidad de caracteres escritos.
+     * @throws IOException si ocurre un error al escribir en el destino.
+     */
+    int append(Appendable out, int year, int month, int day, int hour, int minute, int second, int nano)
+            throws IOException {
+        for (int i = 0; i < template.length; i++) {
+            out.append(charAt(i, year, month, day, hour, minute, second, nano));
+        }
+        return template.length;
+    }
+
+    /**
+     * Añade los campos a un objeto de tipo StringBuilder.
+     *
+     * @param out el destino de los caracteres.
+     * @param year el año, entre 1 y 9999.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @param nano los nanosegundos.
+     * @return la cantidad de caracteres escritos.
+     */
+    int append(StringBuilder out, int year, int month, int day, int hour, int minute, int second, int nano) {
+        out.ensureCapacity(out.length() + template.length);
+        for (int i = 0; i < template.length; i++) {
+            out.append(charAt(i, year, month, day, hour, minute, second, nano));
+        }
+        return template.length;
+    }
+
+    /**
+     * Devuelve el carácter de una posición de la cadena resultante.
+     *
+     * @param position la posición.
+     * @param year el año, entre 1 y 9999.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @param nano los nanosegundos.
+     * @return el carácter de la posición.
+     */
+    private char charAt(int position, int year, int month, int day, int hour, int minute, int second, int nano) {
+        int value;
+        switch (fields[position]) {
+            case YEAR:
+                value = year;
+                break;
+            case MONTH:
+                value = month;
+                break;
+            case DAY:
+                value = day;
+                break;
+            case HOUR:
+                value = hour;
+                break;
+            case MINUTE:
+                value = minute;
+                break;
+            case SECOND:
+                value = second;
+                break;
+            case FRACTION:
+                value = nano / POWERS_OF_TEN[9 - widths[FRACTION]];
+                break;
+            default:
+                return template[position];
+        }
+        return (char) ('0' + value / POWERS_OF_TEN[divisors[position]] % 10);
+    }
+
+    /**
+     * Indica si un año puede escribirse con cuatro dígitos.
+     *
+     * @param year el año.
+     * @return {@code true} si el año está entre 1 y 9999.
+     */
+    static boolean isFormattableYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * Escribe los campos en un arreglo que ya contiene los literales del
+     * patrón.
+     *
+     * @param buffer el arreglo de destino.
+     * @param start la posición inicial en el arreglo.
+     * @param year el año, entre 1 y 9999.
+     * @param month el mes.
+     * @param day el día del mes.
+     * @param hour la hora.
+     * @param minute los minutos.
+     * @param second los segundos.
+     * @param nano los nanosegundos.
+     */
+    void write(char[] buffer, int start, int year, int month, int day, int hour, int minute, int second,
+            int nano) {
+        if (offsets[YEAR] >= 0) {
+            int position = start + offsets[YEAR];
+            int high = year / 100;
+            int low = year - high * 100;
+            buffer[position] = DIGIT_TENS[high];
+            buffer[position + 1] = DIGIT_ONES[high];
+            buffer[position + 2] = DIGIT_TENS[low];
+            buffer[position + 3] = DIGIT_ONES[low];
+        }
+        writeTwoDigits(buffer, start, MONTH, month);
+        writeTwoDigits(buffer, start, DAY, day);
+        writeTwoDigits(buffer, start, HOUR, hour);
+        writeTwoDigits(buffer, start, MINUTE, minute);
+        writeTwoDigits(buffer, start, SECOND, second);
+        if (offsets[FRACTION] >= 0) {
+            int width = widths[FRACTION];
+            int value = nano / POWERS_OF_TEN[9 - width];
+            for (int i = start + offsets[FRACTION] + width - 1; i >= start + offsets[FRACTION]; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+
+    /**
+     * Escribe un campo de dos dígitos si está presente.
+     *
+     * @param buffer el arreglo de destino.
+     * @param start la posición inicial en el arreglo.
+     * @param field el campo.
+     * @param value el valor del campo, entre 0 y 99.
+     */
+    private void writeTwoDigits(char[] buffer, int start, int field, int value) {
+        int offset = offsets[field];
+        if (offset >= 0) {
+            buffer[start + offset] = DIGIT_TENS[value];
+            buffer[start + offset + 1] = DIGIT_ONES[value];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
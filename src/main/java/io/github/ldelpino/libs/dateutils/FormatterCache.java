@@ -0,0 +1,310 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Almacena los patrones de formato de fechas y horas compilados.
+ * <p>
+ * La compilación de un patrón de formato mediante el método
+ * {@link java.time.format.DateTimeFormatter#ofPattern(java.lang.String)} es
+ * más costosa que la conversión en sí, por lo que las clases
+ * {@link io.github.ldelpino.libs.dateutils.DateFormatters} y
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} obtienen los patrones
+ * compilados de esta clase. Los patrones se identifican por el patrón de
+ * formato, la configuración regional y la zona horaria. La cantidad de
+ * patrones almacenados está limitada, cuando se supera el límite se eliminan
+ * patrones que no han sido utilizados recientemente según el algoritmo del
+ * reloj (CLOCK): cada patrón tiene una marca que se activa al utilizarlo y el
+ * recorrido de eliminación da una segunda oportunidad a los patrones marcados,
+ * desactivando su marca. De esta forma un acierto solo lee memoria compartida
+ * salvo la primera vez tras cada recorrido. La clase es segura para su uso
+ * desde varios hilos y lleva la cuenta de los aciertos, fallos y
+ * eliminaciones.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.CompiledPattern
+ */
+public final class FormatterCache {
+
+    /**
+     * La cantidad máxima de patrones compilados almacenados por defecto.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    /**
+     * Los patrones compilados almacenados.
+     */
+    private static final ConcurrentHashMap<Key, Node> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * La cantidad de aciertos.
+     */
+    private static final LongAdder HITS = new LongAdder();
+
+    /**
+     * La cantidad de fallos.
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /**
+     * La cantidad de patrones eliminados por superar el límite.
+     */
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    /**
+     * La cantidad máxima de patrones compilados almacenados.
+     */
+    private static volatile int maximum_size = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * La posición del recorrido de eliminación, solo se utiliza dentro del
+     * método sincronizado {@link #evict()}.
+     */
+    private static Iterator<Map.Entry<Key, Node>> hand;
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private FormatterCache() {
+
+    }
+
+    /**
+     * Devuelve el patrón compilado con la configuración regional del contexto
+     * por defecto y sin zona horaria.
+     *
+     * @param pattern el patrón de formato.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     * @see io.github.ldelpino.libs.dateutils.DateUtilsContext#getDefault()
+     */
+    public static CompiledPattern get(String pattern) throws IllegalArgumentException {
+        return get(pattern, DateUtilsContext.getDefault().getLocale(), null);
+    }
+
+    /**
+     * Devuelve el patrón compilado con la configuración regional del contexto
+     * por defecto y la zona horaria especificada.
+     *
+     * @param pattern el patrón de formato.
+     * @param zone la zona horaria o {@code null} para no utilizar zona horaria.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     * @see io.github.ldelpino.libs.dateutils.DateUtilsContext#getDefault()
+     */
+    public static CompiledPattern get(String pattern, ZoneId zone) throws IllegalArgumentException {
+        return get(pattern, DateUtilsContext.getDefault().getLocale(), zone);
+    }
+
+    /**
+     * Devuelve el patrón compilado con la configuración regional y la zona
+     * horaria especificadas. Si el patrón no ha sido compilado anteriormente se
+     * compila y se almacena.
+     *
+     * @param pattern el patrón de formato.
+     * @param locale la configuración regional.
+     * @param zone la zona horaria o {@code null} para no utilizar zona horaria.
+     * @return el patrón compilado.
+     * @throws IllegalArgumentException si el patrón de formato no es válido.
+     */
+    public static CompiledPattern get(String pattern, Locale locale, ZoneId zone) throws IllegalArgumentException {
+        Key key = new Key(pattern, locale, zone);
+        Node node = CACHE.get(key);
+        if (node != null) {
+            HITS.increment();
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+        MISSES.increment();
+        Node created = new Node(new CompiledPattern(pattern, locale, zone));
+        node = CACHE.putIfAbsent(key, created);
+        if (node != null) {
+            return node.value;
+        }
+        if (CACHE.size() > maximum_size) {
+            evict();
+        }
+        return created.value;
+    }
+
+    /**
+     * Elimina patrones no utilizados recientemente hasta que la cantidad de
+     * patrones almacenados no supere el límite. El recorrido continúa desde
+     * la posición en la que terminó el anterior y desactiva la marca de los
+     * patrones utilizados que encuentra, por lo que termina como máximo tras
+     * dos vueltas.
+     */
+    private static synchronized void evict() {
+        while (CACHE.size() > maximum_size) {
+            if (hand == null || !hand.hasNext()) {
+                hand = CACHE.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<Key, Node> entry = hand.next();
+            Node node = entry.getValue();
+            if (node.referenced) {
+                node.referenced = false;
+            }
+            else if (CACHE.remove(entry.getKey(), node)) {
+                EVICTIONS.increment();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de patrones compilados almacenados.
+     *
+     * @return la cantidad de patrones compilados almacenados.
+     */
+    public static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Elimina todos los patrones compilados almacenados. Los contadores no se
+     * modifican.
+     */
+    public static synchronized void clear() {
+        CACHE.clear();
+        hand = null;
+    }
+
+    /**
+     * Devuelve la cantidad máxima de patrones compilados almacenados.
+     *
+     * @return la cantidad máxima de patrones compilados almacenados.
+     */
+    public static int getMaximumSize() {
+        return maximum_size;
+    }
+
+    /**
+     * Establece la cantidad máxima de patrones compilados almacenados.
+     *
+     * @param maximumSize la nueva cantidad máxima.
+     * @throws IllegalArgumentException si la cantidad máxima es menor que uno.
+     */
+    public static void setMaximumSize(int maximumSize) throws IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("La cantidad máxima debe ser mayor que cero: " + maximumSize);
+        }
+        maximum_size = maximumSize;
+        evict();
+    }
+
+    /**
+     * Devuelve la cantidad de veces que se encontró un patrón compilado.
+     *
+     * @return la cantidad de aciertos.
+     */
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * Devuelve la cantidad de veces que fue necesario compilar un patrón.
+     *
+     * @return la cantidad de fallos.
+     */
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Devuelve la cantidad de patrones eliminados por superar el límite.
+     *
+     * @return la cantidad de patrones eliminados.
+     */
+    public static long getEvictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * Reinicia los contadores de aciertos, fallos y eliminaciones.
+     */
+    public static void resetStatistics() {
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /**
+     * Identificador de un patrón compilado.
+     */
+    private static final class Key {
+
+        private final String pattern;
+        private final Locale locale;
+        private final ZoneId zone;
+        private final int hash;
+
+        private Key(String pattern, Locale locale, ZoneId zone) {
+            this.pattern = Objects.requireNonNull(pattern, "pattern");
+            this.locale = Objects.requireNonNull(locale, "locale");
+            this.zone = zone;
+            this.hash = (pattern.hashCode() * 31 + locale.hashCode()) * 31 + Objects.hashCode(zone);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && pattern.equals(other.pattern)
+                    && locale.equals(other.locale) && Objects.equals(zone, other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Entrada almacenada con la marca de uso del algoritmo del reloj. La marca
+     * se activa en el primer acierto, por lo que los patrones utilizados una
+     * sola vez son los primeros en eliminarse. La marca no es volátil, las
+     * carreras entre hilos solo afectan la precisión del orden de eliminación.
+     */
+    private static final class Node {
+
+        private final CompiledPattern value;
+        private boolean referenced;
+
+        private Node(CompiledPattern value) {
+            this.value = value;
+        }
+    }
+}
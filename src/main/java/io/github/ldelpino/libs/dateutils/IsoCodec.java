@@ -0,0 +1,1082 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * La clase contiene métodos para convertir instantes y fechas y horas en
+ * cadenas de caracteres con el formato ISO-8601 / RFC 3339 y viceversa, y para
+ * convertir instantes en cadenas con la cantidad de segundos o milisegundos
+ * desde 1970-01-01T00:00:00Z.
+ * <p>
+ * Los métodos de esta clase no utilizan objetos de tipo
+ * {@link java.time.format.DateTimeFormatter}: leen y escriben los caracteres
+ * directamente, calculando los campos con aritmética entera, por lo que son
+ * varias veces más rápidos que los formatos <code>ISO_*</code> de esa clase y
+ * no crean objetos intermedios. Los métodos <code>formatTo</code> que reciben
+ * un arreglo de caracteres escriben directamente en él y los que reciben un
+ * objeto de tipo StringBuilder le añaden los caracteres uno a uno, por lo que
+ * ninguno crea objetos salvo cuando el StringBuilder debe ampliar su
+ * capacidad.</p>
+ * <p>
+ * Las fechas y horas se escriben con la forma
+ * <code>yyyy-MM-ddTHH:mm:ss[.fffffffff]</code>, seguida de <code>Z</code> en
+ * los instantes y del desplazamiento, o de <code>Z</code> si es cero, en las
+ * fechas y horas con desplazamiento. Los años fuera del intervalo 0000-9999 se
+ * escriben con signo, igual que en {@link java.time.LocalDate#toString()}. La
+ * cantidad de dígitos de la fracción de segundo se especifica en cada llamada;
+ * con {@link #VARIABLE_PRECISION} se escriben los grupos de tres dígitos
+ * necesarios, igual que en {@link java.time.Instant#toString()}, y con una
+ * cantidad fija se trunca la fracción.</p>
+ * <p>
+ * Al convertir cadenas se admiten los segundos y la fracción opcionales, con
+ * entre uno y nueve dígitos, las letras <code>T</code> y <code>Z</code> en
+ * minúsculas como permite RFC 3339 y los desplazamientos de la forma
+ * <code>+HH:MM</code>, <code>+HH:MM:SS</code>, <code>+HHMM</code> y
+ * <code>+HH</code>. No se admiten los segundos intercalares. Los errores se
+ * notifican con objetos de tipo
+ * {@link java.time.format.DateTimeParseException} que indican la posición del
+ * primer carácter incorrecto.</p>
+ * <p>
+ * La clase está establecida como <strong>final</strong> para no permitir
+ * crear clases que hereden de ella y el constructor está establecido como
+ * <strong>private</strong> para no pemitir nuevas instancias de la clase.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see java.time.format.DateTimeFormatter#ISO_INSTANT
+ * @see java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME
+ * @see java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME
+ */
+public final class IsoCodec {
+
+    /**
+     * La cantidad de dígitos de la fracción de segundo que indica que se
+     * escriben solo los grupos de tres dígitos necesarios.
+     */
+    public static final int VARIABLE_PRECISION = -1;
+
+    /**
+     * La longitud máxima de las cadenas escritas por esta clase.
+     */
+    private static final int MAXIMUM_LENGTH = 48;
+
+    /**
+     * La cantidad de segundos de un día.
+     */
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    /**
+     * El desplazamiento máximo en segundos.
+     */
+    private static final int MAXIMUM_OFFSET = 18 * 3600;
+
+    /**
+     * Las potencias de diez entre 10^0 y 10^9.
+     */
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10_000, 100_000, 1_000_000, 10_000_000,
+        100_000_000, 1_000_000_000};
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private IsoCodec() {
+
+    }
+
+    /**
+     * Convierte un instante en una cadena de caracteres con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.fff]Z</code>, con la misma salida que
+     * {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @param instant el instante a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public static String format(Instant instant) {
+        return format(instant, VARIABLE_PRECISION);
+    }
+
+    /**
+     * Convierte un instante en una cadena de caracteres con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]Z</code> y la cantidad de dígitos de la
+     * fracción especificada.
+     *
+     * @param instant el instante a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static String format(Instant instant, int fractionDigits) throws IllegalArgumentException {
+        char[] buffer = new char[MAXIMUM_LENGTH];
+        return new String(buffer, 0, formatTo(instant, fractionDigits, buffer, 0));
+    }
+
+    /**
+     * Escribe un instante con la forma <code>yyyy-MM-ddTHH:mm:ss[.f]Z</code>
+     * en un arreglo de caracteres.
+     *
+     * @param instant el instante a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo en la que se escribe el primer
+     * carácter.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     * @throws IndexOutOfBoundsException si los caracteres no caben en el
+     * arreglo, en cuyo caso el contenido del arreglo a partir de la posición
+     * especificada queda indeterminado.
+     */
+    public static int formatTo(Instant instant, int fractionDigits, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        checkFractionDigits(fractionDigits, 9);
+        long epochSecond = instant.getEpochSecond();
+        long civil = DateFields.civil(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+        int position = writeDateTime(buffer, offset, civil, Math.floorMod(epochSecond, SECONDS_PER_DAY),
+                instant.getNano(), fractionDigits);
+        buffer[position++] = 'Z';
+        return position - offset;
+    }
+
+    /**
+     * Añade un instante con la forma <code>yyyy-MM-ddTHH:mm:ss[.f]Z</code> a
+     * un objeto de tipo StringBuilder.
+     *
+     * @param instant el instante a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres añadidos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static int formatTo(Instant instant, int fractionDigits, StringBuilder out)
+            throws IllegalArgumentException {
+        checkFractionDigits(fractionDigits, 9);
+        int start = out.length();
+        long epochSecond = instant.getEpochSecond();
+        long civil = DateFields.civil(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+        appendDateTime(out, civil, Math.floorMod(epochSecond, SECONDS_PER_DAY), instant.getNano(),
+                fractionDigits);
+        out.append('Z');
+        return out.length() - start;
+    }
+
+    /**
+     * Convierte una fecha y hora en una cadena de caracteres con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.fff]</code>.
+     *
+     * @param localDateTime la fecha y hora a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public static String format(LocalDateTime localDateTime) {
+        return format(localDateTime, VARIABLE_PRECISION);
+    }
+
+    /**
+     * Convierte una fecha y hora en una cadena de caracteres con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]</code> y la cantidad de dígitos de la
+     * fracción especificada.
+     *
+     * @param localDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static String format(LocalDateTime localDateTime, int fractionDigits)
+            throws IllegalArgumentException {
+        char[] buffer = new char[MAXIMUM_LENGTH];
+        return new String(buffer, 0, formatTo(localDateTime, fractionDigits, buffer, 0));
+    }
+
+    /**
+     * Escribe una fecha y hora con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]</code> en un arreglo de caracteres.
+     *
+     * @param localDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo en la que se escribe el primer
+     * carácter.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     * @throws IndexOutOfBoundsException si los caracteres no caben en el
+     * arreglo, en cuyo caso el contenido del arreglo a partir de la posición
+     * especificada queda indeterminado.
+     */
+    public static int formatTo(LocalDateTime localDateTime, int fractionDigits, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        checkFractionDigits(fractionDigits, 9);
+        return writeDateTime(buffer, offset, localDateTime, fractionDigits) - offset;
+    }
+
+    /**
+     * Añade una fecha y hora con la forma <code>yyyy-MM-ddTHH:mm:ss[.f]</code>
+     * a un objeto de tipo StringBuilder.
+     *
+     * @param localDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres añadidos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static int formatTo(LocalDateTime localDateTime, int fractionDigits, StringBuilder out)
+            throws IllegalArgumentException {
+        checkFractionDigits(fractionDigits, 9);
+        int start = out.length();
+        appendDateTime(out, localDateTime, fractionDigits);
+        return out.length() - start;
+    }
+
+    /**
+     * Convierte una fecha y hora con desplazamiento en una cadena de
+     * caracteres con la forma <code>yyyy-MM-ddTHH:mm:ss[.fff]+HH:MM</code>,
+     * con la misma salida que
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} salvo en
+     * la fracción, que se escribe en grupos de tres dígitos.
+     *
+     * @param offsetDateTime la fecha y hora a convertir.
+     * @return la cadena de caracteres convertida.
+     */
+    public static String format(OffsetDateTime offsetDateTime) {
+        return format(offsetDateTime, VARIABLE_PRECISION);
+    }
+
+    /**
+     * Convierte una fecha y hora con desplazamiento en una cadena de
+     * caracteres con la forma <code>yyyy-MM-ddTHH:mm:ss[.f]+HH:MM</code> y la
+     * cantidad de dígitos de la fracción especificada.
+     *
+     * @param offsetDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static String format(OffsetDateTime offsetDateTime, int fractionDigits)
+            throws IllegalArgumentException {
+        char[] buffer = new char[MAXIMUM_LENGTH];
+        return new String(buffer, 0, formatTo(offsetDateTime, fractionDigits, buffer, 0));
+    }
+
+    /**
+     * Escribe una fecha y hora con desplazamiento con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]+HH:MM</code> en un arreglo de caracteres.
+     *
+     * @param offsetDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param buffer el arreglo de destino.
+     * @param offset la posición del arreglo en la que se escribe el primer
+     * carácter.
+     * @return la cantidad de caracteres escritos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     * @throws IndexOutOfBoundsException si los caracteres no caben en el
+     * arreglo, en cuyo caso el contenido del arreglo a partir de la posición
+     * especificada queda indeterminado.
+     */
+    public static int formatTo(OffsetDateTime offsetDateTime, int fractionDigits, char[] buffer, int offset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        checkFractionDigits(fractionDigits, 9);
+        int position = writeDateTime(buffer, offset, offsetDateTime.toLocalDateTime(), fractionDigits);
+        position = writeOffset(buffer, position, offsetDateTime.getOffset().getTotalSeconds());
+        return position - offset;
+    }
+
+    /**
+     * Añade una fecha y hora con desplazamiento con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]+HH:MM</code> a un objeto de tipo
+     * StringBuilder.
+     *
+     * @param offsetDateTime la fecha y hora a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @param out el objeto al que se añaden los caracteres.
+     * @return la cantidad de caracteres añadidos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static int formatTo(OffsetDateTime offsetDateTime, int fractionDigits, StringBuilder out)
+            throws IllegalArgumentException {
+        checkFractionDigits(fractionDigits, 9);
+        int start = out.length();
+        appendDateTime(out, offsetDateTime.toLocalDateTime(), fractionDigits);
+        appendOffset(out, offsetDateTime.getOffset().getTotalSeconds());
+        return out.length() - start;
+    }
+
+    /**
+     * Convierte un instante en una cadena de caracteres con la cantidad de
+     * segundos desde 1970-01-01T00:00:00Z, por ejemplo
+     * <code>1666096496.789</code>.
+     *
+     * @param instant el instante a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de segundo,
+     * entre 0 y 9, o {@link #VARIABLE_PRECISION}.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    public static String formatEpochSeconds(Instant instant, int fractionDigits)
+            throws IllegalArgumentException {
+        checkFractionDigits(fractionDigits, 9);
+        char[] buffer = new char[MAXIMUM_LENGTH];
+        int length = writeEpoch(buffer, instant.getEpochSecond(), instant.getNano(), 9, fractionDigits);
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Convierte un instante en una cadena de caracteres con la cantidad de
+     * milisegundos desde 1970-01-01T00:00:00Z, por ejemplo
+     * <code>1666096496789</code> o <code>1666096496789.123456</code>.
+     *
+     * @param instant el instante a convertir.
+     * @param fractionDigits la cantidad de dígitos de la fracción de
+     * milisegundo, entre 0 y 6, o {@link #VARIABLE_PRECISION}.
+     * @return la cadena de caracteres convertida.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     * @throws ArithmeticException si la cantidad de milisegundos no puede
+     * representarse con un valor de tipo long.
+     */
+    public static String formatEpochMillis(Instant instant, int fractionDigits)
+            throws IllegalArgumentException, ArithmeticException {
+        checkFractionDigits(fractionDigits, 6);
+        int nano = instant.getNano();
+        long epochMilli = Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1000L),
+                nano / 1_000_000);
+        char[] buffer = new char[MAXIMUM_LENGTH];
+        return new String(buffer, 0, writeEpoch(buffer, epochMilli, nano % 1_000_000, 6, fractionDigits));
+    }
+
+    /**
+     * Convierte una cadena de caracteres ISO-8601 / RFC 3339 con
+     * desplazamiento, por ejemplo <code>2022-10-18T12:34:56.789Z</code>, en un
+     * instante.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el instante convertido.
+     * @throws DateTimeParseException si la cadena no tiene el formato esperado
+     * o algún campo está fuera de rango.
+     */
+    public static Instant parseInstant(CharSequence text) throws DateTimeParseException {
+        int yearEnd = yearEnd(text);
+        int end = dateTimeEnd(text, yearEnd);
+        long localSecond = localEpochSecond(text, yearEnd, end);
+        int nano = nano(text, yearEnd, end);
+        return Instant.ofEpochSecond(localSecond - offsetSeconds(text, end), nano);
+    }
+
+    /**
+     * Convierte una cadena de caracteres ISO-8601 / RFC 3339 con
+     * desplazamiento en la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00Z, sin crear ningún objeto. Los dígitos de la
+     * fracción posteriores a los milisegundos se descartan.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return la cantidad de milisegundos desde 1970-01-01T00:00:00Z.
+     * @throws DateTimeParseException si la cadena no tiene el formato
+     * esperado, algún campo está fuera de rango o la cantidad de milisegundos
+     * no puede representarse con un valor de tipo long.
+     */
+    public static long parseToEpochMilli(CharSequence text) throws DateTimeParseException {
+        int yearEnd = yearEnd(text);
+        int end = dateTimeEnd(text, yearEnd);
+        long epochSecond = localEpochSecond(text, yearEnd, end) - offsetSeconds(text, end);
+        try {
+            return Math.addExact(Math.multiplyExact(epochSecond, 1000L),
+                    nano(text, yearEnd, end) / 1_000_000);
+        }
+        catch (ArithmeticException ex) {
+            throw new DateTimeParseException("Text '" + text + "' is out of range", text, 0, ex);
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres ISO-8601 sin desplazamiento, por
+     * ejemplo <code>2022-10-18T12:34:56.789</code>, en un objeto de tipo
+     * LocalDateTime.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return la fecha y hora convertida.
+     * @throws DateTimeParseException si la cadena no tiene el formato esperado
+     * o algún campo está fuera de rango.
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence text) throws DateTimeParseException {
+        int yearEnd = yearEnd(text);
+        int end = dateTimeEnd(text, yearEnd);
+        long localSecond = localEpochSecond(text, yearEnd, end);
+        if (end != text.length()) {
+            throw error(text, end);
+        }
+        return LocalDateTime.ofEpochSecond(localSecond, nano(text, yearEnd, end), ZoneOffset.UTC);
+    }
+
+    /**
+     * Convierte una cadena de caracteres ISO-8601 / RFC 3339 con
+     * desplazamiento, por ejemplo <code>2022-10-18T12:34:56.789+02:00</code>,
+     * en un objeto de tipo OffsetDateTime.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return la fecha y hora con desplazamiento convertida.
+     * @throws DateTimeParseException si la cadena no tiene el formato esperado
+     * o algún campo está fuera de rango.
+     */
+    public static OffsetDateTime parseOffsetDateTime(CharSequence text) throws DateTimeParseException {
+        int yearEnd = yearEnd(text);
+        int end = dateTimeEnd(text, yearEnd);
+        long localSecond = localEpochSecond(text, yearEnd, end);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSeconds(text, end));
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(localSecond, nano(text, yearEnd, end),
+                ZoneOffset.UTC), offset);
+    }
+
+    /**
+     * Convierte una cadena de caracteres con la cantidad de segundos desde
+     * 1970-01-01T00:00:00Z, con signo opcional y hasta nueve dígitos de
+     * fracción, en un instante.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el instante convertido.
+     * @throws DateTimeParseException si la cadena no tiene el formato esperado
+     * o el instante está fuera de rango.
+     */
+    public static Instant parseEpochSeconds(CharSequence text) throws DateTimeParseException {
+        int point = integerEnd(text);
+        long epochSecond = integer(text, point);
+        int nano = fraction(text, point, 9);
+        try {
+            return Instant.ofEpochSecond(epochSecond, text.charAt(0) == '-' ? -nano : nano);
+        }
+        catch (RuntimeException ex) {
+            throw new DateTimeParseException("Text '" + text + "' is out of range", text, 0, ex);
+        }
+    }
+
+    /**
+     * Convierte una cadena de caracteres con la cantidad de milisegundos
+     * desde 1970-01-01T00:00:00Z, con signo opcional y hasta seis dígitos de
+     * fracción, en un instante.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el instante convertido.
+     * @throws DateTimeParseException si la cadena no tiene el formato esperado
+     * o el instante está fuera de rango.
+     */
+    public static Instant parseEpochMillis(CharSequence text) throws DateTimeParseException {
+        int point = integerEnd(text);
+        long epochMilli = integer(text, point);
+        int nano = fraction(text, point, 6);
+        return Instant.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                Math.floorMod(epochMilli, 1000L) * 1_000_000L + (text.charAt(0) == '-' ? -nano : nano));
+    }
+
+    /**
+     * Comprueba la cantidad de dígitos de una fracción.
+     *
+     * @param fractionDigits la cantidad de dígitos.
+     * @param maximum la cantidad máxima de dígitos.
+     * @throws IllegalArgumentException si la cantidad de dígitos no es válida.
+     */
+    private static void checkFractionDigits(int fractionDigits, int maximum) throws IllegalArgumentException {
+        if (fractionDigits != VARIABLE_PRECISION && (fractionDigits < 0 || fractionDigits > maximum)) {
+            throw new IllegalArgumentException("La cantidad de dígitos de la fracción debe estar entre 0 y "
+                    + maximum + ": " + fractionDigits);
+        }
+    }
+
+    /**
+     * Escribe una fecha y hora a partir de sus campos.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param localDateTime la fecha y hora a escribir.
+     * @param fractionDigits la cantidad de dígitos de la fracción.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int writeDateTime(char[] buffer, int position, LocalDateTime localDateTime,
+            int fractionDigits) {
+        long civil = localDateTime.getYear() * 10_000L + localDateTime.getMonthValue() * 100
+                + localDateTime.getDayOfMonth();
+        int secondOfDay = localDateTime.getHour() * 3600 + localDateTime.getMinute() * 60
+                + localDateTime.getSecond();
+        return writeDateTime(buffer, position, civil, secondOfDay, localDateTime.getNano(), fractionDigits);
+    }
+
+    /**
+     * Escribe una fecha y hora con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]</code>.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param civil la fecha con la forma <code>año * 10000 + mes * 100 +
+     * día</code>.
+     * @param secondOfDay los segundos transcurridos desde el inicio del día.
+     * @param nano los nanosegundos del segundo.
+     * @param fractionDigits la cantidad de dígitos de la fracción.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int writeDateTime(char[] buffer, int position, long civil, int secondOfDay, int nano,
+            int fractionDigits) {
+        long year = Math.floorDiv(civil, 10_000L);
+        int monthDay = (int) Math.floorMod(civil, 10_000L);
+        if (year < 0 || year > 9999) {
+            buffer[position++] = year < 0 ? '-' : '+';
+        }
+        long absolute = Math.abs(year);
+        if (absolute <= 9999) {
+            position = write2(buffer, position, (int) absolute / 100);
+            position = write2(buffer, position, (int) absolute % 100);
+        }
+        else {
+            position = writeDigits(buffer, position, absolute);
+        }
+        buffer[position++] = '-';
+        position = write2(buffer, position, monthDay / 100);
+        buffer[position++] = '-';
+        position = write2(buffer, position, monthDay % 100);
+        buffer[position++] = 'T';
+        position = write2(buffer, position, secondOfDay / 3600);
+        buffer[position++] = ':';
+        position = write2(buffer, position, secondOfDay / 60 % 60);
+        buffer[position++] = ':';
+        position = write2(buffer, position, secondOfDay % 60);
+        return writeFraction(buffer, position, nano, 9, fractionDigits);
+    }
+
+    /**
+     * Añade una fecha y hora a partir de sus campos.
+     *
+     * @param out el objeto al que se añaden los caracteres.
+     * @param localDateTime la fecha y hora a añadir.
+     * @param fractionDigits la cantidad de dígitos de la fracción.
+     */
+    private static void appendDateTime(StringBuilder out, LocalDateTime localDateTime, int fractionDigits) {
+        long civil = localDateTime.getYear() * 10_000L + localDateTime.getMonthValue() * 100
+                + localDateTime.getDayOfMonth();
+        int secondOfDay = localDateTime.getHour() * 3600 + localDateTime.getMinute() * 60
+                + localDateTime.getSecond();
+        appendDateTime(out, civil, secondOfDay, localDateTime.getNano(), fractionDigits);
+    }
+
+    /**
+     * Añade una fecha y hora con la forma
+     * <code>yyyy-MM-ddTHH:mm:ss[.f]</code> carácter a carácter, con la misma
+     * salida que
+     * {@link #writeDateTime(char[], int, long, int, int, int)}.
+     *
+     * @param out el objeto al que se añaden los caracteres.
+     * @param civil la fecha con la forma <code>año * 10000 + mes * 100 +
+     * día</code>.
+     * @param secondOfDay los segundos transcurridos desde el inicio del día.
+     * @param nano los nanosegundos del segundo.
+     * @param fractionDigits la cantidad de dígitos de la fracción.
+     */
+    private static void appendDateTime(StringBuilder out, long civil, int secondOfDay, int nano,
+            int fractionDigits) {
+        out.ensureCapacity(out.length() + MAXIMUM_LENGTH);
+        long year = Math.floorDiv(civil, 10_000L);
+        int monthDay = (int) Math.floorMod(civil, 10_000L);
+        if (year < 0 || year > 9999) {
+            out.append(year < 0 ? '-' : '+');
+        }
+        long absolute = Math.abs(year);
+        if (absolute <= 9999) {
+            append2(out, (int) absolute / 100);
+            append2(out, (int) absolute % 100);
+        }
+        else {
+            out.append(absolute);
+        }
+        out.append('-');
+        append2(out, monthDay / 100);
+        out.append('-');
+        append2(out, monthDay % 100);
+        out.append('T');
+        append2(out, secondOfDay / 3600);
+        out.append(':');
+        append2(out, secondOfDay / 60 % 60);
+        out.append(':');
+        append2(out, secondOfDay % 60);
+        int digits = fractionDigits;
+        if (digits == VARIABLE_PRECISION) {
+            digits = 9;
+            while (digits > 0 && nano % POWERS_OF_TEN[12 - digits] == 0) {
+                digits -= 3;
+            }
+        }
+        if (digits > 0) {
+            out.append('.');
+            int value = nano / POWERS_OF_TEN[9 - digits];
+            for (int i = digits - 1; i >= 0; i--) {
+                out.append((char) ('0' + value / POWERS_OF_TEN[i] % 10));
+            }
+        }
+    }
+
+    /**
+     * Añade un desplazamiento con la forma <code>+HH:MM[:SS]</code>, o
+     * <code>Z</code> si es cero.
+     *
+     * @param out el objeto al que se añaden los caracteres.
+     * @param totalSeconds el desplazamiento en segundos.
+     */
+    private static void appendOffset(StringBuilder out, int totalSeconds) {
+        if (totalSeconds == 0) {
+            out.append('Z');
+            return;
+        }
+        int absolute = Math.abs(totalSeconds);
+        out.append(totalSeconds < 0 ? '-' : '+');
+        append2(out, absolute / 3600);
+        out.append(':');
+        append2(out, absolute / 60 % 60);
+        if (absolute % 60 != 0) {
+            out.append(':');
+            append2(out, absolute % 60);
+        }
+    }
+
+    /**
+     * Añade un valor de dos dígitos.
+     *
+     * @param out el objeto al que se añaden los caracteres.
+     * @param value el valor, entre 0 y 99.
+     */
+    private static void append2(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Escribe un desplazamiento con la forma <code>+HH:MM[:SS]</code>, o
+     * <code>Z</code> si es cero.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param totalSeconds el desplazamiento en segundos.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int writeOffset(char[] buffer, int position, int totalSeconds) {
+        if (totalSeconds == 0) {
+            buffer[position++] = 'Z';
+            return position;
+        }
+        int absolute = Math.abs(totalSeconds);
+        buffer[position++] = totalSeconds < 0 ? '-' : '+';
+        position = write2(buffer, position, absolute / 3600);
+        buffer[position++] = ':';
+        position = write2(buffer, position, absolute / 60 % 60);
+        if (absolute % 60 != 0) {
+            buffer[position++] = ':';
+            position = write2(buffer, position, absolute % 60);
+        }
+        return position;
+    }
+
+    /**
+     * Escribe una cantidad de segundos o milisegundos con signo y fracción.
+     *
+     * @param buffer el arreglo de destino.
+     * @param whole la parte entera redondeada hacia abajo.
+     * @param fraction la fracción, siempre positiva.
+     * @param scale la cantidad de dígitos de la fracción.
+     * @param fractionDigits la cantidad de dígitos de la fracción a escribir.
+     * @return la cantidad de caracteres escritos.
+     */
+    private static int writeEpoch(char[] buffer, long whole, int fraction, int scale, int fractionDigits) {
+        int position = 0;
+        if (whole < 0) {
+            buffer[position++] = '-';
+            if (fraction > 0) {
+                whole++;
+                fraction = POWERS_OF_TEN[scale] - fraction;
+            }
+            whole = -whole;
+        }
+        position = writeDigits(buffer, position, whole);
+        return writeFraction(buffer, position, fraction, scale, fractionDigits);
+    }
+
+    /**
+     * Escribe la fracción precedida de un punto, truncada a la cantidad de
+     * dígitos especificada.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param fraction la fracción.
+     * @param scale la cantidad de dígitos de la fracción.
+     * @param fractionDigits la cantidad de dígitos a escribir o
+     * {@link #VARIABLE_PRECISION}.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int writeFraction(char[] buffer, int position, int fraction, int scale,
+            int fractionDigits) {
+        int digits = fractionDigits;
+        if (digits == VARIABLE_PRECISION) {
+            digits = scale;
+            while (digits > 0 && fraction % POWERS_OF_TEN[scale - digits + 3] == 0) {
+                digits -= 3;
+            }
+        }
+        if (digits == 0) {
+            return position;
+        }
+        buffer[position++] = '.';
+        int value = fraction / POWERS_OF_TEN[scale - digits];
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + digits;
+    }
+
+    /**
+     * Escribe un valor de dos dígitos.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param value el valor, entre 0 y 99.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int write2(char[] buffer, int position, int value) {
+        buffer[position] = (char) ('0' + value / 10);
+        buffer[position + 1] = (char) ('0' + value % 10);
+        return position + 2;
+    }
+
+    /**
+     * Escribe un valor positivo con los dígitos necesarios.
+     *
+     * @param buffer el arreglo de destino.
+     * @param position la posición del primer carácter.
+     * @param value el valor, mayor o igual que cero.
+     * @return la posición siguiente al último carácter escrito.
+     */
+    private static int writeDigits(char[] buffer, int position, long value) {
+        int length = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            length++;
+        }
+        for (int i = position + length - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + length;
+    }
+
+    /**
+     * Busca el final del año, que tiene cuatro dígitos o un signo y entre
+     * cuatro y nueve dígitos.
+     *
+     * @param text la cadena de caracteres.
+     * @return la posición siguiente al último dígito del año.
+     * @throws DateTimeParseException si el año no es válido.
+     */
+    private static int yearEnd(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-') ? 1 : 0;
+        int maximum = start == 0 ? 4 : 9;
+        int end = start;
+        while (end < length && end - start < maximum && isDigit(text.charAt(end))) {
+            end++;
+        }
+        if (end - start < 4) {
+            throw error(text, end);
+        }
+        return end;
+    }
+
+    /**
+     * Comprueba los separadores de la fecha y hora y busca el final de la
+     * hora, que tiene los segundos y la fracción opcionales.
+     *
+     * @param text la cadena de caracteres.
+     * @param yearEnd la posición siguiente al último dígito del año.
+     * @return la posición siguiente al último carácter de la hora.
+     * @throws DateTimeParseException si algún separador no es válido.
+     */
+    private static int dateTimeEnd(CharSequence text, int yearEnd) throws DateTimeParseException {
+        int length = text.length();
+        expect(text, yearEnd, '-');
+        expect(text, yearEnd + 3, '-');
+        int time = yearEnd + 7;
+        if (time > length || (text.charAt(time - 1) != 'T' && text.charAt(time - 1) != 't')) {
+            throw error(text, Math.min(time - 1, length));
+        }
+        expect(text, time + 2, ':');
+        int end = time + 5;
+        if (end > length) {
+            throw error(text, length);
+        }
+        if (end < length && text.charAt(end) == ':') {
+            end += 3;
+            if (end > length) {
+                throw error(text, length);
+            }
+            if (end < length && text.charAt(end) == '.') {
+                int start = ++end;
+                while (end < length && end - start < 9 && isDigit(text.charAt(end))) {
+                    end++;
+                }
+                if (end == start) {
+                    throw error(text, end);
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Convierte los campos de la fecha y hora en la cantidad de segundos desde
+     * 1970-01-01T00:00:00 sin zona horaria.
+     *
+     * @param text la cadena de caracteres.
+     * @param yearEnd la posición siguiente al último dígito del año.
+     * @param end la posición siguiente al último carácter de la hora.
+     * @return la cantidad de segundos desde 1970-01-01T00:00:00.
+     * @throws DateTimeParseException si algún campo no es válido.
+     */
+    private static long localEpochSecond(CharSequence text, int yearEnd, int end)
+            throws DateTimeParseException {
+        int start = text.charAt(0) == '+' || text.charAt(0) == '-' ? 1 : 0;
+        int year = 0;
+        for (int i = start; i < yearEnd; i++) {
+            year = year * 10 + text.charAt(i) - '0';
+        }
+        if (text.charAt(0) == '-') {
+            year = -year;
+        }
+        int month = field(text, yearEnd + 1, 1, 12);
+        int day = field(text, yearEnd + 4, 1, FixedWidthPattern.lengthOfMonth(year, month));
+        int time = yearEnd + 7;
+        int secondOfDay = field(text, time, 0, 23) * 3600 + field(text, time + 3, 0, 59) * 60;
+        if (end > time + 5) {
+            secondOfDay += field(text, time + 6, 0, 59);
+        }
+        return FixedWidthPattern.toEpochDay(year, month, day) * SECONDS_PER_DAY + secondOfDay;
+    }
+
+    /**
+     * Convierte la fracción de segundo en nanosegundos.
+     *
+     * @param text la cadena de caracteres.
+     * @param yearEnd la posición siguiente al último dígito del año.
+     * @param end la posición siguiente al último carácter de la hora.
+     * @return los nanosegundos, o cero si la hora no tiene fracción.
+     */
+    private static int nano(CharSequence text, int yearEnd, int end) {
+        int start = yearEnd + 16;
+        if (end <= start) {
+            return 0;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + text.charAt(i) - '0';
+        }
+        return value * POWERS_OF_TEN[9 - (end - start)];
+    }
+
+    /**
+     * Convierte el desplazamiento, que debe llegar hasta el final de la
+     * cadena.
+     *
+     * @param text la cadena de caracteres.
+     * @param start la posición del primer carácter del desplazamiento.
+     * @return el desplazamiento en segundos.
+     * @throws DateTimeParseException si el desplazamiento no es válido.
+     */
+    private static int offsetSeconds(CharSequence text, int start) throws DateTimeParseException {
+        int length = text.length();
+        if (start >= length) {
+            throw error(text, start);
+        }
+        char sign = text.charAt(start);
+        if (sign == 'Z' || sign == 'z') {
+            if (start + 1 != length) {
+                throw error(text, start + 1);
+            }
+            return 0;
+        }
+        if (sign != '+' && sign != '-') {
+            throw error(text, start);
+        }
+        int position = start + 1;
+        int total = field(text, position, 0, 18) * 3600;
+        position += 2;
+        if (position < length) {
+            boolean colon = text.charAt(position) == ':';
+            if (colon) {
+                position++;
+            }
+            total += field(text, position, 0, 59) * 60;
+            position += 2;
+            if (colon && position < length) {
+                expect(text, position, ':');
+                total += field(text, position + 1, 0, 59);
+                position += 3;
+            }
+        }
+        if (position != length) {
+            throw error(text, position);
+        }
+        if (total > MAXIMUM_OFFSET) {
+            throw error(text, start);
+        }
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * Busca el final de la parte entera de una cantidad de segundos o
+     * milisegundos.
+     *
+     * @param text la cadena de caracteres.
+     * @return la posición del punto o el final de la cadena.
+     * @throws DateTimeParseException si la parte entera no es válida.
+     */
+    private static int integerEnd(CharSequence text) throws DateTimeParseException {
+        int length = text.length();
+        int start = length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-') ? 1 : 0;
+        int end = start;
+        while (end < length && isDigit(text.charAt(end))) {
+            end++;
+        }
+        if (end == start || (end < length && text.charAt(end) != '.')) {
+            throw error(text, end);
+        }
+        return end;
+    }
+
+    /**
+     * Convierte la parte entera de una cantidad de segundos o milisegundos.
+     *
+     * @param text la cadena de caracteres.
+     * @param end la posición siguiente al último dígito.
+     * @return el valor con signo.
+     * @throws DateTimeParseException si el valor no puede representarse con un
+     * valor de tipo long.
+     */
+    private static long integer(CharSequence text, int end) throws DateTimeParseException {
+        int start = text.charAt(0) == '+' || text.charAt(0) == '-' ? 1 : 0;
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                throw error(text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return text.charAt(0) == '-' ? -value : value;
+    }
+
+    /**
+     * Convierte la fracción de una cantidad de segundos o milisegundos.
+     *
+     * @param text la cadena de caracteres.
+     * @param point la posición del punto o el final de la cadena.
+     * @param scale la cantidad máxima de dígitos de la fracción.
+     * @return la fracción con la cantidad máxima de dígitos, siempre positiva.
+     * @throws DateTimeParseException si la fracción no es válida.
+     */
+    private static int fraction(CharSequence text, int point, int scale) throws DateTimeParseException {
+        int length = text.length();
+        if (point == length) {
+            return 0;
+        }
+        int digits = length - point - 1;
+        if (digits < 1 || digits > scale) {
+            throw error(text, digits < 1 ? length : point + 1 + scale);
+        }
+        int value = 0;
+        for (int i = point + 1; i < length; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                throw error(text, i);
+            }
+            value = value * 10 + c - '0';
+        }
+        return value * POWERS_OF_TEN[scale - digits];
+    }
+
+    /**
+     * Convierte un campo de dos dígitos comprobando su rango.
+     *
+     * @param text la cadena de caracteres.
+     * @param index la posición del primer dígito.
+     * @param minimum el valor mínimo.
+     * @param maximum el valor máximo.
+     * @return el valor del campo.
+     * @throws DateTimeParseException si el campo no es válido.
+     */
+    private static int field(CharSequence text, int index, int minimum, int maximum)
+            throws DateTimeParseException {
+        if (index + 2 > text.length()) {
+            throw error(text, Math.min(index, text.length()));
+        }
+        char tens = text.charAt(index);
+        char units = text.charAt(index + 1);
+        if (!isDigit(tens) || !isDigit(units)) {
+            throw error(text, isDigit(tens) ? index + 1 : index);
+        }
+        int value = (tens - '0') * 10 + units - '0';
+        if (value < minimum || value > maximum) {
+            throw error(text, index);
+        }
+        return value;
+    }
+
+    /**
+     * Comprueba que un carácter es el esperado.
+     *
+     * @param text la cadena de caracteres.
+     * @param index la posición del carácter.
+     * @param expected el carácter esperado.
+     * @throws DateTimeParseException si el carácter no es el esperado.
+     */
+    private static void expect(CharSequence text, int index, char expected) throws DateTimeParseException {
+        if (index >= text.length() || text.charAt(index) != expected) {
+            throw error(text, Math.min(index, text.length()));
+        }
+    }
+
+    /**
+     * Indica si un carácter es un dígito ASCII.
+     *
+     * @param c el carácter.
+     * @return {@code true} si el carácter es un dígito entre 0 y 9.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Crea el error de conversión de una cadena de caracteres.
+     *
+     * @param text la cadena de caracteres.
+     * @param index la posición del primer carácter incorrecto.
+     * @return el error creado.
+     */
+    private static DateTimeParseException error(CharSequence text, int index) {
+        return new DateTimeParseException("Text '" + text + "' could not be parsed at index " + index, text,
+                index);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Lee y escribe columnas de fechas e instantes de bases de datos a través de
+ * JDBC.
+ * <p>
+ * Los métodos de lectura recorren un objeto {@link java.sql.ResultSet} desde
+ * la fila actual hasta el final y almacenan cada valor como un valor primitivo
+ * en un objeto {@link io.github.ldelpino.libs.dateutils.DateColumn} o
+ * {@link io.github.ldelpino.libs.dateutils.TimestampColumn}, sin conservar los
+ * objetos de tipo {@link java.sql.Date} o {@link java.sql.Timestamp}
+ * devueltos por el controlador. Los métodos de escritura asignan cada valor de
+ * una columna a un parámetro de un objeto {@link java.sql.PreparedStatement} y
+ * añaden una fila al lote, el resto de los parámetros se mantienen.</p>
+ * <p>
+ * Los valores sin zona horaria de la base de datos se interpretan en la zona
+ * horaria por defecto de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters}. Los valores nulos se
+ * representan con las fechas e instantes inexistentes de las columnas. La clase
+ * está establecida como <strong>final</strong> para no permitir crear clases
+ * que hereden de ella y el constructor está establecido como
+ * <strong>private</strong> para no pemitir nuevas instancias de la clase.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateConverters
+ */
+public final class JdbcColumns {
+
+    /**
+     * El constructor se establece como privado para no permitir instancias de
+     * esta clase.
+     */
+    private JdbcColumns() {
+
+    }
+
+    /**
+     * Lee una columna de fechas desde la fila actual hasta el final del
+     * resultado.
+     *
+     * @param resultSet el resultado de la consulta, debe estar situado antes de
+     * la primera fila a leer.
+     * @param columnIndex la posición de la columna, comenzando en uno.
+     * @return la columna de fechas leída.
+     * @throws SQLException si ocurre un error al leer el resultado.
+     */
+    public static DateColumn readDateColumn(ResultSet resultSet, int columnIndex) throws SQLException {
+        ZoneOffsetTable table = DateConverters.offsetTable();
+        Calendar calendar = calendar(table);
+        DateColumn column = new DateColumn();
+        while (resultSet.next()) {
+            Date date = resultSet.getDate(columnIndex, calendar);
+            if (date == null) {
+                column.addMissing();
+            }
+            else {
+                column.add(DateFields.getEpochDay(DateConverters.toLocalEpochMilli(table, date.getTime())));
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Lee una columna de fechas desde la fila actual hasta el final del
+     * resultado.
+     *
+     * @param resultSet el resultado de la consulta, debe estar situado antes de
+     * la primera fila a leer.
+     * @param columnLabel el nombre de la columna.
+     * @return la columna de fechas leída.
+     * @throws SQLException si la columna no existe o si ocurre un error al leer
+     * el resultado.
+     */
+    public static DateColumn readDateColumn(ResultSet resultSet, String columnLabel) throws SQLException {
+        return readDateColumn(resultSet, resultSet.findColumn(columnLabel));
+    }
+
+    /**
+     * Lee una columna de instantes desde la fila actual hasta el final del
+     * resultado. Los instantes se almacenan en milisegundos.
+     *
+     * @param resultSet el resultado de la consulta, debe estar situado antes de
+     * la primera fila a leer.
+     * @param columnIndex la posición de la columna, comenzando en uno.
+     * @return la columna de instantes leída.
+     * @throws SQLException si ocurre un error al leer el resultado.
+     */
+    public static TimestampColumn readTimestampColumn(ResultSet resultSet, int columnIndex)
+            throws SQLException {
+        Calendar calendar = calendar(DateConverters.offsetTable());
+        TimestampColumn column = new TimestampColumn();
+        while (resultSet.next()) {
+            Timestamp timestamp = resultSet.getTimestamp(columnIndex, calendar);
+            column.add(timestamp == null ? TimestampColumn.MISSING : timestamp.getTime());
+        }
+        return column;
+    }
+
+    /**
+     * Lee una columna de instantes desde la fila actual hasta el final del
+     * resultado. Los instantes se almacenan en milisegundos.
+     *
+     * @param resultSet el resultado de la consulta, debe estar situado antes de
+     * la primera fila a leer.
+     * @param columnLabel el nombre de la columna.
+     * @return la columna de instantes leída.
+     * @throws SQLException si la columna no existe o si ocurre un error al leer
+     * el resultado.
+     */
+    public static TimestampColumn readTimestampColumn(ResultSet resultSet, String columnLabel)
+            throws SQLException {
+        return readTimestampColumn(resultSet, resultSet.findColumn(columnLabel));
+    }
+
+    /**
+     * Añade al lote una fila por cada fecha de la columna, asignando la fecha
+     * al parámetro especificado.
+     *
+     * @param statement la sentencia preparada.
+     * @param parameterIndex la posición del parámetro, comenzando en uno.
+     * @param column la columna de fechas.
+     * @throws SQLException si ocurre un error al asignar el parámetro o al
+     * añadir la fila al lote.
+     */
+    public static void addBatch(PreparedStatement statement, int parameterIndex, DateColumn column)
+            throws SQLException {
+        ZoneOffsetTable table = DateConverters.offsetTable();
+        Calendar calendar = calendar(table);
+        for (int i = 0, size = column.size(); i < size; i++) {
+            if (column.isMissing(i)) {
+                statement.setNull(parameterIndex, Types.DATE);
+            }
+            else {
+                long epochMilli = table.toEpochMilli(column.getEpochDay(i) * 86_400_000L);
+                statement.setDate(parameterIndex, new Date(epochMilli), calendar);
+            }
+            statement.addBatch();
+        }
+    }
+
+    /**
+     * Añade al lote una fila por cada instante de la columna, asignando el
+     * instante al parámetro especificado.
+     *
+     * @param statement la sentencia preparada.
+     * @param parameterIndex la posición del parámetro, comenzando en uno.
+     * @param column la columna de instantes.
+     * @throws SQLException si ocurre un error al asignar el parámetro o al
+     * añadir la fila al lote.
+     */
+    public static void addBatch(PreparedStatement statement, int parameterIndex, TimestampColumn column)
+            throws SQLException {
+        Calendar calendar = calendar(DateConverters.offsetTable());
+        for (int i = 0, size = column.size(); i < size; i++) {
+            if (column.isMissing(i)) {
+                statement.setNull(parameterIndex, Types.TIMESTAMP);
+            }
+            else {
+                statement.setTimestamp(parameterIndex, new Timestamp(column.getEpochMilli(i)), calendar);
+            }
+            statement.addBatch();
+        }
+    }
+
+    /**
+     * Añade al lote una fila por cada instante del arreglo, asignando el
+     * instante al parámetro especificado. Los valores
+     * {@link io.github.ldelpino.libs.dateutils.TimestampColumn#MISSING} se
+     * asignan como nulos.
+     *
+     * @param statement la sentencia preparada.
+     * @param parameterIndex la posición del parámetro, comenzando en uno.
+     * @param epochMillis los instantes en milisegundos desde
+     * 1970-01-01T00:00:00Z.
+     * @throws SQLException si ocurre un error al asignar el parámetro o al
+     * añadir la fila al lote.
+     */
+    public static void addBatch(PreparedStatement statement, int parameterIndex, long[] epochMillis)
+            throws SQLException {
+        Calendar calendar = calendar(DateConverters.offsetTable());
+        for (long epochMilli : epochMillis) {
+            if (epochMilli == TimestampColumn.MISSING) {
+                statement.setNull(parameterIndex, Types.TIMESTAMP);
+            }
+            else {
+                statement.setTimestamp(parameterIndex, new Timestamp(epochMilli), calendar);
+            }
+            statement.addBatch();
+        }
+    }
+
+    /**
+     * Crea el calendario con el que el controlador interpreta los valores sin
+     * zona horaria.
+     *
+     * @param table la tabla de desplazamientos de la zona horaria por defecto.
+     * @return el calendario de la zona horaria.
+     */
+    private static Calendar calendar(ZoneOffsetTable table) {
+        return new GregorianCalendar(TimeZone.getTimeZone(table.getZone()));
+    }
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Convierte cadenas de caracteres en objetos de fechas y horas probando varios
+ * patrones de formato candidatos.
+ * <p>
+ * Cuando los datos mezclan formatos, por ejemplo <code>dd/MM/yyyy</code> y
+ * <code>yyyy-MM-dd</code>, probar cada patrón y capturar la excepción de los
+ * que fallan es muy costoso. Los objetos de esta clase descartan los
+ * candidatos sin lanzar excepciones:</p>
+ * <ul>
+ * <li>Los patrones de ancho fijo comprueban la longitud, los literales y los
+ * dígitos de la cadena antes de leer ningún campo y solo descartan las cadenas
+ * que el objeto de formato del patrón tampoco acepta, como los años de más de
+ * cuatro dígitos.</li>
+ * <li>Los patrones numéricos comprueban que los separadores de la cadena
+ * coinciden en orden con los literales del patrón, admitiendo un signo delante
+ * de los años.</li>
+ * <li>El resto de los patrones analizan la cadena sin resolverla y solo la
+ * resuelven si se ha consumido completa. Si el patrón solo contiene campos de
+ * era, año, mes, día, hora, minuto, segundo y fracción de segundo, los campos
+ * analizados se resuelven directamente, sin analizar la cadena por segunda
+ * vez.</li>
+ * </ul>
+ * <p>
+ * Los candidatos se reordenan periódicamente según la cantidad de cadenas que
+ * convirtió cada uno desde la última reordenación, por lo que el formato más
+ * frecuente se prueba primero. Los resultados son los mismos que los de la
+ * conversión con el primer patrón de la lista que acepta la cadena, salvo
+ * cuando una misma cadena es aceptada por varios patrones, en cuyo caso se
+ * utiliza el patrón más frecuente. Los objetos de esta clase pueden utilizarse
+ * desde varios hilos.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateParsers#parseAnyToLocalDate(java.lang.String, java.lang.String...)
+ */
+public final class MultiPatternParser {
+
+    /**
+     * La cantidad de conversiones entre dos reordenaciones de los candidatos.
+     */
+    private static final int REORDER_INTERVAL = 1024;
+
+    private static final int LOCAL_DATE = 0;
+    private static final int LOCAL_TIME = 1;
+    private static final int LOCAL_DATE_TIME = 2;
+
+    /**
+     * Las letras de los campos numéricos que no producen separadores.
+     */
+    private static final String NUMERIC_LETTERS = "yuMLdDHhkKmsSn";
+
+    /**
+     * Las letras de los campos que pueden resolverse sin volver a analizar la
+     * cadena.
+     */
+    private static final String RESOLVABLE_LETTERS = "GyuMLdDHmsSn";
+
+    /**
+     * Los campos de fecha que producen las letras que pueden resolverse.
+     */
+    private static final ChronoField[] DATE_FIELDS = {
+        ChronoField.ERA, ChronoField.YEAR_OF_ERA, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR,
+        ChronoField.DAY_OF_MONTH, ChronoField.DAY_OF_YEAR
+    };
+
+    /**
+     * Los patrones en el orden original.
+     */
+    private final List<String> patterns;
+
+    /**
+     * Los candidatos en el orden en que se prueban.
+     */
+    private volatile Candidate[] order;
+
+    /**
+     * Las conversiones que faltan para la siguiente reordenación.
+     */
+    private final AtomicInteger countdown = new AtomicInteger(REORDER_INTERVAL);
+
+    /**
+     * Crea un objeto con los patrones candidatos especificados, compilados con
+     * la configuración regional del contexto por defecto.
+     *
+     * @param patterns los patrones de formato candidatos en orden de
+     * preferencia inicial.
+     * @throws IllegalArgumentException si no se especifica ningún patrón o
+     * alguno de los patrones no es válido.
+     */
+    public MultiPatternParser(String... patterns) throws IllegalArgumentException {
+        if (patterns.length == 0) {
+            throw new IllegalArgumentException("Debe especificarse al menos un patrón");
+        }
+        Candidate[] candidates = new Candidate[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            candidates[i] = new Candidate(FormatterCache.get(patterns[i]), i);
+        }
+        this.patterns = Collections.unmodifiableList(Arrays.asList(patterns.clone()));
+        this.order = candidates;
+    }
+
+    /**
+     * Devuelve los patrones candidatos en el orden original.
+     *
+     * @return los patrones candidatos.
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Devuelve la configuración regional con la que se compilaron los
+     * patrones candidatos.
+     *
+     * @return la configuración regional de los patrones.
+     */
+    Locale getLocale() {
+        return order[0].compiled.getLocale();
+    }
+
+    /**
+     * Devuelve los patrones candidatos en el orden en que se prueban
+     * actualmente.
+     *
+     * @return los patrones candidatos ordenados por frecuencia.
+     */
+    public List<String> getOrderedPatterns() {
+        Candidate[] current = order;
+        String[] result = new String[current.length];
+        for (int i = 0; i < current.length; i++) {
+            result[i] = current[i].compiled.getPattern();
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate con el
+     * primer patrón candidato que la acepta.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el objeto de fecha convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     */
+    public LocalDate parseLocalDate(CharSequence text) throws DateTimeParseException {
+        return (LocalDate) parse(text, LOCAL_DATE);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime con el
+     * primer patrón candidato que la acepta.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el objeto de hora convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     */
+    public LocalTime parseLocalTime(CharSequence text) throws DateTimeParseException {
+        return (LocalTime) parse(text, LOCAL_TIME);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime con
+     * el primer patrón candidato que la acepta.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @return el objeto de fecha y hora convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     */
+    public LocalDateTime parseLocalDateTime(CharSequence text) throws DateTimeParseException {
+        return (LocalDateTime) parse(text, LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Prueba los candidatos en orden y devuelve el primer resultado.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param type el tipo del resultado.
+     * @return el objeto convertido.
+     * @throws DateTimeParseException si ningún patrón acepta la cadena.
+     */
+    private TemporalAccessor parse(CharSequence text, int type) throws DateTimeParseException {
+        for (Candidate candidate : order) {
+            TemporalAccessor result = candidate.parse(text, type);
+            if (result != null) {
+                candidate.hits.increment();
+                if (countdown.decrementAndGet() == 0) {
+                    reorder();
+                }
+                return result;
+            }
+        }
+        throw new DateTimeParseException("Text '" + text + "' could not be parsed with any of the patterns "
+                + patterns, text, 0);
+    }
+
+    /**
+     * Ordena los candidatos por la cantidad de conversiones desde la última
+     * reordenación, de mayor a menor, manteniendo el orden original en caso de
+     * empate.
+     */
+    private synchronized void reorder() {
+        Candidate[] sorted = order.clone();
+        long[] hits = new long[patterns.size()];
+        for (Candidate candidate : sorted) {
+            hits[candidate.index] = candidate.hits.sumThenReset();
+        }
+        Arrays.sort(sorted, (a, b) -> hits[a.index] != hits[b.index]
+                ? Long.compare(hits[b.index], hits[a.index]) : Integer.compare(a.index, b.index));
+        order = sorted;
+        countdown.set(REORDER_INTERVAL);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiPatternParser" + getOrderedPatterns();
+    }
+
+    /**
+     * Un patrón candidato con sus datos de descarte rápido.
+     */
+    private static final class Candidate {
+
+        /**
+         * El patrón compilado.
+         */
+        private final CompiledPattern compiled;
+
+        /**
+         * El convertidor de ancho fijo o {@code null} si el patrón no es de
+         * ancho fijo.
+         */
+        private final FixedWidthPattern fixed;
+
+        /**
+         * Los separadores del patrón en orden o {@code null} si el patrón no es
+         * numérico y no puede descartarse por sus separadores.
+         */
+        private final char[] separators;
+
+        /**
+         * Los campos de año del patrón, que pueden llevar signo, identificados
+         * por la cantidad de separadores que los preceden.
+         */
+        private final BitSet years = new BitSet();
+
+        /**
+         * Indica si los campos analizados pueden resolverse sin volver a
+         * analizar la cadena.
+         */
+        private final boolean resolvable;
+
+        /**
+         * La posición del patrón en el orden original.
+         */
+        private final int index;
+
+        /**
+         * La cantidad de conversiones desde la última reordenación.
+         */
+        private final LongAdder hits = new LongAdder();
+
+        private Candidate(CompiledPattern compiled, int index) {
+            this.compiled = compiled;
+            this.fixed = compiled.getFixedWidthPattern();
+            String pattern = compiled.getPattern();
+            this.separators = separators(pattern, years);
+            this.resolvable = isResolvable(compiled.getFormatter(), pattern);
+            this.index = index;
+        }
+
+        /**
+         * Convierte la cadena con este patrón.
+         *
+         * @param text la cadena de caracteres a convertir.
+         * @param type el tipo del resultado.
+         * @return el objeto convertido o {@code null} si el patrón no acepta la
+         * cadena.
+         */
+        private TemporalAccessor parse(CharSequence text, int type) {
+            if (fixed != null) {
+                int mismatch = fixed.mismatch(text);
+                if (mismatch < 0) {
+                    TemporalAccessor result = type == LOCAL_DATE ? fixed.parseLocalDate(text)
+                            : type == LOCAL_TIME ? fixed.parseLocalTime(text)
+                            : fixed.parseLocalDateTime(text);
+                    if (result != null || !fixed.isInRange(text)) {
+                        return result;
+                    }
+                }
+                else if (fixed.isRejected(text.length(), mismatch)) {
+                    return null;
+                }
+            }
+            else if (separators != null && !matchesSeparators(text)) {
+                return null;
+            }
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor unresolved = compiled.getFormatter().parseUnresolved(text, position);
+            if (unresolved == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+                return null;
+            }
+            try {
+                return resolvable ? resolve(text, unresolved, type) : parseResolved(text, type);
+            }
+            catch (DateTimeException ex) {
+                return null;
+            }
+        }
+
+        /**
+         * Convierte la cadena con el objeto de formato del patrón, analizándola
+         * y resolviéndola.
+         *
+         * @param text la cadena de caracteres a convertir.
+         * @param type el tipo del resultado.
+         * @return el objeto convertido.
+         * @throws DateTimeException si la cadena no puede convertirse.
+         */
+        private TemporalAccessor parseResolved(CharSequence text, int type) throws DateTimeException {
+            switch (type) {
+                case LOCAL_DATE:
+                    return compiled.parseLocalDate(text);
+                case LOCAL_TIME:
+                    return compiled.parseLocalTime(text);
+                default:
+                    return compiled.parseLocalDateTime(text);
+            }
+        }
+
+        /**
+         * Resuelve los campos analizados de la cadena con las mismas reglas que
+         * el objeto de formato del patrón: la fecha se resuelve con
+         * {@link java.time.chrono.IsoChronology#resolveDate(java.util.Map, java.time.format.ResolverStyle)}
+         * y la hora se completa con ceros como en
+         * {@link java.time.format.DateTimeFormatter#parse(java.lang.CharSequence)}.
+         * Las cadenas con la hora 24, que puede cambiar la fecha, se convierten
+         * con el objeto de formato.
+         *
+         * @param text la cadena de caracteres a convertir.
+         * @param unresolved los campos analizados.
+         * @param type el tipo del resultado.
+         * @return el objeto convertido o {@code null} si los campos no forman
+         * un objeto del tipo solicitado.
+         * @throws DateTimeException si los campos no son válidos.
+         */
+        private TemporalAccessor resolve(CharSequence text, TemporalAccessor unresolved, int type)
+                throws DateTimeException {
+            Long hour = value(unresolved, ChronoField.HOUR_OF_DAY);
+            if (hour != null && hour == 24) {
+                return parseResolved(text, type);
+            }
+            HashMap<TemporalField, Long> fields = new HashMap<>();
+            for (ChronoField field : DATE_FIELDS) {
+                if (unresolved.isSupported(field)) {
+                    fields.put(field, unresolved.getLong(field));
+                }
+            }
+            ResolverStyle style = compiled.getFormatter().getResolverStyle();
+            LocalDate date = fields.isEmpty() ? null : IsoChronology.INSTANCE.resolveDate(fields, style);
+            if (date != null) {
+                for (HashMap.Entry<TemporalField, Long> entry : fields.entrySet()) {
+                    if (date.isSupported(entry.getKey())
+                            && date.getLong(entry.getKey()) != entry.getValue().longValue()) {
+                        return null;
+                    }
+                }
+            }
+            Long minute = value(unresolved, ChronoField.MINUTE_OF_HOUR);
+            Long second = value(unresolved, ChronoField.SECOND_OF_MINUTE);
+            Long nano = value(unresolved, ChronoField.NANO_OF_SECOND);
+            LocalTime time = null;
+            if (hour != null && (minute != null || (second == null && nano == null))
+                    && (minute == null || second != null || nano == null)) {
+                time = LocalTime.of(ChronoField.HOUR_OF_DAY.checkValidIntValue(hour),
+                        minute == null ? 0 : ChronoField.MINUTE_OF_HOUR.checkValidIntValue(minute),
+                        second == null ? 0 : ChronoField.SECOND_OF_MINUTE.checkValidIntValue(second),
+                        nano == null ? 0 : ChronoField.NANO_OF_SECOND.checkValidIntValue(nano));
+            }
+            switch (type) {
+                case LOCAL_DATE:
+                    return date;
+                case LOCAL_TIME:
+                    return time;
+                default:
+                    return date == null || time == null ? null : LocalDateTime.of(date, time);
+            }
+        }
+
+        /**
+         * Devuelve el valor analizado de un campo.
+         *
+         * @param unresolved los campos analizados.
+         * @param field el campo.
+         * @return el valor del campo o {@code null} si no se ha analizado.
+         */
+        private static Long value(TemporalAccessor unresolved, ChronoField field) {
+            return unresolved.isSupported(field) ? unresolved.getLong(field) : null;
+        }
+
+        /**
+         * Indica si los campos analizados con un patrón pueden resolverse sin
+         * volver a analizar la cadena, es decir, si el patrón solo contiene
+         * letras de campos que se resuelven en
+         * {@link #resolve(java.lang.CharSequence, java.time.temporal.TemporalAccessor, int)}
+         * y el objeto de formato utiliza la cronología ISO sin zona horaria ni
+         * campos de resolución restringidos.
+         *
+         * @param formatter el objeto de formato del patrón.
+         * @param pattern el patrón de formato.
+         * @return {@code true} si los campos pueden resolverse directamente.
+         */
+        private static boolean isResolvable(DateTimeFormatter formatter, String pattern) {
+            if ((formatter.getChronology() != null && formatter.getChronology() != IsoChronology.INSTANCE)
+                    || formatter.getZone() != null || formatter.getResolverFields() != null
+                    || formatter.getResolverStyle() == ResolverStyle.LENIENT) {
+                return false;
+            }
+            int length = pattern.length();
+            boolean quoted = false;
+            for (int i = 0; i < length; i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                }
+                else if (!quoted && ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
+                        && RESOLVABLE_LETTERS.indexOf(c) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Comprueba que la cadena solo contiene dígitos y los separadores del
+         * patrón en el mismo orden, con un signo opcional al inicio de cada
+         * campo de año.
+         *
+         * @param text la cadena a comprobar.
+         * @return {@code true} si la cadena puede corresponder al patrón.
+         */
+        private boolean matchesSeparators(CharSequence text) {
+            int length = text.length();
+            int next = 0;
+            boolean fieldStart = true;
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    fieldStart = false;
+                    continue;
+                }
+                if (fieldStart && (c == '+' || c == '-') && years.get(next)) {
+                    fieldStart = false;
+                    continue;
+                }
+                if (next == separators.length || separators[next++] != c) {
+                    return false;
+                }
+                fieldStart = true;
+            }
+            return next == separators.length;
+        }
+
+        /**
+         * Obtiene los separadores de un patrón numérico.
+         *
+         * @param pattern el patrón de formato.
+         * @param years el conjunto que recibe, por cada campo de año, la
+         * cantidad de separadores que lo preceden.
+         * @return los separadores en orden o {@code null} si el patrón contiene
+         * campos de texto, secciones opcionales o literales alfanuméricos.
+         */
+        private static char[] separators(String pattern, BitSet years) {
+            StringBuilder result = new StringBuilder();
+            int length = pattern.length();
+            int i = 0;
+            while (i < length) {
+                char c = pattern.charAt(i);
+                if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                    int start = i;
+                    while (i < length && pattern.charAt(i) == c) {
+                        i++;
+                    }
+                    if (NUMERIC_LETTERS.indexOf(c) < 0 || ((c == 'M' || c == 'L') && i - start > 2)) {
+                        return null;
+                    }
+                    if (c == 'y' || c == 'u') {
+                        years.set(result.length());
+                    }
+                }
+                else if (c == '\'') {
+                    i++;
+                    if (i < length && pattern.charAt(i) == '\'') {
+                        result.append('\'');
+                        i++;
+                        continue;
+                    }
+                    while (i < length) {
+                        char quoted = pattern.charAt(i++);
+                        if (quoted == '\'') {
+                            if (i < length && pattern.charAt(i) == '\'') {
+                                result.append('\'');
+                                i++;
+                            }
+                            else {
+                                break;
+                            }
+                        }
+                        else if (Character.isLetterOrDigit(quoted)) {
+                            return null;
+                        }
+                        else {
+                            result.append(quoted);
+                        }
+                    }
+                }
+                else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#'
+                        || (c >= '0' && c <= '9')) {
+                    return null;
+                }
+                else {
+                    result.append(c);
+                    i++;
+                }
+            }
+            return result.toString().toCharArray();
+        }
+    }
+}
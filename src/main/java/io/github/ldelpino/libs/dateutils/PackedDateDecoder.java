@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.lang.System.Logger.Level;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Convierte lotes de fechas de ancho fijo almacenadas una tras otra en una
+ * secuencia de bytes, a intervalos regulares, en la cantidad de días desde
+ * 1970-01-01.
+ * <p>
+ * Esta clase realiza la conversión registro a registro con el objeto
+ * {@link io.github.ldelpino.libs.dateutils.FixedWidthPattern} del patrón. En
+ * las versiones 17 y posteriores del JDK el archivo JAR de la librería
+ * contiene además la clase <code>VectorDateDecoder</code>, que comprueba los
+ * dígitos y los literales de cada registro con una sola comparación vectorial
+ * y calcula los días de varios registros a la vez en los carriles de un vector
+ * mediante el módulo <code>jdk.incubator.vector</code>. Esa clase se utiliza
+ * solo si el módulo está disponible, es decir, si la aplicación se ejecuta con
+ * la opción <code>--add-modules jdk.incubator.vector</code>, tanto en la ruta
+ * de clases como en la ruta de módulos; en caso contrario se utiliza esta
+ * clase sin ningún cambio en los resultados. El descriptor del módulo de la
+ * librería se compila para versiones del JDK que no incluyen el módulo de
+ * incubación, por lo que no declara la dependencia y la lectura del módulo se
+ * añade en tiempo de ejecución. El motivo por el que la API de vectores no se utiliza
+ * se registra con el objeto {@link java.lang.System.Logger} de esta clase.</p>
+ * <p>
+ * Los registros que no pueden convertirse por esta vía reciben el valor
+ * {@link io.github.ldelpino.libs.dateutils.FixedWidthPattern#UNRESOLVED} y
+ * deben convertirse con el objeto de formato del patrón, que produce el
+ * resultado o el error correspondiente.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.CompiledPattern
+ */
+class PackedDateDecoder {
+
+    /**
+     * El nombre de la clase que realiza la conversión con la API de vectores.
+     */
+    private static final String VECTOR_DECODER = "io.github.ldelpino.libs.dateutils.VectorDateDecoder";
+
+    /**
+     * El nombre del módulo de la API de vectores.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * El objeto que registra por qué no se utiliza la API de vectores.
+     */
+    private static final System.Logger LOGGER = System.getLogger(PackedDateDecoder.class.getName());
+
+    /**
+     * El método que crea los objetos de conversión con la API de vectores o
+     * {@code null} si la API no está disponible.
+     */
+    private static final Method VECTOR_FACTORY = vectorFactory();
+
+    /**
+     * El patrón de ancho fijo o {@code null} si el patrón no es de ancho fijo.
+     */
+    final FixedWidthPattern fixed;
+
+    /**
+     * Crea un nuevo objeto que convierte los registros uno a uno.
+     *
+     * @param fixed el patrón de ancho fijo o {@code null} si el patrón no es de
+     * ancho fijo.
+     */
+    PackedDateDecoder(FixedWidthPattern fixed) {
+        this.fixed = fixed;
+    }
+
+    /**
+     * Devuelve un objeto de conversión para un patrón, con la API de vectores
+     * si está disponible y el patrón puede convertirse por esa vía.
+     *
+     * @param fixed el patrón de ancho fijo o {@code null} si el patrón no es de
+     * ancho fijo.
+     * @return el objeto de conversión.
+     */
+    static PackedDateDecoder of(FixedWidthPattern fixed) {
+        if (fixed != null && VECTOR_FACTORY != null) {
+            try {
+                PackedDateDecoder decoder = (PackedDateDecoder) VECTOR_FACTORY.invoke(null, fixed);
+                if (decoder != null) {
+                    return decoder;
+                }
+            }
+            catch (ReflectiveOperationException | LinkageError ex) {
+                LOGGER.log(Level.WARNING, "No se pudo crear el objeto de conversión con la API de vectores "
+                        + "para el patrón " + fixed.getPattern() + ", se convierte registro a registro", ex);
+            }
+        }
+        return new PackedDateDecoder(fixed);
+    }
+
+    /**
+     * Indica si la conversión con la API de vectores está disponible.
+     *
+     * @return {@code true} si la API de vectores está disponible.
+     */
+    static boolean isVectorAvailable() {
+        return VECTOR_FACTORY != null;
+    }
+
+    /**
+     * Busca el método que crea los objetos de conversión con la API de
+     * vectores y comprueba que funciona con un patrón de ejemplo. La clase no
+     * existe en versiones del JDK anteriores a la 17 y no puede cargarse si el
+     * módulo <code>jdk.incubator.vector</code> no está disponible o si el
+     * módulo de la librería no lo lee, por lo que antes de cargarla se añade
+     * la lectura del módulo. Que el módulo no esté disponible es lo habitual y
+     * se registra con el nivel {@link java.lang.System.Logger.Level#DEBUG};
+     * cualquier otro error indica un problema de instalación y se registra
+     * con el nivel {@link java.lang.System.Logger.Level#WARNING}.
+     *
+     * @return el método o {@code null} si la API de vectores no está
+     * disponible.
+     */
+    private static Method vectorFactory() {
+        Module module = PackedDateDecoder.class.getModule();
+        ModuleLayer layer = module.getLayer() != null ? module.getLayer() : ModuleLayer.boot();
+        Optional<Module> vector = layer.findModule(VECTOR_MODULE);
+        if (!vector.isPresent()) {
+            LOGGER.log(Level.DEBUG, "El módulo " + VECTOR_MODULE + " no está disponible, las fechas de "
+                    + "ancho fijo se convierten registro a registro");
+            return null;
+        }
+        module.addReads(vector.get());
+        try {
+            Class<?> decoder = Class.forName(VECTOR_DECODER);
+            Method factory = decoder.getDeclaredMethod("create", FixedWidthPattern.class);
+            PackedDateDecoder probe = (PackedDateDecoder) factory.invoke(null,
+                    FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_PATTERN));
+            byte[] bytes = "01/01/1970".getBytes(StandardCharsets.US_ASCII);
+            long[] epochDays = new long[1];
+            probe.decode(ByteBuffer.wrap(bytes), 0, bytes.length, bytes.length, epochDays, 1);
+            if (epochDays[0] != 0) {
+                LOGGER.log(Level.WARNING, "La conversión con la API de vectores devolvió " + epochDays[0]
+                        + " para 01/01/1970, las fechas de ancho fijo se convierten registro a registro");
+                return null;
+            }
+            return factory;
+        }
+        catch (ClassNotFoundException ex) {
+            LOGGER.log(Level.DEBUG, "La clase " + VECTOR_DECODER + " no está disponible en esta versión "
+                    + "del JDK, las fechas de ancho fijo se convierten registro a registro");
+            return null;
+        }
+        catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "No se pudo utilizar la API de vectores, las fechas de ancho fijo se "
+                    + "convierten registro a registro", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Convierte un lote de registros. El registro <code>i</code> ocupa los
+     * bytes desde <code>start + i * stride</code> hasta
+     * <code>start + i * stride + length</code>, que deben estar dentro del
+     * límite del objeto.
+     *
+     * @param buffer el objeto que contiene los bytes, se accede por posición
+     * absoluta y no se modifica su estado.
+     * @param start la posición del primer registro.
+     * @param length la cantidad de bytes de cada registro.
+     * @param stride la distancia en bytes entre el inicio de dos registros
+     * consecutivos.
+     * @param epochDays el arreglo que recibe la cantidad de días de cada
+     * registro o {@link io.github.ldelpino.libs.dateutils.FixedWidthPattern#UNRESOLVED}
+     * si el registro no puede convertirse por esta vía.
+     * @param count la cantidad de registros.
+     */
+    void decode(ByteBuffer buffer, int start, int length, int stride, long[] epochDays, int count) {
+        for (int i = 0; i < count; i++) {
+            epochDays[i] = fixed == null ? FixedWidthPattern.UNRESOLVED
+                    : fixed.parseEpochDay(buffer, start + i * stride, length);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Tarea que convierte un intervalo de cadenas de caracteres dividiéndolo entre
+ * los hilos de un objeto {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * El intervalo se divide a la mitad hasta alcanzar un tamaño mínimo, que se
+ * calcula para que cada hilo reciba varios fragmentos y el trabajo se equilibre
+ * aunque unos fragmentos sean más costosos que otros. Cada fragmento escribe
+ * sus resultados directamente en el arreglo de destino, por lo que los hilos
+ * nunca escriben en las mismas posiciones. Los errores no interrumpen la
+ * conversión y se registran por posición.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @param <T> el tipo de los objetos convertidos.
+ */
+final class ParallelParseTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * El tamaño mínimo de un fragmento.
+     */
+    private static final int MINIMUM_CHUNK = 1024;
+
+    /**
+     * La cantidad de fragmentos por hilo.
+     */
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    private final List<String> texts;
+    private final Function<String, T> parser;
+    private final T[] output;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final ConcurrentSkipListMap<Integer, DateTimeException> failures;
+
+    private ParallelParseTask(List<String> texts, Function<String, T> parser, T[] output, int from, int to,
+            int threshold, ConcurrentSkipListMap<Integer, DateTimeException> failures) {
+        this.texts = texts;
+        this.parser = parser;
+        this.output = output;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.failures = failures;
+    }
+
+    /**
+     * Convierte todas las cadenas de caracteres especificadas.
+     *
+     * @param <T> el tipo de los objetos convertidos.
+     * @param texts las cadenas de caracteres a convertir, la lista debe
+     * permitir el acceso por posición en tiempo constante.
+     * @param parser la función de conversión.
+     * @param output el arreglo de destino.
+     * @param pool el objeto que ejecuta la conversión.
+     * @return los errores ocurridos.
+     * @throws IllegalArgumentException si el arreglo de destino es menor que la
+     * cantidad de cadenas a convertir.
+     */
+    static <T> ParseFailures parseAll(List<String> texts, Function<String, T> parser, T[] output,
+            ForkJoinPool pool) throws IllegalArgumentException {
+        int size = texts.size();
+        if (output.length < size) {
+            throw new IllegalArgumentException("El arreglo de destino tiene " + output.length
+                    + " posiciones y se necesitan " + size);
+        }
+        int threshold = Math.max(MINIMUM_CHUNK, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        ConcurrentSkipListMap<Integer, DateTimeException> failures = new ConcurrentSkipListMap<>();
+        ParallelParseTask<T> task = new ParallelParseTask<>(texts, parser, output, 0, size, threshold, failures);
+        if (size <= threshold) {
+            task.compute();
+        }
+        else {
+            pool.invoke(task);
+        }
+        return ParseFailures.of(failures);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                String text = texts.get(i);
+                try {
+                    output[i] = text == null ? null : parser.apply(text);
+                }
+                catch (DateTimeException ex) {
+                    output[i] = null;
+                    failures.put(i, ex);
+                }
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new ParallelParseTask<>(texts, parser, output, from, middle, threshold, failures),
+                new ParallelParseTask<>(texts, parser, output, middle, to, threshold, failures));
+    }
+}
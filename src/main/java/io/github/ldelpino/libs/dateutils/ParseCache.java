@@ -0,0 +1,389 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Almacena los objetos de fechas y horas convertidos a partir de cadenas de
+ * caracteres.
+ * <p>
+ * Cuando las mismas cadenas de caracteres se repiten muchas veces, por ejemplo
+ * la fecha de todos los pedidos de un mismo día, el objeto devuelve el
+ * resultado de la primera conversión sin volver a convertir la cadena. Como
+ * los objetos de tipo {@link java.time.LocalDate},
+ * {@link java.time.LocalTime} y {@link java.time.LocalDateTime} son
+ * inmutables, todas las repeticiones comparten el mismo objeto. Los resultados
+ * se identifican por la cadena de caracteres, el patrón compilado y el tipo del
+ * resultado; las cadenas que no pueden convertirse no se almacenan.</p>
+ * <p>
+ * La cantidad de resultados almacenados está limitada, cuando se supera el
+ * límite se eliminan de una vez resultados no utilizados recientemente hasta
+ * liberar una octava parte del espacio. La elección sigue el algoritmo del
+ * reloj (CLOCK): cada resultado tiene una marca que se activa en su primer
+ * acierto y el recorrido de eliminación da una segunda oportunidad a los
+ * resultados marcados, desactivando su marca, por lo que los aciertos no
+ * escriben en memoria compartida. El objeto es seguro para su uso
+ * desde varios hilos y lleva la cuenta de los aciertos, fallos y
+ * eliminaciones. Para que los métodos de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} utilicen un objeto de
+ * esta clase debe establecerse con el método
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers#setParseCache(io.github.ldelpino.libs.dateutils.ParseCache)}.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateParsers
+ */
+public final class ParseCache {
+
+    /**
+     * La cantidad máxima de resultados almacenados por defecto.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 16_384;
+
+    private static final int LOCAL_DATE = 0;
+    private static final int LOCAL_TIME = 1;
+    private static final int LOCAL_DATE_TIME = 2;
+
+    /**
+     * Los resultados almacenados.
+     */
+    private final ConcurrentHashMap<Key, Node> cache = new ConcurrentHashMap<>();
+
+    /**
+     * La cantidad de aciertos.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * La cantidad de fallos.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * La cantidad de resultados eliminados por superar el límite.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * La cantidad máxima de resultados almacenados.
+     */
+    private final int maximum_size;
+
+    /**
+     * La posición del recorrido de eliminación, solo se utiliza dentro del
+     * método sincronizado {@link #evict()}.
+     */
+    private Iterator<Map.Entry<Key, Node>> hand;
+
+    /**
+     * Crea un objeto con la cantidad máxima de resultados por defecto.
+     */
+    public ParseCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Crea un objeto con la cantidad máxima de resultados especificada.
+     *
+     * @param maximumSize la cantidad máxima de resultados almacenados.
+     * @throws IllegalArgumentException si la cantidad máxima es menor que uno.
+     */
+    public ParseCache(int maximumSize) throws IllegalArgumentException {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("La cantidad máxima debe ser mayor que cero: " + maximumSize);
+        }
+        this.maximum_size = maximumSize;
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate a
+     * partir de un patrón de formato especificado, reutilizando el resultado
+     * de una conversión anterior de la misma cadena.
+     *
+     * @param localDate la cadena de caracteres a convertir.
+     * @param datePattern el patrón de formato de fecha.
+     * @return el objeto de fecha convertido.
+     */
+    public LocalDate parseLocalDate(String localDate, String datePattern) {
+        return parseLocalDate(localDate, FormatterCache.get(datePattern));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime a
+     * partir de un patrón de formato especificado, reutilizando el resultado
+     * de una conversión anterior de la misma cadena.
+     *
+     * @param localTime la cadena de caracteres a convertir.
+     * @param timePattern el patrón de formato de hora.
+     * @return el objeto de hora convertido.
+     */
+    public LocalTime parseLocalTime(String localTime, String timePattern) {
+        return parseLocalTime(localTime, FormatterCache.get(timePattern));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime a
+     * partir de un patrón de formato especificado, reutilizando el resultado
+     * de una conversión anterior de la misma cadena.
+     *
+     * @param localDateTime la cadena de caracteres a convertir.
+     * @param dateTimePattern el patrón de formato de fecha y hora.
+     * @return el objeto de fecha y hora convertido.
+     */
+    public LocalDateTime parseLocalDateTime(String localDateTime, String dateTimePattern) {
+        return parseLocalDateTime(localDateTime, FormatterCache.get(dateTimePattern));
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDate a
+     * partir de un patrón compilado.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param pattern el patrón compilado.
+     * @return el objeto de fecha convertido.
+     */
+    LocalDate parseLocalDate(String text, CompiledPattern pattern) {
+        return (LocalDate) get(text, pattern, LOCAL_DATE, CompiledPattern::parseLocalDate);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalTime a
+     * partir de un patrón compilado.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param pattern el patrón compilado.
+     * @return el objeto de hora convertido.
+     */
+    LocalTime parseLocalTime(String text, CompiledPattern pattern) {
+        return (LocalTime) get(text, pattern, LOCAL_TIME, CompiledPattern::parseLocalTime);
+    }
+
+    /**
+     * Convierte una cadena de caracteres en un objeto de tipo LocalDateTime a
+     * partir de un patrón compilado.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param pattern el patrón compilado.
+     * @return el objeto de fecha y hora convertido.
+     */
+    LocalDateTime parseLocalDateTime(String text, CompiledPattern pattern) {
+        return (LocalDateTime) get(text, pattern, LOCAL_DATE_TIME, CompiledPattern::parseLocalDateTime);
+    }
+
+    /**
+     * Devuelve el resultado almacenado o convierte la cadena y almacena el
+     * resultado.
+     *
+     * @param text la cadena de caracteres a convertir.
+     * @param pattern el patrón compilado.
+     * @param type el tipo del resultado.
+     * @param parser la función de conversión.
+     * @return el objeto convertido.
+     */
+    private TemporalAccessor get(String text, CompiledPattern pattern, int type,
+            BiFunction<CompiledPattern, String, ? extends TemporalAccessor> parser) {
+        Key key = new Key(text, pattern, type);
+        Node node = cache.get(key);
+        if (node != null) {
+            hits.increment();
+            if (!node.referenced) {
+                node.referenced = true;
+            }
+            return node.value;
+        }
+        misses.increment();
+        TemporalAccessor value = parser.apply(pattern, text);
+        node = cache.putIfAbsent(key, new Node(value));
+        if (node != null) {
+            return node.value;
+        }
+        if (cache.size() > maximum_size) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Elimina resultados no utilizados recientemente hasta que la cantidad de
+     * resultados almacenados sea como máximo siete octavas partes del límite.
+     * El recorrido continúa desde la posición en la que terminó el anterior y
+     * desactiva la marca de los resultados utilizados que encuentra.
+     */
+    private synchronized void evict() {
+        if (cache.size() <= maximum_size) {
+            return;
+        }
+        int target = maximum_size - maximum_size / 8;
+        while (cache.size() > target) {
+            if (hand == null || !hand.hasNext()) {
+                hand = cache.entrySet().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Map.Entry<Key, Node> entry = hand.next();
+            Node node = entry.getValue();
+            if (node.referenced) {
+                node.referenced = false;
+            }
+            else if (cache.remove(entry.getKey(), node)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la cantidad de resultados almacenados.
+     *
+     * @return la cantidad de resultados almacenados.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Devuelve la cantidad máxima de resultados almacenados.
+     *
+     * @return la cantidad máxima de resultados almacenados.
+     */
+    public int getMaximumSize() {
+        return maximum_size;
+    }
+
+    /**
+     * Elimina todos los resultados almacenados. Los contadores no se
+     * modifican.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        hand = null;
+    }
+
+    /**
+     * Devuelve la cantidad de veces que se encontró un resultado almacenado.
+     *
+     * @return la cantidad de aciertos.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Devuelve la cantidad de veces que fue necesario convertir una cadena.
+     *
+     * @return la cantidad de fallos.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Devuelve la proporción de aciertos sobre el total de conversiones.
+     *
+     * @return la proporción de aciertos entre 0 y 1, o 0 si no se ha
+     * realizado ninguna conversión.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Devuelve la cantidad de resultados eliminados por superar el límite.
+     *
+     * @return la cantidad de resultados eliminados.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Reinicia los contadores de aciertos, fallos y eliminaciones.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ParseCache[size=" + cache.size() + ", maximumSize=" + maximum_size + ", hits=" + hits.sum()
+                + ", misses=" + misses.sum() + "]";
+    }
+
+    /**
+     * Identificador de un resultado almacenado.
+     */
+    private static final class Key {
+
+        private final String text;
+        private final CompiledPattern pattern;
+        private final int type;
+        private final int hash;
+
+        private Key(String text, CompiledPattern pattern, int type) {
+            this.text = text;
+            this.pattern = pattern;
+            this.type = type;
+            this.hash = (text.hashCode() * 31 + pattern.hashCode()) * 31 + type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && type == other.type && text.equals(other.text)
+                    && pattern.equals(other.pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Entrada almacenada con la marca de uso del algoritmo del reloj. La marca
+     * no es volátil, las carreras entre hilos solo afectan la precisión del
+     * orden de eliminación.
+     */
+    private static final class Node {
+
+        private final TemporalAccessor value;
+        private boolean referenced;
+
+        private Node(TemporalAccessor value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.util.Map;
+
+/**
+ * Representa los errores ocurridos durante una conversión por lotes.
+ * <p>
+ * Las conversiones por lotes de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} no se interrumpen
+ * cuando un elemento no puede convertirse; en su lugar la posición del elemento
+ * en el arreglo de destino queda nula y el error se registra en un objeto de
+ * esta clase. Los errores se ordenan por la posición del elemento. Los objetos
+ * de esta clase son inmutables.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateParsers
+ */
+public final class ParseFailures {
+
+    /**
+     * El objeto que representa una conversión sin errores.
+     */
+    static final ParseFailures NONE = new ParseFailures(new int[0], new DateTimeException[0]);
+
+    /**
+     * Las posiciones de los elementos que no pudieron convertirse.
+     */
+    private final int[] indices;
+
+    /**
+     * Los errores ocurridos en cada posición.
+     */
+    private final DateTimeException[] exceptions;
+
+    /**
+     * Crea un nuevo objeto a partir de las posiciones y errores especificados.
+     *
+     * @param indices las posiciones de los elementos.
+     * @param exceptions los errores ocurridos.
+     */
+    private ParseFailures(int[] indices, DateTimeException[] exceptions) {
+        this.indices = indices;
+        this.exceptions = exceptions;
+    }
+
+    /**
+     * Crea un nuevo objeto a partir de los errores ordenados por posición.
+     *
+     * @param failures los errores ordenados por posición.
+     * @return el objeto creado.
+     */
+    static ParseFailures of(Map<Integer, DateTimeException> failures) {
+        if (failures.isEmpty()) {
+            return NONE;
+        }
+        int[] indices = new int[failures.size()];
+        DateTimeException[] exceptions = new DateTimeException[failures.size()];
+        int i = 0;
+        for (Map.Entry<Integer, DateTimeException> entry : failures.entrySet()) {
+            indices[i] = entry.getKey();
+            exceptions[i++] = entry.getValue();
+        }
+        return new ParseFailures(indices, exceptions);
+    }
+
+    /**
+     * Devuelve la cantidad de elementos que no pudieron convertirse.
+     *
+     * @return la cantidad de errores.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Indica si todos los elementos se convirtieron correctamente.
+     *
+     * @return {@code true} si no ocurrieron errores.
+     */
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /**
+     * Devuelve la posición del elemento correspondiente al error especificado.
+     *
+     * @param failure el número del error, entre cero y {@link #size()}
+     * exclusivo.
+     * @return la posición del elemento en el arreglo de entrada.
+     * @throws IndexOutOfBoundsException si el número del error no es válido.
+     */
+    public int getIndex(int failure) throws IndexOutOfBoundsException {
+        return indices[failure];
+    }
+
+    /**
+     * Devuelve el error especificado.
+     *
+     * @param failure el número del error, entre cero y {@link #size()}
+     * exclusivo.
+     * @return el error ocurrido al convertir el elemento.
+     * @throws IndexOutOfBoundsException si el número del error no es válido.
+     */
+    public DateTimeException getException(int failure) throws IndexOutOfBoundsException {
+        return exceptions[failure];
+    }
+
+    /**
+     * Devuelve las posiciones de todos los elementos que no pudieron
+     * convertirse, en orden ascendente.
+     *
+     * @return una copia de las posiciones.
+     */
+    public int[] getIndices() {
+        return indices.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ParseFailures[" + indices.length + "]";
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+/**
+ * Representa el resultado de una conversión sin excepciones.
+ * <p>
+ * Los métodos <code>tryParse</code> de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DateParsers} no lanzan excepciones
+ * cuando la cadena no puede convertirse; en su lugar devuelven {@code null} o
+ * el valor {@link #NO_VALUE} y registran en un objeto de esta clase el código
+ * del error y la posición de la cadena en la que se detectó. Registrar un
+ * error no crea objetos, por lo que un mismo objeto puede reutilizarse en
+ * todas las conversiones de un lote. Los objetos de esta clase no son seguros
+ * para ser utilizados por varios hilos a la vez.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateParsers
+ */
+public final class ParseStatus {
+
+    /**
+     * Valor devuelto por los métodos de conversión en valores primitivos
+     * cuando la cadena no puede convertirse.
+     */
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    /**
+     * La conversión se realizó correctamente.
+     */
+    public static final int SUCCESS = 0;
+
+    /**
+     * La cadena a convertir es nula.
+     */
+    public static final int NULL_TEXT = 1;
+
+    /**
+     * La cadena contiene un carácter que no se corresponde con el patrón.
+     */
+    public static final int UNEXPECTED_CHARACTER = 2;
+
+    /**
+     * La cadena termina antes de completar el patrón.
+     */
+    public static final int UNEXPECTED_END = 3;
+
+    /**
+     * La cadena contiene caracteres después de completar el patrón.
+     */
+    public static final int TRAILING_TEXT = 4;
+
+    /**
+     * La cadena se corresponde con el patrón pero sus campos no forman una
+     * fecha u hora válida.
+     */
+    public static final int INVALID_VALUE = 5;
+
+    private static final String[] NAMES = {
+        "SUCCESS", "NULL_TEXT", "UNEXPECTED_CHARACTER", "UNEXPECTED_END", "TRAILING_TEXT", "INVALID_VALUE"
+    };
+
+    /**
+     * El código del error de la última conversión.
+     */
+    private int error;
+
+    /**
+     * La posición del error de la última conversión o -1 si la conversión se
+     * realizó correctamente.
+     */
+    private int error_index;
+
+    /**
+     * Crea un nuevo objeto que representa una conversión correcta.
+     */
+    public ParseStatus() {
+        error_index = -1;
+    }
+
+    /**
+     * Indica si la última conversión se realizó correctamente.
+     *
+     * @return {@code true} si la conversión se realizó correctamente.
+     */
+    public boolean isSuccess() {
+        return error == SUCCESS;
+    }
+
+    /**
+     * Devuelve el código del error de la última conversión.
+     *
+     * @return el código del error o {@link #SUCCESS} si la conversión se
+     * realizó correctamente.
+     */
+    public int getError() {
+        return error;
+    }
+
+    /**
+     * Devuelve la posición de la cadena en la que se detectó el error de la
+     * última conversión. Los errores {@link #INVALID_VALUE} se registran en la
+     * posición cero, igual que en los objetos de tipo
+     * {@link java.time.format.DateTimeParseException}.
+     *
+     * @return la posición del error o -1 si la conversión se realizó
+     * correctamente.
+     */
+    public int getErrorIndex() {
+        return error_index;
+    }
+
+    /**
+     * Registra una conversión correcta.
+     */
+    void succeed() {
+        error = SUCCESS;
+        error_index = -1;
+    }
+
+    /**
+     * Registra un error de conversión.
+     *
+     * @param error el código del error.
+     * @param index la posición del error.
+     */
+    void fail(int error, int index) {
+        this.error = error;
+        this.error_index = index;
+    }
+
+    @Override
+    public String toString() {
+        return error == SUCCESS ? "ParseStatus[SUCCESS]"
+                : "ParseStatus[" + NAMES[error] + " at " + error_index + "]";
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Representa el estado del registro de patrones con nombre de la clase
+ * {@link io.github.ldelpino.libs.dateutils.DatePatterns}.
+ * <p>
+ * Cada nombre registrado recibe un identificador numérico que no cambia
+ * mientras dure la aplicación, aunque el patrón del nombre se sustituya o se
+ * elimine y vuelva a registrarse. Los patrones compilados se almacenan en un
+ * arreglo indexado por el identificador, por lo que obtener un patrón a partir
+ * de su identificador no calcula ningún código hash. Los objetos de esta clase
+ * son inmutables; cada modificación crea un nuevo estado que sustituye al
+ * anterior de forma atómica.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DatePatterns
+ */
+final class PatternRegistry {
+
+    /**
+     * El estado actual del registro.
+     */
+    private static volatile PatternRegistry current = new PatternRegistry(Collections.emptyMap(),
+            new CompiledPattern[0]);
+
+    /**
+     * Los identificadores de todos los nombres registrados alguna vez.
+     */
+    private final Map<String, Integer> ids;
+
+    /**
+     * Los patrones compilados indexados por identificador, los elementos de
+     * los nombres eliminados son nulos.
+     */
+    private final CompiledPattern[] patterns;
+
+    private PatternRegistry(Map<String, Integer> ids, CompiledPattern[] patterns) {
+        this.ids = ids;
+        this.patterns = patterns;
+    }
+
+    /**
+     * Devuelve el estado actual del registro.
+     *
+     * @return el estado actual.
+     */
+    static PatternRegistry current() {
+        return current;
+    }
+
+    /**
+     * Sustituye el estado actual por el resultado de aplicarle la función
+     * especificada. Las actualizaciones se realizan de una en una para que
+     * ningún cambio concurrente se pierda.
+     *
+     * @param update la función que calcula el nuevo estado.
+     * @return el nuevo estado.
+     */
+    static synchronized PatternRegistry update(UnaryOperator<PatternRegistry> update) {
+        PatternRegistry registry = update.apply(current);
+        current = registry;
+        return registry;
+    }
+
+    /**
+     * Compila los patrones especificados con la configuración regional del
+     * contexto por defecto. Si algún patrón no es válido no se compila
+     * ninguno.
+     *
+     * @param patterns los patrones de formato por nombre.
+     * @return los patrones compilados por nombre.
+     * @throws IllegalArgumentException si algún patrón no es válido.
+     */
+    static Map<String, CompiledPattern> compile(Map<String, String> patterns)
+            throws IllegalArgumentException {
+        Locale locale = DateUtilsContext.getDefault().getLocale();
+        Map<String, CompiledPattern> compiled = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            String name = Objects.requireNonNull(entry.getKey(), "name");
+            String pattern = Objects.requireNonNull(entry.getValue(), name);
+            try {
+                compiled.put(name, FormatterCache.get(pattern, locale, null));
+            }
+            catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("El patrón '" + name + "' no es válido: " + pattern, ex);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Devuelve un estado igual a este con los patrones especificados.
+     *
+     * @param compiled los patrones compilados por nombre.
+     * @param replace {@code true} para eliminar los nombres que no están entre
+     * los patrones especificados.
+     * @return el nuevo estado.
+     */
+    PatternRegistry with(Map<String, CompiledPattern> compiled, boolean replace) {
+        Map<String, Integer> newIds = new HashMap<>(ids);
+        for (String name : compiled.keySet()) {
+            newIds.putIfAbsent(name, newIds.size());
+        }
+        CompiledPattern[] newPatterns = replace ? new CompiledPattern[newIds.size()]
+                : Arrays.copyOf(patterns, newIds.size());
+        for (Map.Entry<String, CompiledPattern> entry : compiled.entrySet()) {
+            newPatterns[newIds.get(entry.getKey())] = entry.getValue();
+        }
+        return new PatternRegistry(Collections.unmodifiableMap(newIds), newPatterns);
+    }
+
+    /**
+     * Devuelve el identificador de un nombre registrado.
+     *
+     * @param name el nombre del patrón.
+     * @return el identificador o -1 si el nombre no está registrado.
+     */
+    int id(String name) {
+        Integer id = ids.get(name);
+        return id == null || patterns[id] == null ? -1 : id;
+    }
+
+    /**
+     * Devuelve el patrón compilado de un identificador.
+     *
+     * @param id el identificador del patrón.
+     * @return el patrón compilado o {@code null} si el identificador no
+     * corresponde a un nombre registrado.
+     */
+    CompiledPattern get(int id) {
+        return id >= 0 && id < patterns.length ? patterns[id] : null;
+    }
+
+    /**
+     * Devuelve los patrones de formato registrados por nombre.
+     *
+     * @return una copia de los patrones registrados.
+     */
+    Map<String, String> toMap() {
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+            CompiledPattern compiled = patterns[entry.getValue()];
+            if (compiled != null) {
+                result.put(entry.getKey(), compiled.getPattern());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Convierte repetidamente una fecha y hora con cada patrón registrado, en
+     * ambos sentidos, para que la carga de clases y la compilación en tiempo de
+     * ejecución ocurran antes de las conversiones reales. Las fechas y horas de
+     * ejemplo que no pueden representarse con un patrón, por ejemplo porque
+     * contiene campos que no pueden obtenerse de ellas, se omiten y se
+     * continúa con la siguiente.
+     *
+     * @param iterations la cantidad de conversiones por patrón.
+     */
+    void warmUp(int iterations) {
+        LocalDateTime start = LocalDateTime.of(2022, 1, 1, 0, 0);
+        for (CompiledPattern compiled : patterns) {
+            if (compiled == null) {
+                continue;
+            }
+            for (int i = 0; i < iterations; i++) {
+                LocalDateTime localDateTime = start.plusSeconds(i * 86_399L).withNano(i % 1000 * 1_000_000);
+                ZonedDateTime zonedDateTime = localDateTime.atZone(DateConverters.getTimeZone());
+                String text;
+                try {
+                    text = compiled.isFixedWidth() ? compiled.format(localDateTime)
+                            : compiled.getFormatter().format(zonedDateTime);
+                }
+                catch (DateTimeException ex) {
+                    /*
+                     * El patrón contiene un campo que no puede obtenerse de
+                     * esta fecha y hora; las conversiones sin excepciones no
+                     * lanzan, por lo que solo el formato puede fallar.
+                     */
+                    continue;
+                }
+                compiled.tryParseLocalDateTime(text, null);
+                compiled.tryParseLocalDate(text, null);
+                compiled.tryParseLocalTime(text, null);
+            }
+        }
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Date;
+
+/**
+ * Representa una columna de instantes almacenada fuera del heap.
+ * <p>
+ * Cada instante se almacena como la cantidad de milisegundos desde
+ * 1970-01-01T00:00:00Z en un valor de tipo long dentro de un objeto
+ * {@link java.nio.ByteBuffer} directo, por lo que un instante ocupa 8 bytes y
+ * la columna no crea objetos que deba recorrer el recolector de basura. Los
+ * filtros por rango, el mínimo, el máximo y el ordenamiento operan
+ * directamente sobre los valores almacenados. La agrupación por días utiliza la
+ * zona horaria por defecto, ver
+ * {@link io.github.ldelpino.libs.dateutils.DateConverters#getTimeZone()}.</p>
+ * <p>
+ * Los instantes inexistentes se representan con el valor {@link #MISSING}. La
+ * columna crece automáticamente al añadir instantes. Los objetos de esta clase
+ * no son seguros para su uso concurrente si alguno de los hilos la
+ * modifica.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.DateColumn
+ */
+public final class TimestampColumn {
+
+    /**
+     * El valor que representa un instante inexistente.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * La capacidad inicial de una columna creada sin capacidad.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Los valores de la columna.
+     */
+    private LongBuffer values;
+
+    /**
+     * La cantidad de instantes de la columna.
+     */
+    private int size;
+
+    /**
+     * Crea una columna vacía.
+     */
+    public TimestampColumn() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Crea una columna vacía con la capacidad especificada.
+     *
+     * @param capacity la cantidad de instantes que pueden añadirse sin que la
+     * columna crezca.
+     * @throws IllegalArgumentException si la capacidad es negativa.
+     */
+    public TimestampColumn(int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacity);
+        }
+        values = allocate(capacity);
+    }
+
+    /**
+     * Crea una columna a partir de los instantes especificados, expresados como
+     * la cantidad de milisegundos desde 1970-01-01T00:00:00Z. Los valores
+     * {@link io.github.ldelpino.libs.dateutils.DateColumnReader#MISSING} se
+     * convierten en instantes inexistentes, por lo que el resultado de
+     * {@link io.github.ldelpino.libs.dateutils.DateColumnReader#readEpochMillis(java.nio.file.Path)}
+     * puede utilizarse directamente.
+     *
+     * @param epochMillis los instantes.
+     * @return la columna creada.
+     */
+    public static TimestampColumn of(long[] epochMillis) {
+        TimestampColumn column = new TimestampColumn(epochMillis.length);
+        column.size = epochMillis.length;
+        column.view().put(epochMillis);
+        return column;
+    }
+
+    /**
+     * Crea una columna a partir de los objetos de tipo java.util.Date
+     * especificados. Los elementos nulos se convierten en instantes
+     * inexistentes.
+     *
+     * @param dates los instantes.
+     * @return la columna creada.
+     */
+    public static TimestampColumn of(Date[] dates) {
+        TimestampColumn column = new TimestampColumn(dates.length);
+        for (Date date : dates) {
+            column.add(date == null ? MISSING : date.getTime());
+        }
+        return column;
+    }
+
+    /**
+     * Devuelve la cantidad de instantes de la columna.
+     *
+     * @return la cantidad de instantes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Devuelve la cantidad de instantes que pueden almacenarse sin que la
+     * columna crezca.
+     *
+     * @return la capacidad de la columna.
+     */
+    public int capacity() {
+        return values.capacity();
+    }
+
+    /**
+     * Añade un instante al final de la columna.
+     *
+     * @param epochMilli la cantidad de milisegundos desde 1970-01-01T00:00:00Z
+     * o {@link #MISSING} para añadir un instante inexistente.
+     */
+    public void add(long epochMilli) {
+        ensureCapacity(size + 1);
+        values.put(size++, epochMilli);
+    }
+
+    /**
+     * Añade un instante inexistente al final de la columna.
+     */
+    public void addMissing() {
+        add(MISSING);
+    }
+
+    /**
+     * Sustituye el instante de la posición especificada.
+     *
+     * @param index la posición.
+     * @param epochMilli la cantidad de milisegundos desde 1970-01-01T00:00:00Z.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public void set(int index, long epochMilli) throws IndexOutOfBoundsException {
+        values.put(checkIndex(index), epochMilli);
+    }
+
+    /**
+     * Devuelve el instante de la posición especificada como la cantidad de
+     * milisegundos desde 1970-01-01T00:00:00Z.
+     *
+     * @param index la posición.
+     * @return los milisegundos o {@link #MISSING} si el instante no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public long getEpochMilli(int index) throws IndexOutOfBoundsException {
+        return values.get(checkIndex(index));
+    }
+
+    /**
+     * Indica si el instante de la posición especificada no existe.
+     *
+     * @param index la posición.
+     * @return {@code true} si el instante no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public boolean isMissing(int index) throws IndexOutOfBoundsException {
+        return getEpochMilli(index) == MISSING;
+    }
+
+    /**
+     * Devuelve el instante de la posición especificada.
+     *
+     * @param index la posición.
+     * @return el instante o {@code null} si el instante no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public Instant getInstant(int index) throws IndexOutOfBoundsException {
+        long epochMilli = getEpochMilli(index);
+        return epochMilli == MISSING ? null : Instant.ofEpochMilli(epochMilli);
+    }
+
+    /**
+     * Devuelve la fecha y hora local del instante de la posición especificada
+     * en la zona horaria por defecto.
+     *
+     * @param index la posición.
+     * @return la fecha y hora o {@code null} si el instante no existe.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    public LocalDateTime getLocalDateTime(int index) throws IndexOutOfBoundsException {
+        long epochMilli = getEpochMilli(index);
+        return epochMilli == MISSING ? null : DateConverters.convertFromEpochMilliToLocalDateTime(epochMilli);
+    }
+
+    /**
+     * Devuelve el menor instante de la columna.
+     *
+     * @return los milisegundos o {@link #MISSING} si la columna no tiene
+     * instantes.
+     */
+    public long min() {
+        long min = Long.MAX_VALUE;
+        boolean found = false;
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (value != MISSING && value <= min) {
+                min = value;
+                found = true;
+            }
+        }
+        return found ? min : MISSING;
+    }
+
+    /**
+     * Devuelve el mayor instante de la columna.
+     *
+     * @return los milisegundos o {@link #MISSING} si la columna no tiene
+     * instantes.
+     */
+    public long max() {
+        long max = MISSING;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values.get(i));
+        }
+        return max;
+    }
+
+    /**
+     * Devuelve las posiciones de los instantes que se encuentran en el rango
+     * especificado.
+     *
+     * @param fromEpochMilli el inicio del rango, inclusivo.
+     * @param toEpochMilli el fin del rango, exclusivo.
+     * @return las posiciones de los instantes del rango.
+     */
+    public BitSet filter(long fromEpochMilli, long toEpochMilli) {
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (value != MISSING && value >= fromEpochMilli && value < toEpochMilli) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cuenta los instantes que se encuentran en el rango especificado.
+     *
+     * @param fromEpochMilli el inicio del rango, inclusivo.
+     * @param toEpochMilli el fin del rango, exclusivo.
+     * @return la cantidad de instantes del rango.
+     */
+    public int count(long fromEpochMilli, long toEpochMilli) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (value != MISSING && value >= fromEpochMilli && value < toEpochMilli) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Agrupa los instantes de la columna por días. Cada instante se convierte
+     * en la fecha local correspondiente de la zona horaria por defecto.
+     *
+     * @return la columna de fechas, en el mismo orden que los instantes.
+     */
+    public DateColumn toDateColumn() {
+        ZoneOffsetTable table = DateConverters.offsetTable();
+        DateColumn result = new DateColumn(size);
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (value == MISSING) {
+                result.addMissing();
+            }
+            else {
+                result.add(DateFields.getEpochDay(DateConverters.toLocalEpochMilli(table, value)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cuenta los instantes de cada día local del rango especificado en la zona
+     * horaria por defecto. La posición <code>i</code> del resultado contiene la
+     * cantidad de instantes cuya fecha local es <code>fromEpochDay + i</code>.
+     *
+     * @param fromEpochDay el primer día, inclusivo.
+     * @param toEpochDay el último día, exclusivo.
+     * @return la cantidad de instantes de cada día.
+     * @throws IllegalArgumentException si el rango está invertido o es
+     * demasiado grande.
+     */
+    public int[] countByDay(long fromEpochDay, long toEpochDay) throws IllegalArgumentException {
+        if (toEpochDay < fromEpochDay || toEpochDay - fromEpochDay > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("El rango [" + fromEpochDay + ", " + toEpochDay
+                    + ") no es válido");
+        }
+        ZoneOffsetTable table = DateConverters.offsetTable();
+        int[] counts = new int[(int) (toEpochDay - fromEpochDay)];
+        for (int i = 0; i < size; i++) {
+            long value = values.get(i);
+            if (value != MISSING) {
+                long epochDay = DateFields.getEpochDay(DateConverters.toLocalEpochMilli(table, value));
+                if (epochDay >= fromEpochDay && epochDay < toEpochDay) {
+                    counts[(int) (epochDay - fromEpochDay)]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Ordena los instantes de la columna de forma ascendente en la memoria
+     * directa, sin copiarlos en el montículo. Los instantes inexistentes se
+     * colocan al inicio.
+     */
+    public void sort() {
+        BufferSort.sort(values, 0, size);
+    }
+
+    /**
+     * Copia los instantes de la columna en un arreglo.
+     *
+     * @return los instantes como la cantidad de milisegundos desde
+     * 1970-01-01T00:00:00Z.
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        view().get(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TimestampColumn[" + size + "]";
+    }
+
+    /**
+     * Comprueba que la posición especificada es válida.
+     *
+     * @param index la posición.
+     * @return la posición.
+     * @throws IndexOutOfBoundsException si la posición no es válida.
+     */
+    private int checkIndex(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Posición: " + index + ", tamaño: " + size);
+        }
+        return index;
+    }
+
+    /**
+     * Aumenta la capacidad de la columna si es necesario.
+     *
+     * @param minimum la capacidad mínima.
+     */
+    private void ensureCapacity(int minimum) {
+        if (minimum > values.capacity()) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE / Long.BYTES,
+                    Math.max(minimum, values.capacity() * 2L));
+            LongBuffer grown = allocate(capacity);
+            grown.put(view());
+            values = grown;
+        }
+    }
+
+    /**
+     * Devuelve una vista de los instantes de la columna.
+     *
+     * @return una vista entre la posición cero y el tamaño de la columna.
+     */
+    private LongBuffer view() {
+        LongBuffer view = values.duplicate();
+        view.clear().limit(size);
+        return view;
+    }
+
+    /**
+     * Reserva la memoria directa para la cantidad de instantes especificada.
+     *
+     * @param capacity la cantidad de instantes.
+     * @return la memoria reservada.
+     */
+    private static LongBuffer allocate(int capacity) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(capacity * Long.BYTES);
+        return buffer.order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+}
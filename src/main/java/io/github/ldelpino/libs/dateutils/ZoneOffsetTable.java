@@ -0,0 +1,293 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Tabla precalculada de los desplazamientos de una zona horaria.
+ * <p>
+ * La tabla almacena, en arreglos de tipos primitivos, los intervalos de tiempo
+ * en los que el desplazamiento de la zona horaria es constante entre los años
+ * 1900 y 2100. Dentro de ese rango la conversión entre instantes y fechas y
+ * horas locales se reduce a una comparación y una suma, en lugar de consultar
+ * el objeto {@link java.time.zone.ZoneRules} en cada llamada. Además se
+ * recuerda el último intervalo utilizado, por lo que los valores consecutivos
+ * de una secuencia ordenada no necesitan búsqueda alguna.</p>
+ * <p>
+ * Las horas locales que caen en un salto o en un solapamiento de un cambio de
+ * horario, así como los valores fuera del rango de la tabla, no se resuelven
+ * aquí y se indican al llamador para que los convierta a través de
+ * {@link java.time.LocalDateTime#atZone(java.time.ZoneId)} o de las reglas de
+ * la zona horaria. Los objetos de esta clase son inmutables, salvo por el
+ * intervalo recordado, y pueden ser compartidos entre hilos.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ */
+final class ZoneOffsetTable {
+
+    /**
+     * Valor devuelto por {@link #toEpochSecond(long)} cuando la hora local
+     * debe resolverse a través de las reglas de la zona horaria.
+     */
+    static final long UNRESOLVED = Long.MIN_VALUE;
+
+    /**
+     * Primer instante, en segundos, cubierto por la tabla.
+     */
+    private static final long MIN_EPOCH_SECOND = LocalDate.of(1900, 1, 1).toEpochDay() * 86_400L;
+
+    /**
+     * Instante, en segundos, a partir del cual la tabla no tiene valores.
+     */
+    private static final long MAX_EPOCH_SECOND = LocalDate.of(2100, 1, 1).toEpochDay() * 86_400L;
+
+    /**
+     * La zona horaria de la tabla.
+     */
+    private final ZoneId zone;
+
+    /**
+     * Las reglas de la zona horaria, utilizadas fuera del rango de la tabla.
+     */
+    private final ZoneRules rules;
+
+    /**
+     * Los límites de los intervalos en segundos desde 1970-01-01T00:00:00Z. El
+     * intervalo <code>i</code> comprende los instantes entre
+     * <code>instants[i]</code>, inclusivo, e <code>instants[i + 1]</code>,
+     * exclusivo.
+     */
+    private final long[] instants;
+
+    /**
+     * El desplazamiento en segundos de cada intervalo.
+     */
+    private final int[] offsets;
+
+    /**
+     * El primer segundo local que se corresponde sin ambigüedad con cada
+     * intervalo.
+     */
+    private final long[] local_starts;
+
+    /**
+     * El segundo local, exclusivo, a partir del cual la hora local deja de
+     * corresponderse sin ambigüedad con cada intervalo.
+     */
+    private final long[] local_ends;
+
+    /**
+     * El último intervalo utilizado en la conversión de instantes. Las
+     * carreras entre hilos solo afectan al intervalo que se comprueba primero.
+     */
+    private int instant_hint;
+
+    /**
+     * El último intervalo utilizado en la conversión de horas locales.
+     */
+    private int local_hint;
+
+    /**
+     * El calendario de la zona horaria a partir del cual se crean los nuevos
+     * calendarios. Nunca se modifica después de crearse, por lo que puede
+     * copiarse desde varios hilos.
+     */
+    private final GregorianCalendar calendar_prototype;
+
+    /**
+     * Crea la tabla a partir de las transiciones especificadas.
+     *
+     * @param zone la zona horaria.
+     * @param instants los límites de los intervalos.
+     * @param offsets el desplazamiento de cada intervalo.
+     */
+    private ZoneOffsetTable(ZoneId zone, long[] instants, int[] offsets) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.instants = instants;
+        this.offsets = offsets;
+        int last = offsets.length - 1;
+        local_starts = new long[offsets.length];
+        local_ends = new long[offsets.length];
+        for (int i = 0; i <= last; i++) {
+            local_starts[i] = i == 0 ? saturatedAdd(instants[0], offsets[0])
+                    : instants[i] + Math.max(offsets[i - 1], offsets[i]);
+            local_ends[i] = i == last ? saturatedAdd(instants[i + 1], offsets[i])
+                    : instants[i + 1] + Math.min(offsets[i], offsets[i + 1]);
+        }
+        calendar_prototype = new GregorianCalendar(TimeZone.getTimeZone(zone));
+        calendar_prototype.setGregorianChange(new Date(Long.MIN_VALUE));
+        calendar_prototype.setFirstDayOfWeek(Calendar.MONDAY);
+        calendar_prototype.setMinimalDaysInFirstWeek(4);
+    }
+
+    /**
+     * Construye la tabla de desplazamientos de la zona horaria especificada.
+     *
+     * @param zone la zona horaria.
+     * @return la tabla de desplazamientos.
+     */
+    static ZoneOffsetTable of(ZoneId zone) {
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            int offset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            return new ZoneOffsetTable(zone, new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, new int[]{offset});
+        }
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(MIN_EPOCH_SECOND));
+        while (next != null && next.toEpochSecond() < MAX_EPOCH_SECOND) {
+            transitions.add(next);
+            next = rules.nextTransition(next.getInstant());
+        }
+        long[] instants = new long[transitions.size() + 2];
+        int[] offsets = new int[transitions.size() + 1];
+        instants[0] = MIN_EPOCH_SECOND;
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(MIN_EPOCH_SECOND)).getTotalSeconds();
+        for (int i = 0; i < transitions.size(); i++) {
+            instants[i + 1] = transitions.get(i).toEpochSecond();
+            offsets[i + 1] = transitions.get(i).getOffsetAfter().getTotalSeconds();
+        }
+        instants[instants.length - 1] = MAX_EPOCH_SECOND;
+        return new ZoneOffsetTable(zone, instants, offsets);
+    }
+
+    /**
+     * Devuelve la zona horaria de la tabla.
+     *
+     * @return la zona horaria de la tabla.
+     */
+    ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Crea un calendario de la zona horaria de la tabla en el instante
+     * especificado, igual al que devuelve
+     * {@link java.util.GregorianCalendar#from(java.time.ZonedDateTime)}. El
+     * calendario se copia de uno ya configurado, por lo que no se busca la
+     * zona horaria de tipo {@link java.util.TimeZone} en cada llamada.
+     *
+     * @param epochMilli el instante en milisegundos desde
+     * 1970-01-01T00:00:00Z.
+     * @return el calendario creado.
+     */
+    GregorianCalendar newCalendar(long epochMilli) {
+        GregorianCalendar calendar = (GregorianCalendar) calendar_prototype.clone();
+        calendar.setTimeInMillis(epochMilli);
+        return calendar;
+    }
+
+    /**
+     * Devuelve la cantidad de intervalos de la tabla.
+     *
+     * @return la cantidad de intervalos de la tabla.
+     */
+    int size() {
+        return offsets.length;
+    }
+
+    /**
+     * Devuelve el desplazamiento en segundos de la zona horaria en el instante
+     * especificado.
+     *
+     * @param epochSecond el instante en segundos desde 1970-01-01T00:00:00Z.
+     * @return el desplazamiento en segundos.
+     */
+    int offsetAtEpochSecond(long epochSecond) {
+        int hint = instant_hint;
+        if (epochSecond >= instants[hint] && epochSecond < instants[hint + 1]) {
+            return offsets[hint];
+        }
+        if (epochSecond < instants[0] || epochSecond >= instants[instants.length - 1]) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = Arrays.binarySearch(instants, epochSecond);
+        hint = index >= 0 ? index : -index - 2;
+        instant_hint = hint;
+        return offsets[hint];
+    }
+
+    /**
+     * Convierte una fecha y hora local, expresada en segundos desde
+     * 1970-01-01T00:00:00, en segundos desde 1970-01-01T00:00:00Z.
+     *
+     * @param localSecond los segundos locales.
+     * @return los segundos desde 1970-01-01T00:00:00Z o {@link #UNRESOLVED} si
+     * la hora local cae en un cambio de horario o fuera del rango de la tabla.
+     */
+    long toEpochSecond(long localSecond) {
+        int hint = local_hint;
+        if (localSecond >= local_starts[hint] && localSecond < local_ends[hint]) {
+            return localSecond - offsets[hint];
+        }
+        int index = Arrays.binarySearch(local_starts, localSecond);
+        index = index >= 0 ? index : -index - 2;
+        if (index < 0 || localSecond >= local_ends[index]) {
+            return UNRESOLVED;
+        }
+        local_hint = index;
+        return localSecond - offsets[index];
+    }
+
+    /**
+     * Convierte milisegundos locales desde 1970-01-01T00:00:00 en milisegundos
+     * desde 1970-01-01T00:00:00Z. Las horas locales que caen en un cambio de
+     * horario se resuelven igual que
+     * {@link java.time.LocalDateTime#atZone(java.time.ZoneId)}.
+     *
+     * @param localMilli los milisegundos locales.
+     * @return los milisegundos desde 1970-01-01T00:00:00Z.
+     */
+    long toEpochMilli(long localMilli) {
+        long localSecond = Math.floorDiv(localMilli, 1000);
+        long epochSecond = toEpochSecond(localSecond);
+        if (epochSecond == UNRESOLVED) {
+            epochSecond = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+        }
+        return epochSecond * 1000 + Math.floorMod(localMilli, 1000);
+    }
+
+    /**
+     * Suma dos valores limitando el resultado al rango de los valores de tipo
+     * long.
+     *
+     * @param value el valor.
+     * @param offset el desplazamiento a sumar.
+     * @return la suma limitada.
+     */
+    private static long saturatedAdd(long value, int offset) {
+        if (value == Long.MIN_VALUE || value == Long.MAX_VALUE) {
+            return value;
+        }
+        return value + offset;
+    }
+}
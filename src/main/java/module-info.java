@@ -21,4 +21,7 @@ module IoGithubLdelpinoLibsDate_utils {
     
     requires java.base;
     requires java.sql;
+    requires java.management;
+
+    exports io.github.ldelpino.libs.dateutils to java.management;
 }
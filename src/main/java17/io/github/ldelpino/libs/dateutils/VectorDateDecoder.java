@@ -0,0 +1,299 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Convierte lotes de fechas de ancho fijo almacenadas una tras otra en una
+ * secuencia de bytes en la cantidad de días desde 1970-01-01 mediante la API
+ * de vectores del módulo <code>jdk.incubator.vector</code>.
+ * <p>
+ * Cada registro se carga en un vector de bytes y sus dígitos y literales se
+ * comprueban con una sola comparación por tipo de posición. Los campos de los
+ * registros correctos se agrupan después en vectores de enteros, con un
+ * registro por carril, en los que se comprueba la validez de las fechas y se
+ * calcula la cantidad de días de todos los registros del grupo a la vez, sin
+ * divisiones ni saltos condicionales. Solo se utiliza con patrones de fecha de
+ * ancho fijo cuyos literales son caracteres ASCII y cuyas cadenas caben en un
+ * vector de bytes del tamaño preferido de la plataforma; el resto de los
+ * patrones se convierten con la clase
+ * {@link io.github.ldelpino.libs.dateutils.PackedDateDecoder}.</p>
+ * <p>
+ * Esta clase solo se incluye en el archivo JAR para las versiones 17 y
+ * posteriores del JDK y se carga mediante reflexión desde la clase
+ * {@link io.github.ldelpino.libs.dateutils.PackedDateDecoder}.</p>
+ *
+ * @author Lázaro César del Pino Olivera
+ * @since jdk-16.0.1
+ * @version 2.0
+ * @see io.github.ldelpino.libs.dateutils.PackedDateDecoder
+ */
+final class VectorDateDecoder extends PackedDateDecoder {
+
+    /**
+     * La especie de los vectores de enteros, un registro por carril.
+     */
+    private static final VectorSpecies<Integer> LANES = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * La cantidad de días desde el año 0 hasta 1970-01-01.
+     */
+    private static final int DAYS_0000_TO_1970 = 719_528;
+
+    /**
+     * La cantidad de días de cada mes en un año no bisiesto, indexada por los
+     * valores de dos dígitos; los meses que no existen tienen cero días.
+     */
+    private static final int[] MONTH_LENGTHS = new int[100];
+
+    /**
+     * La cantidad de días anteriores a cada mes en un año no bisiesto,
+     * indexada por los valores de dos dígitos.
+     */
+    private static final int[] DAYS_BEFORE_MONTH = new int[100];
+
+    static {
+        for (int month = 1; month <= 12; month++) {
+            MONTH_LENGTHS[month] = FixedWidthPattern.lengthOfMonth(1970, month);
+            DAYS_BEFORE_MONTH[month] = (367 * month - 362) / 12 - (month > 2 ? 2 : 0);
+        }
+    }
+
+    /**
+     * La especie de los vectores de bytes que contienen un registro.
+     */
+    private final VectorSpecies<Byte> species;
+
+    /**
+     * Los literales del patrón.
+     */
+    private final ByteVector template;
+
+    /**
+     * Las posiciones que contienen dígitos.
+     */
+    private final VectorMask<Byte> digits;
+
+    /**
+     * Las posiciones que contienen literales.
+     */
+    private final VectorMask<Byte> literals;
+
+    /**
+     * Las posiciones posteriores al final del registro.
+     */
+    private final VectorMask<Byte> outside;
+
+    private final int year_offset;
+    private final int month_offset;
+    private final int day_offset;
+
+    private VectorDateDecoder(FixedWidthPattern fixed, VectorSpecies<Byte> species) {
+        super(fixed);
+        this.species = species;
+        byte[] literal = new byte[species.length()];
+        boolean[] digit = new boolean[species.length()];
+        boolean[] constant = new boolean[species.length()];
+        boolean[] beyond = new boolean[species.length()];
+        for (int i = 0; i < species.length(); i++) {
+            if (i >= fixed.length()) {
+                beyond[i] = true;
+            }
+            else if (fixed.isDigit(i)) {
+                digit[i] = true;
+            }
+            else {
+                literal[i] = (byte) fixed.literal(i);
+                constant[i] = true;
+            }
+        }
+        this.template = ByteVector.fromArray(species, literal, 0);
+        this.digits = VectorMask.fromArray(species, digit, 0);
+        this.literals = VectorMask.fromArray(species, constant, 0);
+        this.outside = VectorMask.fromArray(species, beyond, 0);
+        this.year_offset = fixed.offset(FixedWidthPattern.YEAR);
+        this.month_offset = fixed.offset(FixedWidthPattern.MONTH);
+        this.day_offset = fixed.offset(FixedWidthPattern.DAY);
+    }
+
+    /**
+     * Crea un objeto de conversión para un patrón.
+     *
+     * @param fixed el patrón de ancho fijo.
+     * @return el objeto de conversión o {@code null} si el patrón no puede
+     * convertirse por esta vía.
+     */
+    static PackedDateDecoder create(FixedWidthPattern fixed) {
+        if (!fixed.isDateOnly() || !fixed.isAscii()
+                || fixed.length() > ByteVector.SPECIES_PREFERRED.length()) {
+            return null;
+        }
+        int bits = Math.max(64, Integer.highestOneBit(fixed.length() * 8 - 1) << 1);
+        return new VectorDateDecoder(fixed, VectorSpecies.of(byte.class, VectorShape.forBitSize(bits)));
+    }
+
+    @Override
+    void decode(ByteBuffer buffer, int start, int length, int stride, long[] epochDays, int count) {
+        if (length != fixed.length()) {
+            super.decode(buffer, start, length, stride, epochDays, count);
+            return;
+        }
+        int lanes = LANES.length();
+        int[] years = new int[lanes];
+        int[] months = new int[lanes];
+        int[] days = new int[lanes];
+        int[] results = new int[lanes];
+        byte[] array = buffer.hasArray() ? buffer.array() : null;
+        int base = array == null ? 0 : buffer.arrayOffset();
+        int last = buffer.limit() - species.length();
+        for (int first = 0; first < count; first += lanes) {
+            int size = Math.min(lanes, count - first);
+            for (int lane = 0; lane < lanes; lane++) {
+                int position = start + (first + lane) * stride;
+                if (lane >= size) {
+                    years[lane] = 0;
+                    months[lane] = 0;
+                    days[lane] = 0;
+                }
+                else if (array != null && position <= last) {
+                    int index = base + position;
+                    boolean matched = matches(ByteVector.fromArray(species, array, index));
+                    years[lane] = matched ? read(array, index + year_offset, 4) : 0;
+                    months[lane] = matched ? read(array, index + month_offset, 2) : 0;
+                    days[lane] = matched ? read(array, index + day_offset, 2) : 0;
+                }
+                else if (position <= last ? matches(ByteVector.fromByteBuffer(species, buffer, position,
+                        ByteOrder.LITTLE_ENDIAN)) : fixed.mismatch(buffer, position, length) < 0) {
+                    years[lane] = read(buffer, position + year_offset, 4);
+                    months[lane] = read(buffer, position + month_offset, 2);
+                    days[lane] = read(buffer, position + day_offset, 2);
+                }
+                else {
+                    years[lane] = 0;
+                    months[lane] = 0;
+                    days[lane] = 0;
+                }
+            }
+            long valid = resolve(years, months, days, results);
+            for (int lane = 0; lane < size; lane++) {
+                epochDays[first + lane] = (valid >>> lane & 1) != 0 ? results[lane]
+                        : FixedWidthPattern.UNRESOLVED;
+            }
+        }
+    }
+
+    /**
+     * Comprueba los dígitos y los literales de un registro.
+     *
+     * @param bytes el vector que contiene el registro.
+     * @return {@code true} si el registro se corresponde con el patrón.
+     */
+    private boolean matches(ByteVector bytes) {
+        VectorMask<Byte> digit = bytes.compare(VectorOperators.GE, (byte) '0')
+                .and(bytes.compare(VectorOperators.LE, (byte) '9'));
+        return digit.and(digits).or(bytes.eq(template).and(literals)).or(outside).allTrue();
+    }
+
+    /**
+     * Lee el valor de un campo de un registro previamente comprobado.
+     *
+     * @param bytes el arreglo que contiene los bytes.
+     * @param index la posición del campo.
+     * @param width la cantidad de dígitos del campo.
+     * @return el valor del campo.
+     */
+    private static int read(byte[] bytes, int index, int width) {
+        int value = 0;
+        for (int i = index, end = index + width; i < end; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Lee el valor de un campo de un registro previamente comprobado.
+     *
+     * @param buffer el objeto que contiene los bytes.
+     * @param position la posición del campo.
+     * @param width la cantidad de dígitos del campo.
+     * @return el valor del campo.
+     */
+    private static int read(ByteBuffer buffer, int position, int width) {
+        int value = 0;
+        for (int i = position, end = position + width; i < end; i++) {
+            value = value * 10 + (buffer.get(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Comprueba las fechas de un grupo de registros y calcula su cantidad de
+     * días desde 1970-01-01, con el mismo resultado que
+     * {@link java.time.LocalDate#toEpochDay()}. Los años, meses y días deben
+     * tener como máximo cuatro, dos y dos dígitos.
+     *
+     * @param years los años de los registros.
+     * @param months los meses de los registros.
+     * @param days los días del mes de los registros.
+     * @param results el arreglo que recibe la cantidad de días de cada
+     * registro.
+     * @return una máscara de bits con los registros que contienen fechas
+     * válidas.
+     */
+    static long resolve(int[] years, int[] months, int[] days, int[] results) {
+        IntVector year = IntVector.fromArray(LANES, years, 0);
+        IntVector month = IntVector.fromArray(LANES, months, 0);
+        IntVector day = IntVector.fromArray(LANES, days, 0);
+        IntVector century = divideBy100(year);
+        VectorMask<Integer> leap = year.and(3).eq(0)
+                .and(year.sub(century.mul(100)).compare(VectorOperators.NE, 0).or(century.and(3).eq(0)));
+        IntVector monthLength = IntVector.fromArray(LANES, MONTH_LENGTHS, 0, months, 0)
+                .add(1, leap.and(month.eq(2)));
+        VectorMask<Integer> valid = year.compare(VectorOperators.GE, 1)
+                .and(year.compare(VectorOperators.LE, 9999))
+                .and(day.compare(VectorOperators.GE, 1))
+                .and(day.compare(VectorOperators.LE, monthLength));
+        IntVector epochDay = year.mul(365)
+                .add(year.add(3).lanewise(VectorOperators.ASHR, 2))
+                .sub(divideBy100(year.add(99)))
+                .add(divideBy100(year.add(399)).lanewise(VectorOperators.ASHR, 2))
+                .add(IntVector.fromArray(LANES, DAYS_BEFORE_MONTH, 0, months, 0))
+                .add(1, leap.and(month.compare(VectorOperators.GT, 2)))
+                .add(day)
+                .sub(DAYS_0000_TO_1970 + 1);
+        epochDay.intoArray(results, 0);
+        return valid.toLong();
+    }
+
+    /**
+     * Divide entre 100 los valores de un vector mediante una multiplicación y
+     * un desplazamiento, con resultado exacto para valores de 0 a 43698.
+     *
+     * @param values los valores a dividir.
+     * @return los cocientes.
+     */
+    private static IntVector divideBy100(IntVector values) {
+        return values.mul(5243).lanewise(VectorOperators.LSHR, 19);
+    }
+}
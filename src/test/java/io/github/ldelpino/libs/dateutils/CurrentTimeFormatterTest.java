@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class CurrentTimeFormatterTest {
+
+    private static final String[] PATTERNS = {
+        "dd/MM/yyyy-HH/mm/ss", "yyyy-MM-dd HH:mm:ss.SSS", "HH:mm:ss.S", "yyyy-MM-dd",
+        "EEE, d MMM yyyy HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "HH:mm 'Seconds'"
+    };
+
+    @Test
+    public void testFormat() {
+        System.out.println("format");
+        Random random = new Random(23);
+        for (String id : new String[]{"Europe/Madrid", "Australia/Lord_Howe", "Asia/Kolkata", "UTC"}) {
+            ZoneId zone = ZoneId.of(id);
+            for (String pattern : PATTERNS) {
+                TestClock clock = new TestClock(zone);
+                CurrentTimeFormatter formatter = new CurrentTimeFormatter(pattern, clock);
+                DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+                char[] buffer = new char[64];
+                long[] starts = {1_648_342_800_000L - 90_000L, 1_667_091_600_000L - 90_000L,
+                    1_649_512_800_000L - 90_000L, 1_656_676_800_000L};
+                for (long start : starts) {
+                    clock.millis = start;
+                    for (int i = 0; i < 2000; i++) {
+                        clock.millis += random.nextInt(200);
+                        String expResult = expected.format(Instant.ofEpochMilli(clock.millis));
+                        assertEquals(expResult, formatter.format());
+                        int written = formatter.formatTo(buffer, 3);
+                        assertEquals(expResult, new String(buffer, 3, written));
+                        StringBuilder out = new StringBuilder("x");
+                        formatter.formatTo(out);
+                        assertEquals("x" + expResult, out.toString());
+                    }
+                    clock.millis -= 5000;
+                    assertEquals(expected.format(Instant.ofEpochMilli(clock.millis)), formatter.format());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatNow() {
+        System.out.println("formatNow");
+        String before = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+                .format(Instant.now().atZone(DateConverters.getTimeZone()));
+        String result = DateFormatters.formatNow("yyyy-MM-dd HH:mm");
+        String after = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")
+                .format(Instant.now().atZone(DateConverters.getTimeZone()));
+        assertTrue(result.equals(before) || result.equals(after));
+        assertEquals(DatePatterns.getDateTimePattern().length(), DateFormatters.formatNow().length());
+    }
+
+    @Test
+    public void testFormatNow_ManyPatterns() {
+        System.out.println("formatNowManyPatterns");
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 100; i++) {
+                String result = DateFormatters.formatNow("'" + i + "' yyyy-MM-dd");
+                assertTrue(result, result.startsWith(i + " "));
+                assertEquals(String.valueOf(i).length() + 11, result.length());
+            }
+        }
+    }
+
+    private static final class TestClock extends Clock {
+
+        private final ZoneId zone;
+        private long millis;
+
+        private TestClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateChannelWriterTest {
+
+    @Test
+    public void testWriteFixedWidth() throws IOException {
+        System.out.println("writeFixedWidth");
+        String pattern = DatePatterns.DEFAULT_DATE_TIME_PATTERN;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StringBuilder expResult = new StringBuilder();
+        Random random = new Random(24);
+        WritableByteChannel channel = Channels.newChannel(out);
+        try (DateChannelWriter writer = new DateChannelWriter(channel, pattern, ';', "\r\n", 16)) {
+            for (int i = 0; i < 1000; i++) {
+                long epochMilli = random.nextLong() % 4_000_000_000_000L;
+                LocalDateTime localDateTime = DateConverters.convertFromEpochMilliToLocalDateTime(epochMilli);
+                writer.writeEpochMilli(epochMilli);
+                writer.writeLocalDateTime(localDateTime);
+                writer.writeText("ñ" + i);
+                writer.writeLocalDateTime(null);
+                writer.endLine();
+                String text = DateFormatters.format(localDateTime, pattern);
+                expResult.append(text).append(';').append(text).append(";ñ").append(i).append(";\r\n");
+            }
+            writer.writeEpochMilli(DateChannelWriter.MISSING);
+            writer.writeText("x");
+            expResult.append(";x");
+            byte[] bytes = expResult.toString().getBytes(StandardCharsets.UTF_8);
+            assertEquals(bytes.length, writer.getBytesWritten());
+        }
+        assertEquals(expResult.toString(), out.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void testWriteDates() throws IOException {
+        System.out.println("writeDates");
+        String[] patterns = {
+            DatePatterns.DEFAULT_DATE_PATTERN, "uuuuMMdd", "d 'de' MMMM 'de' yyyy", "dd·MM·yyyy"
+        };
+        for (String pattern : patterns) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            StringBuilder expResult = new StringBuilder();
+            try (DateChannelWriter writer = new DateChannelWriter(Channels.newChannel(out), pattern, ',')) {
+                for (long epochDay = -800_000; epochDay < 3_000_000; epochDay += 997) {
+                    LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+                    writer.writeEpochDay(epochDay);
+                    writer.writeLocalDate(localDate);
+                    writer.endLine();
+                    String text = DateFormatters.format(localDate, pattern);
+                    expResult.append(text).append(',').append(text).append('\n');
+                }
+            }
+            assertEquals(pattern, expResult.toString(), out.toString(StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    @Test
+    public void testWriteTemporal() throws IOException {
+        System.out.println("writeTemporal");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DateChannelWriter writer = new DateChannelWriter(Channels.newChannel(out),
+                DatePatterns.DEFAULT_TIME_PATTERN, '\t');
+        writer.write(LocalTime.of(10, 15, 30));
+        writer.write(LocalDateTime.of(2022, 3, 23, 23, 59, 1));
+        writer.flush();
+        assertEquals("10/15/30\t23/59/01", out.toString(StandardCharsets.US_ASCII.name()));
+        writer.close();
+        writer.close();
+        try {
+            writer.writeEpochDay(0);
+            fail();
+        }
+        catch (ClosedChannelException ex) {
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        System.out.println("invalidArguments");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            new DateChannelWriter(Channels.newChannel(out), DatePatterns.DEFAULT_DATE_PATTERN, 'ñ');
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+        try {
+            new DateChannelWriter(Channels.newChannel(out), DatePatterns.DEFAULT_DATE_PATTERN, ',', "\n", 8);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateColumnReaderTest {
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("date_utils", ".csv");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testReadEpochDays() throws IOException {
+        System.out.println("readEpochDays");
+        StringBuilder content = new StringBuilder("id;fecha;importe\n");
+        for (int i = 0; i < 5000; i++) {
+            content.append(i).append(';');
+            content.append(DateFormatters.format(LocalDate.ofEpochDay(i * 7L), DatePatterns.DEFAULT_DATE_PATTERN));
+            content.append(';').append(i * 3).append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        content.append("5000;;1\n\n5001\n");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        DateColumnReader reader = new DateColumnReader(DatePatterns.DEFAULT_DATE_PATTERN, 1, ';', true, 1000);
+        long[] sequential = reader.readEpochDays(file);
+        assertEquals(5002, sequential.length);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i * 7L, sequential[i]);
+        }
+        assertEquals(DateColumnReader.MISSING, sequential[5000]);
+        assertEquals(DateColumnReader.MISSING, sequential[5001]);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(sequential, reader.readEpochDays(file, pool));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReadEpochMillis() throws IOException {
+        System.out.println("readEpochMillis");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            DateConverters.setDefaulTimeZone(ZoneId.of("Europe/Madrid"));
+            LocalDateTime first = LocalDateTime.of(2022, 3, 27, 1, 30, 15, 250_000_000);
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                content.append(DateFormatters.format(first.plusMinutes(i * 7), "yyyy-MM-dd'T'HH:mm:ss.SSS")).append('\n');
+            }
+            Files.write(file, content.toString().getBytes(StandardCharsets.US_ASCII));
+            long[] values = new DateColumnReader("yyyy-MM-dd'T'HH:mm:ss.SSS", 0, ',', false).readEpochMillis(file);
+            for (int i = 0; i < 100; i++) {
+                LocalDateTime expected = first.plusMinutes(i * 7);
+                assertEquals(DateConverters.convertFromLocalDateTimeToDate(expected).getTime(), values[i]);
+            }
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testReadEpochDays_TextPattern() throws IOException {
+        System.out.println("readEpochDaysTextPattern");
+        String pattern = "d MMM yyyy";
+        String text = DateFormatters.format(LocalDate.of(2022, 1, 5), pattern);
+        Files.write(file, ("a," + text + "\nb," + text + "\n").getBytes(StandardCharsets.UTF_8));
+        long[] values = new DateColumnReader(pattern, 1, ',', false).readEpochDays(file);
+        assertArrayEquals(new long[]{LocalDate.of(2022, 1, 5).toEpochDay(), LocalDate.of(2022, 1, 5).toEpochDay()},
+                values);
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testReadEpochDays_Invalid() throws IOException {
+        System.out.println("readEpochDaysInvalid");
+        Files.write(file, "01/01/2022\n2022-01-02\n".getBytes(StandardCharsets.US_ASCII));
+        new DateColumnReader(DatePatterns.DEFAULT_DATE_PATTERN, 0, ',', false).readEpochDays(file);
+    }
+}
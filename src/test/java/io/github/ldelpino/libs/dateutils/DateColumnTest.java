@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateColumnTest {
+
+    @Test
+    public void testAddAndGet() {
+        System.out.println("addAndGet");
+        DateColumn column = new DateColumn(2);
+        column.add(LocalDate.of(2022, 7, 1));
+        column.add((LocalDate) null);
+        column.add(-1);
+        column.addMissing();
+        column.add(LocalDate.of(1900, 1, 1));
+        assertEquals(5, column.size());
+        assertTrue(column.capacity() >= 5);
+        assertEquals(LocalDate.of(2022, 7, 1), column.getLocalDate(0));
+        assertNull(column.getLocalDate(1));
+        assertTrue(column.isMissing(3));
+        assertEquals(-1, column.getEpochDay(2));
+        column.set(2, 0);
+        assertEquals(LocalDate.EPOCH, column.getLocalDate(2));
+        assertArrayEquals(new LocalDate[]{LocalDate.of(2022, 7, 1), null, LocalDate.EPOCH, null,
+            LocalDate.of(1900, 1, 1)}, column.toLocalDates());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGet_OutOfBounds() {
+        System.out.println("getOutOfBounds");
+        DateColumn column = new DateColumn();
+        column.add(0);
+        column.getEpochDay(1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testAdd_OutOfRange() {
+        System.out.println("addOutOfRange");
+        new DateColumn().add(LocalDate.MAX);
+    }
+
+    @Test
+    public void testQueries() {
+        System.out.println("queries");
+        Random random = new Random(17);
+        long[] epochDays = new long[5000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = i % 10 == 0 ? DateColumnReader.MISSING : 18_000 + random.nextInt(2000);
+        }
+        DateColumn column = DateColumn.of(epochDays);
+        long[] present = Arrays.stream(epochDays).filter(d -> d != DateColumnReader.MISSING).toArray();
+        assertEquals(Arrays.stream(present).min().getAsLong(), column.min());
+        assertEquals(Arrays.stream(present).max().getAsLong(), column.max());
+        BitSet filter = column.filter(18_500, 19_000);
+        int[] counts = column.countByDay(18_500, 19_000);
+        int total = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            boolean inRange = epochDays[i] != DateColumnReader.MISSING && epochDays[i] >= 18_500
+                    && epochDays[i] < 19_000;
+            assertEquals(inRange, filter.get(i));
+            total += inRange ? 1 : 0;
+        }
+        assertEquals(total, column.count(18_500, 19_000));
+        assertEquals(total, Arrays.stream(counts).sum());
+        assertEquals(Arrays.stream(present).filter(d -> d == 18_700).count(), counts[200]);
+        column.sort();
+        int[] sorted = column.toArray();
+        for (int i = 1; i < sorted.length; i++) {
+            assertTrue(sorted[i - 1] <= sorted[i]);
+        }
+        assertTrue(column.isMissing(0));
+        assertEquals(DateColumn.MISSING, new DateColumn().min());
+        assertEquals(DateColumn.MISSING, new DateColumn().max());
+    }
+
+    @Test
+    public void testParseToDateColumn() {
+        System.out.println("parseToDateColumn");
+        DateColumn column = DateParsers.parseToDateColumn(new String[]{"01/07/2022", null, "29/02/2024"});
+        assertEquals(LocalDate.of(2022, 7, 1), column.getLocalDate(0));
+        assertTrue(column.isMissing(1));
+        assertEquals(LocalDate.of(2024, 2, 29), column.getLocalDate(2));
+        column = DateParsers.parseToDateColumn(new String[]{"2022-07-01"}, "yyyy-MM-dd");
+        assertEquals(LocalDate.of(2022, 7, 1), column.getLocalDate(0));
+    }
+
+    @Test
+    public void testSort() {
+        System.out.println("sort");
+        Random random = new Random(5);
+        int[] sizes = {0, 1, 31, 32, 1000, 100_000};
+        for (int size : sizes) {
+            for (int shape = 0; shape < 4; shape++) {
+                long[] epochDays = new long[size];
+                for (int i = 0; i < size; i++) {
+                    epochDays[i] = shape == 0 ? random.nextInt(40_000) - 20_000
+                            : shape == 1 ? random.nextInt(3) : shape == 2 ? i : size - i;
+                }
+                DateColumn column = DateColumn.of(epochDays);
+                if (size > 0) {
+                    column.addMissing();
+                }
+                int[] expResult = column.toArray();
+                Arrays.sort(expResult);
+                column.sort();
+                assertArrayEquals(expResult, column.toArray());
+            }
+        }
+    }
+}
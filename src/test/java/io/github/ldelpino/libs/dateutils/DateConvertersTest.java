@@ -15,13 +15,18 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.sql.Time;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -176,4 +181,190 @@ public class DateConvertersTest {
         Calendar result = DateConverters.convertFromLocalDateTimeToCalendar(localDateTime);
         assertEquals(expResult.getTimeInMillis(), result.getTimeInMillis());
     }
+
+    @Test
+    public void testConvertArrays_EpochMillis() {
+        System.out.println("convertArraysEpochMillis");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            for (String zone : new String[]{"Europe/Madrid", "America/Havana", "Australia/Lord_Howe", "UTC"}) {
+                DateConverters.setDefaulTimeZone(ZoneId.of(zone));
+                Random random = new Random(11);
+                long[] epochMillis = new long[2000];
+                for (int i = 0; i < epochMillis.length; i++) {
+                    epochMillis[i] = i % 2 == 0 ? random.nextLong() % 4_000_000_000_000L
+                            : 1_648_342_800_000L + (random.nextInt(7200) - 3600) * 1000L + i;
+                }
+                LocalDate[] localDates = DateConverters.convertFromEpochMillisToLocalDate(epochMillis);
+                LocalDateTime[] localDateTimes = DateConverters.convertFromEpochMillisToLocalDateTime(epochMillis);
+                long[] startOfDays = DateConverters.convertFromLocalDateToEpochMillis(localDates);
+                long[] back = DateConverters.convertFromLocalDateTimeToEpochMillis(localDateTimes);
+                for (int i = 0; i < epochMillis.length; i++) {
+                    Instant expected = Instant.ofEpochMilli(epochMillis[i]);
+                    LocalDateTime expResult = LocalDateTime.ofInstant(expected, ZoneId.of(zone));
+                    assertEquals(expResult.toLocalDate(), localDates[i]);
+                    assertEquals(expResult, localDateTimes[i]);
+                    assertEquals(expResult.atZone(ZoneId.of(zone)).toInstant().toEpochMilli(), back[i]);
+                    assertEquals(DateConverters.convertFromLocalDateToDate(localDates[i]).getTime(), startOfDays[i]);
+                }
+            }
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testConvertEpochMilli() {
+        System.out.println("convertEpochMilli");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            for (String id : new String[]{"Europe/Madrid", "America/Havana", "Australia/Lord_Howe", "UTC"}) {
+                ZoneId zone = ZoneId.of(id);
+                DateConverters.setDefaulTimeZone(zone);
+                Random random = new Random(13);
+                for (int i = 0; i < 2000; i++) {
+                    long epochMilli = i % 2 == 0 ? random.nextLong() % 4_000_000_000_000L
+                            : 1_648_342_800_000L + (random.nextInt(7200) - 3600) * 1000L + i;
+                    LocalDateTime expResult = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), zone);
+                    long expEpochMilli = expResult.atZone(zone).toInstant().toEpochMilli();
+                    assertEquals(expResult, DateConverters.convertFromEpochMilliToLocalDateTime(epochMilli));
+                    assertEquals(expResult.toLocalDate(),
+                            DateConverters.convertFromEpochMilliToLocalDate(epochMilli));
+                    assertEquals(expResult.toLocalTime(),
+                            DateConverters.convertFromEpochMilliToLocalTime(epochMilli));
+                    assertEquals(expResult.toLocalDate().toEpochDay(),
+                            DateConverters.convertFromEpochMilliToEpochDay(epochMilli));
+                    long localMilli = DateConverters.convertFromEpochMilliToLocalEpochMilli(epochMilli);
+                    assertEquals(expResult.toInstant(ZoneOffset.UTC).toEpochMilli(), localMilli);
+                    assertEquals(expEpochMilli,
+                            DateConverters.convertFromLocalEpochMilliToEpochMilli(localMilli));
+                    assertEquals(expEpochMilli,
+                            DateConverters.convertFromLocalDateTimeToEpochMilli(expResult));
+                    LocalDate localDate = expResult.toLocalDate();
+                    assertEquals(DateConverters.convertFromLocalDateToEpochMilli(localDate),
+                            DateConverters.convertFromEpochDayToEpochMilli(localDate.toEpochDay()));
+                }
+            }
+            DateConverters.setDefaulTimeZone(ZoneId.of("Europe/Madrid"));
+            assertEquals(20_220_701, DateConverters.convertFromEpochMilliToPackedDate(1_656_676_800_123L));
+            assertEquals(20_220_701_140_000_123L,
+                    DateConverters.convertFromEpochMilliToPackedDateTime(1_656_676_800_123L));
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testConvertArrays_Date() {
+        System.out.println("convertArraysDate");
+        Date[] dates = {Date.from(instant), null, new Date(1_664_000_000_123L)};
+        LocalDateTime[] localDateTimes = DateConverters.convertFromDateToLocalDateTime(dates);
+        LocalDate[] localDates = DateConverters.convertFromDateToLocalDate(dates);
+        assertNull(localDateTimes[1]);
+        assertNull(localDates[1]);
+        assertEquals(DateConverters.convertFromDateToLocalDateTime(dates[2]), localDateTimes[2]);
+        assertEquals(DateConverters.convertFromDateToLocalDate(dates[0]), localDates[0]);
+        assertArrayEquals(dates, DateConverters.convertFromLocalDateTimeToDate(localDateTimes));
+        Calendar[] calendars = {DateConverters.convertFromDateToCalendar(dates[2])};
+        assertEquals(localDateTimes[2], DateConverters.convertFromCalendarToLocalDateTime(calendars)[0]);
+        assertEquals(localDates[2], DateConverters.convertFromCalendarToLocalDate(calendars)[0]);
+    }
+
+    @Test
+    public void testConvertSQL() {
+        System.out.println("convertSQL");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            for (String id : new String[]{"Europe/Madrid", "America/Havana", "UTC"}) {
+                ZoneId zone = ZoneId.of(id);
+                DateConverters.setDefaulTimeZone(zone);
+                Random random = new Random(17);
+                for (int i = 0; i < 1000; i++) {
+                    Instant instant = Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000));
+                    Timestamp timestamp = Timestamp.from(instant);
+                    LocalDateTime expResult = LocalDateTime.ofInstant(instant, zone);
+                    assertEquals(expResult, DateConverters.convertFromTimestampToLocalDateTime(timestamp));
+                    assertEquals(expResult.toLocalDate(),
+                            DateConverters.convertFromTimestampToLocalDate(timestamp));
+                    Timestamp converted = DateConverters.convertFromLocalDateTimeToTimestamp(expResult);
+                    assertEquals(expResult.atZone(zone).toInstant(), converted.toInstant());
+                    assertEquals(expResult.getNano(), converted.getNanos());
+                    LocalDate localDate = expResult.toLocalDate();
+                    java.sql.Date date = DateConverters.convertFromLocalDateToSQLDate(localDate);
+                    assertEquals(localDate.atStartOfDay(zone).toInstant().toEpochMilli(), date.getTime());
+                    assertEquals(localDate, DateConverters.convertFromSQLDateToLocalDate(date));
+                    int milliNanos = expResult.getNano() / 1_000_000 * 1_000_000;
+                    LocalTime localTime = expResult.toLocalTime().withNano(milliNanos);
+                    Time time = DateConverters.convertFromLocalTimeToTime(localTime);
+                    assertEquals(localTime, DateConverters.convertFromTimeToLocalTime(time));
+                }
+                Timestamp[] timestamps = {new Timestamp(1_664_000_000_123L), null};
+                timestamps[0].setNanos(123_456_789);
+                LocalDateTime[] localDateTimes
+                        = DateConverters.convertFromTimestampToLocalDateTime(timestamps);
+                assertNull(localDateTimes[1]);
+                assertEquals(123_456_789, localDateTimes[0].getNano());
+                assertArrayEquals(timestamps,
+                        DateConverters.convertFromLocalDateTimeToTimestamp(localDateTimes));
+            }
+            assertEquals(42L, DateConverters.convertFromTimestampToEpochMilli(
+                    DateConverters.convertFromEpochMilliToTimestamp(42L)));
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testConvertToCalendar() {
+        System.out.println("convertToCalendar");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            for (String id : new String[]{"Europe/Madrid", "America/Havana", "UTC"}) {
+                ZoneId zone = ZoneId.of(id);
+                DateConverters.setDefaulTimeZone(zone);
+                Calendar target = new GregorianCalendar();
+                Date date = new Date();
+                Random random = new Random(20);
+                for (int i = 0; i < 1000; i++) {
+                    LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(random.nextInt(),
+                            random.nextInt(1000) * 1_000_000, ZoneOffset.UTC);
+                    Calendar expResult = GregorianCalendar.from(localDateTime.atZone(zone));
+                    assertEquals(expResult, DateConverters.convertFromLocalDateTimeToCalendar(localDateTime));
+                    assertEquals(expResult.getTimeInMillis(),
+                            DateConverters.convertFromLocalDateTimeToCalendar(localDateTime, target)
+                                    .getTimeInMillis());
+                    assertSame(date, DateConverters.convertFromLocalDateTimeToDate(localDateTime, date));
+                    assertEquals(expResult.getTime(), date);
+                    assertEquals(expResult, DateConverters.convertFromDateToCalendar(date));
+                    assertSame(target, DateConverters.convertFromDateToCalendar(date, target));
+                    assertEquals(date.getTime(), target.getTimeInMillis());
+                    LocalDate localDate = localDateTime.toLocalDate();
+                    expResult = GregorianCalendar.from(localDate.atStartOfDay(zone));
+                    assertEquals(expResult, DateConverters.convertFromLocalDateToCalendar(localDate));
+                    DateConverters.convertFromLocalDateToCalendar(localDate, target);
+                    assertEquals(expResult.getTimeInMillis(), target.getTimeInMillis());
+                    DateConverters.convertFromLocalDateToDate(localDate, date);
+                    assertEquals(expResult.getTime(), date);
+                    LocalTime localTime = localDateTime.toLocalTime();
+                    expResult = GregorianCalendar.from(localTime.atDate(LocalDate.EPOCH).atZone(zone));
+                    assertEquals(expResult, DateConverters.convertFromLocalTimeToCalendar(localTime));
+                    DateConverters.convertFromLocalTimeToCalendar(localTime, target);
+                    assertEquals(expResult.getTimeInMillis(), target.getTimeInMillis());
+                }
+                Calendar first = DateConverters.convertFromDateToCalendar(date);
+                first.add(Calendar.DAY_OF_MONTH, 1);
+                Calendar second = DateConverters.convertFromDateToCalendar(date);
+                assertEquals(date.getTime(), second.getTimeInMillis());
+                String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+                String text = DateFormatters.format(date, pattern);
+                assertEquals(second, DateParsers.parseToCalendar(text, pattern));
+            }
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateFieldsTest {
+
+    @Test
+    public void testDateFields() {
+        System.out.println("dateFields");
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            long epochDay = i < 50_000 ? random.nextInt(5_000_000) - 2_500_000
+                    : LocalDate.MIN.toEpochDay() + Math.floorMod(random.nextLong(),
+                    LocalDate.MAX.toEpochDay() - LocalDate.MIN.toEpochDay());
+            LocalDate expResult = LocalDate.ofEpochDay(epochDay);
+            assertEquals(expResult.getYear(), DateFields.getYear(epochDay));
+            assertEquals(expResult.getMonthValue(), DateFields.getMonthValue(epochDay));
+            assertEquals(expResult.getDayOfMonth(), DateFields.getDayOfMonth(epochDay));
+            assertEquals(expResult.getDayOfWeek().getValue(), DateFields.getDayOfWeek(epochDay));
+        }
+    }
+
+    @Test
+    public void testTimeFields() {
+        System.out.println("timeFields");
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long localMilli = random.nextLong() % 10_000_000_000_000L;
+            LocalDateTime expResult = LocalDateTime.ofEpochSecond(Math.floorDiv(localMilli, 1000),
+                    Math.floorMod(localMilli, 1000) * 1_000_000, ZoneOffset.UTC);
+            assertEquals(expResult.toLocalDate().toEpochDay(), DateFields.getEpochDay(localMilli));
+            assertEquals(expResult.getHour(), DateFields.getHour(localMilli));
+            assertEquals(expResult.getMinute(), DateFields.getMinute(localMilli));
+            assertEquals(expResult.getSecond(), DateFields.getSecond(localMilli));
+            assertEquals(expResult.toLocalTime().toNanoOfDay() / 1_000_000,
+                    DateFields.getMilliOfDay(localMilli));
+        }
+    }
+
+    @Test
+    public void testPackDate() {
+        System.out.println("packDate");
+        long min = LocalDate.of(0, 1, 1).toEpochDay();
+        long max = LocalDate.of(9999, 12, 31).toEpochDay();
+        for (long epochDay = min; epochDay <= max; epochDay += 13) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            int packed = DateFields.packDate(epochDay);
+            assertEquals(date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth(), packed);
+            assertEquals(date.getYear(), DateFields.getPackedYear(packed));
+            assertEquals(date.getMonthValue(), DateFields.getPackedMonthValue(packed));
+            assertEquals(date.getDayOfMonth(), DateFields.getPackedDayOfMonth(packed));
+            assertEquals(epochDay, DateFields.unpackDate(packed));
+        }
+        assertEquals(99_991_231, DateFields.packDate(max));
+        assertTrue(DateFields.packDate(19_000) < DateFields.packDate(19_001));
+    }
+
+    @Test
+    public void testPackDateTime() {
+        System.out.println("packDateTime");
+        long localMilli = LocalDateTime.of(2022, 7, 1, 14, 5, 9, 123_000_000).toInstant(ZoneOffset.UTC)
+                .toEpochMilli();
+        assertEquals(20_220_701_140_509_123L, DateFields.packDateTime(localMilli));
+        assertEquals(localMilli, DateFields.unpackDateTime(20_220_701_140_509_123L));
+        Random random = new Random(9);
+        for (int i = 0; i < 100_000; i++) {
+            long value = Math.floorMod(random.nextLong(), 253_402_300_800_000L) - 62_167_219_200_000L;
+            assertEquals(value, DateFields.unpackDateTime(DateFields.packDateTime(value)));
+        }
+    }
+
+    @Test
+    public void testUnpack_Invalid() {
+        System.out.println("unpackInvalid");
+        for (int packed : new int[]{20_220_230, 20_211_301, 20_220_700, 20_210_229, -1, 100_000_101}) {
+            try {
+                DateFields.unpackDate(packed);
+                fail(String.valueOf(packed));
+            }
+            catch (DateTimeException ex) {
+            }
+        }
+        assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), DateFields.unpackDate(20_240_229));
+        for (long packed : new long[]{20_220_701_240_000_000L, 20_220_701_126_000_000L,
+            20_220_701_120_060_000L, 20_220_732_000_000_000L}) {
+            try {
+                DateFields.unpackDateTime(packed);
+                fail(String.valueOf(packed));
+            }
+            catch (DateTimeException ex) {
+            }
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testPackDate_OutOfRange() {
+        System.out.println("packDateOutOfRange");
+        DateFields.packDate(LocalDate.of(10_000, 1, 1).toEpochDay());
+    }
+}
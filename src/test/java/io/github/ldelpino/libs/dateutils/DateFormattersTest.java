@@ -15,6 +15,12 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +29,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -88,4 +95,117 @@ public class DateFormattersTest {
         String result = DateFormatters.format(localDateTime, pattern);
         assertEquals(expResult, result);
     }
+
+    @Test
+    public void testFormatTo_StringBuilder() {
+        System.out.println("formatToStringBuilder");
+        LocalDateTime localDateTime = LocalDateTime.of(2022, 3, 4, 5, 6, 7);
+        StringBuilder out = new StringBuilder("x");
+        int written = DateFormatters.formatTo(localDateTime, DatePatterns.DEFAULT_DATE_TIME_PATTERN, out);
+        assertEquals(19, written);
+        assertEquals("x04/03/2022-05/06/07", out.toString());
+        written = DateFormatters.formatTo(localDateTime.toLocalDate(), "dd MMM yyyy", out);
+        assertEquals(DateFormatters.format(localDateTime.toLocalDate(), "dd MMM yyyy").length(), written);
+    }
+
+    @Test
+    public void testFormatTo_CharArray() {
+        System.out.println("formatToCharArray");
+        LocalDate localDate = LocalDate.of(2022, 12, 31);
+        char[] buffer = new char[12];
+        int written = DateFormatters.formatTo(localDate, DatePatterns.DEFAULT_DATE_PATTERN, buffer, 1);
+        assertEquals(10, written);
+        assertEquals("31/12/2022", new String(buffer, 1, written));
+        try {
+            DateFormatters.formatTo(localDate, DatePatterns.DEFAULT_DATE_PATTERN, buffer, 3);
+            fail("Se esperaba IndexOutOfBoundsException");
+        }
+        catch (IndexOutOfBoundsException ex) {
+            assertEquals('3', buffer[1]);
+        }
+    }
+
+    @Test
+    public void testFormatTo_CharBuffer() {
+        System.out.println("formatToCharBuffer");
+        LocalTime localTime = LocalTime.of(23, 59, 1);
+        CharBuffer heap = CharBuffer.allocate(8);
+        assertEquals(8, DateFormatters.formatTo(localTime, DatePatterns.DEFAULT_TIME_PATTERN, heap));
+        assertEquals(8, heap.position());
+        assertEquals("23/59/01", heap.flip().toString());
+        CharBuffer direct = ByteBuffer.allocateDirect(16).asCharBuffer();
+        assertEquals(8, DateFormatters.formatTo(localTime, DatePatterns.DEFAULT_TIME_PATTERN, direct));
+        assertEquals("23/59/01", direct.flip().toString());
+        CharBuffer small = CharBuffer.allocate(4);
+        try {
+            DateFormatters.formatTo(localTime, DatePatterns.DEFAULT_TIME_PATTERN, small);
+            fail("Se esperaba BufferOverflowException");
+        }
+        catch (BufferOverflowException ex) {
+            assertEquals(0, small.position());
+        }
+    }
+
+    @Test
+    public void testFormatTo_Appendable() throws IOException {
+        System.out.println("formatToAppendable");
+        Date date = Date.from(instant);
+        StringWriter out = new StringWriter();
+        int written = DateFormatters.formatTo(date, DatePatterns.DEFAULT_DATE_TIME_PATTERN, out);
+        assertEquals(DateFormatters.format(date, DatePatterns.DEFAULT_DATE_TIME_PATTERN), out.toString());
+        assertEquals(19, written);
+    }
+
+    @Test
+    public void testFormat_Duration() {
+        System.out.println("formatDuration");
+        Duration duration = Duration.ofSeconds(93784, 5_678_000);
+        assertEquals("26:03:04.005", DateFormatters.format(duration));
+        assertEquals("-26:03:04.005", DateFormatters.format(duration.negated()));
+        assertEquals("1563:04", DateFormatters.format(duration, "mm:ss"));
+        assertEquals("1 días 02:03", DateFormatters.format(duration, "d 'días' HH:mm"));
+        assertEquals("26h3m4.005678s",
+                DateFormatters.format(duration, DatePatterns.COMPACT_DURATION_PATTERN));
+        assertEquals("0s", DateFormatters.format(Duration.ZERO, DatePatterns.COMPACT_DURATION_PATTERN));
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            int nanos = i % 2 == 0 ? 0 : random.nextInt(1_000_000_000);
+            Duration value = Duration.ofSeconds(random.nextInt(), nanos);
+            assertEquals(value.toString(), DateFormatters.format(value, DatePatterns.ISO_DURATION_PATTERN));
+        }
+        assertEquals("00:00:01.500",
+                DateFormatters.formatElapsedMillis(1500, DatePatterns.DEFAULT_DURATION_PATTERN));
+        assertEquals("-0.000000001s",
+                DateFormatters.formatElapsedNanos(-1, DatePatterns.COMPACT_DURATION_PATTERN));
+        try {
+            DateFormatters.format(duration, "HH:ss");
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testFormatTo_Duration() {
+        System.out.println("formatToDuration");
+        Duration duration = Duration.ofMillis(3_723_004);
+        StringBuilder out = new StringBuilder("t=");
+        assertEquals(12, DateFormatters.formatTo(duration, DatePatterns.DEFAULT_DURATION_PATTERN, out));
+        assertEquals("t=01:02:03.004", out.toString());
+        assertEquals(10, DateFormatters.formatElapsedNanosTo(3_723_004_000_000L,
+                DatePatterns.COMPACT_DURATION_PATTERN, out));
+        assertEquals("t=01:02:03.0041h2m3.004s", out.toString());
+        char[] buffer = new char[16];
+        assertEquals(12, DateFormatters.formatElapsedMillisTo(3_723_004,
+                DatePatterns.DEFAULT_DURATION_PATTERN, buffer, 4));
+        assertEquals("01:02:03.004", new String(buffer, 4, 12));
+        try {
+            DateFormatters.formatTo(duration, DatePatterns.DEFAULT_DURATION_PATTERN, buffer, 5);
+            fail("Se esperaba IndexOutOfBoundsException");
+        }
+        catch (IndexOutOfBoundsException ex) {
+            assertEquals('0', buffer[4]);
+            assertEquals('1', buffer[5]);
+        }
+    }
 }
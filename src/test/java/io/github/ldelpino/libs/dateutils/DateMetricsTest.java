@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateMetricsTest {
+
+    @Test
+    public void testMetrics() {
+        System.out.println("metrics");
+        DateMetrics metrics = DateMetrics.getInstance();
+        metrics.reset();
+        assertFalse(metrics.isEnabled());
+        DateParsers.parseToLocalDate("23/03/2022", "dd/MM/yyyy");
+        assertTrue(metrics.getCallCounts().isEmpty());
+        metrics.setEnabled(true);
+        try {
+            for (int i = 0; i < 3; i++) {
+                DateParsers.parseToLocalDate("23/03/2022", "dd/MM/yyyy");
+            }
+            try {
+                DateParsers.parseToLocalDate("2x/03/2022", "dd/MM/yyyy");
+                fail();
+            }
+            catch (DateTimeParseException ex) {
+            }
+            DateFormatters.format(LocalDate.of(2022, 3, 23), "yyyy-MM-dd");
+            DateFormatters.formatTo(LocalDate.of(2022, 3, 23), "yyyy-MM-dd", new StringBuilder());
+            DateConverters.convertFromDateToLocalDate(new Date[]{new Date()});
+            assertEquals(Long.valueOf(4), metrics.getCallCounts().get("parse:dd/MM/yyyy"));
+            assertEquals(Long.valueOf(1), metrics.getFailureCounts().get("parse:dd/MM/yyyy"));
+            assertEquals(Long.valueOf(2), metrics.getCallCounts().get("format:yyyy-MM-dd"));
+            assertEquals(Long.valueOf(0), metrics.getFailureCounts().get("format:yyyy-MM-dd"));
+            String key = "convert:convertFromDateToLocalDate(Date[])";
+            assertEquals(Long.valueOf(1), metrics.getCallCounts().get(key));
+            long[] histogram = metrics.getLatencyHistograms().get("parse:dd/MM/yyyy");
+            assertEquals(32, histogram.length);
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            assertEquals(4, total);
+            assertTrue(metrics.getTotalTimes().get("parse:dd/MM/yyyy") >= 0);
+            assertTrue(metrics.getFormatterCacheHitRate() > 0);
+            assertEquals(0.0, metrics.getParseCacheHitRate(), 0.0);
+        }
+        finally {
+            metrics.setEnabled(false);
+        }
+        DateParsers.parseToLocalDate("23/03/2022", "dd/MM/yyyy");
+        assertEquals(Long.valueOf(4), metrics.getCallCounts().get("parse:dd/MM/yyyy"));
+        metrics.reset();
+        assertTrue(metrics.getCallCounts().isEmpty());
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        System.out.println("register");
+        DateMetrics metrics = DateMetrics.getInstance();
+        metrics.reset();
+        ObjectName name = DateMetrics.register();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(name));
+            assertEquals(name, DateMetrics.register());
+            server.setAttribute(name, new Attribute("Enabled", true));
+            assertTrue(metrics.isEnabled());
+            DateFormatters.format(LocalDate.of(2022, 3, 23), "dd/MM/yyyy");
+            TabularData calls = (TabularData) server.getAttribute(name, "CallCounts");
+            assertEquals(1, calls.size());
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertTrue(metrics.getCallCounts().isEmpty());
+        }
+        finally {
+            metrics.setEnabled(false);
+            DateMetrics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
@@ -15,14 +15,22 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -89,4 +97,370 @@ public class DateParsersTest {
         assertEquals(expResult, result);
     }
 
+    @Test
+    public void testParseAllToLocalDate_Array() {
+        System.out.println("parseAllToLocalDateArray");
+        String[] texts = new String[50_000];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = DateFormatters.format(LocalDate.ofEpochDay(i), DatePatterns.DEFAULT_DATE_PATTERN);
+        }
+        texts[7] = "07/13/2022";
+        texts[30_001] = null;
+        texts[49_999] = "basura";
+        LocalDate[] output = new LocalDate[texts.length];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParseFailures failures;
+        try {
+            failures = DateParsers.parseAllToLocalDate(texts, DatePatterns.DEFAULT_DATE_PATTERN, output, pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+        assertEquals(2, failures.size());
+        assertArrayEquals(new int[]{7, 49_999}, failures.getIndices());
+        assertNotNull(failures.getException(1));
+        assertNull(output[7]);
+        assertNull(output[30_001]);
+        assertEquals(LocalDate.ofEpochDay(30_000), output[30_000]);
+        assertEquals(LocalDate.ofEpochDay(8), output[8]);
+    }
+
+    @Test
+    public void testParseAllToLocalDateTime_ListAndStream() {
+        System.out.println("parseAllToLocalDateTimeListAndStream");
+        String pattern = "yyyy-MM-dd HH:mm";
+        List<String> texts = new LinkedList<>();
+        for (int i = 0; i < 3000; i++) {
+            texts.add(DateFormatters.format(LocalDateTime.of(2022, 1, 1, 0, 0).plusMinutes(i), pattern));
+        }
+        LocalDateTime[] output = new LocalDateTime[texts.size()];
+        assertTrue(DateParsers.parseAllToLocalDateTime(texts, pattern, output).isEmpty());
+        assertEquals(LocalDateTime.of(2022, 1, 3, 1, 59), output[2999]);
+        LocalDateTime[] streamed = new LocalDateTime[texts.size()];
+        assertTrue(DateParsers.parseAllToLocalDateTime(texts.stream(), pattern, streamed).isEmpty());
+        assertArrayEquals(output, streamed);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseAll_SmallOutput() {
+        System.out.println("parseAllSmallOutput");
+        DateParsers.parseAllToLocalDate(new String[]{"01/01/2022"}, DatePatterns.DEFAULT_DATE_PATTERN, new LocalDate[0]);
+    }
+
+    @Test
+    public void testParseBytes() {
+        System.out.println("parseBytes");
+        byte[] bytes = "[25/12/2022-18/30/05]".getBytes(StandardCharsets.US_ASCII);
+        LocalDateTime expResult = LocalDateTime.of(2022, 12, 25, 18, 30, 5);
+        assertEquals(expResult, DateParsers.parseToLocalDateTime(bytes, 1, 19, DatePatterns.DEFAULT_DATE_TIME_PATTERN));
+        assertEquals(expResult.toLocalDate(), DateParsers.parseToLocalDate(bytes, 1, 10, DatePatterns.DEFAULT_DATE_PATTERN));
+        assertEquals(expResult.toLocalDate().toEpochDay(),
+                DateParsers.parseToEpochDay(bytes, 1, 10, DatePatterns.DEFAULT_DATE_PATTERN));
+        assertEquals(expResult.toLocalTime(), DateParsers.parseToLocalTime(bytes, 12, 8, DatePatterns.DEFAULT_TIME_PATTERN));
+        assertEquals(DateConverters.convertFromLocalDateTimeToDate(expResult).getTime(),
+                DateParsers.parseToEpochMilli(bytes, 1, 19, DatePatterns.DEFAULT_DATE_TIME_PATTERN));
+    }
+
+    @Test
+    public void testParseByteBuffer() {
+        System.out.println("parseByteBuffer");
+        String pattern = "d 'de' MMMM 'de' yyyy";
+        LocalDate localDate = LocalDate.of(2022, 8, 3);
+        byte[] text = DateFormatters.format(localDate, pattern).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(text.length + 4);
+        direct.putInt(0).put(text).flip().position(4);
+        assertEquals(localDate, DateParsers.parseToLocalDate(direct, pattern));
+        assertEquals(4, direct.position());
+        ByteBuffer heap = ByteBuffer.wrap("x2022-08-03T10:11:12.123456789".getBytes(StandardCharsets.US_ASCII), 1, 29)
+                .slice();
+        assertEquals(LocalDateTime.of(2022, 8, 3, 10, 11, 12, 123_456_789),
+                DateParsers.parseToLocalDateTime(heap, "yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testParseBytes_OutOfBounds() {
+        System.out.println("parseBytesOutOfBounds");
+        DateParsers.parseToLocalDate(new byte[8], 2, 10, DatePatterns.DEFAULT_DATE_PATTERN);
+    }
+
+    @Test
+    public void testTryParse() {
+        System.out.println("tryParse");
+        ParseStatus status = new ParseStatus();
+        String pattern = DatePatterns.DEFAULT_DATE_PATTERN;
+        assertEquals(LocalDate.of(2022, 3, 23),
+                DateParsers.tryParseToLocalDate("23/03/2022", pattern, status));
+        assertTrue(status.isSuccess());
+        assertEquals(-1, status.getErrorIndex());
+        assertNull(DateParsers.tryParseToLocalDate("23-03/2022", pattern, status));
+        assertEquals(ParseStatus.UNEXPECTED_CHARACTER, status.getError());
+        assertEquals(2, status.getErrorIndex());
+        assertNull(DateParsers.tryParseToLocalDate("23/03/20", pattern, status));
+        assertEquals(ParseStatus.UNEXPECTED_END, status.getError());
+        assertEquals(8, status.getErrorIndex());
+        assertNull(DateParsers.tryParseToLocalDate("32/03/2022", pattern, status));
+        assertEquals(ParseStatus.INVALID_VALUE, status.getError());
+        assertNull(DateParsers.tryParseToLocalDate(null, pattern, status));
+        assertEquals(ParseStatus.NULL_TEXT, status.getError());
+        assertEquals(LocalDate.of(2022, 4, 30),
+                DateParsers.tryParseToLocalDate("31/04/2022", pattern, status));
+        assertEquals(LocalDate.of(20220, 3, 23),
+                DateParsers.tryParseToLocalDate("23/03/+20220", pattern, null));
+        assertNull(DateParsers.tryParseToLocalDateTime("23/03/2022-10/15/00x",
+                DatePatterns.DEFAULT_DATE_TIME_PATTERN, status));
+        assertEquals(ParseStatus.TRAILING_TEXT, status.getError());
+        assertEquals(19, status.getErrorIndex());
+        assertEquals(LocalTime.of(10, 15), DateParsers.tryParseToLocalTime("10/15/00",
+                DatePatterns.DEFAULT_TIME_PATTERN, status));
+        assertEquals(LocalDate.of(2022, 3, 23).toEpochDay(), DateParsers.tryParseToEpochDay("23/03/2022",
+                pattern, status));
+        assertEquals(ParseStatus.NO_VALUE, DateParsers.tryParseToEpochDay("2x/03/2022", pattern, status));
+        long epochMilli = DateConverters.convertFromLocalDateTimeToEpochMilli(
+                LocalDateTime.of(2022, 3, 23, 10, 15));
+        assertEquals(epochMilli, DateParsers.tryParseToEpochMilli("23/03/2022-10/15/00",
+                DatePatterns.DEFAULT_DATE_TIME_PATTERN, status));
+        assertEquals(ParseStatus.NO_VALUE, DateParsers.tryParseToEpochMilli("",
+                DatePatterns.DEFAULT_DATE_TIME_PATTERN, status));
+        String textPattern = "d 'de' MMMM 'de' yyyy";
+        assertEquals(LocalDate.of(2022, 8, 3), DateParsers.tryParseToLocalDate(
+                DateFormatters.format(LocalDate.of(2022, 8, 3), textPattern), textPattern, status));
+        assertNull(DateParsers.tryParseToLocalDate("3 de xx de 2022", textPattern, status));
+        assertEquals(ParseStatus.UNEXPECTED_CHARACTER, status.getError());
+        assertEquals(5, status.getErrorIndex());
+    }
+
+    @Test
+    public void testTryParse_OutOfRange() {
+        System.out.println("tryParse_OutOfRange");
+        ParseStatus status = new ParseStatus();
+        String pattern = DatePatterns.DEFAULT_DATE_TIME_PATTERN;
+        String[] texts = {"00/00/0000-00/00/00", "32/13/2022-10/15/00", "23/03/2022-25/00/00",
+            "23/03/2022-24/00/01", "23/03/2022-10/60/00", "23/03/2022-10/15/60", "00/03/2022-10/15/00"};
+        for (String text : texts) {
+            assertNull(text, DateParsers.tryParseToLocalDateTime(text, pattern, status));
+            assertEquals(text, ParseStatus.INVALID_VALUE, status.getError());
+            assertEquals(0, status.getErrorIndex());
+            assertFalse(text, DateParsers.isValid(text, pattern));
+            try {
+                DateParsers.parseToLocalDateTime(text, pattern);
+                fail(text);
+            }
+            catch (DateTimeParseException ex) {
+            }
+        }
+        assertEquals(LocalDateTime.of(2022, 3, 24, 0, 0),
+                DateParsers.tryParseToLocalDateTime("23/03/2022-24/00/00", pattern, status));
+        assertTrue(status.isSuccess());
+        assertEquals(LocalDateTime.of(2022, 4, 30, 10, 15),
+                DateParsers.tryParseToLocalDateTime("31/04/2022-10/15/00", pattern, status));
+        assertTrue(status.isSuccess());
+        assertNull(DateParsers.tryParseToLocalDate("00/00/0000", DatePatterns.DEFAULT_DATE_PATTERN, status));
+        assertEquals(ParseStatus.INVALID_VALUE, status.getError());
+    }
+
+    @Test
+    public void testTryParse_SameAsParse() {
+        System.out.println("tryParseSameAsParse");
+        String[] patterns = {DatePatterns.DEFAULT_DATE_PATTERN, "yyyyMMdd", "uuuu-MM-dd", "d/M/yyyy"};
+        String alphabet = "0123456789/-+ x";
+        Random random = new Random(23);
+        ParseStatus status = new ParseStatus();
+        for (String pattern : patterns) {
+            for (int i = 0; i < 20_000; i++) {
+                StringBuilder text = new StringBuilder(
+                        DateFormatters.format(LocalDate.ofEpochDay(random.nextInt(100_000)), pattern));
+                for (int j = random.nextInt(3); j > 0; j--) {
+                    int position = random.nextInt(text.length() + 1);
+                    char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                    if (random.nextBoolean() && position < text.length()) {
+                        text.setCharAt(position, c);
+                    }
+                    else {
+                        text.insert(position, c);
+                    }
+                }
+                LocalDate expResult;
+                try {
+                    expResult = DateParsers.parseToLocalDate(text.toString(), pattern);
+                }
+                catch (DateTimeParseException ex) {
+                    expResult = null;
+                }
+                LocalDate result = DateParsers.tryParseToLocalDate(text, pattern, status);
+                assertEquals(pattern + " " + text, expResult, result);
+                assertEquals(expResult != null, status.isSuccess());
+                assertEquals(expResult != null, DateParsers.isValid(text, pattern));
+            }
+        }
+    }
+
+    @Test
+    public void testValidate() {
+        System.out.println("validate");
+        String[] texts = {"23/03/2022", null, "23/03/20x2", "23/13/2022", "23/03/2022-"};
+        int[] errorIndices = new int[texts.length];
+        assertEquals(4, DateParsers.validate(texts, DatePatterns.DEFAULT_DATE_PATTERN, errorIndices));
+        assertArrayEquals(new int[]{-1, 0, 8, 0, 10}, errorIndices);
+        assertEquals(4, DateParsers.validate(texts, DatePatterns.DEFAULT_DATE_PATTERN, null));
+        assertTrue(DateParsers.isValid("10/15/00", DatePatterns.DEFAULT_TIME_PATTERN));
+        assertFalse(DateParsers.isValid("25/15/00", DatePatterns.DEFAULT_TIME_PATTERN));
+        try {
+            DateParsers.validate(texts, DatePatterns.DEFAULT_DATE_PATTERN, new int[1]);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testParseToEpochDays() {
+        System.out.println("parseToEpochDays");
+        String[] patterns = {DatePatterns.DEFAULT_DATE_PATTERN, "yyyyMMdd", "d/M/yyyy", "dd/MM/yyyy HH"};
+        Random random = new Random(24);
+        for (String pattern : patterns) {
+            int length = DateFormatters.format(LocalDateTime.of(2022, 12, 12, 0, 0), pattern).length();
+            int stride = length + 1;
+            long[] expResult = new long[500];
+            byte[] bytes = new byte[expResult.length * stride + 3];
+            for (int i = 0; i < expResult.length; i++) {
+                LocalDate localDate = LocalDate.of(1 + random.nextInt(9999), 12, 10 + random.nextInt(20));
+                byte[] text = DateFormatters.format(localDate.atStartOfDay(), pattern)
+                        .getBytes(StandardCharsets.US_ASCII);
+                System.arraycopy(text, 0, bytes, 3 + i * stride, length);
+                bytes[3 + i * stride + length] = '\n';
+                expResult[i] = localDate.toEpochDay();
+            }
+            long[] result = new long[expResult.length];
+            DateParsers.parseToEpochDays(bytes, 3, length, stride, result, pattern);
+            assertArrayEquals(pattern, expResult, result);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip().position(3);
+            result = new long[expResult.length];
+            DateParsers.parseToEpochDays(direct, length, stride, result, pattern);
+            assertArrayEquals(pattern, expResult, result);
+            assertEquals(3, direct.position());
+        }
+        byte[] bytes = "31/04/2022;29/02/2024;01/01/0001".getBytes(StandardCharsets.US_ASCII);
+        long[] result = new long[3];
+        DateParsers.parseToEpochDays(bytes, 0, 10, 11, result, DatePatterns.DEFAULT_DATE_PATTERN);
+        assertArrayEquals(new long[]{
+            LocalDate.of(2022, 4, 30).toEpochDay(), LocalDate.of(2024, 2, 29).toEpochDay(),
+            LocalDate.of(1, 1, 1).toEpochDay()
+        }, result);
+        bytes[15] = 'x';
+        try {
+            DateParsers.parseToEpochDays(bytes, 0, 10, 11, result, DatePatterns.DEFAULT_DATE_PATTERN);
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+        try {
+            DateParsers.parseToEpochDays(bytes, 0, 10, 11, new long[4], DatePatterns.DEFAULT_DATE_PATTERN);
+            fail();
+        }
+        catch (IndexOutOfBoundsException ex) {
+        }
+        try {
+            DateParsers.parseToEpochDays(bytes, 0, 10, 9, result, DatePatterns.DEFAULT_DATE_PATTERN);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testParseToDuration() {
+        System.out.println("parseToDuration");
+        Duration duration = Duration.ofSeconds(93784, 5_000_000);
+        assertEquals(duration, DateParsers.parseToDuration("26:03:04.005"));
+        assertEquals(duration.negated(), DateParsers.parseToDuration("-26:03:04.005"));
+        assertEquals(duration, DateParsers.parseToDuration("1 días 02:03:04.005", "d 'días' HH:mm:ss.SSS"));
+        assertEquals(duration,
+                DateParsers.parseToDuration("PT26H3M4.005S", DatePatterns.ISO_DURATION_PATTERN));
+        assertEquals(Duration.ofMillis(3_723_004),
+                DateParsers.parseToDuration("1h2m3.004s", DatePatterns.COMPACT_DURATION_PATTERN));
+        assertEquals(Duration.ofNanos(-1_500_000),
+                DateParsers.parseToDuration("-1.5ms", DatePatterns.COMPACT_DURATION_PATTERN));
+        assertEquals(90_000_250_000L,
+                DateParsers.parseToElapsedNanos("1m30s250us", DatePatterns.COMPACT_DURATION_PATTERN));
+        assertEquals(1500,
+                DateParsers.parseToElapsedMillis("00:00:01.500", DatePatterns.DEFAULT_DURATION_PATTERN));
+        Random random = new Random(11);
+        String[] patterns = {
+            DatePatterns.DEFAULT_DURATION_PATTERN, "HHmmss.SSSSSSSSS", DatePatterns.ISO_DURATION_PATTERN,
+            DatePatterns.COMPACT_DURATION_PATTERN
+        };
+        for (int i = 0; i < 1000; i++) {
+            Duration value = Duration.ofSeconds(random.nextInt(), random.nextInt(1000) * 1_000_000);
+            for (String pattern : patterns) {
+                String text = DateFormatters.format(value, pattern);
+                assertEquals(text, value, DateParsers.parseToDuration(text, pattern));
+            }
+        }
+        String[] invalid = {"", "-", "1:02:03.004", "01:60:03.004", "01:02:03.004 ", "01:02:03"};
+        for (String text : invalid) {
+            try {
+                DateParsers.parseToDuration(text);
+                fail(text);
+            }
+            catch (DateTimeParseException ex) {
+            }
+        }
+        try {
+            DateParsers.parseToDuration("1h2", DatePatterns.COMPACT_DURATION_PATTERN);
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+            assertEquals(3, ex.getErrorIndex());
+        }
+        try {
+            DateParsers.parseToDuration("99999999999999999999:00:00.000");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+    }
+
+    /**
+     * Test of parseToDuration method with the limits of Duration, of class
+     * DateParsers.
+     */
+    @Test
+    public void testParseToDuration_Limits() {
+        System.out.println("parseToDuration_Limits");
+        Duration[] values = {
+            Duration.ofSeconds(Long.MAX_VALUE, 999_999_999), Duration.ofSeconds(Long.MAX_VALUE),
+            Duration.ofSeconds(Long.MIN_VALUE), Duration.ofSeconds(Long.MIN_VALUE, 1)
+        };
+        String[] patterns = {
+            "HH:mm:ss.SSSSSSSSS", "d HH:mm:ss.SSSSSSSSS", "ss.SSSSSSSSS", "HHmmss.SSSSSSSSS",
+            DatePatterns.ISO_DURATION_PATTERN, DatePatterns.COMPACT_DURATION_PATTERN
+        };
+        for (Duration value : values) {
+            for (String pattern : patterns) {
+                String text = DateFormatters.format(value, pattern);
+                assertEquals(text, value, DateParsers.parseToDuration(text, pattern));
+            }
+        }
+        for (long nanos : new long[]{Long.MAX_VALUE, Long.MIN_VALUE}) {
+            for (String pattern : patterns) {
+                String text = DateFormatters.formatElapsedNanos(nanos, pattern);
+                assertEquals(text, nanos, DateParsers.parseToElapsedNanos(text, pattern));
+            }
+        }
+        try {
+            DateParsers.parseToDuration("9223372036854775808", "ss");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+        try {
+            DateParsers.parseToDuration("-9223372036854775808.5", "ss.S");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+        assertEquals(Duration.ofSeconds(Long.MIN_VALUE),
+                DateParsers.parseToDuration("-9223372036854775808", "ss"));
+    }
 }
@@ -15,6 +15,16 @@
  */
 package io.github.ldelpino.libs.dateutils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -66,4 +76,104 @@ public class DatePatternsTest {
             assertTrue(false);
         }
     }
+
+    @Test
+    public void testRegisterPattern() {
+        System.out.println("registerPattern");
+        int id = DatePatterns.registerPattern("test.fecha", "dd/MM/yyyy");
+        assertEquals(id, DatePatterns.getPatternId("test.fecha"));
+        assertEquals(id, DatePatterns.registerPattern("test.fecha", "yyyy-MM-dd"));
+        CompiledPattern compiled = DatePatterns.getRegisteredPattern(id);
+        assertEquals("yyyy-MM-dd", compiled.getPattern());
+        assertSame(compiled, DatePatterns.getRegisteredPattern("test.fecha"));
+        assertEquals("yyyy-MM-dd", DatePatterns.getRegisteredPatterns().get("test.fecha"));
+        assertEquals(-1, DatePatterns.getPatternId("test.inexistente"));
+        try {
+            DatePatterns.getRegisteredPattern("test.inexistente");
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+        try {
+            DatePatterns.getRegisteredPattern(-1);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testRegisteredPatternConversions() {
+        System.out.println("registeredPatternConversions");
+        Map<String, String> patterns = new HashMap<>();
+        patterns.put("test.conversion.fecha", "dd/MM/yyyy");
+        patterns.put("test.conversion.hora", "HH:mm:ss");
+        patterns.put("test.conversion.fechaHora", "dd/MM/yyyy HH:mm");
+        DatePatterns.registerPatterns(patterns);
+        CompiledPattern date = DatePatterns.getRegisteredPattern("test.conversion.fecha");
+        CompiledPattern time = DatePatterns.getRegisteredPattern("test.conversion.hora");
+        CompiledPattern dateTime = DatePatterns.getRegisteredPattern("test.conversion.fechaHora");
+        LocalDate localDate = LocalDate.of(2022, 3, 23);
+        LocalTime localTime = LocalTime.of(10, 15, 30);
+        LocalDateTime localDateTime = LocalDateTime.of(2022, 3, 23, 10, 15);
+        assertEquals("23/03/2022", DateFormatters.format(localDate, date));
+        assertEquals("10:15:30", DateFormatters.format(localTime, time));
+        assertEquals("23/03/2022 10:15", DateFormatters.format(localDateTime, dateTime));
+        assertEquals(localDate, DateParsers.parseToLocalDate("23/03/2022", date));
+        assertEquals(localTime, DateParsers.parseToLocalTime("10:15:30", time));
+        assertEquals(localDateTime, DateParsers.parseToLocalDateTime("23/03/2022 10:15", dateTime));
+        DatePatterns.warmUpPatterns(100);
+    }
+
+    @Test
+    public void testRegisterPatterns_Invalid() {
+        System.out.println("registerPatterns_Invalid");
+        Map<String, String> patterns = new HashMap<>();
+        patterns.put("test.valido", "dd/MM/yyyy");
+        patterns.put("test.invalido", "dd/MM/yyyy {");
+        try {
+            DatePatterns.registerPatterns(patterns);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+        assertEquals(-1, DatePatterns.getPatternId("test.valido"));
+        assertEquals(-1, DatePatterns.getPatternId("test.invalido"));
+    }
+
+    @Test
+    public void testLoadPatterns() throws IOException {
+        System.out.println("loadPatterns");
+        Path file = Files.createTempFile("patterns", ".properties");
+        try {
+            Files.write(file, Arrays.asList("test.carga.fecha = dd/MM/yyyy", "test.carga.año = yyyy"),
+                    StandardCharsets.UTF_8);
+            DatePatterns.loadPatterns(file);
+            int date = DatePatterns.getPatternId("test.carga.fecha");
+            int year = DatePatterns.getPatternId("test.carga.año");
+            assertTrue(date >= 0 && year >= 0);
+            assertEquals("yyyy", DatePatterns.getRegisteredPattern(year).getPattern());
+            Files.write(file, Arrays.asList("test.carga.fecha = yyyy-MM-dd"), StandardCharsets.UTF_8);
+            DatePatterns.loadPatterns(file);
+            assertEquals(date, DatePatterns.getPatternId("test.carga.fecha"));
+            assertEquals("yyyy-MM-dd", DatePatterns.getRegisteredPattern(date).getPattern());
+            assertEquals(-1, DatePatterns.getPatternId("test.carga.año"));
+            assertEquals(1, DatePatterns.getRegisteredPatterns().size());
+            Files.write(file, Arrays.asList("test.carga.fecha = dd/MM", "test.carga.hora = HH {"),
+                    StandardCharsets.UTF_8);
+            try {
+                DatePatterns.loadPatterns(file);
+                fail();
+            }
+            catch (IllegalArgumentException ex) {
+            }
+            assertEquals("yyyy-MM-dd", DatePatterns.getRegisteredPattern(date).getPattern());
+            DatePatterns.replacePatterns(new HashMap<>());
+            assertEquals(-1, DatePatterns.getPatternId("test.carga.fecha"));
+            assertEquals(date, DatePatterns.registerPattern("test.carga.fecha", "dd/MM"));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateProcessorTest {
+
+    @Test
+    public void testParseToLocalDate() throws Exception {
+        System.out.println("parseToLocalDate");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DateProcessor<String, LocalDate> processor
+                    = DateProcessor.parseToLocalDate("dd/MM/yyyy", executor, 2, 1);
+            Collector<LocalDate> collector = new Collector<>();
+            processor.subscribe(collector);
+            try (SubmissionPublisher<List<String>> source = new SubmissionPublisher<>(executor, 1)) {
+                source.subscribe(processor);
+                source.submit(Arrays.asList("23/03/2022", "24/03/2022", "2x/03/2022"));
+                source.submit(Arrays.asList(null, "25/03/2022"));
+                for (int i = 0; i < 50; i++) {
+                    source.submit(Arrays.asList("01/01/2000"));
+                }
+            }
+            assertTrue(collector.await());
+            assertNull(collector.error);
+            assertEquals(Arrays.asList(LocalDate.of(2022, 3, 23), LocalDate.of(2022, 3, 24)),
+                    collector.batches.get(0));
+            assertEquals(Arrays.asList((LocalDate) null), collector.batches.get(1));
+            assertEquals(Arrays.asList(null, LocalDate.of(2022, 3, 25)), collector.batches.get(2));
+            assertEquals(53, collector.batches.size());
+            assertEquals(1, processor.getFailureCount());
+            assertTrue(processor.isClosed());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParseBytesAndFormat() throws Exception {
+        System.out.println("parseBytesAndFormat");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DateProcessor<byte[], LocalDateTime> parser = DateProcessor.parseBytesToLocalDateTime(
+                    "yyyy-MM-dd HH:mm", executor, DateProcessor.DEFAULT_BATCH_SIZE, Flow.defaultBufferSize());
+            DateProcessor<LocalDateTime, String> formatter = DateProcessor.format("dd/MM/yyyy HH:mm",
+                    executor, DateProcessor.DEFAULT_BATCH_SIZE, Flow.defaultBufferSize());
+            Collector<String> collector = new Collector<>();
+            parser.subscribe(formatter);
+            formatter.subscribe(collector);
+            try (SubmissionPublisher<List<byte[]>> source = new SubmissionPublisher<>(executor, 1)) {
+                source.subscribe(parser);
+                source.submit(Arrays.asList("2022-03-23 10:15".getBytes(StandardCharsets.US_ASCII),
+                        "2022-03-24 23:59".getBytes(StandardCharsets.US_ASCII)));
+            }
+            assertTrue(collector.await());
+            assertNull(collector.error);
+            assertEquals(Arrays.asList(Arrays.asList("23/03/2022 10:15", "24/03/2022 23:59")),
+                    collector.batches);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSingleThreadExecutor() throws Exception {
+        System.out.println("singleThreadExecutor");
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            DateProcessor<String, LocalDate> processor
+                    = DateProcessor.parseToLocalDate("dd/MM/yyyy", executor, 10, 2);
+            Collector<LocalDate> collector = new Collector<>();
+            processor.subscribe(collector);
+            List<String> items = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                items.add("23/03/2022");
+            }
+            try (SubmissionPublisher<List<String>> source = new SubmissionPublisher<>(executor, 1)) {
+                source.subscribe(processor);
+                for (int i = 0; i < 20; i++) {
+                    assertTrue(source.offer(items, 10, TimeUnit.SECONDS, null) >= 0);
+                }
+            }
+            assertTrue(collector.await());
+            assertNull(collector.error);
+            assertEquals(200, collector.batches.size());
+            for (List<LocalDate> batch : collector.batches) {
+                assertEquals(10, batch.size());
+                assertEquals(LocalDate.of(2022, 3, 23), batch.get(9));
+            }
+            assertEquals(0, processor.getFailureCount());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLateSubscriber() throws Exception {
+        System.out.println("lateSubscriber");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DateProcessor<String, LocalDate> processor
+                    = DateProcessor.parseToLocalDate("dd/MM/yyyy", executor, 4, 2);
+            Collector<LocalDate> collector = new Collector<>();
+            try (SubmissionPublisher<List<String>> source
+                    = new SubmissionPublisher<>(executor, Flow.defaultBufferSize())) {
+                source.subscribe(processor);
+                for (int i = 0; i < 50; i++) {
+                    source.submit(Arrays.asList("23/03/2022", "24/03/2022"));
+                }
+                Thread.sleep(100);
+                assertTrue(source.estimateMaximumLag() >= 48);
+                processor.subscribe(collector);
+            }
+            assertTrue(collector.await());
+            assertNull(collector.error);
+            assertEquals(50, collector.batches.size());
+            for (List<LocalDate> batch : collector.batches) {
+                assertEquals(Arrays.asList(LocalDate.of(2022, 3, 23), LocalDate.of(2022, 3, 24)), batch);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testOnError() throws Exception {
+        System.out.println("onError");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DateProcessor<String, LocalDate> processor
+                    = DateProcessor.parseToLocalDate("dd/MM/yyyy", executor, 16, 4);
+            Collector<LocalDate> collector = new Collector<>();
+            processor.subscribe(collector);
+            try (SubmissionPublisher<List<String>> source = new SubmissionPublisher<>(executor, 1)) {
+                source.subscribe(processor);
+                source.closeExceptionally(new IllegalStateException("origen"));
+            }
+            assertTrue(collector.await());
+            assertTrue(collector.error instanceof IllegalStateException);
+            assertTrue(processor.isClosed());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        System.out.println("invalidArguments");
+        try {
+            DateProcessor.parseToLocalDate("dd/MM/yyyy", Runnable::run, 0, 1);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+        try {
+            DateProcessor.parseToLocalDate("dd/MM/yyyy", Runnable::run, 1, 0);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    /**
+     * Suscriptor que almacena los lotes recibidos solicitándolos de uno en
+     * uno.
+     */
+    private static final class Collector<T> implements Flow.Subscriber<List<T>> {
+
+        private final List<List<T>> batches = new ArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<T> item) {
+            batches.add(item);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class DateUtilsContextTest {
+
+    private static final Date DATE = new Date(1_656_676_800_000L);
+
+    @Test
+    public void testFormatAndParse() {
+        System.out.println("formatAndParse");
+        DateUtilsContext madrid = new DateUtilsContext(ZoneId.of("Europe/Madrid"), Locale.ROOT,
+                "yyyy-MM-dd", "HH:mm", "yyyy-MM-dd HH:mm");
+        DateUtilsContext havana = madrid.withZone(ZoneId.of("America/Havana"));
+        assertEquals("2022-07-01 14:00", madrid.format(DATE));
+        assertEquals("2022-07-01 08:00", havana.format(DATE));
+        assertEquals(DATE, madrid.parseToDate("2022-07-01 14:00"));
+        assertEquals(DATE, havana.parseToDate("2022-07-01 08:00"));
+        Calendar calendar = havana.parseToCalendar("2022-07-01 08:00");
+        assertEquals(DATE.getTime(), calendar.getTimeInMillis());
+        assertEquals("2022-07-01 08:00", havana.format(calendar));
+        assertEquals("2022-07-01", madrid.format(LocalDate.of(2022, 7, 1)));
+        assertEquals("14:30", madrid.format(LocalTime.of(14, 30)));
+        assertEquals(LocalDate.of(2022, 7, 1), madrid.parseToLocalDate("2022-07-01"));
+        assertEquals(LocalTime.of(14, 30), madrid.parseToLocalTime("14:30"));
+        assertEquals(LocalDateTime.of(2022, 7, 1, 14, 0), madrid.parseToLocalDateTime("2022-07-01 14:00"));
+    }
+
+    @Test
+    public void testConvert() {
+        System.out.println("convert");
+        DateUtilsContext context = DateUtilsContext.getDefault().withZone(ZoneId.of("Europe/Madrid"));
+        assertEquals(LocalDate.of(2022, 7, 1), context.convertFromDateToLocalDate(DATE));
+        assertEquals(LocalDateTime.of(2022, 7, 1, 14, 0), context.convertFromDateToLocalDateTime(DATE));
+        assertEquals(DATE, context.convertFromLocalDateTimeToDate(LocalDateTime.of(2022, 7, 1, 14, 0)));
+        assertEquals(new Date(1_656_626_400_000L), context.convertFromLocalDateToDate(LocalDate.of(2022, 7, 1)));
+        LocalDateTime gap = LocalDateTime.of(2022, 3, 27, 2, 30);
+        assertEquals(Date.from(gap.atZone(context.getZone()).toInstant()),
+                context.convertFromLocalDateTimeToDate(gap));
+    }
+
+    @Test
+    public void testWith() {
+        System.out.println("with");
+        DateUtilsContext context = new DateUtilsContext(ZoneId.of("UTC"), Locale.ROOT,
+                "dd/MM/yyyy", "HH/mm/ss", "dd/MM/yyyy-HH/mm/ss");
+        DateUtilsContext changed = context.withDatePattern("yyyy.MM.dd").withLocale(Locale.FRANCE);
+        assertEquals("dd/MM/yyyy", context.getDatePattern().getPattern());
+        assertEquals(Locale.ROOT, context.getLocale());
+        assertEquals("yyyy.MM.dd", changed.getDatePattern().getPattern());
+        assertEquals(Locale.FRANCE, changed.getLocale());
+        assertEquals(Locale.FRANCE, changed.getTimePattern().getLocale());
+        assertSame(context.getZone(), changed.getZone());
+        assertSame(context, context.withZone(context.getZone()));
+        assertSame(context, context.withLocale(Locale.ROOT));
+        assertEquals("MMM yyyy", context.withDateTimePattern("MMM yyyy").getDateTimePattern().getPattern());
+        assertEquals("HH:mm", context.withTimePattern("HH:mm").getTimePattern().getPattern());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithDatePattern_Invalid() {
+        System.out.println("withDatePatternInvalid");
+        DateUtilsContext.getDefault().withDatePattern("yyyy-MM-dd'");
+    }
+
+    @Test
+    public void testDefault() {
+        System.out.println("default");
+        DateUtilsContext previous = DateUtilsContext.getDefault();
+        try {
+            DatePatterns.setDatePattern("yyyy-MM-dd");
+            DateConverters.setDefaulTimeZone(ZoneId.of("America/Havana"));
+            DateUtilsContext context = DateUtilsContext.getDefault();
+            assertEquals("yyyy-MM-dd", context.getDatePattern().getPattern());
+            assertEquals(ZoneId.of("America/Havana"), context.getZone());
+            assertSame(context.getDatePattern(), DatePatterns.getCompiledDatePattern());
+            assertEquals("dd/MM/yyyy", previous.getDatePattern().getPattern());
+            DateConverters.zone_id = ZoneId.of("Europe/Madrid");
+            assertEquals(LocalDateTime.of(2022, 7, 1, 14, 0), DateConverters.convertFromDateToLocalDateTime(DATE));
+            assertEquals(ZoneId.of("Europe/Madrid"), DateUtilsContext.getDefault().getZone());
+            assertEquals("yyyy-MM-dd", DateUtilsContext.getDefault().getDatePattern().getPattern());
+        }
+        finally {
+            DateUtilsContext.setDefault(previous);
+        }
+        assertSame(previous.getZone(), DateConverters.getTimeZone());
+        assertEquals("dd/MM/yyyy", DatePatterns.getDatePattern());
+    }
+
+    @Test
+    public void testDefault_Locale() {
+        System.out.println("defaultLocale");
+        DateUtilsContext previous = DateUtilsContext.getDefault();
+        Locale format = Locale.getDefault(Locale.Category.FORMAT);
+        String pattern = "d 'de' MMMM 'de' yyyy";
+        LocalDate date = LocalDate.of(2022, 8, 3);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.ENGLISH);
+            DateUtilsContext.setDefault(previous.withLocale(Locale.ENGLISH));
+            assertEquals(date, DateParsers.parseAnyToLocalDate("3 de August de 2022", "dd/MM/yyyy", pattern));
+            DateUtilsContext.setDefault(previous.withLocale(new Locale("es")).withDatePattern(pattern));
+            assertEquals("3 de agosto de 2022", DateFormatters.format(date));
+            assertEquals("3 de agosto de 2022", DateFormatters.format(date, pattern));
+            assertEquals(date, DateParsers.parseToLocalDate("3 de agosto de 2022", pattern));
+            assertEquals(date, DateParsers.parseAnyToLocalDate("3 de agosto de 2022", "dd/MM/yyyy", pattern));
+        }
+        finally {
+            DateUtilsContext.setDefault(previous);
+            Locale.setDefault(Locale.Category.FORMAT, format);
+        }
+    }
+}
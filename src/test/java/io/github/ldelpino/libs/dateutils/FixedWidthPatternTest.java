@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class FixedWidthPatternTest {
+
+    private static final String[] DATE_TIME_PATTERNS = {
+        DatePatterns.DEFAULT_DATE_TIME_PATTERN,
+        "yyyy-MM-dd'T'HH:mm:ss.SSS",
+        "uuuuMMddHHmmss",
+        "dd.MM.yyyy HH:mm:ss.SSSSSSSSS",
+        "'at' HH:mm 'on' dd/MM/yyyy"
+    };
+
+    @Test
+    public void testCompile() {
+        System.out.println("compile");
+        assertNotNull(FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_PATTERN));
+        assertNotNull(FixedWidthPattern.compile(DatePatterns.DEFAULT_TIME_PATTERN));
+        assertNotNull(FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_TIME_PATTERN));
+        assertNull(FixedWidthPattern.compile("d/M/yyyy"));
+        assertNull(FixedWidthPattern.compile("dd MMM yyyy"));
+        assertNull(FixedWidthPattern.compile("hh:mm a"));
+        assertNull(FixedWidthPattern.compile("yyyy-MM-dd[ HH:mm]"));
+        assertEquals(19, FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_TIME_PATTERN).length());
+    }
+
+    @Test
+    public void testFormatAndParse_LocalDateTime() {
+        System.out.println("formatAndParseLocalDateTime");
+        Random random = new Random(7);
+        for (String pattern : DATE_TIME_PATTERNS) {
+            FixedWidthPattern fixed = FixedWidthPattern.compile(pattern);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            for (int i = 0; i < 1000; i++) {
+                LocalDateTime value = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12),
+                        1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                        random.nextInt(1_000_000_000));
+                String expResult = formatter.format(value);
+                assertEquals(expResult, fixed.format(value));
+                assertEquals(formatter.parse(expResult, LocalDateTime::from), fixed.parseLocalDateTime(expResult));
+            }
+        }
+    }
+
+    @Test
+    public void testFormatAndParse_LocalDate() {
+        System.out.println("formatAndParseLocalDate");
+        FixedWidthPattern fixed = FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_PATTERN);
+        LocalDate localDate = LocalDate.of(2022, 2, 28);
+        assertEquals("28/02/2022", fixed.format(localDate));
+        assertEquals(localDate, fixed.parseLocalDate("28/02/2022"));
+        assertNull(fixed.format(LocalDate.of(10000, 1, 1)));
+    }
+
+    @Test
+    public void testFormatAndParse_LocalTime() {
+        System.out.println("formatAndParseLocalTime");
+        FixedWidthPattern fixed = FixedWidthPattern.compile("HH:mm:ss.SSS");
+        LocalTime localTime = LocalTime.of(23, 59, 58, 123_000_000);
+        assertEquals("23:59:58.123", fixed.format(localTime));
+        assertEquals(localTime, fixed.parseLocalTime("23:59:58.123"));
+        assertNull(fixed.format(LocalDate.of(2022, 1, 1)));
+    }
+
+    @Test
+    public void testParse_Fallback() {
+        System.out.println("parseFallback");
+        FixedWidthPattern fixed = FixedWidthPattern.compile(DatePatterns.DEFAULT_DATE_TIME_PATTERN);
+        assertNull(fixed.parseLocalDateTime("1/01/2022-00/00/00"));
+        assertNull(fixed.parseLocalDateTime("01-01/2022-00/00/00"));
+        assertNull(fixed.parseLocalDateTime("0a/01/2022-00/00/00"));
+        assertNull(fixed.parseLocalDateTime("31/04/2022-00/00/00"));
+        assertNull(fixed.parseLocalDateTime("01/01/2022-24/00/00"));
+        assertNull(fixed.parseLocalDateTime("01/01/0000-00/00/00"));
+        assertEquals(LocalTime.MIDNIGHT, fixed.parseLocalTime("01/01/2022-00/00/00"));
+        assertEquals(2, fixed.mismatch("01-01/2022-00/00/00"));
+        assertEquals(-1, fixed.mismatch("01/01/2022-00/00/00"));
+    }
+
+    @Test
+    public void testCompiledPattern_Fallback() {
+        System.out.println("compiledPatternFallback");
+        CompiledPattern compiled = FormatterCache.get(DatePatterns.DEFAULT_DATE_PATTERN);
+        assertTrue(compiled.isFixedWidth());
+        assertEquals(LocalDate.of(2022, 4, 30), compiled.parseLocalDate("31/04/2022"));
+        assertEquals("+10000", compiled.format(LocalDate.of(10000, 1, 1)).substring(6));
+        assertFalse(FormatterCache.get("dd MMM yyyy").isFixedWidth());
+    }
+
+    @Test
+    public void testParseBytes() {
+        System.out.println("parseBytes");
+        for (int year = 1; year <= 9999; year += 7) {
+            LocalDate localDate = LocalDate.of(year, 1 + year % 12, 1 + year % 28);
+            assertEquals(localDate.toEpochDay(), FixedWidthPattern.toEpochDay(year, localDate.getMonthValue(),
+                    localDate.getDayOfMonth()));
+        }
+        FixedWidthPattern fixed = FixedWidthPattern.compile("yyyy-MM-dd HH:mm:ss.SSSSSS");
+        byte[] bytes = "xx2022-03-27 01:02:03.456789yy".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        long expResult = LocalDateTime.of(2022, 3, 27, 1, 2, 3).toEpochSecond(ZoneOffset.UTC) * 1000 + 456;
+        assertEquals(expResult, fixed.parseLocalEpochMilli(ByteBuffer.wrap(bytes), 2, 26));
+        assertEquals(expResult, fixed.parseLocalEpochMilli(direct, 2, 26));
+        assertEquals(LocalDate.of(2022, 3, 27).toEpochDay(), fixed.parseEpochDay(direct, 2, 26));
+        assertEquals(FixedWidthPattern.UNRESOLVED, fixed.parseEpochDay(direct, 1, 26));
+        assertEquals(0, fixed.mismatch(direct, 1, 26));
+        assertEquals(-1, fixed.mismatch(direct, 2, 26));
+    }
+}
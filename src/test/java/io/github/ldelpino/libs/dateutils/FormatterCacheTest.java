@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.ZoneOffset;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class FormatterCacheTest {
+
+    @Test
+    public void testGet() {
+        System.out.println("get");
+        CompiledPattern first = FormatterCache.get("yyyy.MM.dd");
+        CompiledPattern second = FormatterCache.get("yyyy.MM.dd");
+        assertSame(first, second);
+        assertEquals("yyyy.MM.dd", first.getPattern());
+        assertNull(first.getZone());
+    }
+
+    @Test
+    public void testGet_Zone() {
+        System.out.println("getWithZone");
+        CompiledPattern plain = FormatterCache.get("dd.MM.yyyy");
+        CompiledPattern zoned = FormatterCache.get("dd.MM.yyyy", ZoneOffset.UTC);
+        assertNotSame(plain, zoned);
+        assertEquals(ZoneOffset.UTC, zoned.getZone());
+        assertEquals(ZoneOffset.UTC, zoned.getFormatter().getZone());
+    }
+
+    @Test
+    public void testGet_Locale() {
+        System.out.println("getWithLocale");
+        CompiledPattern english = FormatterCache.get("dd MMM yyyy", Locale.ENGLISH, null);
+        CompiledPattern spanish = FormatterCache.get("dd MMM yyyy", new Locale("es"), null);
+        assertNotSame(english, spanish);
+        assertEquals(Locale.ENGLISH, english.getLocale());
+    }
+
+    @Test
+    public void testHitAndMissCount() {
+        System.out.println("hitAndMissCount");
+        long misses = FormatterCache.getMissCount();
+        long hits = FormatterCache.getHitCount();
+        FormatterCache.get("HH.mm.ss.SSS");
+        FormatterCache.get("HH.mm.ss.SSS");
+        assertTrue(FormatterCache.getMissCount() >= misses + 1);
+        assertTrue(FormatterCache.getHitCount() >= hits + 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGet_InvalidPattern() {
+        System.out.println("getInvalidPattern");
+        FormatterCache.get("dd/MM/yyyy{");
+    }
+
+    @Test
+    public void testSetMaximumSize() {
+        System.out.println("setMaximumSize");
+        int maximumSize = FormatterCache.getMaximumSize();
+        try {
+            FormatterCache.setMaximumSize(4);
+            for (int i = 0; i < 10; i++) {
+                FormatterCache.get("'" + i + "' yyyy");
+            }
+            assertTrue(FormatterCache.size() <= 4);
+            assertTrue(FormatterCache.getEvictionCount() > 0);
+        }
+        finally {
+            FormatterCache.setMaximumSize(maximumSize);
+        }
+    }
+
+    @Test
+    public void testEviction_KeepsUsedPatterns() {
+        System.out.println("evictionKeepsUsedPatterns");
+        int maximumSize = FormatterCache.getMaximumSize();
+        try {
+            FormatterCache.setMaximumSize(4);
+            CompiledPattern used = FormatterCache.get("yyyy/MM/dd 'usado'");
+            for (int i = 0; i < 20; i++) {
+                assertSame(used, FormatterCache.get("yyyy/MM/dd 'usado'"));
+                FormatterCache.get("'" + i + "' MM.yyyy");
+            }
+            assertTrue(FormatterCache.size() <= 4);
+            assertSame(used, FormatterCache.get("yyyy/MM/dd 'usado'"));
+        }
+        finally {
+            FormatterCache.setMaximumSize(maximumSize);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class IsoCodecTest {
+
+    @Test
+    public void testFormatInstant() {
+        System.out.println("formatInstant");
+        Random random = new Random(19);
+        int[] nanos = {0, 123_000_000, 123_456_000, 123_456_789};
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 400_000_000_000L,
+                    nanos[random.nextInt(nanos.length)]);
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), IsoCodec.format(instant));
+        }
+        Instant instant = Instant.parse("2022-10-18T12:34:56.789123456Z");
+        assertEquals("2022-10-18T12:34:56Z", IsoCodec.format(instant, 0));
+        assertEquals("2022-10-18T12:34:56.7Z", IsoCodec.format(instant, 1));
+        assertEquals("2022-10-18T12:34:56.789123456Z", IsoCodec.format(instant, 9));
+        assertEquals("-0005-01-01T00:00:00Z", IsoCodec.format(Instant.parse("-0005-01-01T00:00:00Z")));
+        StringBuilder out = new StringBuilder("t=");
+        assertEquals(24, IsoCodec.formatTo(instant, 3, out));
+        assertEquals("t=2022-10-18T12:34:56.789Z", out.toString());
+        char[] buffer = new char[30];
+        assertEquals(20, IsoCodec.formatTo(instant, 0, buffer, 1));
+        assertEquals("2022-10-18T12:34:56Z", new String(buffer, 1, 20));
+        try {
+            IsoCodec.format(instant, 10);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testFormatLocalAndOffsetDateTime() {
+        System.out.println("formatLocalAndOffsetDateTime");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS");
+        Random random = new Random(20);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(random.nextInt(),
+                    random.nextInt(1_000_000) * 1000, ZoneOffset.UTC);
+            assertEquals(formatter.format(localDateTime), IsoCodec.format(localDateTime, 9));
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(73) - 36) * 900);
+            OffsetDateTime offsetDateTime = OffsetDateTime.of(localDateTime.withNano(0), offset);
+            assertEquals(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime),
+                    IsoCodec.format(offsetDateTime));
+        }
+        assertEquals("2022-10-18T12:34:00.500", IsoCodec.format(LocalDateTime.of(2022, 10, 18, 12, 34, 0,
+                500_000_000)));
+        assertEquals("2022-10-18T12:34:00+05:30:15", IsoCodec.format(OffsetDateTime.of(2022, 10, 18, 12, 34,
+                0, 0, ZoneOffset.ofHoursMinutesSeconds(5, 30, 15))));
+    }
+
+    @Test
+    public void testFormatTo_StringBuilder() {
+        System.out.println("formatTo_StringBuilder");
+        Random random = new Random(21);
+        int[] nanos = {0, 100_000_000, 123_000_000, 123_456_000, 123_456_789};
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 400_000_000_000L,
+                    nanos[random.nextInt(nanos.length)]);
+            int fractionDigits = random.nextInt(11) - 1;
+            out.setLength(0);
+            out.append('x');
+            assertEquals(IsoCodec.format(instant, fractionDigits).length(),
+                    IsoCodec.formatTo(instant, fractionDigits, out));
+            assertEquals("x" + IsoCodec.format(instant, fractionDigits), out.toString());
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(),
+                    instant.getNano(), ZoneOffset.UTC);
+            out.setLength(0);
+            IsoCodec.formatTo(localDateTime, fractionDigits, out);
+            assertEquals(IsoCodec.format(localDateTime, fractionDigits), out.toString());
+            OffsetDateTime offsetDateTime = OffsetDateTime.of(localDateTime,
+                    ZoneOffset.ofTotalSeconds((random.nextInt(73) - 36) * 900 + random.nextInt(2) * 15));
+            out.setLength(0);
+            IsoCodec.formatTo(offsetDateTime, fractionDigits, out);
+            assertEquals(IsoCodec.format(offsetDateTime, fractionDigits), out.toString());
+        }
+    }
+
+    @Test
+    public void testParse() {
+        System.out.println("parse");
+        Random random = new Random(21);
+        for (int i = 0; i < 10_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong() % 400_000_000_000L,
+                    random.nextInt(1_000_000_000));
+            String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+            assertEquals(text, instant, IsoCodec.parseInstant(text));
+            LocalDateTime localDateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+            assertEquals(localDateTime, IsoCodec.parseLocalDateTime(text.substring(0, text.length() - 1)));
+            OffsetDateTime offsetDateTime = localDateTime.atOffset(ZoneOffset.ofHoursMinutes(-3, -30));
+            assertEquals(offsetDateTime, IsoCodec.parseOffsetDateTime(
+                    DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime)));
+        }
+        assertEquals(Instant.parse("2022-10-18T10:34:00Z"), IsoCodec.parseInstant("2022-10-18t12:34+02"));
+        assertEquals(Instant.parse("2022-10-18T10:34:00Z"),
+                IsoCodec.parseInstant("2022-10-18T12:34:00+0200"));
+        assertEquals(Instant.parse("2022-10-18T12:34:56.700Z"),
+                IsoCodec.parseInstant("2022-10-18T12:34:56.7z"));
+        assertEquals(1_666_096_496_789L, IsoCodec.parseToEpochMilli("2022-10-18T12:34:56.789999Z"));
+        String[] invalid = {"", "2022", "2022-10-18", "2022-10-18T12", "2022-13-18T12:34Z",
+            "2022-02-29T12:34Z", "2022-10-18T24:00Z", "2022-10-18T12:34:60Z", "2022-10-18T12:34:56.Z",
+            "2022-10-18T12:34:56.1234567890Z", "2022-10-18T12:34:56", "2022-10-18T12:34:56+19:00",
+            "2022-10-18 12:34:56Z", "22022-10-18T12:34Z", "2022-10-18T12:34Zx"};
+        for (String text : invalid) {
+            try {
+                IsoCodec.parseInstant(text);
+                fail(text);
+            }
+            catch (DateTimeParseException ex) {
+            }
+        }
+        try {
+            IsoCodec.parseLocalDateTime("2022-10-18T12:34:56Z");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+            assertEquals(19, ex.getErrorIndex());
+        }
+    }
+
+    @Test
+    public void testEpoch() {
+        System.out.println("epoch");
+        Instant instant = Instant.ofEpochSecond(1_666_096_496L, 789_123_456);
+        assertEquals("1666096496.789123456",
+                IsoCodec.formatEpochSeconds(instant, IsoCodec.VARIABLE_PRECISION));
+        assertEquals("1666096496.789", IsoCodec.formatEpochSeconds(instant, 3));
+        assertEquals("1666096496789.123456",
+                IsoCodec.formatEpochMillis(instant, IsoCodec.VARIABLE_PRECISION));
+        assertEquals("1666096496789", IsoCodec.formatEpochMillis(instant, 0));
+        assertEquals("-0.500", IsoCodec.formatEpochSeconds(Instant.ofEpochMilli(-500),
+                IsoCodec.VARIABLE_PRECISION));
+        assertEquals("-1500", IsoCodec.formatEpochMillis(Instant.ofEpochMilli(-1500), 0));
+        assertEquals("0", IsoCodec.formatEpochSeconds(Instant.EPOCH, IsoCodec.VARIABLE_PRECISION));
+        Random random = new Random(22);
+        for (int i = 0; i < 10_000; i++) {
+            Instant value = Instant.ofEpochSecond(random.nextLong() % 100_000_000_000L,
+                    random.nextInt(1_000_000_000));
+            assertEquals(value, IsoCodec.parseEpochSeconds(IsoCodec.formatEpochSeconds(value, 9)));
+            assertEquals(value, IsoCodec.parseEpochMillis(IsoCodec.formatEpochMillis(value, 6)));
+        }
+        assertEquals(Instant.ofEpochMilli(-500), IsoCodec.parseEpochSeconds("-0.5"));
+        assertEquals(Instant.ofEpochMilli(1_666_096_496_789L), IsoCodec.parseEpochMillis("+1666096496789"));
+        String[] invalid = {"", "-", "1.", "1.2.3", "12a", "99999999999999999999", "1.1234567"};
+        for (String text : invalid) {
+            try {
+                IsoCodec.parseEpochMillis(text);
+                fail(text);
+            }
+            catch (DateTimeParseException ex) {
+            }
+        }
+    }
+}
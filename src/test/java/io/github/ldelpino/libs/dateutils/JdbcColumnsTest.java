@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class JdbcColumnsTest {
+
+    @Test
+    public void testReadDateColumn() throws Exception {
+        System.out.println("readDateColumn");
+        LocalDate[] values = {LocalDate.of(2022, 3, 27), null, LocalDate.of(1969, 12, 31)};
+        DateColumn column = JdbcColumns.readDateColumn(resultSet(values), "FECHA");
+        assertEquals(3, column.size());
+        assertArrayEquals(values, column.toLocalDates());
+    }
+
+    @Test
+    public void testReadTimestampColumn() throws Exception {
+        System.out.println("readTimestampColumn");
+        LocalDateTime[] values = {LocalDateTime.of(2022, 3, 27, 2, 30, 15, 123_000_000), null,
+            LocalDateTime.of(1960, 1, 1, 0, 0)};
+        TimestampColumn column = JdbcColumns.readTimestampColumn(resultSet(values), 1);
+        assertEquals(3, column.size());
+        assertTrue(column.isMissing(1));
+        ZoneId zone = DateConverters.getTimeZone();
+        assertEquals(values[0].atZone(zone).toInstant().toEpochMilli(), column.getEpochMilli(0));
+        assertEquals(values[2], column.getLocalDateTime(2));
+    }
+
+    @Test
+    public void testAddBatch() throws Exception {
+        System.out.println("addBatch");
+        List<Object> bound = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setDate":
+                            Calendar calendar = (Calendar) args[2];
+                            bound.add(Instant.ofEpochMilli(((Date) args[1]).getTime())
+                                    .atZone(calendar.getTimeZone().toZoneId()).toLocalDate());
+                            return null;
+                        case "setTimestamp":
+                            bound.add(((Timestamp) args[1]).getTime());
+                            return null;
+                        case "setNull":
+                            bound.add(null);
+                            return null;
+                        case "addBatch":
+                            bound.add("batch");
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        DateColumn dates = DateColumn.of(new LocalDate[]{LocalDate.of(2022, 3, 27), null});
+        JdbcColumns.addBatch(statement, 1, dates);
+        JdbcColumns.addBatch(statement, 2, TimestampColumn.of(new long[]{42L, TimestampColumn.MISSING}));
+        assertArrayEquals(new Object[]{LocalDate.of(2022, 3, 27), "batch", null, "batch", 42L, "batch", null,
+            "batch"}, bound.toArray());
+    }
+
+    /**
+     * Crea un resultado con una sola columna que devuelve los valores
+     * especificados, interpretados en la zona horaria del calendario igual que
+     * lo haría un controlador.
+     */
+    private static ResultSet resultSet(Object[] values) {
+        int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(JdbcColumnsTest.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++row[0] < values.length;
+                        case "findColumn":
+                            return 1;
+                        case "getDate": {
+                            ZoneId zone = ((Calendar) args[1]).getTimeZone().toZoneId();
+                            LocalDate value = (LocalDate) values[row[0]];
+                            return value == null ? null
+                                    : new Date(value.atStartOfDay(zone).toInstant().toEpochMilli());
+                        }
+                        case "getTimestamp": {
+                            ZoneId zone = ((Calendar) args[1]).getTimeZone().toZoneId();
+                            LocalDateTime value = (LocalDateTime) values[row[0]];
+                            return value == null ? null : Timestamp.from(value.atZone(zone).toInstant());
+                        }
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
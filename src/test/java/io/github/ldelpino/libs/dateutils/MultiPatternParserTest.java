@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class MultiPatternParserTest {
+
+    @Test
+    public void testParseLocalDate() {
+        System.out.println("parseLocalDate");
+        String[] patterns = {"dd/MM/yyyy", "yyyy-MM-dd", "d/M/yy", "yyyyMMdd", "d 'de' MMMM 'de' yyyy"};
+        MultiPatternParser parser = new MultiPatternParser(patterns);
+        Random random = new Random(16);
+        for (int i = 0; i < 5000; i++) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(40_000));
+            String pattern = patterns[random.nextInt(patterns.length)];
+            String text = DateTimeFormatter.ofPattern(pattern, Locale.getDefault(Locale.Category.FORMAT))
+                    .format(date);
+            LocalDate expResult = null;
+            for (String candidate : patterns) {
+                try {
+                    expResult = DateParsers.parseToLocalDate(text, candidate);
+                    break;
+                }
+                catch (DateTimeParseException ex) {
+                }
+            }
+            assertEquals(text, expResult, parser.parseLocalDate(text));
+        }
+        assertEquals(Arrays.asList(patterns), parser.getPatterns());
+        assertEquals(patterns.length, parser.getOrderedPatterns().size());
+        try {
+            parser.parseLocalDate("23.03.2022");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+        try {
+            new MultiPatternParser();
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testReorder() {
+        System.out.println("reorder");
+        MultiPatternParser parser = new MultiPatternParser("dd/MM/yyyy", "yyyy-MM-dd", "MM/dd/yyyy HH:mm");
+        assertEquals("dd/MM/yyyy", parser.getOrderedPatterns().get(0));
+        for (int i = 0; i < 4096; i++) {
+            parser.parseLocalDate(i % 8 == 0 ? "23/03/2022" : "2022-03-23");
+        }
+        assertEquals("yyyy-MM-dd", parser.getOrderedPatterns().get(0));
+        assertEquals("dd/MM/yyyy", parser.getOrderedPatterns().get(1));
+        assertEquals(LocalDate.of(2022, 3, 23), parser.parseLocalDate("23/03/2022"));
+    }
+
+    @Test
+    public void testParseAny() {
+        System.out.println("parseAny");
+        assertEquals(LocalDate.of(2022, 3, 23),
+                DateParsers.parseAnyToLocalDate("2022-03-23", "dd/MM/yyyy", "yyyy-MM-dd"));
+        assertEquals(LocalDate.of(2022, 3, 23),
+                DateParsers.parseAnyToLocalDate("23/03/2022", "dd/MM/yyyy", "yyyy-MM-dd"));
+        assertEquals(LocalTime.of(10, 15),
+                DateParsers.parseAnyToLocalTime("10:15", "HH:mm:ss", "HH:mm"));
+        assertEquals(LocalDateTime.of(2022, 3, 23, 10, 15),
+                DateParsers.parseAnyToLocalDateTime("03/23/2022 10:15", "dd/MM/yyyy HH:mm",
+                        "MM/dd/yyyy HH:mm"));
+        try {
+            DateParsers.parseAnyToLocalDate("2022/03/23", "dd/MM/yyyy", "yyyy-MM-dd");
+            fail();
+        }
+        catch (DateTimeParseException ex) {
+        }
+    }
+
+    @Test
+    public void testParseAny_SignedYear() {
+        System.out.println("parseAny_SignedYear");
+        for (String text : new String[]{"23/03/+20220", "+20220-03-23", "-2022-03-23", "23/03/-2022"}) {
+            LocalDate expResult = null;
+            for (String pattern : new String[]{"dd/MM/yyyy", "yyyy-MM-dd", "dd/MM/uuuu", "uuuu-MM-dd"}) {
+                try {
+                    expResult = DateParsers.parseToLocalDate(text, pattern);
+                    break;
+                }
+                catch (DateTimeParseException ex) {
+                }
+            }
+            try {
+                assertEquals(text, expResult, DateParsers.parseAnyToLocalDate(text,
+                        "dd/MM/yyyy", "yyyy-MM-dd", "dd/MM/uuuu", "uuuu-MM-dd"));
+            }
+            catch (DateTimeParseException ex) {
+                assertNull(text, expResult);
+            }
+        }
+        assertEquals(LocalDate.of(20220, 3, 23),
+                DateParsers.parseAnyToLocalDate("23/03/+20220", "dd/MM/yyyy", "yyyy-MM-dd"));
+        assertEquals(LocalDate.of(20220, 3, 23),
+                DateParsers.parseAnyToLocalDate("+20220-03-23", "dd/MM/yyyy", "yyyy-MM-dd"));
+    }
+
+    @Test
+    public void testParse_Resolve() {
+        System.out.println("parse_Resolve");
+        String[][] cases = {
+            {"dd/MM/yyyy", "31/04/2022", "29/02/2022", "29/02/2024", "00/01/2022", "01/13/2022"},
+            {"d/M/yy", "31/4/22", "1/1/99", "32/1/22"},
+            {"yyyy-DDD", "2022-365", "2022-366", "2024-366"},
+            {"yyyy-MM-dd HH:mm", "2022-03-23 10:15", "2022-03-23 24:00", "2022-03-23 24:01",
+                "2022-03-23 10:60"},
+            {"d.M.uuuu H:m:s.SSS", "1.1.2022 0:0:0.123", "31.4.2022 23:59:59.999", "1.1.2022 23:59:60.000"},
+            {"yyyy-MM-dd G", "2022-03-23 AD", "0001-01-01 BC"},
+            {"yyyy-MM-dd'T'HH", "2022-03-23T07", "2022-03-23T25"},
+            {"HH:mm", "10:15", "24:00", "23:60"}
+        };
+        for (String[] values : cases) {
+            MultiPatternParser parser = new MultiPatternParser(values[0]);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(values[0],
+                    DateUtilsContext.getDefault().getLocale());
+            for (int i = 1; i < values.length; i++) {
+                String text = values[i];
+                assertEquals(text, parse(() -> formatter.parse(text, LocalDate::from)),
+                        parse(() -> parser.parseLocalDate(text)));
+                assertEquals(text, parse(() -> formatter.parse(text, LocalTime::from)),
+                        parse(() -> parser.parseLocalTime(text)));
+                assertEquals(text, parse(() -> formatter.parse(text, LocalDateTime::from)),
+                        parse(() -> parser.parseLocalDateTime(text)));
+            }
+        }
+    }
+
+    @Test
+    public void testParseAny_ManyPatternLists() {
+        System.out.println("parseAny_ManyPatternLists");
+        String[] patterns = {"dd/MM/yyyy", "yyyy-MM-dd", "MM/dd/yyyy HH:mm"};
+        for (int i = 0; i < 4096; i++) {
+            DateParsers.parseAnyToLocalDate("2022-03-23", patterns);
+        }
+        MultiPatternParser parser = DateParsers.multiPatternParser(patterns);
+        assertEquals("yyyy-MM-dd", parser.getOrderedPatterns().get(0));
+        for (int i = 0; i < 256; i++) {
+            DateParsers.parseAnyToLocalDate("2022-03-23", "yyyy-MM-dd", "'" + i + "'");
+            DateParsers.parseAnyToLocalDate("2022-03-23", patterns);
+        }
+        assertSame(parser, DateParsers.multiPatternParser(patterns));
+        assertEquals("yyyy-MM-dd", parser.getOrderedPatterns().get(0));
+    }
+
+    private static Object parse(java.util.function.Supplier<Object> parse) {
+        try {
+            return parse.get();
+        }
+        catch (DateTimeException ex) {
+            return null;
+        }
+    }
+}
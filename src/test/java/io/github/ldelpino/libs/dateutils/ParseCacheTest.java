@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class ParseCacheTest {
+
+    @Test
+    public void testParse() {
+        System.out.println("parse");
+        ParseCache cache = new ParseCache(16);
+        LocalDate date = cache.parseLocalDate("23/03/2022", "dd/MM/yyyy");
+        assertEquals(LocalDate.of(2022, 3, 23), date);
+        assertSame(date, cache.parseLocalDate("23/03/2022", "dd/MM/yyyy"));
+        assertEquals(LocalTime.of(10, 15, 30), cache.parseLocalTime("10:15:30", "HH:mm:ss"));
+        assertEquals(LocalDateTime.of(2022, 3, 23, 10, 15, 30),
+                cache.parseLocalDateTime("23/03/2022 10:15:30", "dd/MM/yyyy HH:mm:ss"));
+        assertEquals(LocalDate.of(2022, 3, 4), cache.parseLocalDate("03/04/2022", "MM/dd/yyyy"));
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+        assertEquals(0.2, cache.getHitRate(), 1e-9);
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        System.out.println("failuresAreNotCached");
+        ParseCache cache = new ParseCache(16);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parseLocalDate("2x/02/2022", "dd/MM/yyyy");
+                fail();
+            }
+            catch (DateTimeParseException ex) {
+            }
+        }
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testEviction() {
+        System.out.println("eviction");
+        ParseCache cache = new ParseCache(64);
+        LocalDate first = cache.parseLocalDate("2022-01-01", "yyyy-MM-dd");
+        LocalDate start = LocalDate.of(2022, 1, 2);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(first, cache.parseLocalDate("2022-01-01", "yyyy-MM-dd"));
+            cache.parseLocalDate(start.plusDays(i).toString(), "yyyy-MM-dd");
+            assertTrue(cache.size() <= cache.getMaximumSize());
+        }
+        assertSame(first, cache.parseLocalDate("2022-01-01", "yyyy-MM-dd"));
+        assertTrue(cache.getEvictionCount() > 0);
+        try {
+            new ParseCache(0);
+            fail();
+        }
+        catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testDateParsers() {
+        System.out.println("dateParsers");
+        assertNull(DateParsers.getParseCache());
+        ParseCache cache = new ParseCache();
+        DateParsers.setParseCache(cache);
+        try {
+            LocalDate date = DateParsers.parseToLocalDate("23/03/2022", "dd/MM/yyyy");
+            assertSame(date, DateParsers.parseToLocalDate("23/03/2022", "dd/MM/yyyy"));
+            String text = DateFormatters.format(LocalDateTime.of(2022, 3, 23, 10, 15, 30));
+            LocalDateTime dateTime = DateParsers.parseToLocalDateTime(text);
+            assertSame(dateTime, DateParsers.parseToLocalDateTime(text));
+            assertEquals(2, cache.getHitCount());
+        }
+        finally {
+            DateParsers.setParseCache(null);
+        }
+    }
+}
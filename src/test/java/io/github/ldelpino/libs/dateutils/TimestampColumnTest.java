@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class TimestampColumnTest {
+
+    @Test
+    public void testAddAndGet() {
+        System.out.println("addAndGet");
+        TimestampColumn column = TimestampColumn.of(new Date[]{new Date(1_656_676_800_000L), null});
+        column.add(-1);
+        assertEquals(3, column.size());
+        assertEquals(Instant.ofEpochMilli(1_656_676_800_000L), column.getInstant(0));
+        assertTrue(column.isMissing(1));
+        assertNull(column.getLocalDateTime(1));
+        assertEquals(-1, column.getEpochMilli(2));
+        column.set(2, 5);
+        assertEquals(5, column.getEpochMilli(2));
+    }
+
+    @Test
+    public void testQueries() {
+        System.out.println("queries");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            DateConverters.setDefaulTimeZone(ZoneId.of("Europe/Madrid"));
+            Random random = new Random(19);
+            long[] epochMillis = new long[5000];
+            for (int i = 0; i < epochMillis.length; i++) {
+                epochMillis[i] = i % 7 == 0 ? TimestampColumn.MISSING
+                        : 1_640_995_200_000L + (random.nextLong() & Long.MAX_VALUE) % 31_536_000_000L;
+            }
+            TimestampColumn column = TimestampColumn.of(epochMillis);
+            long[] present = Arrays.stream(epochMillis).filter(m -> m != TimestampColumn.MISSING).toArray();
+            assertEquals(Arrays.stream(present).min().getAsLong(), column.min());
+            assertEquals(Arrays.stream(present).max().getAsLong(), column.max());
+            long from = 1_648_000_000_000L;
+            long to = 1_650_000_000_000L;
+            assertEquals(Arrays.stream(present).filter(m -> m >= from && m < to).count(),
+                    column.count(from, to));
+            assertEquals(column.count(from, to), column.filter(from, to).cardinality());
+            DateColumn days = column.toDateColumn();
+            long fromDay = LocalDate.of(2022, 3, 1).toEpochDay();
+            int[] counts = column.countByDay(fromDay, fromDay + 60);
+            for (int i = 0; i < epochMillis.length; i++) {
+                if (epochMillis[i] == TimestampColumn.MISSING) {
+                    assertTrue(days.isMissing(i));
+                    continue;
+                }
+                LocalDate expResult = Instant.ofEpochMilli(epochMillis[i]).atZone(ZoneId.of("Europe/Madrid"))
+                        .toLocalDate();
+                assertEquals(expResult, days.getLocalDate(i));
+            }
+            assertArrayEquals(days.countByDay(fromDay, fromDay + 60), counts);
+            assertArrayEquals(days.toArray(), DateConverters.convertFromEpochMillisToDateColumn(epochMillis)
+                    .toArray());
+            column.sort();
+            long[] sorted = column.toArray();
+            for (int i = 1; i < sorted.length; i++) {
+                assertTrue(sorted[i - 1] <= sorted[i]);
+            }
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testParseToTimestampColumn() {
+        System.out.println("parseToTimestampColumn");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            DateConverters.setDefaulTimeZone(ZoneId.of("Europe/Madrid"));
+            String[] texts = {"01/07/2022-14/00/00", null};
+            TimestampColumn column = DateParsers.parseToTimestampColumn(texts);
+            assertEquals(1_656_676_800_000L, column.getEpochMilli(0));
+            assertTrue(column.isMissing(1));
+            LocalDateTime localDateTime = LocalDateTime.of(2022, 7, 1, 14, 0);
+            assertEquals(localDateTime, column.getLocalDateTime(0));
+            column = DateConverters.convertFromLocalDateTimeToTimestampColumn(
+                    new LocalDateTime[]{localDateTime, null});
+            assertEquals(1_656_676_800_000L, column.getEpochMilli(0));
+            assertTrue(column.isMissing(1));
+            column = DateParsers.parseToTimestampColumn(new String[]{"2022-07-01 14:00"}, "yyyy-MM-dd HH:mm");
+            assertEquals(1_656_676_800_000L, column.getEpochMilli(0));
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    @Test
+    public void testSort() {
+        System.out.println("sort");
+        Random random = new Random(9);
+        long[] epochMillis = new long[50_000];
+        for (int i = 0; i < epochMillis.length; i++) {
+            epochMillis[i] = i % 10 == 0 ? TimestampColumn.MISSING : random.nextLong() % 1_000_000_000_000L;
+        }
+        TimestampColumn column = new TimestampColumn();
+        for (long epochMilli : epochMillis) {
+            column.add(epochMilli);
+        }
+        Arrays.sort(epochMillis);
+        column.sort();
+        assertArrayEquals(epochMillis, column.toArray());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 ldelpino.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ldelpino.libs.dateutils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ldelpino
+ */
+public class ZoneOffsetTableTest {
+
+    private static final String[] ZONES = {
+        "Europe/Madrid", "America/Havana", "America/New_York", "Australia/Lord_Howe",
+        "Asia/Kolkata", "Pacific/Apia", "America/Sao_Paulo", "Europe/London"
+    };
+
+    @Test
+    public void testOffsetAtEpochSecond() {
+        System.out.println("offsetAtEpochSecond");
+        Random random = new Random(3);
+        for (String id : ZONES) {
+            ZoneRules rules = ZoneId.of(id).getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of(id));
+            for (int i = 0; i < 20_000; i++) {
+                long epochSecond = (random.nextLong() % 8_000_000_000L);
+                assertEquals(rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds(),
+                        table.offsetAtEpochSecond(epochSecond));
+            }
+        }
+    }
+
+    @Test
+    public void testToEpochSecond_Transitions() {
+        System.out.println("toEpochSecondTransitions");
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+            for (ZoneOffsetTransition transition : zone.getRules().getTransitions()) {
+                LocalDateTime before = transition.getDateTimeBefore();
+                LocalDateTime after = transition.getDateTimeAfter();
+                for (int delta = -7200; delta <= 7200; delta += 900) {
+                    check(table, zone, before.plusSeconds(delta));
+                    check(table, zone, after.plusSeconds(delta));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFixedOffset() {
+        System.out.println("fixedOffset");
+        ZoneOffsetTable table = ZoneOffsetTable.of(ZoneOffset.ofHours(-5));
+        assertEquals(1, table.size());
+        assertEquals(-18_000, table.offsetAtEpochSecond(Long.MAX_VALUE / 2));
+        assertEquals(18_000, table.toEpochSecond(0));
+    }
+
+    @Test
+    public void testOutOfRange() {
+        System.out.println("outOfRange");
+        ZoneId zone = ZoneId.of("Europe/Madrid");
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+        check(table, zone, LocalDateTime.of(1850, 6, 1, 12, 0));
+        check(table, zone, LocalDateTime.of(2300, 7, 1, 12, 0));
+        long epochSecond = LocalDateTime.of(2300, 7, 1, 12, 0).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(7200, table.offsetAtEpochSecond(epochSecond));
+    }
+
+    @Test
+    public void testSetDefaulTimeZone() {
+        System.out.println("setDefaulTimeZone");
+        ZoneId zoneId = DateConverters.getTimeZone();
+        try {
+            Date date = new Date(1_656_676_800_000L);
+            DateConverters.setDefaulTimeZone(ZoneId.of("Europe/Madrid"));
+            assertEquals(LocalDateTime.of(2022, 7, 1, 14, 0), DateConverters.convertFromDateToLocalDateTime(date));
+            DateConverters.zone_id = ZoneId.of("America/Havana");
+            assertEquals(LocalDateTime.of(2022, 7, 1, 8, 0), DateConverters.convertFromDateToLocalDateTime(date));
+            assertSame(DateConverters.zone_id, DateConverters.offsetTable().getZone());
+        }
+        finally {
+            DateConverters.setDefaulTimeZone(zoneId);
+        }
+    }
+
+    private static void check(ZoneOffsetTable table, ZoneId zone, LocalDateTime localDateTime) {
+        long expResult = localDateTime.atZone(zone).toEpochSecond();
+        long result = table.toEpochSecond(localDateTime.toEpochSecond(ZoneOffset.UTC));
+        if (result != ZoneOffsetTable.UNRESOLVED) {
+            assertEquals(expResult, result);
+        }
+        else {
+            assertTrue(zone.getRules().getValidOffsets(localDateTime).size() != 1
+                    || localDateTime.getYear() < 1900 || localDateTime.getYear() >= 2100);
+        }
+    }
+}